@@ -491,22 +491,25 @@ FROM papel p, permissao pe
 WHERE p.nome = 'ADMINISTRADOR';
 
 -- Associações papel-permissão para GERENTE
+-- As chaves "<recurso>.visualizar" controlam o acesso aos módulos (AuthorizationService.podeAcessar):
+-- o GERENTE acessa projetos, tarefas, dashboard e relatórios, mas não usuários nem equipes
 INSERT INTO papel_permissao (papel_id, permissao_id)
 SELECT p.id, pe.id 
 FROM papel p, permissao pe 
 WHERE p.nome = 'GERENTE' 
 AND pe.chave IN (
-    'usuarios.visualizar', 'projetos.criar', 'projetos.editar', 'projetos.visualizar',
-    'tarefas.criar', 'tarefas.editar', 'tarefas.visualizar', 'relatorios.visualizar'
+    'projetos.criar', 'projetos.editar', 'projetos.visualizar',
+    'tarefas.criar', 'tarefas.editar', 'tarefas.visualizar', 'relatorios.visualizar', 'dashboard.visualizar'
 );
 
 -- Associações papel-permissão para COLABORADOR
+-- O COLABORADOR acessa apenas tarefas e dashboard
 INSERT INTO papel_permissao (papel_id, permissao_id)
 SELECT p.id, pe.id 
 FROM papel p, permissao pe 
 WHERE p.nome = 'COLABORADOR' 
 AND pe.chave IN (
-    'projetos.visualizar', 'tarefas.criar', 'tarefas.editar', 'tarefas.visualizar'
+    'tarefas.criar', 'tarefas.editar', 'tarefas.visualizar', 'dashboard.visualizar'
 );
 
 -- Usuário administrador padrão (senha: admin123)
@@ -525,7 +528,9 @@ INSERT INTO usuario_papel (usuario_id, papel_id, ativo) VALUES
 -- TRIGGERS (MySQL não suporta triggers PostgreSQL)
 -- =====================================================
 
--- Trigger para auditoria automática de tarefas será implementado na aplicação Java
+-- A auditoria de tarefas (historico_tarefa) é feita pela aplicação Java:
+-- TarefaService.atualizar grava os campos alterados na mesma transação do UPDATE
+-- e as operações em massa gravam o histórico com INSERT ... SELECT antes do UPDATE
 
 -- =====================================================
 -- ÍNDICES ADICIONAIS PARA PERFORMANCE
@@ -537,6 +542,13 @@ CREATE INDEX idx_tarefa_responsavel_status ON tarefa(responsavel_id, status);
 CREATE INDEX idx_equipe_projeto_papel ON equipe(projeto_id, papel_equipe);
 CREATE INDEX idx_historico_tarefa_data ON historico_tarefa(tarefa_id, data_hora);
 
+-- Índices para pesquisa por texto
+CREATE FULLTEXT INDEX ft_tarefa_titulo_descricao ON tarefa(titulo, descricao);
+
+-- Índices para paginação por chave (a chave primária é incluída implicitamente pelo InnoDB)
+CREATE INDEX idx_usuario_nome ON usuario(nome);
+CREATE INDEX idx_tarefa_prazo_prioridade ON tarefa(data_fim_prevista, prioridade DESC, id);
+
 -- =====================================================
 -- SUCESSO
 -- =====================================================
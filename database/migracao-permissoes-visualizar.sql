@@ -0,0 +1,76 @@
+-- =====================================================
+-- MIGRAÇÃO - Acesso aos módulos pelas chaves "<recurso>.visualizar"
+-- Compatível com MySQL 8.0+
+-- =====================================================
+--
+-- O AuthorizationService passou a decidir o acesso a cada módulo pela chave
+-- "<recurso>.visualizar" concedida em papel_permissao. As concessões antigas
+-- davam a GERENTE 'usuarios.visualizar' e a COLABORADOR 'projetos.visualizar',
+-- o que abria os módulos de Usuários e Projetos além das regras anteriores.
+--
+-- Este script deixa as concessões "visualizar" iguais às regras anteriores:
+--   usuarios   -> ADMINISTRADOR
+--   projetos   -> ADMINISTRADOR, GERENTE
+--   tarefas    -> ADMINISTRADOR, GERENTE, COLABORADOR
+--   equipes    -> ADMINISTRADOR
+--   dashboard  -> ADMINISTRADOR, GERENTE, COLABORADOR
+--   relatorios -> ADMINISTRADOR, GERENTE
+--
+-- Chaves que não existem em 'permissao' são ignoradas (o recurso segue as
+-- regras padrão da aplicação). O script pode ser executado mais de uma vez.
+-- Depois de executá-lo, reinicie a aplicação para recarregar a matriz.
+
+USE gestao_projetos;
+
+CREATE TEMPORARY TABLE regra_visualizar (
+    papel VARCHAR(50) NOT NULL,
+    chave VARCHAR(100) NOT NULL,
+    PRIMARY KEY (papel, chave)
+) ENGINE=InnoDB CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci;
+
+INSERT INTO regra_visualizar (papel, chave) VALUES
+    ('ADMINISTRADOR', 'usuarios.visualizar'),
+    ('ADMINISTRADOR', 'projetos.visualizar'),
+    ('ADMINISTRADOR', 'tarefas.visualizar'),
+    ('ADMINISTRADOR', 'equipes.visualizar'),
+    ('ADMINISTRADOR', 'dashboard.visualizar'),
+    ('ADMINISTRADOR', 'relatorios.visualizar'),
+    ('GERENTE', 'projetos.visualizar'),
+    ('GERENTE', 'tarefas.visualizar'),
+    ('GERENTE', 'dashboard.visualizar'),
+    ('GERENTE', 'relatorios.visualizar'),
+    ('COLABORADOR', 'tarefas.visualizar'),
+    ('COLABORADOR', 'dashboard.visualizar');
+
+START TRANSACTION;
+
+-- Remove as concessões "visualizar" dos papéis do sistema que não constam das regras
+DELETE pp
+FROM papel_permissao pp
+INNER JOIN papel p ON p.id = pp.papel_id
+INNER JOIN permissao pe ON pe.id = pp.permissao_id
+WHERE p.nome IN ('ADMINISTRADOR', 'GERENTE', 'COLABORADOR')
+AND pe.chave IN ('usuarios.visualizar', 'projetos.visualizar', 'tarefas.visualizar',
+                 'equipes.visualizar', 'dashboard.visualizar', 'relatorios.visualizar')
+AND NOT EXISTS (
+    SELECT 1 FROM regra_visualizar r WHERE r.papel = p.nome AND r.chave = pe.chave
+);
+
+-- Concede as que faltam
+INSERT IGNORE INTO papel_permissao (papel_id, permissao_id)
+SELECT p.id, pe.id
+FROM regra_visualizar r
+INNER JOIN papel p ON p.nome = r.papel
+INNER JOIN permissao pe ON pe.chave = r.chave;
+
+COMMIT;
+
+DROP TEMPORARY TABLE regra_visualizar;
+
+-- Conferência: concessões "visualizar" por papel
+SELECT p.nome AS papel, GROUP_CONCAT(pe.chave ORDER BY pe.chave SEPARATOR ', ') AS chaves
+FROM papel_permissao pp
+INNER JOIN papel p ON p.id = pp.papel_id
+INNER JOIN permissao pe ON pe.id = pp.permissao_id
+WHERE pe.chave LIKE '%.visualizar'
+GROUP BY p.nome;
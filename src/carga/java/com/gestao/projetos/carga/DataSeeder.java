@@ -0,0 +1,258 @@
+package com.gestao.projetos.carga;
+
+import com.gestao.projetos.util.DatabaseUtil;
+import com.gestao.projetos.util.PasswordHasher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Popula o banco da carga com usuários, projetos, equipes e tarefas sintéticos, inserindo
+ * direto por JDBC em lotes. Todos os usuários compartilham o mesmo hash de senha, gerado
+ * uma única vez, para o BCrypt não dominar o tempo de preparação.
+ */
+class DataSeeder {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataSeeder.class);
+
+    static final String PREFIXO_LOGIN = "carga";
+    static final String[] VERBOS = {"Revisar", "Implementar", "Testar", "Documentar", "Corrigir", "Migrar",
+                                    "Configurar", "Validar"};
+    static final String[] OBJETOS = {"relatório financeiro", "tela de cadastro", "integração com ERP", "contrato",
+                                     "API de pagamentos", "rotina de backup", "painel de indicadores",
+                                     "módulo de estoque"};
+
+    private static final String[] STATUS_PROJETO = {"PLANEJADO", "EM_ANDAMENTO", "EM_ANDAMENTO", "PAUSADO", "CONCLUIDO"};
+    private static final String[] STATUS_TAREFA = {"NOVA", "EM_ANDAMENTO", "EM_ANDAMENTO", "BLOQUEADA", "CONCLUIDA"};
+    private static final int TAMANHO_LOTE = 1000;
+
+    private static final String INSERT_USUARIO_SQL =
+        "INSERT INTO usuario (nome, cpf, email, cargo, login, ativo) VALUES (?, ?, ?, ?, ?, TRUE)";
+    private static final String INSERT_CREDENCIAL_SQL =
+        "INSERT INTO credencial (hash, salt, usuario_id) VALUES (?, ?, ?)";
+    private static final String INSERT_USUARIO_PAPEL_SQL =
+        "INSERT INTO usuario_papel (usuario_id, papel_id, ativo) VALUES (?, (SELECT id FROM papel WHERE nome = ?), TRUE)";
+    private static final String INSERT_PROJETO_SQL =
+        "INSERT INTO projeto (nome, descricao, status, data_inicio, data_fim_prevista, gerente_id) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_EQUIPE_SQL =
+        "INSERT INTO equipe (nome, descricao, ativa, gerente_id) VALUES (?, ?, TRUE, ?)";
+    private static final String INSERT_EQUIPE_MEMBRO_SQL =
+        "INSERT INTO equipe_membro (equipe_id, usuario_id, papel_equipe, ativo) VALUES (?, ?, ?, TRUE)";
+    private static final String INSERT_PROJETO_EQUIPE_SQL =
+        "INSERT INTO projeto_equipe (projeto_id, equipe_id) VALUES (?, ?)";
+    private static final String INSERT_TAREFA_SQL =
+        "INSERT INTO tarefa (titulo, descricao, status, prioridade, estimativa_horas, horas_trabalhadas, data_inicio, " +
+        "data_fim_prevista, projeto_id, responsavel_id, equipe_id, criador_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final Random aleatorio;
+
+    DataSeeder(long semente) {
+        this.aleatorio = new Random(semente);
+    }
+
+    /**
+     * IDs gerados, usados pelas operações da carga
+     */
+    static final class Dados {
+        final long[] usuarios;
+        final long[] projetos;
+        final long[] equipes;
+        final long[] tarefas;
+
+        Dados(long[] usuarios, long[] projetos, long[] equipes, long[] tarefas) {
+            this.usuarios = usuarios;
+            this.projetos = projetos;
+            this.equipes = equipes;
+            this.tarefas = tarefas;
+        }
+    }
+
+    Dados popular(int usuarios, int projetos, int equipes, int membrosPorEquipe, int tarefas,
+                  String senha, int custoBcrypt) throws SQLException {
+        String hash = PasswordHasher.getInstance().hash(senha, custoBcrypt);
+        LocalDate hoje = LocalDate.now();
+
+        try (Connection connection = DatabaseUtil.getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_USUARIO_SQL)) {
+                for (int i = 1; i <= usuarios; i++) {
+                    statement.setString(1, "Usuário de Carga " + i);
+                    statement.setString(2, cpf(i));
+                    statement.setString(3, email(i));
+                    statement.setString(4, i % 10 == 0 ? "Gerente" : "Analista");
+                    statement.setString(5, PREFIXO_LOGIN + i);
+                    adicionarAoLote(statement, connection, i);
+                }
+                concluirLote(statement, connection);
+            }
+            long[] usuarioIds = ids(connection, "SELECT id FROM usuario WHERE login LIKE '" + PREFIXO_LOGIN + "%' ORDER BY id");
+
+            try (PreparedStatement credencial = connection.prepareStatement(INSERT_CREDENCIAL_SQL);
+                 PreparedStatement papel = connection.prepareStatement(INSERT_USUARIO_PAPEL_SQL)) {
+                for (int i = 0; i < usuarioIds.length; i++) {
+                    credencial.setString(1, hash);
+                    credencial.setString(2, PasswordHasher.extrairSalt(hash));
+                    credencial.setLong(3, usuarioIds[i]);
+                    credencial.addBatch();
+                    papel.setLong(1, usuarioIds[i]);
+                    papel.setString(2, (i + 1) % 10 == 0 ? "GERENTE" : "COLABORADOR");
+                    papel.addBatch();
+                    if ((i + 1) % TAMANHO_LOTE == 0) {
+                        credencial.executeBatch();
+                        papel.executeBatch();
+                        DatabaseUtil.commit(connection);
+                    }
+                }
+                credencial.executeBatch();
+                papel.executeBatch();
+                DatabaseUtil.commit(connection);
+            }
+
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_PROJETO_SQL)) {
+                for (int i = 1; i <= projetos; i++) {
+                    LocalDate inicio = hoje.minusDays(aleatorio.nextInt(365));
+                    statement.setString(1, "Projeto " + i + " - " + sortear(OBJETOS));
+                    statement.setString(2, "Projeto sintético gerado para teste de carga");
+                    statement.setString(3, sortear(STATUS_PROJETO));
+                    statement.setDate(4, Date.valueOf(inicio));
+                    statement.setDate(5, Date.valueOf(inicio.plusDays(30 + aleatorio.nextInt(300))));
+                    statement.setLong(6, sortear(usuarioIds));
+                    adicionarAoLote(statement, connection, i);
+                }
+                concluirLote(statement, connection);
+            }
+            long[] projetoIds = ids(connection, "SELECT id FROM projeto WHERE nome LIKE 'Projeto %' ORDER BY id");
+
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_EQUIPE_SQL)) {
+                for (int i = 1; i <= equipes; i++) {
+                    statement.setString(1, "Equipe de Carga " + i);
+                    statement.setString(2, "Equipe sintética gerada para teste de carga");
+                    statement.setLong(3, sortear(usuarioIds));
+                    adicionarAoLote(statement, connection, i);
+                }
+                concluirLote(statement, connection);
+            }
+            long[] equipeIds = ids(connection, "SELECT id FROM equipe WHERE nome LIKE 'Equipe de Carga %' ORDER BY id");
+
+            try (PreparedStatement membro = connection.prepareStatement(INSERT_EQUIPE_MEMBRO_SQL);
+                 PreparedStatement alocacao = connection.prepareStatement(INSERT_PROJETO_EQUIPE_SQL)) {
+                for (long equipeId : equipeIds) {
+                    Set<Long> membros = new LinkedHashSet<>();
+                    int quantidade = Math.min(membrosPorEquipe, usuarioIds.length);
+                    while (membros.size() < quantidade) {
+                        membros.add(sortear(usuarioIds));
+                    }
+                    boolean primeiro = true;
+                    for (Long usuarioId : membros) {
+                        membro.setLong(1, equipeId);
+                        membro.setLong(2, usuarioId);
+                        membro.setString(3, primeiro ? "GERENTE" : "COLABORADOR");
+                        membro.addBatch();
+                        primeiro = false;
+                    }
+                }
+                membro.executeBatch();
+
+                for (long projetoId : projetoIds) {
+                    Set<Long> alocadas = new LinkedHashSet<>();
+                    int quantidade = Math.min(1 + aleatorio.nextInt(2), equipeIds.length);
+                    while (alocadas.size() < quantidade) {
+                        alocadas.add(sortear(equipeIds));
+                    }
+                    for (Long equipeId : alocadas) {
+                        alocacao.setLong(1, projetoId);
+                        alocacao.setLong(2, equipeId);
+                        alocacao.addBatch();
+                    }
+                }
+                alocacao.executeBatch();
+                DatabaseUtil.commit(connection);
+            }
+
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_TAREFA_SQL)) {
+                for (int i = 1; i <= tarefas; i++) {
+                    LocalDate inicio = hoje.minusDays(aleatorio.nextInt(120));
+                    long responsavelId = sortear(usuarioIds);
+                    statement.setString(1, sortear(VERBOS) + " " + sortear(OBJETOS) + " #" + i);
+                    statement.setString(2, "Tarefa sintética " + i + " sobre " + sortear(OBJETOS));
+                    statement.setString(3, sortear(STATUS_TAREFA));
+                    statement.setInt(4, 1 + aleatorio.nextInt(5));
+                    statement.setDouble(5, 1 + aleatorio.nextInt(40));
+                    statement.setDouble(6, aleatorio.nextInt(20));
+                    statement.setDate(7, Date.valueOf(inicio));
+                    statement.setDate(8, Date.valueOf(inicio.plusDays(aleatorio.nextInt(60))));
+                    statement.setLong(9, sortear(projetoIds));
+                    statement.setLong(10, responsavelId);
+                    if (equipeIds.length > 0 && aleatorio.nextInt(10) > 0) {
+                        statement.setLong(11, sortear(equipeIds));
+                    } else {
+                        statement.setNull(11, Types.BIGINT);
+                    }
+                    statement.setLong(12, responsavelId);
+                    adicionarAoLote(statement, connection, i);
+                }
+                concluirLote(statement, connection);
+            }
+            long[] tarefaIds = ids(connection, "SELECT id FROM tarefa ORDER BY id");
+
+            logger.info("Dados da carga: {} usuários, {} projetos, {} equipes, {} tarefas",
+                       usuarioIds.length, projetoIds.length, equipeIds.length, tarefaIds.length);
+            return new Dados(usuarioIds, projetoIds, equipeIds, tarefaIds);
+        }
+    }
+
+    static String email(int indice) {
+        return PREFIXO_LOGIN + indice + "@carga.local";
+    }
+
+    private static String cpf(int indice) {
+        // Faixa acima dos CPFs do script de schema; não precisa ter dígitos verificadores válidos
+        long numero = 100_000_000_00L + indice;
+        String digitos = String.format("%011d", numero);
+        return digitos.substring(0, 3) + "." + digitos.substring(3, 6) + "." + digitos.substring(6, 9)
+            + "-" + digitos.substring(9);
+    }
+
+    private void adicionarAoLote(PreparedStatement statement, Connection connection, int linha) throws SQLException {
+        statement.addBatch();
+        if (linha % TAMANHO_LOTE == 0) {
+            concluirLote(statement, connection);
+        }
+    }
+
+    private static void concluirLote(PreparedStatement statement, Connection connection) throws SQLException {
+        statement.executeBatch();
+        DatabaseUtil.commit(connection);
+    }
+
+    private static long[] ids(Connection connection, String sql) throws SQLException {
+        List<Long> ids = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next()) {
+                ids.add(resultSet.getLong(1));
+            }
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private String sortear(String[] valores) {
+        return valores[aleatorio.nextInt(valores.length)];
+    }
+
+    private long sortear(long[] valores) {
+        return valores[aleatorio.nextInt(valores.length)];
+    }
+}
@@ -0,0 +1,370 @@
+package com.gestao.projetos.carga;
+
+import com.gestao.projetos.dao.Page;
+import com.gestao.projetos.dao.PageRequest;
+import com.gestao.projetos.dao.TarefaDAO;
+import com.gestao.projetos.dao.UsuarioDAO;
+import com.gestao.projetos.model.Projeto;
+import com.gestao.projetos.model.StatusTarefa;
+import com.gestao.projetos.model.Tarefa;
+import com.gestao.projetos.model.Usuario;
+import com.gestao.projetos.service.AuthenticationService;
+import com.gestao.projetos.service.DashboardService;
+import com.gestao.projetos.service.EquipeService;
+import com.gestao.projetos.service.ProjetoService;
+import com.gestao.projetos.service.TarefaService;
+import com.gestao.projetos.util.DatabaseUtil;
+import com.gestao.projetos.util.JdbcInstrumentation;
+import com.gestao.projetos.util.LatencyHistogram;
+import com.gestao.projetos.util.PasswordHasher;
+import com.gestao.projetos.util.SearchIndexManager;
+import com.gestao.projetos.util.SessionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Gerador de carga sem interface gráfica. Cria o schema de database/database-mysql.sql em um
+ * banco descartável (H2 em memória no modo MySQL por padrão, ou um mysqld local informado em
+ * "carga.url"), popula volumes configuráveis e executa uma mistura ponderada de operações de
+ * TarefaService, ProjetoService, EquipeService, DashboardService e AuthenticationService a partir
+ * de N threads. O relatório traz vazão, p50/p99 por operação e a espera por conexão do pool.
+ *
+ * Uso: mvn -Pbenchmark test-compile exec:java@carga [-Dcarga.threads=16 -Dcarga.duracaoSeg=120 ...]
+ * Propriedades: carga.url, carga.usuario, carga.senhaBanco, carga.schema, carga.usuarios, carga.projetos,
+ * carga.equipes, carga.membrosPorEquipe, carga.tarefas, carga.threads, carga.aquecimentoSeg,
+ * carga.duracaoSeg, carga.mix (ex.: "dashboard.obterSnapshot=0,tarefas.atualizar=20"), carga.custoBcrypt,
+ * carga.semente e carga.relatorio. O tamanho do pool segue "db.pool.max".
+ *
+ * No H2, comandos exclusivos do MySQL (MATCH ... AGAINST, operador {@code <=>}) falham e aparecem
+ * como erros da operação; para medir esses caminhos use um mysqld local.
+ */
+public class LoadHarness {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadHarness.class);
+
+    private static final String URL_H2 =
+        "jdbc:h2:mem:gestao_carga;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+    private static final String SENHA_USUARIOS = "Carga@123";
+    private static final String[] TERMOS_PESQUISA = {"relatório", "cadastro", "integração", "contrato", "pagamentos",
+                                                     "backup", "indicadores", "estoque"};
+
+    private final TarefaService tarefaService = new TarefaService();
+    private final ProjetoService projetoService = new ProjetoService();
+    private final EquipeService equipeService = new EquipeService();
+    private final DashboardService dashboardService = new DashboardService();
+    private final AuthenticationService authenticationService = new AuthenticationService();
+    private final Map<String, Operacao> operacoes = new LinkedHashMap<>();
+    private final DataSeeder.Dados dados;
+    private final int totalUsuarios;
+
+    private volatile boolean medindo;
+
+    /**
+     * Ação de uma operação da carga
+     */
+    @FunctionalInterface
+    private interface Acao {
+        void executar(ThreadLocalRandom aleatorio) throws Exception;
+    }
+
+    /**
+     * Operação da mistura, com peso e estatísticas do período medido
+     */
+    private static final class Operacao {
+        private final String nome;
+        private final Acao acao;
+        private final LatencyHistogram latencia = new LatencyHistogram();
+        private final LongAdder erros = new LongAdder();
+        private final AtomicBoolean erroRegistrado = new AtomicBoolean();
+        private int peso;
+
+        private Operacao(String nome, int peso, Acao acao) {
+            this.nome = nome;
+            this.peso = peso;
+            this.acao = acao;
+        }
+    }
+
+    private LoadHarness(DataSeeder.Dados dados, int totalUsuarios) {
+        this.dados = dados;
+        this.totalUsuarios = totalUsuarios;
+
+        operacao("tarefas.listarPagina", 20, this::listarPaginasTarefas);
+        operacao("tarefas.buscarPorId", 15, r -> tarefaService.buscarPorId(sortear(dados.tarefas, r)));
+        operacao("tarefas.pesquisar", 10, r -> tarefaService.pesquisar(TERMOS_PESQUISA[r.nextInt(TERMOS_PESQUISA.length)]));
+        operacao("tarefas.listarPorProjeto", 10, r -> tarefaService.listarPorProjeto(sortear(dados.projetos, r)));
+        operacao("tarefas.atualizar", 10, this::atualizarTarefa);
+        operacao("tarefas.salvar", 5, this::criarTarefa);
+        operacao("projetos.listarPagina", 8, r -> projetoService.listarPagina(PageRequest.first(PageRequest.DEFAULT_SIZE)));
+        operacao("projetos.buscarPorId", 5, r -> projetoService.buscarPorId(sortear(dados.projetos, r)));
+        operacao("equipes.listarPagina", 5, r -> equipeService.listarPagina(PageRequest.first(PageRequest.DEFAULT_SIZE)));
+        operacao("equipes.buscarPorId", 4, r -> equipeService.buscarPorId(sortear(dados.equipes, r)));
+        operacao("dashboard.obterSnapshot", 5, r -> dashboardService.obterSnapshot());
+        operacao("autenticacao.authenticate", 3, this::autenticar);
+        aplicarMix(System.getProperty("carga.mix"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        String url = System.getProperty("carga.url", URL_H2);
+        boolean h2 = url.startsWith("jdbc:h2:");
+        System.setProperty("db.url", url);
+        System.setProperty("db.username", System.getProperty("carga.usuario", h2 ? "sa" : "gestao_user"));
+        System.setProperty("db.password", System.getProperty("carga.senhaBanco", h2 ? "" : "gestao123"));
+        System.setProperty("db.driver", h2 ? "org.h2.Driver" : "com.mysql.cj.jdbc.Driver");
+
+        int threads = Integer.getInteger("carga.threads", 8);
+        int totalUsuarios = Integer.getInteger("carga.usuarios", 200);
+        int aquecimentoSeg = Integer.getInteger("carga.aquecimentoSeg", 10);
+        int duracaoSeg = Integer.getInteger("carga.duracaoSeg", 60);
+
+        try {
+            SchemaLoader.carregar(Paths.get(System.getProperty("carga.schema", "database/database-mysql.sql")), h2);
+            DataSeeder.Dados dados = new DataSeeder(Long.getLong("carga.semente", 42L)).popular(
+                totalUsuarios, Integer.getInteger("carga.projetos", 50), Integer.getInteger("carga.equipes", 20),
+                Integer.getInteger("carga.membrosPorEquipe", 8), Integer.getInteger("carga.tarefas", 5000),
+                SENHA_USUARIOS, Integer.getInteger("carga.custoBcrypt", PasswordHasher.CUSTO_PADRAO));
+            prepararAplicacao();
+
+            LoadHarness harness = new LoadHarness(dados, dados.usuarios.length);
+            String relatorio = harness.executar(threads, aquecimentoSeg, duracaoSeg);
+
+            System.out.println(relatorio);
+            String arquivo = System.getProperty("carga.relatorio");
+            if (arquivo != null) {
+                gravar(Paths.get(arquivo), relatorio);
+            }
+        } finally {
+            DatabaseUtil.closeDataSource();
+        }
+    }
+
+    /**
+     * Índices de pesquisa e sessão do administrador, como na inicialização da aplicação
+     */
+    private static void prepararAplicacao() throws Exception {
+        SearchIndexManager indices = SearchIndexManager.getInstance();
+        indices.getUsuarios().construir(new UsuarioDAO().findCamposPesquisa());
+        indices.getTarefas().construir(new TarefaDAO().findCamposPesquisa());
+
+        Usuario admin = new UsuarioDAO().findByEmail("admin@gestao.com")
+            .orElseThrow(() -> new IllegalStateException("Usuário admin não encontrado; verifique o script de schema"));
+        SessionManager.getInstance().startSession(admin);
+    }
+
+    private String executar(int threads, int aquecimentoSeg, int duracaoSeg) throws InterruptedException {
+        List<Operacao> ativas = new ArrayList<>();
+        int pesoTotal = 0;
+        for (Operacao operacao : operacoes.values()) {
+            if (operacao.peso > 0) {
+                ativas.add(operacao);
+                pesoTotal += operacao.peso;
+            }
+        }
+        if (ativas.isEmpty()) {
+            throw new IllegalArgumentException("Nenhuma operação com peso maior que zero em carga.mix");
+        }
+
+        long fim = System.nanoTime() + TimeUnit.SECONDS.toNanos(aquecimentoSeg + duracaoSeg);
+        int pesos = pesoTotal;
+        AtomicInteger contador = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "carga-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> executarCliente(ativas, pesos, fim));
+        }
+        logger.info("Carga iniciada: {} threads, {} s de aquecimento e {} s medidos", threads, aquecimentoSeg, duracaoSeg);
+
+        TimeUnit.SECONDS.sleep(aquecimentoSeg);
+        LatencyHistogram esperaInicial = DatabaseUtil.getEsperaConexao().copiar();
+        long timeoutsIniciais = DatabaseUtil.getTimeoutsConexao();
+        if (JdbcInstrumentation.isHabilitada()) {
+            JdbcInstrumentation.getInstance().reiniciar();
+        }
+        long inicioMedicao = System.nanoTime();
+        medindo = true;
+
+        executor.shutdown();
+        executor.awaitTermination(duracaoSeg + 60L, TimeUnit.SECONDS);
+        medindo = false;
+        double segundos = (System.nanoTime() - inicioMedicao) / 1e9;
+
+        StringBuilder sb = new StringBuilder();
+        escreverRelatorio(sb, threads, segundos, DatabaseUtil.getEsperaConexao().desde(esperaInicial),
+                          DatabaseUtil.getTimeoutsConexao() - timeoutsIniciais);
+        return sb.toString();
+    }
+
+    private void executarCliente(List<Operacao> ativas, int pesoTotal, long fim) {
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        while (System.nanoTime() < fim) {
+            Operacao operacao = sortear(ativas, pesoTotal, aleatorio);
+            boolean medir = medindo;
+            long inicio = System.nanoTime();
+            try {
+                operacao.acao.executar(aleatorio);
+                if (medir) {
+                    operacao.latencia.registrar(System.nanoTime() - inicio);
+                }
+            } catch (Exception e) {
+                if (medir) {
+                    operacao.latencia.registrar(System.nanoTime() - inicio);
+                    operacao.erros.increment();
+                }
+                if (operacao.erroRegistrado.compareAndSet(false, true)) {
+                    logger.warn("Primeiro erro da operação {}", operacao.nome, e);
+                }
+            }
+        }
+    }
+
+    private void escreverRelatorio(StringBuilder saida, int threads, double segundos,
+                                   LatencyHistogram esperaConexao, long timeouts) {
+        long totalOperacoes = 0;
+        long totalErros = 0;
+        saida.append(String.format("%nCarga: %d threads, %.1f s medidos, %d usuários, %d projetos, %d equipes, %d tarefas%n%n",
+                                   threads, segundos, totalUsuarios, dados.projetos.length, dados.equipes.length,
+                                   dados.tarefas.length));
+        saida.append(String.format("%-28s %9s %7s %9s %9s %9s %9s%n", "operação", "total", "erros", "ops/s",
+                                   "p50 ms", "p99 ms", "máx ms"));
+        for (Operacao operacao : operacoes.values()) {
+            LatencyHistogram h = operacao.latencia;
+            if (h.getContagem() == 0) {
+                continue;
+            }
+            totalOperacoes += h.getContagem();
+            totalErros += operacao.erros.sum();
+            saida.append(String.format("%-28s %9d %7d %9.1f %9.2f %9.2f %9.2f%n", operacao.nome, h.getContagem(),
+                                       operacao.erros.sum(), h.getContagem() / segundos,
+                                       h.getPercentilNanos(0.5) / 1e6, h.getPercentilNanos(0.99) / 1e6,
+                                       h.getMaximoNanos() / 1e6));
+        }
+        saida.append(String.format("%-28s %9d %7d %9.1f%n%n", "total", totalOperacoes, totalErros,
+                                   totalOperacoes / segundos));
+
+        saida.append(String.format("Espera por conexão do pool: %d pedidos, p50 %.2f ms, p99 %.2f ms, média %.2f ms, "
+                                   + "%d timeouts%n", esperaConexao.getContagem(),
+                                   esperaConexao.getPercentilNanos(0.5) / 1e6, esperaConexao.getPercentilNanos(0.99) / 1e6,
+                                   esperaConexao.getMediaNanos() / 1e6, timeouts));
+
+        if (JdbcInstrumentation.isHabilitada()) {
+            saida.append(System.lineSeparator()).append(JdbcInstrumentation.getInstance().getResumo(10));
+        }
+    }
+
+    // ========== OPERAÇÕES ==========
+
+    private void listarPaginasTarefas(ThreadLocalRandom aleatorio) throws Exception {
+        // Primeira página e, às vezes, as seguintes, como quem rola a tabela
+        PageRequest pedido = PageRequest.first(PageRequest.DEFAULT_SIZE);
+        Page<Tarefa> pagina = tarefaService.listarPagina(pedido);
+        int seguintes = aleatorio.nextInt(3);
+        for (int i = 0; i < seguintes && pagina.hasNext(); i++) {
+            pedido = pedido.next(pagina);
+            pagina = tarefaService.listarPagina(pedido);
+        }
+    }
+
+    private void atualizarTarefa(ThreadLocalRandom aleatorio) throws Exception {
+        Tarefa tarefa = tarefaService.buscarPorId(sortear(dados.tarefas, aleatorio)).orElse(null);
+        if (tarefa == null) {
+            return;
+        }
+        double horas = tarefa.getHorasTrabalhadas() != null ? tarefa.getHorasTrabalhadas() : 0.0;
+        tarefa.setHorasTrabalhadas(horas + 0.5);
+        if (aleatorio.nextInt(4) == 0) {
+            tarefa.setStatus(tarefa.getStatus() == StatusTarefa.NOVA ? StatusTarefa.EM_ANDAMENTO : StatusTarefa.NOVA);
+        }
+        tarefaService.atualizar(tarefa);
+    }
+
+    private void criarTarefa(ThreadLocalRandom aleatorio) throws Exception {
+        Tarefa tarefa = new Tarefa();
+        tarefa.setTitulo(DataSeeder.VERBOS[aleatorio.nextInt(DataSeeder.VERBOS.length)] + " "
+                         + DataSeeder.OBJETOS[aleatorio.nextInt(DataSeeder.OBJETOS.length)] + " (carga)");
+        tarefa.setDescricao("Tarefa criada durante o teste de carga");
+        tarefa.setStatus(StatusTarefa.NOVA);
+        tarefa.setPrioridade(1 + aleatorio.nextInt(5));
+        tarefa.setEstimativaHoras((double) (1 + aleatorio.nextInt(16)));
+        tarefa.setHorasTrabalhadas(0.0);
+        tarefa.setProjetoId(sortear(dados.projetos, aleatorio));
+        tarefa.setResponsavelId(sortear(dados.usuarios, aleatorio));
+        tarefaService.salvar(tarefa);
+    }
+
+    private void autenticar(ThreadLocalRandom aleatorio) {
+        int indice = 1 + aleatorio.nextInt(totalUsuarios);
+        if (authenticationService.authenticate(DataSeeder.email(indice), SENHA_USUARIOS) == null) {
+            throw new IllegalStateException("Autenticação recusada para " + DataSeeder.email(indice));
+        }
+    }
+
+    // ========== AUXILIARES ==========
+
+    private void operacao(String nome, int peso, Acao acao) {
+        operacoes.put(nome, new Operacao(nome, peso, acao));
+    }
+
+    /**
+     * Aplica os pesos de "carga.mix" (pares nome=peso separados por vírgula); peso 0 desliga a operação
+     */
+    private void aplicarMix(String mix) {
+        if (mix == null || mix.trim().isEmpty()) {
+            return;
+        }
+        for (String par : mix.split(",")) {
+            String[] partes = par.trim().split("=");
+            Operacao operacao = partes.length == 2 ? operacoes.get(partes[0].trim()) : null;
+            if (operacao == null) {
+                throw new IllegalArgumentException("Item inválido em carga.mix: " + par
+                                                   + " (operações: " + operacoes.keySet() + ")");
+            }
+            operacao.peso = Integer.parseInt(partes[1].trim());
+        }
+    }
+
+    private static Operacao sortear(List<Operacao> ativas, int pesoTotal, ThreadLocalRandom aleatorio) {
+        int sorteio = aleatorio.nextInt(pesoTotal);
+        for (Operacao operacao : ativas) {
+            sorteio -= operacao.peso;
+            if (sorteio < 0) {
+                return operacao;
+            }
+        }
+        return ativas.get(ativas.size() - 1);
+    }
+
+    private static long sortear(long[] ids, ThreadLocalRandom aleatorio) {
+        return ids[aleatorio.nextInt(ids.length)];
+    }
+
+    private static void gravar(Path arquivo, String relatorio) throws IOException {
+        if (arquivo.getParent() != null) {
+            Files.createDirectories(arquivo.getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(arquivo, StandardCharsets.UTF_8)) {
+            writer.write(relatorio);
+        }
+        logger.info("Relatório da carga gravado em {}", arquivo.toAbsolutePath());
+    }
+}
@@ -0,0 +1,125 @@
+package com.gestao.projetos.carga;
+
+import com.gestao.projetos.util.DatabaseUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Executa o script de schema (database/database-mysql.sql) no banco da carga, comando a comando.
+ * CREATE DATABASE, USE e os SELECTs informativos são ignorados, pois o banco vem da URL; no H2
+ * as opções de tabela do MySQL e o índice FULLTEXT são removidos. Comandos que falham são
+ * registrados e pulados, como faria o cliente mysql com --force.
+ */
+class SchemaLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchemaLoader.class);
+
+    private static final Pattern OPCOES_TABELA = Pattern.compile("(?is)\\)\\s*ENGINE\\s*=.*$");
+    private static final Pattern SEPARADOR_INICIAL = Pattern.compile("^[=\\s]+");
+    private static final String[] IGNORADOS = {"CREATE DATABASE", "USE ", "SELECT "};
+
+    private SchemaLoader() {
+    }
+
+    /**
+     * Executa o script e devolve a quantidade de comandos que falharam
+     */
+    static int carregar(Path script, boolean h2) throws IOException, SQLException {
+        List<String> comandos = dividir(Files.readString(script, StandardCharsets.UTF_8));
+        int executados = 0;
+        int falhas = 0;
+
+        try (Connection connection = DatabaseUtil.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String comando : comandos) {
+                String sql = SEPARADOR_INICIAL.matcher(comando).replaceFirst("");
+                if (sql.isEmpty() || ignorar(sql, h2)) {
+                    continue;
+                }
+                if (h2) {
+                    sql = OPCOES_TABELA.matcher(sql).replaceFirst(")");
+                }
+
+                try {
+                    statement.execute(sql);
+                    DatabaseUtil.commit(connection);
+                    executados++;
+                } catch (SQLException e) {
+                    DatabaseUtil.rollback(connection);
+                    falhas++;
+                    logger.warn("Comando do schema ignorado ({}): {}", e.getMessage(), primeiraLinha(sql));
+                }
+            }
+        }
+
+        logger.info("Schema carregado de {}: {} comandos executados, {} ignorados por erro", script, executados, falhas);
+        return falhas;
+    }
+
+    private static boolean ignorar(String sql, boolean h2) {
+        String inicio = sql.toUpperCase(Locale.ROOT);
+        for (String ignorado : IGNORADOS) {
+            if (inicio.startsWith(ignorado)) {
+                return true;
+            }
+        }
+        return h2 && inicio.startsWith("CREATE FULLTEXT");
+    }
+
+    /**
+     * Divide o script em comandos por ';', ignorando comentários "--" e ';' dentro de literais
+     */
+    static List<String> dividir(String script) {
+        List<String> comandos = new ArrayList<>();
+        StringBuilder atual = new StringBuilder();
+        boolean emLiteral = false;
+
+        for (int i = 0; i < script.length(); i++) {
+            char c = script.charAt(i);
+            if (emLiteral) {
+                atual.append(c);
+                if (c == '\'') {
+                    if (i + 1 < script.length() && script.charAt(i + 1) == '\'') {
+                        atual.append(script.charAt(++i));
+                    } else {
+                        emLiteral = false;
+                    }
+                }
+            } else if (c == '-' && i + 1 < script.length() && script.charAt(i + 1) == '-') {
+                while (i < script.length() && script.charAt(i) != '\n') {
+                    i++;
+                }
+                atual.append('\n');
+            } else if (c == ';') {
+                comandos.add(atual.toString().trim());
+                atual.setLength(0);
+            } else {
+                if (c == '\'') {
+                    emLiteral = true;
+                }
+                atual.append(c);
+            }
+        }
+        if (!atual.toString().trim().isEmpty()) {
+            comandos.add(atual.toString().trim());
+        }
+        return comandos;
+    }
+
+    private static String primeiraLinha(String sql) {
+        int fim = sql.indexOf('\n');
+        return fim > 0 ? sql.substring(0, fim).trim() : sql;
+    }
+}
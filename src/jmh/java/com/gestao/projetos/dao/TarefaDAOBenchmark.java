@@ -0,0 +1,110 @@
+package com.gestao.projetos.dao;
+
+import com.gestao.projetos.model.Tarefa;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapeamento de uma linha de tarefa para o modelo, contra um ResultSet em memória.
+ * O custo do stub (um proxy que lê de um mapa) entra na medição e é comparável ao
+ * acesso por nome de coluna do driver.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TarefaDAOBenchmark {
+
+    private TarefaDAO tarefaDAO;
+    private ResultSet completa;
+    private ResultSet semDatas;
+
+    @Setup
+    public void preparar() {
+        tarefaDAO = new TarefaDAO();
+
+        Map<String, Object> colunas = new HashMap<>();
+        colunas.put("id", 42L);
+        colunas.put("titulo", "Revisar contrato de fornecimento");
+        colunas.put("descricao", "Conferir cláusulas de prazo e multa antes da assinatura");
+        colunas.put("status", "EM_ANDAMENTO");
+        colunas.put("prioridade", 2);
+        colunas.put("estimativa_horas", 16.0);
+        colunas.put("horas_trabalhadas", 6.5);
+        colunas.put("data_inicio", Date.valueOf(LocalDate.of(2024, 3, 1)));
+        colunas.put("data_fim_prevista", Date.valueOf(LocalDate.of(2024, 3, 15)));
+        colunas.put("data_fim_real", null);
+        colunas.put("projeto_id", 7L);
+        colunas.put("responsavel_id", 3L);
+        colunas.put("equipe_id", 2L);
+        colunas.put("criado_em", Timestamp.valueOf(LocalDateTime.of(2024, 2, 20, 9, 30)));
+        colunas.put("atualizado_em", Timestamp.valueOf(LocalDateTime.of(2024, 3, 5, 14, 0)));
+        completa = resultSet(colunas);
+
+        Map<String, Object> minima = new HashMap<>(colunas);
+        minima.put("data_inicio", null);
+        minima.put("data_fim_prevista", null);
+        minima.put("responsavel_id", null);
+        minima.put("equipe_id", null);
+        semDatas = resultSet(minima);
+    }
+
+    @Benchmark
+    public Tarefa mapearTarefaCompleta() throws SQLException {
+        return tarefaDAO.mapResultSetToTarefa(completa);
+    }
+
+    @Benchmark
+    public Tarefa mapearTarefaSemDatas() throws SQLException {
+        return tarefaDAO.mapResultSetToTarefa(semDatas);
+    }
+
+    /**
+     * ResultSet posicionado em uma única linha, com os getters usados pelo mapeamento
+     */
+    private static ResultSet resultSet(Map<String, Object> colunas) {
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+            (proxy, method, args) -> {
+                Object valor = args != null && args.length == 1 && args[0] instanceof String
+                    ? colunas.get(args[0]) : null;
+                switch (method.getName()) {
+                    case "getLong":
+                        return valor != null ? ((Number) valor).longValue() : 0L;
+                    case "getInt":
+                        return valor != null ? ((Number) valor).intValue() : 0;
+                    case "getDouble":
+                        return valor != null ? ((Number) valor).doubleValue() : 0.0;
+                    case "getString":
+                    case "getObject":
+                    case "getDate":
+                    case "getTimestamp":
+                        return valor;
+                    case "wasNull":
+                        return false;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+    }
+}
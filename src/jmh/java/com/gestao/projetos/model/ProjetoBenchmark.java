@@ -0,0 +1,68 @@
+package com.gestao.projetos.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Regras calculadas do projeto, chamadas a cada linha das tabelas e do dashboard
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ProjetoBenchmark {
+
+    private Projeto atrasado;
+    private Projeto concluido;
+    private Projeto semPrazo;
+
+    @Setup
+    public void preparar() {
+        atrasado = projeto("EM_ANDAMENTO", LocalDate.now().minusDays(10));
+        concluido = projeto("CONCLUIDO", LocalDate.now().minusDays(10));
+        semPrazo = projeto("PLANEJADO", null);
+    }
+
+    @Benchmark
+    public boolean isAtrasadoEmAndamento() {
+        return atrasado.isAtrasado();
+    }
+
+    @Benchmark
+    public boolean isAtrasadoConcluido() {
+        return concluido.isAtrasado();
+    }
+
+    @Benchmark
+    public boolean isAtrasadoSemPrazo() {
+        return semPrazo.isAtrasado();
+    }
+
+    @Benchmark
+    public double calcularProgresso() {
+        return atrasado.calcularProgresso();
+    }
+
+    private static Projeto projeto(String status, LocalDate dataFimPrevista) {
+        Projeto projeto = new Projeto();
+        projeto.setId(1L);
+        projeto.setNome("Migração do ERP");
+        projeto.setStatus(status);
+        projeto.setDataInicio(LocalDate.now().minusMonths(3));
+        projeto.setDataFimPrevista(dataFimPrevista);
+        return projeto;
+    }
+}
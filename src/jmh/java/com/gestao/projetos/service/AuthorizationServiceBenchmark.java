@@ -0,0 +1,92 @@
+package com.gestao.projetos.service;
+
+import com.gestao.projetos.dao.PapelDAO;
+import com.gestao.projetos.dao.UsuarioPapelDAO;
+import com.gestao.projetos.model.Papel;
+import com.gestao.projetos.model.UsuarioPapel;
+import com.gestao.projetos.util.PermissionCache;
+import com.gestao.projetos.util.PermissionMatrix;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verificação de acesso com DAOs simulados pelo Mockito e a matriz de permissões publicada
+ * diretamente, sem banco. "Cache" mede o caminho normal (máscara do usuário já compilada);
+ * "SemCache" invalida a entrada a cada chamada, medindo também o carregamento dos papéis
+ * e a compilação da máscara (o custo dos mocks entra nessa medição).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AuthorizationServiceBenchmark {
+
+    private static final Long USUARIO_ID = 10L;
+
+    private AuthorizationService authorizationService;
+
+    @Setup
+    public void preparar() throws SQLException {
+        Map<String, Set<String>> chavesPorPapel = new HashMap<>();
+        chavesPorPapel.put(AuthorizationService.PAPEL_GERENTE,
+                           Set.of("projetos.visualizar", "projetos.editar", "tarefas.visualizar", "dashboard.visualizar"));
+        chavesPorPapel.put(AuthorizationService.PAPEL_COLABORADOR,
+                           Set.of("tarefas.visualizar", "dashboard.visualizar"));
+        PermissionMatrix.publicar(PermissionMatrix.build(
+            Arrays.asList("usuarios.visualizar", "projetos.visualizar", "projetos.editar", "tarefas.visualizar",
+                          "equipes.visualizar", "dashboard.visualizar", "relatorios.visualizar"),
+            chavesPorPapel));
+
+        Papel gerente = new Papel(AuthorizationService.PAPEL_GERENTE, "Gerente de projetos");
+        gerente.setId(2L);
+        Papel colaborador = new Papel(AuthorizationService.PAPEL_COLABORADOR, "Colaborador");
+        colaborador.setId(3L);
+
+        UsuarioPapelDAO usuarioPapelDAO = mock(UsuarioPapelDAO.class);
+        PapelDAO papelDAO = mock(PapelDAO.class);
+        when(usuarioPapelDAO.findByUsuarioId(USUARIO_ID))
+            .thenReturn(Arrays.asList(new UsuarioPapel(USUARIO_ID, 2L), new UsuarioPapel(USUARIO_ID, 3L)));
+        when(papelDAO.findById(2L)).thenReturn(Optional.of(gerente));
+        when(papelDAO.findById(3L)).thenReturn(Optional.of(colaborador));
+
+        authorizationService = new AuthorizationService(usuarioPapelDAO, papelDAO);
+        PermissionCache.getInstance().invalidateAll();
+    }
+
+    @Benchmark
+    public boolean podeAcessarRecursoCache() {
+        return authorizationService.podeAcessar(USUARIO_ID, AuthorizationService.RECURSO_PROJETOS);
+    }
+
+    @Benchmark
+    public boolean podeAcessarChaveNegadaCache() {
+        return authorizationService.podeAcessar(USUARIO_ID, "usuarios.visualizar");
+    }
+
+    @Benchmark
+    public boolean podeAcessarSemCache() {
+        PermissionCache.getInstance().invalidate(USUARIO_ID);
+        return authorizationService.podeAcessar(USUARIO_ID, AuthorizationService.RECURSO_TAREFAS);
+    }
+}
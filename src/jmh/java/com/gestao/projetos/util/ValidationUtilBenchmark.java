@@ -0,0 +1,48 @@
+package com.gestao.projetos.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validações e formatação usadas nos formulários e na importação de usuários
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidationUtilBenchmark {
+
+    // Formatado, sem formatação, dígito verificador errado e sequência repetida
+    @Param({"529.982.247-25", "52998224725", "529.982.247-26", "111.111.111-11"})
+    public String cpf;
+
+    @Param({"maria.souza@empresa.com.br", "email-invalido@"})
+    public String email;
+
+    @Benchmark
+    public boolean validarCpf() {
+        return ValidationUtil.isValidCPF(cpf);
+    }
+
+    @Benchmark
+    public String formatarCpf() {
+        return ValidationUtil.formatCPF(cpf);
+    }
+
+    @Benchmark
+    public boolean validarEmail() {
+        return ValidationUtil.isValidEmail(email);
+    }
+}
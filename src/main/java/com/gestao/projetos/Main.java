@@ -1,6 +1,14 @@
 package com.gestao.projetos;
 
+import com.gestao.projetos.dao.PapelDAO;
+import com.gestao.projetos.dao.PermissaoDAO;
+import com.gestao.projetos.dao.TarefaDAO;
+import com.gestao.projetos.dao.UsuarioDAO;
 import com.gestao.projetos.util.DatabaseUtil;
+import com.gestao.projetos.util.EdtMonitor;
+import com.gestao.projetos.util.MetricsExporter;
+import com.gestao.projetos.util.ReferenceDataCache;
+import com.gestao.projetos.util.SearchIndexManager;
 import com.gestao.projetos.util.SessionManager;
 import com.gestao.projetos.view.LoginFrame;
 import com.gestao.projetos.view.MainFrame;
@@ -25,6 +33,9 @@ public class Main {
         // Configura tratamento de exceções não capturadas
         configurarTratamentoExcecoes();
         
+        // Mede a latência da EDT e registra os travamentos da interface
+        EdtMonitor.instalar();
+        
         // Testa a conexão com o banco de dados
         if (!testarConexaoBanco()) {
             logger.error("Não foi possível conectar ao banco de dados. Sistema será encerrado.");
@@ -32,6 +43,15 @@ public class Main {
             System.exit(1);
         }
         
+        // Carrega papéis e permissões, consultados a cada verificação de acesso
+        carregarDadosReferencia();
+        
+        // Exporta as métricas (arquivo Prometheus e/ou endpoint local), se configurado
+        MetricsExporter.iniciar();
+        
+        // Constrói os índices de pesquisa em memória enquanto o usuário faz login
+        iniciarIndicesPesquisa();
+        
         // Inicia a aplicação na thread do Swing
         SwingUtilities.invokeLater(() -> {
             try {
@@ -259,6 +279,30 @@ public class Main {
         }
     }
 
+    private static void carregarDadosReferencia() {
+        try {
+            new PapelDAO().recarregarCache();
+            new PermissaoDAO().recarregarCache();
+            logger.info(ReferenceDataCache.getInstance().getStatus());
+        } catch (Exception e) {
+            logger.warn("Não foi possível carregar os dados de referência; serão carregados no primeiro acesso", e);
+        }
+    }
+
+    private static void iniciarIndicesPesquisa() {
+        Thread thread = new Thread(() -> {
+            SearchIndexManager indices = SearchIndexManager.getInstance();
+            try {
+                indices.getUsuarios().construir(new UsuarioDAO().findCamposPesquisa());
+                indices.getTarefas().construir(new TarefaDAO().findCamposPesquisa());
+            } catch (Exception e) {
+                logger.warn("Não foi possível construir os índices de pesquisa; pesquisas usarão o banco de dados", e);
+            }
+        }, "search-index-build");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
     private static void mostrarErroConexao() {
         SwingUtilities.invokeLater(() -> {
             String message = "Não foi possível conectar ao banco de dados!\n\n" +
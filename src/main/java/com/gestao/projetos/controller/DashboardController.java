@@ -1,13 +1,24 @@
 package com.gestao.projetos.controller;
 
+import com.gestao.projetos.model.DashboardSnapshot;
+import com.gestao.projetos.model.StatusProjeto;
+import com.gestao.projetos.model.StatusTarefa;
 import com.gestao.projetos.service.DashboardService;
 import com.gestao.projetos.view.DashboardFrame;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.swing.SwingUtilities;
 import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Controlador para o Dashboard
@@ -18,57 +29,160 @@ public class DashboardController {
     private final DashboardFrame view;
     private final DashboardService dashboardService;
     
+    // Última fotografia obtida, compartilhada por indicadores, alertas e resumo
+    private volatile DashboardSnapshot ultimoSnapshot;
+    
+    // Atualização em segundo plano: as consultas nunca rodam na EDT. O agendador só dispara
+    // os ticks; as consultas rodam em outra thread, para que um tick que chegue durante uma
+    // atualização lenta encontre a anterior em andamento e seja ignorado (e contado)
+    private static final long PERIODO_ATUALIZACAO_SEGUNDOS = 30;
+    private final ScheduledExecutorService agendador;
+    private final ExecutorService executorAtualizacao;
+    private final AtomicBoolean atualizando = new AtomicBoolean(false);
+    private final AtomicLong ticksIgnorados = new AtomicLong();
+    private volatile long ultimaDuracaoAtualizacaoMs = -1;
+    
     public DashboardController(DashboardFrame view) {
         this.view = view;
         this.dashboardService = new DashboardService();
+        this.agendador = Executors.newSingleThreadScheduledExecutor(r -> criarThread(r, "dashboard-tick"));
+        this.executorAtualizacao = Executors.newSingleThreadExecutor(r -> criarThread(r, "dashboard-refresh"));
+    }
+    
+    private static Thread criarThread(Runnable r, String nome) {
+        Thread thread = new Thread(r, nome);
+        thread.setDaemon(true);
+        return thread;
+    }
+    
+    /**
+     * Inicia a atualização automática periódica do dashboard
+     */
+    public void iniciarAtualizacaoAutomatica() {
+        agendador.scheduleAtFixedRate(this::atualizarDados, 
+            PERIODO_ATUALIZACAO_SEGUNDOS, PERIODO_ATUALIZACAO_SEGUNDOS, TimeUnit.SECONDS);
+    }
+    
+    /**
+     * Interrompe a atualização automática e libera as threads de segundo plano
+     */
+    public void encerrar() {
+        agendador.shutdownNow();
+        executorAtualizacao.shutdownNow();
     }
     
     /**
-     * Atualiza todos os dados do dashboard
+     * Atualiza todos os dados do dashboard em segundo plano. Se a atualização
+     * anterior ainda estiver em andamento, esta é ignorada.
      */
     public void atualizarDados() {
+        if (!atualizando.compareAndSet(false, true)) {
+            long ignorados = ticksIgnorados.incrementAndGet();
+            logger.debug("Atualização do dashboard ainda em andamento, ignorando (total ignorado: {})", ignorados);
+            return;
+        }
+        
+        try {
+            executorAtualizacao.execute(this::executarAtualizacao);
+        } catch (RejectedExecutionException e) {
+            atualizando.set(false);
+            logger.debug("Dashboard encerrado, atualização descartada");
+        }
+    }
+    
+    /**
+     * Executa as consultas fora da EDT e publica apenas a fotografia pronta
+     */
+    private void executarAtualizacao() {
+        long inicio = System.nanoTime();
         try {
             logger.info("Atualizando dados do dashboard");
             
+            DashboardSnapshot snapshot = dashboardService.obterSnapshot();
+            ultimoSnapshot = snapshot;
+            
+            SwingUtilities.invokeLater(() -> aplicarSnapshot(snapshot));
+            
+        } catch (Exception e) {
+            logger.error("Erro ao atualizar dados do dashboard", e);
+            SwingUtilities.invokeLater(() -> view.showError("Erro ao atualizar dados: " + e.getMessage()));
+        } finally {
+            ultimaDuracaoAtualizacaoMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+            atualizando.set(false);
+            logger.debug("Consulta do dashboard concluída em {} ms", ultimaDuracaoAtualizacaoMs);
+        }
+    }
+    
+    /**
+     * Duração, em milissegundos, da última atualização (-1 se ainda não houve)
+     */
+    public long getUltimaDuracaoAtualizacaoMs() {
+        return ultimaDuracaoAtualizacaoMs;
+    }
+    
+    /**
+     * Quantidade de atualizações ignoradas porque a anterior ainda estava em andamento
+     */
+    public long getTicksIgnorados() {
+        return ticksIgnorados.get();
+    }
+    
+    /**
+     * Aplica a fotografia na tela. Deve ser chamado na EDT.
+     */
+    private void aplicarSnapshot(DashboardSnapshot snapshot) {
+        try {
             // Atualizar estatísticas de projetos
-            atualizarEstatisticasProjetos();
+            atualizarEstatisticasProjetos(snapshot);
             
             // Atualizar estatísticas de tarefas
-            atualizarEstatisticasTarefas();
+            atualizarEstatisticasTarefas(snapshot);
             
             // Atualizar estatísticas de usuários
-            atualizarEstatisticasUsuarios();
+            atualizarEstatisticasUsuarios(snapshot);
             
             // Atualizar estatísticas de equipes
-            atualizarEstatisticasEquipes();
+            atualizarEstatisticasEquipes(snapshot);
             
             // Atualizar indicadores
-            atualizarIndicadores();
+            atualizarIndicadores(snapshot);
             
             logger.info("Dados do dashboard atualizados com sucesso");
             
         } catch (Exception e) {
-            logger.error("Erro ao atualizar dados do dashboard", e);
+            logger.error("Erro ao exibir dados do dashboard", e);
             view.showError("Erro ao atualizar dados: " + e.getMessage());
         }
     }
     
+    /**
+     * Retorna a última fotografia carregada, buscando uma nova se ainda não houver
+     */
+    private DashboardSnapshot obterSnapshotAtual() throws SQLException {
+        DashboardSnapshot snapshot = ultimoSnapshot;
+        if (snapshot == null) {
+            snapshot = dashboardService.obterSnapshot();
+            ultimoSnapshot = snapshot;
+        }
+        return snapshot;
+    }
+    
     /**
      * Atualiza as estatísticas de projetos
      */
-    private void atualizarEstatisticasProjetos() throws SQLException {
+    private void atualizarEstatisticasProjetos(DashboardSnapshot snapshot) {
         logger.debug("Atualizando estatísticas de projetos");
         
         Map<String, Long> stats = new HashMap<>();
         
         // Obter contadores de projetos
-        stats.put("total", dashboardService.contarTotalProjetos());
-        stats.put("em_andamento", dashboardService.contarProjetosEmAndamento());
-        stats.put("concluidos", dashboardService.contarProjetosConcluidos());
-        stats.put("atrasados", dashboardService.contarProjetosAtrasados());
-        stats.put("planejados", dashboardService.contarProjetosPlanejados());
-        stats.put("pausados", dashboardService.contarProjetosPausados());
-        stats.put("cancelados", dashboardService.contarProjetosCancelados());
+        stats.put("total", snapshot.getTotalProjetos());
+        stats.put("em_andamento", snapshot.getProjetos(StatusProjeto.EM_ANDAMENTO));
+        stats.put("concluidos", snapshot.getProjetos(StatusProjeto.CONCLUIDO));
+        stats.put("atrasados", snapshot.getProjetosAtrasados());
+        stats.put("planejados", snapshot.getProjetos(StatusProjeto.PLANEJADO));
+        stats.put("pausados", snapshot.getProjetos(StatusProjeto.PAUSADO));
+        stats.put("cancelados", snapshot.getProjetos(StatusProjeto.CANCELADO));
         
         view.updateProjetosStats(stats);
         
@@ -78,19 +192,19 @@ public class DashboardController {
     /**
      * Atualiza as estatísticas de tarefas
      */
-    private void atualizarEstatisticasTarefas() throws SQLException {
+    private void atualizarEstatisticasTarefas(DashboardSnapshot snapshot) {
         logger.debug("Atualizando estatísticas de tarefas");
         
         Map<String, Long> stats = new HashMap<>();
         
         // Obter contadores de tarefas
-        stats.put("total", dashboardService.contarTotalTarefas());
-        stats.put("em_andamento", dashboardService.contarTarefasEmAndamento());
-        stats.put("concluidas", dashboardService.contarTarefasConcluidas());
-        stats.put("atrasadas", dashboardService.contarTarefasAtrasadas());
-        stats.put("novas", dashboardService.contarTarefasNovas());
-        stats.put("bloqueadas", dashboardService.contarTarefasBloqueadas());
-        stats.put("canceladas", dashboardService.contarTarefasCanceladas());
+        stats.put("total", snapshot.getTotalTarefas());
+        stats.put("em_andamento", snapshot.getTarefas(StatusTarefa.EM_ANDAMENTO));
+        stats.put("concluidas", snapshot.getTarefas(StatusTarefa.CONCLUIDA));
+        stats.put("atrasadas", snapshot.getTarefasAtrasadas());
+        stats.put("novas", snapshot.getTarefas(StatusTarefa.NOVA));
+        stats.put("bloqueadas", snapshot.getTarefas(StatusTarefa.BLOQUEADA));
+        stats.put("canceladas", snapshot.getTarefas(StatusTarefa.CANCELADA));
         
         view.updateTarefasStats(stats);
         
@@ -100,18 +214,18 @@ public class DashboardController {
     /**
      * Atualiza as estatísticas de usuários
      */
-    private void atualizarEstatisticasUsuarios() throws SQLException {
+    private void atualizarEstatisticasUsuarios(DashboardSnapshot snapshot) {
         logger.debug("Atualizando estatísticas de usuários");
         
         Map<String, Long> stats = new HashMap<>();
         
         // Obter contadores de usuários
-        stats.put("total", dashboardService.contarTotalUsuarios());
-        stats.put("ativos", dashboardService.contarUsuariosAtivos());
-        stats.put("inativos", dashboardService.contarUsuariosInativos());
-        stats.put("administradores", dashboardService.contarAdministradores());
-        stats.put("gerentes", dashboardService.contarGerentes());
-        stats.put("colaboradores", dashboardService.contarColaboradores());
+        stats.put("total", snapshot.getTotalUsuarios());
+        stats.put("ativos", snapshot.getUsuariosAtivos());
+        stats.put("inativos", snapshot.getUsuariosInativos());
+        stats.put("administradores", snapshot.getUsuariosAtivosComPapel("ADMINISTRADOR"));
+        stats.put("gerentes", snapshot.getUsuariosAtivosComPapel("GERENTE"));
+        stats.put("colaboradores", snapshot.getUsuariosAtivosComPapel("COLABORADOR"));
         
         view.updateUsuariosStats(stats);
         
@@ -121,14 +235,14 @@ public class DashboardController {
     /**
      * Atualiza as estatísticas de equipes
      */
-    private void atualizarEstatisticasEquipes() throws SQLException {
+    private void atualizarEstatisticasEquipes(DashboardSnapshot snapshot) {
         logger.debug("Atualizando estatísticas de equipes");
         
         Map<String, Long> stats = new HashMap<>();
         
         // Obter contadores de equipes
-        stats.put("total", dashboardService.contarTotalEquipes());
-        stats.put("ativas", dashboardService.contarEquipesAtivas());
+        stats.put("total", snapshot.getTotalEquipes());
+        stats.put("ativas", snapshot.getEquipesAtivas());
         
         view.updateEquipesStats(stats);
         
@@ -138,21 +252,20 @@ public class DashboardController {
     /**
      * Atualiza os indicadores de desempenho
      */
-    private void atualizarIndicadores() throws SQLException {
+    private void atualizarIndicadores(DashboardSnapshot snapshot) {
         logger.debug("Atualizando indicadores de desempenho");
         
         Map<String, Object> indicadores = new HashMap<>();
         
         // Calcular indicadores
-        long totalAtrasos = dashboardService.contarProjetosAtrasados() + 
-                           dashboardService.contarTarefasAtrasadas();
+        long totalAtrasos = snapshot.getProjetosAtrasados() + snapshot.getTarefasAtrasadas();
         indicadores.put("total_atrasos", totalAtrasos);
         
         // Calcular eficiência geral (baseada na proporção de itens concluídos)
-        long totalProjetos = dashboardService.contarTotalProjetos();
-        long projetosConcluidos = dashboardService.contarProjetosConcluidos();
-        long totalTarefas = dashboardService.contarTotalTarefas();
-        long tarefasConcluidas = dashboardService.contarTarefasConcluidas();
+        long totalProjetos = snapshot.getTotalProjetos();
+        long projetosConcluidos = snapshot.getProjetos(StatusProjeto.CONCLUIDO);
+        long totalTarefas = snapshot.getTotalTarefas();
+        long tarefasConcluidas = snapshot.getTarefas(StatusTarefa.CONCLUIDA);
         
         double eficienciaProjetos = totalProjetos > 0 ? 
             (projetosConcluidos * 100.0) / totalProjetos : 0.0;
@@ -168,7 +281,7 @@ public class DashboardController {
         indicadores.put("taxa_conclusao_tarefas", eficienciaTarefas);
         
         // Indicador de carga de trabalho
-        long usuariosAtivos = dashboardService.contarUsuariosAtivos();
+        long usuariosAtivos = snapshot.getUsuariosAtivos();
         double cargaTrabalho = usuariosAtivos > 0 ? 
             (double) totalTarefas / usuariosAtivos : 0.0;
         indicadores.put("carga_trabalho_media", cargaTrabalho);
@@ -193,31 +306,33 @@ public class DashboardController {
         Map<String, Object> resumo = new HashMap<>();
         
         try {
+            DashboardSnapshot snapshot = obterSnapshotAtual();
+            
             // Projetos
             Map<String, Long> projetos = new HashMap<>();
-            projetos.put("total", dashboardService.contarTotalProjetos());
-            projetos.put("em_andamento", dashboardService.contarProjetosEmAndamento());
-            projetos.put("concluidos", dashboardService.contarProjetosConcluidos());
-            projetos.put("atrasados", dashboardService.contarProjetosAtrasados());
+            projetos.put("total", snapshot.getTotalProjetos());
+            projetos.put("em_andamento", snapshot.getProjetos(StatusProjeto.EM_ANDAMENTO));
+            projetos.put("concluidos", snapshot.getProjetos(StatusProjeto.CONCLUIDO));
+            projetos.put("atrasados", snapshot.getProjetosAtrasados());
             resumo.put("projetos", projetos);
             
             // Tarefas
             Map<String, Long> tarefas = new HashMap<>();
-            tarefas.put("total", dashboardService.contarTotalTarefas());
-            tarefas.put("em_andamento", dashboardService.contarTarefasEmAndamento());
-            tarefas.put("concluidas", dashboardService.contarTarefasConcluidas());
-            tarefas.put("atrasadas", dashboardService.contarTarefasAtrasadas());
+            tarefas.put("total", snapshot.getTotalTarefas());
+            tarefas.put("em_andamento", snapshot.getTarefas(StatusTarefa.EM_ANDAMENTO));
+            tarefas.put("concluidas", snapshot.getTarefas(StatusTarefa.CONCLUIDA));
+            tarefas.put("atrasadas", snapshot.getTarefasAtrasadas());
             resumo.put("tarefas", tarefas);
             
             // Usuários
             Map<String, Long> usuarios = new HashMap<>();
-            usuarios.put("total", dashboardService.contarTotalUsuarios());
-            usuarios.put("ativos", dashboardService.contarUsuariosAtivos());
+            usuarios.put("total", snapshot.getTotalUsuarios());
+            usuarios.put("ativos", snapshot.getUsuariosAtivos());
             resumo.put("usuarios", usuarios);
             
             // Equipes
             Map<String, Long> equipes = new HashMap<>();
-            equipes.put("total", dashboardService.contarTotalEquipes());
+            equipes.put("total", snapshot.getTotalEquipes());
             resumo.put("equipes", equipes);
             
         } catch (SQLException e) {
@@ -232,11 +347,12 @@ public class DashboardController {
      */
     public boolean verificarAlertasCriticos() {
         try {
-            long projetosAtrasados = dashboardService.contarProjetosAtrasados();
-            long tarefasAtrasadas = dashboardService.contarTarefasAtrasadas();
+            DashboardSnapshot snapshot = obterSnapshotAtual();
+            long projetosAtrasados = snapshot.getProjetosAtrasados();
+            long tarefasAtrasadas = snapshot.getTarefasAtrasadas();
             
             // Considera crítico se mais de 20% dos projetos estão atrasados
-            long totalProjetos = dashboardService.contarTotalProjetos();
+            long totalProjetos = snapshot.getTotalProjetos();
             double percentualAtrasoProjetos = totalProjetos > 0 ? 
                 (projetosAtrasados * 100.0) / totalProjetos : 0.0;
             
@@ -255,8 +371,9 @@ public class DashboardController {
         StringBuilder alertas = new StringBuilder();
         
         try {
-            long projetosAtrasados = dashboardService.contarProjetosAtrasados();
-            long tarefasAtrasadas = dashboardService.contarTarefasAtrasadas();
+            DashboardSnapshot snapshot = obterSnapshotAtual();
+            long projetosAtrasados = snapshot.getProjetosAtrasados();
+            long tarefasAtrasadas = snapshot.getTarefasAtrasadas();
             
             if (projetosAtrasados > 0) {
                 alertas.append("⚠️ ").append(projetosAtrasados)
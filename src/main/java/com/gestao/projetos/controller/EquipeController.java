@@ -29,15 +29,23 @@ public class EquipeController {
      * Carrega todas as equipes na tabela
      */
     public void carregarEquipes() {
+        // As páginas são buscadas pela tabela conforme são exibidas; erros são tratados pela própria tela
+        view.carregarTabelaPaginada(equipeService::listarPagina, equipeService::contarTodas);
+    }
+
+    /**
+     * Pesquisa equipes por termo
+     */
+    public void pesquisarEquipes(String termo) {
         try {
-            List<Equipe> equipes = equipeService.listarTodas();
+            List<Equipe> equipes = equipeService.pesquisar(termo);
             view.atualizarTabela(equipes);
         } catch (SecurityException e) {
-            logger.warn("Acesso negado ao carregar equipes: {}", e.getMessage());
+            logger.warn("Acesso negado ao pesquisar equipes: {}", e.getMessage());
             view.showError("Você não tem permissão para visualizar equipes");
         } catch (SQLException e) {
-            logger.error("Erro ao carregar equipes", e);
-            view.showError("Erro ao carregar equipes: " + e.getMessage());
+            logger.error("Erro ao pesquisar equipes", e);
+            view.showError("Erro ao pesquisar equipes: " + e.getMessage());
         }
     }
 
@@ -178,7 +186,12 @@ public class EquipeController {
             }
             
             // Confirmar exclusão
-            if (!view.confirmarAcao("Tem certeza que deseja excluir esta equipe?\nEsta ação não pode ser desfeita.")) {
+            String mensagem = "Tem certeza que deseja excluir esta equipe?\nEsta ação não pode ser desfeita.";
+            long tarefas = equipeService.contarTarefas(id);
+            if (tarefas > 0) {
+                mensagem += "\n" + tarefas + " tarefas atribuídas à equipe ficarão sem equipe.";
+            }
+            if (!view.confirmarAcao(mensagem)) {
                 return;
             }
             
@@ -40,13 +40,8 @@ public class ProjetoController {
      * Carrega todos os projetos na tabela
      */
     public void carregarProjetos() {
-        try {
-            List<Projeto> projetos = projetoService.listarTodos();
-            view.atualizarTabela(projetos);
-        } catch (SQLException e) {
-            logger.error("Erro ao carregar projetos", e);
-            view.exibirMensagemErro("Erro ao carregar projetos: " + e.getMessage());
-        }
+        // As páginas são buscadas pela tabela conforme são exibidas; erros são tratados pela própria tela
+        view.carregarTabelaPaginada(projetoService::listarPagina, projetoService::contarTodos);
     }
 
     /**
@@ -178,9 +173,15 @@ public class ProjetoController {
                 return;
             }
 
+            String mensagem = "Tem certeza que deseja excluir o projeto '" + projetoSelecionado.getNome() + "'?";
+            long tarefas = projetoService.contarTarefas(projetoSelecionado.getId());
+            if (tarefas > 0) {
+                mensagem += "\nAs " + tarefas + " tarefas do projeto também serão excluídas.";
+            }
+
             int confirmacao = JOptionPane.showConfirmDialog(
                 view,
-                "Tem certeza que deseja excluir o projeto '" + projetoSelecionado.getNome() + "'?",
+                mensagem,
                 "Confirmar Exclusão",
                 JOptionPane.YES_NO_OPTION,
                 JOptionPane.QUESTION_MESSAGE
@@ -263,7 +264,7 @@ public class ProjetoController {
      */
     public List<Equipe> listarTodasEquipes() {
         try {
-            return equipeService.listarTodas();
+            return equipeService.listarTodas(false);
         } catch (SQLException e) {
             logger.error("Erro ao listar equipes", e);
             view.exibirMensagemErro("Erro ao listar equipes: " + e.getMessage());
@@ -1,5 +1,6 @@
 package com.gestao.projetos.controller;
 
+import com.gestao.projetos.dao.FiltroTarefa;
 import com.gestao.projetos.model.StatusTarefa;
 import com.gestao.projetos.model.Tarefa;
 import com.gestao.projetos.service.TarefaService;
@@ -25,13 +26,9 @@ public class TarefaController {
     }
 
     public void carregarTarefas() {
-        try {
-            List<Tarefa> tarefas = tarefaService.listarTodas();
-            atualizarView(tarefas);
-            logger.debug("Carregadas {} tarefas", tarefas.size());
-        } catch (SQLException e) {
-            logger.error("Erro ao carregar tarefas", e);
-            showError("Erro ao carregar tarefas: " + e.getMessage());
+        // As páginas são buscadas pela tabela conforme são exibidas; erros são tratados pela própria tela
+        if (tarefaFrame != null) {
+            tarefaFrame.carregarTabelaPaginada(tarefaService::listarPagina, tarefaService::contarTodas);
         }
     }
 
@@ -137,29 +134,51 @@ public class TarefaController {
         tarefaService.remover(id);
     }
 
+    public int alterarStatusTarefas(FiltroTarefa filtro, StatusTarefa status) throws SQLException {
+        return tarefaService.alterarStatusEmMassa(filtro, status);
+    }
+
+    public int atribuirResponsavelTarefas(FiltroTarefa filtro, Long responsavelId) throws SQLException {
+        return tarefaService.atribuirResponsavelEmMassa(filtro, responsavelId);
+    }
+
+    public int atribuirEquipeTarefas(FiltroTarefa filtro, Long equipeId) throws SQLException {
+        return tarefaService.atribuirEquipeEmMassa(filtro, equipeId);
+    }
+
+    public int removerTarefas(FiltroTarefa filtro) throws SQLException {
+        return tarefaService.removerEmMassa(filtro);
+    }
+
     public void pesquisarTarefas(String termo) throws SQLException {
         List<Tarefa> tarefas = tarefaService.pesquisar(termo);
         atualizarView(tarefas);
     }
 
-    public void filtrarPorProjeto(Long projetoId) throws SQLException {
-        List<Tarefa> tarefas = tarefaService.listarPorProjeto(projetoId);
-        atualizarView(tarefas);
+    public void filtrarPorProjeto(Long projetoId) {
+        carregarFiltradas(FiltroTarefa.doProjeto(projetoId));
     }
 
-    public void filtrarPorEquipe(Long equipeId) throws SQLException {
-        List<Tarefa> tarefas = tarefaService.listarPorEquipe(equipeId);
-        atualizarView(tarefas);
+    public void filtrarPorEquipe(Long equipeId) {
+        carregarFiltradas(FiltroTarefa.porCriterios(null, equipeId, null));
     }
 
-    public void filtrarPorStatus(StatusTarefa status) throws SQLException {
-        List<Tarefa> tarefas = tarefaService.listarPorStatus(status);
-        atualizarView(tarefas);
+    public void filtrarPorStatus(StatusTarefa status) {
+        carregarFiltradas(FiltroTarefa.porCriterios(null, null, status));
     }
 
-    public void carregarTarefasAtrasadas() throws SQLException {
-        List<Tarefa> tarefas = tarefaService.listarTarefasAtrasadas();
-        atualizarView(tarefas);
+    public void carregarTarefasAtrasadas() {
+        carregarFiltradas(FiltroTarefa.atrasadas());
+    }
+
+    /**
+     * Exibe as tarefas do filtro como fonte paginada, como a listagem completa
+     */
+    private void carregarFiltradas(FiltroTarefa filtro) {
+        if (tarefaFrame != null) {
+            tarefaFrame.carregarTabelaPaginada(pageRequest -> tarefaService.listarPagina(filtro, pageRequest),
+                                               () -> tarefaService.contar(filtro));
+        }
     }
 
     private void atualizarView(List<Tarefa> tarefas) {
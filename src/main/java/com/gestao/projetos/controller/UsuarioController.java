@@ -28,15 +28,8 @@ public class UsuarioController {
      * Carrega todos os usuários na tabela
      */
     public void carregarUsuarios() {
-        try {
-            List<Usuario> usuarios = usuarioService.listarTodos();
-            view.atualizarTabela(usuarios);
-            logger.debug("Carregados {} usuários", usuarios.size());
-            
-        } catch (SQLException e) {
-            logger.error("Erro ao carregar usuários", e);
-            view.showError("Erro ao carregar usuários: " + e.getMessage());
-        }
+        // As páginas são buscadas pela tabela conforme são exibidas; erros são tratados pela própria tela
+        view.carregarTabelaPaginada(usuarioService::listarPagina, usuarioService::contarUsuarios);
     }
 
     /**
@@ -348,20 +341,13 @@ public class UsuarioController {
                 return;
             }
             
-            Optional<Usuario> usuarioOpt = usuarioService.buscarPorId(id);
-            if (!usuarioOpt.isPresent()) {
-                view.showError("Usuário não encontrado");
-                return;
-            }
-            
-            Usuario usuario = usuarioOpt.get();
-            
+            // remover verifica existência e dependências com sondagens indexadas
             usuarioService.remover(id);
             
             view.showSuccess("Usuário excluído com sucesso!");
             carregarUsuarios();
             
-            logger.info("Usuário excluído: {} ({})", usuario.getNome(), usuario.getEmail());
+            logger.info("Usuário excluído (ID: {})", id);
             
         } catch (IllegalArgumentException e) {
             logger.warn("Erro de validação ao excluir usuário: {}", e.getMessage());
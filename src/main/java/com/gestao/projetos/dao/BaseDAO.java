@@ -55,6 +55,18 @@ public interface BaseDAO<T, ID> {
      */
     List<T> findAll() throws SQLException;
     
+    /**
+     * Lista uma página de entidades com paginação por chave (keyset), na mesma
+     * ordenação de findAll() desempatada pelo ID, ou pela chave de ordenação do
+     * pedido ({@link PageRequest#withSort}) desempatada pelo ID
+     * 
+     * @param pageRequest Tamanho da página, cursor da página anterior e ordenação
+     * @return Página com as entidades e o cursor da próxima página
+     * @throws SQLException em caso de erro na operação
+     * @throws IllegalArgumentException se o cursor for inválido ou a chave de ordenação não for suportada
+     */
+    Page<T> findPage(PageRequest pageRequest) throws SQLException;
+    
     /**
      * Verifica se uma entidade existe pelo ID
      * 
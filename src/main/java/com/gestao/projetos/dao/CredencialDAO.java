@@ -43,6 +43,14 @@ public class CredencialDAO implements BaseDAO<Credencial, Long> {
     private static final String SELECT_ALL_SQL = 
         "SELECT id, hash, salt, usuario_id, criado_em, atualizado_em FROM credencial ORDER BY id";
     
+    private static final String SELECT_PAGE_SQL = 
+        "SELECT id, hash, salt, usuario_id, criado_em, atualizado_em FROM credencial " +
+        "ORDER BY id LIMIT ?";
+    
+    private static final String SELECT_PAGE_AFTER_SQL = 
+        "SELECT id, hash, salt, usuario_id, criado_em, atualizado_em FROM credencial " +
+        "WHERE id > ? ORDER BY id LIMIT ?";
+    
     private static final String EXISTS_SQL = 
         "SELECT 1 FROM credencial WHERE id = ?";
     
@@ -154,6 +162,40 @@ public class CredencialDAO implements BaseDAO<Credencial, Long> {
         }
     }
 
+    /**
+     * Insere as credenciais com um único lote JDBC usando a conexão da transação (sem commit)
+     */
+    public void saveBatch(List<Credencial> credenciais, Connection connection) throws SQLException {
+        if (credenciais.isEmpty()) {
+            return;
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+            LocalDateTime now = LocalDateTime.now();
+            for (Credencial credencial : credenciais) {
+                if (!credencial.isValid()) {
+                    throw new IllegalArgumentException("Credencial inválida para inserção");
+                }
+                credencial.setCriadoEm(now);
+                credencial.setAtualizadoEm(now);
+
+                statement.setString(1, credencial.getHash());
+                statement.setString(2, credencial.getSalt());
+                statement.setLong(3, credencial.getUsuarioId());
+                statement.setTimestamp(4, Timestamp.valueOf(now));
+                statement.setTimestamp(5, Timestamp.valueOf(now));
+                statement.addBatch();
+            }
+
+            statement.executeBatch();
+            logger.debug("{} credenciais inseridas em lote usando conexão da transação", credenciais.size());
+
+        } catch (SQLException e) {
+            logger.error("Erro ao inserir lote de {} credenciais na transação", credenciais.size(), e);
+            throw e;
+        }
+    }
+
     @Override
     public Credencial update(Credencial credencial) throws SQLException {
         if (credencial == null || !credencial.isValid() || credencial.getId() == null) {
@@ -372,6 +414,18 @@ public class CredencialDAO implements BaseDAO<Credencial, Long> {
         return executeQuery(SELECT_ALL_SQL);
     }
 
+    @Override
+    public Page<Credencial> findPage(PageRequest pageRequest) throws SQLException {
+        List<Credencial> credenciais;
+        if (pageRequest.isFirst()) {
+            credenciais = executeQuery(SELECT_PAGE_SQL, pageRequest.getSize() + 1);
+        } else {
+            String[] chave = PageCursor.decode(pageRequest.getCursor(), 1);
+            credenciais = executeQuery(SELECT_PAGE_AFTER_SQL, PageCursor.parseLong(chave[0]), pageRequest.getSize() + 1);
+        }
+        return Page.of(credenciais, pageRequest.getSize(), c -> PageCursor.encode(c.getId()));
+    }
+
     @Override
     public boolean exists(Long id) throws SQLException {
         if (id == null || id <= 0) {
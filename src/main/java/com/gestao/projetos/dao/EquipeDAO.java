@@ -9,7 +9,10 @@ import org.slf4j.LoggerFactory;
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -44,6 +47,50 @@ public class EquipeDAO implements BaseDAO<Equipe, Long> {
         "u.nome as gerente_nome, u.email as gerente_email " +
         "FROM equipe e LEFT JOIN usuario u ON e.gerente_id = u.id WHERE e.ativa = true ORDER BY e.nome";
     
+    private static final String SELECT_PAGE_SQL = 
+        "SELECT e.id, e.nome, e.descricao, e.ativa, e.gerente_id, e.criado_em, e.atualizado_em, " +
+        "u.nome as gerente_nome, u.email as gerente_email " +
+        "FROM equipe e LEFT JOIN usuario u ON e.gerente_id = u.id " +
+        "ORDER BY e.nome, e.id LIMIT ?";
+    
+    private static final String SELECT_PAGE_AFTER_SQL = 
+        "SELECT e.id, e.nome, e.descricao, e.ativa, e.gerente_id, e.criado_em, e.atualizado_em, " +
+        "u.nome as gerente_nome, u.email as gerente_email " +
+        "FROM equipe e LEFT JOIN usuario u ON e.gerente_id = u.id " +
+        "WHERE (e.nome, e.id) > (?, ?) ORDER BY e.nome, e.id LIMIT ?";
+    
+    private static final String SELECT_PAGE_ORDENADA_SQL = 
+        "SELECT e.id, e.nome, e.descricao, e.ativa, e.gerente_id, e.criado_em, e.atualizado_em, " +
+        "u.nome as gerente_nome, u.email as gerente_email " +
+        "FROM equipe e LEFT JOIN usuario u ON e.gerente_id = u.id";
+    
+    // Chaves aceitas em PageRequest.withSort
+    private static final PageSort<Equipe> ORDENACAO = new PageSort<Equipe>("e.id", Equipe::getId)
+        .coluna("id", "e.id", Equipe::getId)
+        .coluna("nome", "e.nome", Equipe::getNome)
+        .coluna("descricao", "e.descricao", Equipe::getDescricao)
+        .coluna("ativa", "e.ativa", e -> e.isAtiva() ? 1 : 0)
+        .coluna("criado_em", "e.criado_em", e -> e.getCriadoEm() != null ? Timestamp.valueOf(e.getCriadoEm()) : null);
+    
+    private static final String SEARCH_PREFIXO_SQL = 
+        "SELECT e.id, e.nome, e.descricao, e.ativa, e.gerente_id, e.criado_em, e.atualizado_em, " +
+        "u.nome as gerente_nome, u.email as gerente_email " +
+        "FROM equipe e LEFT JOIN usuario u ON e.gerente_id = u.id " +
+        "WHERE e.nome LIKE ? " +
+        "ORDER BY CASE WHEN e.nome = ? THEN 0 ELSE 1 END, e.nome LIMIT ?";
+    
+    private static final String SEARCH_CONTEM_SQL = 
+        "SELECT e.id, e.nome, e.descricao, e.ativa, e.gerente_id, e.criado_em, e.atualizado_em, " +
+        "u.nome as gerente_nome, u.email as gerente_email " +
+        "FROM equipe e LEFT JOIN usuario u ON e.gerente_id = u.id " +
+        "WHERE e.nome LIKE ? OR e.descricao LIKE ? " +
+        "ORDER BY CASE WHEN e.nome LIKE ? THEN 0 ELSE 1 END, e.nome LIMIT ?";
+    
+    private static final String SELECT_BY_IDS_SQL = 
+        "SELECT e.id, e.nome, e.descricao, e.ativa, e.gerente_id, e.criado_em, e.atualizado_em, " +
+        "u.nome as gerente_nome, u.email as gerente_email " +
+        "FROM equipe e LEFT JOIN usuario u ON e.gerente_id = u.id WHERE e.id IN ";
+    
     private static final String EXISTS_SQL = 
         "SELECT 1 FROM equipe WHERE id = ?";
     
@@ -64,11 +111,13 @@ public class EquipeDAO implements BaseDAO<Equipe, Long> {
         "UPDATE equipe_membro SET papel_equipe = ?, atualizado_em = ? WHERE equipe_id = ? AND usuario_id = ?";
     
     private static final String SELECT_MEMBROS_SQL = 
-        "SELECT em.id, em.papel_equipe, em.data_entrada, em.ativo, " +
+        "SELECT em.id, em.equipe_id, em.papel_equipe, em.data_entrada, em.ativo, " +
         "u.id as usuario_id, u.nome, u.email, u.cargo, u.ativo as usuario_ativo " +
         "FROM equipe_membro em " +
         "INNER JOIN usuario u ON em.usuario_id = u.id " +
-        "WHERE em.equipe_id = ? AND em.ativo = true ORDER BY u.nome";
+        "WHERE em.ativo = true AND em.equipe_id IN ";
+    
+    private static final String ORDER_MEMBROS_SQL = " ORDER BY u.nome";
     
     private static final String COUNT_GERENTES_EQUIPE_SQL = 
         "SELECT COUNT(*) FROM equipe_membro WHERE equipe_id = ? AND papel_equipe = 'GERENTE' AND ativo = true";
@@ -247,7 +296,7 @@ public class EquipeDAO implements BaseDAO<Equipe, Long> {
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
                     Equipe equipe = mapResultSetToEquipe(rs);
-                    carregarMembros(equipe, connection);
+                    carregarMembros(List.of(equipe), connection);
                     return Optional.of(equipe);
                 }
             }
@@ -262,14 +311,77 @@ public class EquipeDAO implements BaseDAO<Equipe, Long> {
 
     @Override
     public List<Equipe> findAll() throws SQLException {
-        return executeQuery(SELECT_ALL_SQL);
+        return findAll(true);
+    }
+    
+    /**
+     * Lista todas as equipes, opcionalmente sem carregar os membros
+     * (para telas que exibem apenas nome e descrição)
+     */
+    public List<Equipe> findAll(boolean carregarMembros) throws SQLException {
+        return executeQuery(carregarMembros, SELECT_ALL_SQL);
+    }
+    
+    @Override
+    public Page<Equipe> findPage(PageRequest pageRequest) throws SQLException {
+        return findPage(pageRequest, true);
+    }
+    
+    /**
+     * Lista uma página de equipes, opcionalmente sem carregar os membros
+     */
+    public Page<Equipe> findPage(PageRequest pageRequest, boolean carregarMembros) throws SQLException {
+        if (pageRequest.isSorted()) {
+            PageSort.Consulta consulta = ORDENACAO.montar(SELECT_PAGE_ORDENADA_SQL, null, null, pageRequest);
+            return Page.of(executeQuery(carregarMembros, consulta.getSql(), consulta.getParametros()),
+                           pageRequest.getSize(), ORDENACAO.cursor(pageRequest));
+        }
+        List<Equipe> equipes;
+        if (pageRequest.isFirst()) {
+            equipes = executeQuery(carregarMembros, SELECT_PAGE_SQL, pageRequest.getSize() + 1);
+        } else {
+            String[] chave = PageCursor.decode(pageRequest.getCursor(), 2);
+            equipes = executeQuery(carregarMembros, SELECT_PAGE_AFTER_SQL,
+                                   chave[0], PageCursor.parseLong(chave[1]), pageRequest.getSize() + 1);
+        }
+        return Page.of(equipes, pageRequest.getSize(), e -> PageCursor.encode(e.getNome(), e.getId()));
+    }
+    
+    /**
+     * Pesquisa equipes por nome no banco, limitada a {@code limite} linhas.
+     * Busca primeiro por prefixo do nome; sem resultados, procura o termo em
+     * qualquer posição do nome ou da descrição.
+     */
+    public List<Equipe> pesquisar(String termo, int limite) throws SQLException {
+        if (termo == null || termo.trim().isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        String termoBusca = termo.trim();
+        String escapado = DatabaseUtil.escapeLike(termoBusca);
+        int limiteEfetivo = limite > 0 ? limite : DatabaseUtil.DEFAULT_SEARCH_LIMIT;
+        
+        List<Equipe> equipes = executeQuery(true, SEARCH_PREFIXO_SQL, escapado + "%", termoBusca, limiteEfetivo);
+        if (!equipes.isEmpty()) {
+            return equipes;
+        }
+        
+        String contem = "%" + escapado + "%";
+        return executeQuery(true, SEARCH_CONTEM_SQL, contem, contem, contem, limiteEfetivo);
     }
     
     /**
      * Lista apenas equipes ativas
      */
     public List<Equipe> findAllActive() throws SQLException {
-        return executeQuery(SELECT_ACTIVE_SQL);
+        return findAllActive(true);
+    }
+    
+    /**
+     * Lista apenas equipes ativas, opcionalmente sem carregar os membros
+     */
+    public List<Equipe> findAllActive(boolean carregarMembros) throws SQLException {
+        return executeQuery(carregarMembros, SELECT_ACTIVE_SQL);
     }
 
     @Override
@@ -342,9 +454,38 @@ public class EquipeDAO implements BaseDAO<Equipe, Long> {
     }
 
     /**
-     * Método auxiliar para executar queries que retornam lista de equipes
+     * Busca em lote as equipes com os IDs informados usando a conexão recebida,
+     * com uma consulta IN (...) por lote de {@link DatabaseUtil#MAX_IN_PARAMETERS} IDs.
+     * Os membros não são carregados.
+     */
+    Map<Long, Equipe> findByIds(Collection<Long> ids, Connection connection) throws SQLException {
+        Map<Long, Equipe> equipes = new HashMap<>();
+        
+        for (List<Long> lote : DatabaseUtil.partition(ids, DatabaseUtil.MAX_IN_PARAMETERS)) {
+            try (PreparedStatement stmt = connection.prepareStatement(
+                    SELECT_BY_IDS_SQL + DatabaseUtil.buildPlaceholders(lote.size()))) {
+                
+                for (int i = 0; i < lote.size(); i++) {
+                    stmt.setLong(i + 1, lote.get(i));
+                }
+                
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        Equipe equipe = mapResultSetToEquipe(rs);
+                        equipes.put(equipe.getId(), equipe);
+                    }
+                }
+            }
+        }
+        
+        return equipes;
+    }
+
+    /**
+     * Método auxiliar para executar queries que retornam lista de equipes.
+     * Os membros de todas as equipes são carregados em lote na mesma conexão.
      */
-    private List<Equipe> executeQuery(String sql, Object... parameters) throws SQLException {
+    private List<Equipe> executeQuery(boolean carregarMembros, String sql, Object... parameters) throws SQLException {
         List<Equipe> equipes = new ArrayList<>();
         
         try (Connection connection = DatabaseUtil.getConnection();
@@ -356,12 +497,14 @@ public class EquipeDAO implements BaseDAO<Equipe, Long> {
             
             try (ResultSet rs = stmt.executeQuery()) {
                 while (rs.next()) {
-                    Equipe equipe = mapResultSetToEquipe(rs);
-                    carregarMembros(equipe, connection);
-                    equipes.add(equipe);
+                    equipes.add(mapResultSetToEquipe(rs));
                 }
             }
             
+            if (carregarMembros) {
+                carregarMembros(equipes, connection);
+            }
+            
         } catch (SQLException e) {
             logger.error("Erro ao executar query de equipes: {}", sql, e);
             throw e;
@@ -395,29 +538,45 @@ public class EquipeDAO implements BaseDAO<Equipe, Long> {
     }
     
     /**
-     * Carrega os membros de uma equipe
+     * Carrega os membros das equipes com uma consulta IN (...) por lote de
+     * {@link DatabaseUtil#MAX_IN_PARAMETERS} equipes, agrupando em memória
      */
-    private void carregarMembros(Equipe equipe, Connection connection) throws SQLException {
-        List<Usuario> membros = new ArrayList<>();
+    private void carregarMembros(List<Equipe> equipes, Connection connection) throws SQLException {
+        if (equipes.isEmpty()) {
+            return;
+        }
         
-        try (PreparedStatement stmt = connection.prepareStatement(SELECT_MEMBROS_SQL)) {
-            stmt.setLong(1, equipe.getId());
-            
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    Usuario usuario = new Usuario();
-                    usuario.setId(rs.getLong("usuario_id"));
-                    usuario.setNome(rs.getString("nome"));
-                    usuario.setEmail(rs.getString("email"));
-                    usuario.setCargo(rs.getString("papel_equipe")); // Papel na equipe vai para cargo temporariamente
-                    usuario.setAtivo(rs.getBoolean("usuario_ativo"));
-                    
-                    membros.add(usuario);
+        Map<Long, List<Usuario>> membrosPorEquipe = new HashMap<>();
+        for (Equipe equipe : equipes) {
+            membrosPorEquipe.put(equipe.getId(), new ArrayList<>());
+        }
+        
+        for (List<Long> lote : DatabaseUtil.partition(membrosPorEquipe.keySet(), DatabaseUtil.MAX_IN_PARAMETERS)) {
+            try (PreparedStatement stmt = connection.prepareStatement(
+                    SELECT_MEMBROS_SQL + DatabaseUtil.buildPlaceholders(lote.size()) + ORDER_MEMBROS_SQL)) {
+                
+                for (int i = 0; i < lote.size(); i++) {
+                    stmt.setLong(i + 1, lote.get(i));
+                }
+                
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        Usuario usuario = new Usuario();
+                        usuario.setId(rs.getLong("usuario_id"));
+                        usuario.setNome(rs.getString("nome"));
+                        usuario.setEmail(rs.getString("email"));
+                        usuario.setCargo(rs.getString("papel_equipe")); // Papel na equipe vai para cargo temporariamente
+                        usuario.setAtivo(rs.getBoolean("usuario_ativo"));
+                        
+                        membrosPorEquipe.get(rs.getLong("equipe_id")).add(usuario);
+                    }
                 }
             }
         }
         
-        equipe.setMembros(membros);
+        for (Equipe equipe : equipes) {
+            equipe.setMembros(membrosPorEquipe.get(equipe.getId()));
+        }
     }
     
     /**
@@ -0,0 +1,106 @@
+package com.gestao.projetos.dao;
+
+import com.gestao.projetos.model.StatusTarefa;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Seleção de tarefas para as operações em massa e as listagens paginadas: um conjunto
+ * de IDs ou uma combinação de projeto, equipe, status e atraso (critérios nulos são ignorados)
+ */
+public final class FiltroTarefa {
+
+    private final Set<Long> ids;
+    private final Long projetoId;
+    private final Long equipeId;
+    private final StatusTarefa status;
+    private final boolean atrasadas;
+
+    private FiltroTarefa(Set<Long> ids, Long projetoId, Long equipeId, StatusTarefa status, boolean atrasadas) {
+        this.ids = ids;
+        this.projetoId = projetoId;
+        this.equipeId = equipeId;
+        this.status = status;
+        this.atrasadas = atrasadas;
+    }
+
+    /**
+     * Tarefas com os IDs informados
+     */
+    public static FiltroTarefa porIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um ID de tarefa");
+        }
+        Set<Long> unicos = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (id == null || id <= 0) {
+                throw new IllegalArgumentException("ID de tarefa inválido: " + id);
+            }
+            unicos.add(id);
+        }
+        return new FiltroTarefa(Collections.unmodifiableSet(unicos), null, null, null, false);
+    }
+
+    /**
+     * Tarefas que atendem a todos os critérios não nulos
+     */
+    public static FiltroTarefa porCriterios(Long projetoId, Long equipeId, StatusTarefa status) {
+        if (projetoId == null && equipeId == null && status == null) {
+            throw new IllegalArgumentException("Informe ao menos um critério: projeto, equipe ou status");
+        }
+        return new FiltroTarefa(null, projetoId, equipeId, status, false);
+    }
+
+    /**
+     * Tarefas com prazo vencido que não foram concluídas nem canceladas
+     */
+    public static FiltroTarefa atrasadas() {
+        return new FiltroTarefa(null, null, null, null, true);
+    }
+
+    /**
+     * Todas as tarefas do projeto
+     */
+    public static FiltroTarefa doProjeto(Long projetoId) {
+        if (projetoId == null || projetoId <= 0) {
+            throw new IllegalArgumentException("ID do projeto é obrigatório e deve ser maior que zero.");
+        }
+        return porCriterios(projetoId, null, null);
+    }
+
+    public boolean isPorIds() {
+        return ids != null;
+    }
+
+    public Set<Long> getIds() {
+        return ids;
+    }
+
+    public Long getProjetoId() {
+        return projetoId;
+    }
+
+    public Long getEquipeId() {
+        return equipeId;
+    }
+
+    public StatusTarefa getStatus() {
+        return status;
+    }
+
+    public boolean isAtrasadas() {
+        return atrasadas;
+    }
+
+    @Override
+    public String toString() {
+        if (isPorIds()) {
+            return "FiltroTarefa{ids=" + ids.size() + '}';
+        }
+        return "FiltroTarefa{projetoId=" + projetoId + ", equipeId=" + equipeId + ", status=" + status
+            + (atrasadas ? ", atrasadas" : "") + '}';
+    }
+}
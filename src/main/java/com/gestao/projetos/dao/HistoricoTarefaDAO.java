@@ -0,0 +1,115 @@
+package com.gestao.projetos.dao;
+
+import com.gestao.projetos.model.HistoricoTarefa;
+import com.gestao.projetos.util.DatabaseUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DAO para o histórico de alterações de tarefas (registros imutáveis)
+ */
+public class HistoricoTarefaDAO {
+
+    private static final Logger logger = LoggerFactory.getLogger(HistoricoTarefaDAO.class);
+
+    // Queries SQL
+    private static final String INSERT_SQL =
+        "INSERT INTO historico_tarefa (tarefa_id, usuario_id, campo, valor_anterior, valor_novo, data_hora) " +
+        "VALUES (?, ?, ?, ?, ?, ?)";
+
+    // Usa o índice idx_historico_tarefa_data (tarefa_id, data_hora)
+    private static final String SELECT_BY_TAREFA_SQL =
+        "SELECT id, tarefa_id, usuario_id, campo, valor_anterior, valor_novo, data_hora FROM historico_tarefa " +
+        "WHERE tarefa_id = ? ORDER BY data_hora DESC, id DESC";
+
+    private static final String EXISTS_BY_USUARIO_SQL =
+        "SELECT 1 FROM historico_tarefa WHERE usuario_id = ? LIMIT 1";
+
+    /**
+     * Insere as alterações com um único lote JDBC na conexão informada, sem commit:
+     * a gravação faz parte da transação de quem chama
+     */
+    public void insertBatch(List<HistoricoTarefa> alteracoes, Connection connection) throws SQLException {
+        if (alteracoes.isEmpty()) {
+            return;
+        }
+
+        try (PreparedStatement stmt = connection.prepareStatement(INSERT_SQL)) {
+            for (HistoricoTarefa alteracao : alteracoes) {
+                stmt.setLong(1, alteracao.getTarefaId());
+                stmt.setLong(2, alteracao.getUsuarioId());
+                stmt.setString(3, alteracao.getCampo());
+                stmt.setString(4, alteracao.getValorAnterior());
+                stmt.setString(5, alteracao.getValorNovo());
+                stmt.setTimestamp(6, Timestamp.valueOf(alteracao.getDataHora()));
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        }
+    }
+
+    /**
+     * Carrega a linha do tempo completa de uma tarefa, da alteração mais recente para a mais antiga
+     */
+    public List<HistoricoTarefa> findByTarefaId(Long tarefaId) throws SQLException {
+        List<HistoricoTarefa> historico = new ArrayList<>();
+
+        try (Connection connection = DatabaseUtil.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(SELECT_BY_TAREFA_SQL)) {
+
+            stmt.setLong(1, tarefaId);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    historico.add(mapResultSetToHistorico(rs));
+                }
+            }
+
+        } catch (SQLException e) {
+            logger.error("Erro ao carregar histórico da tarefa (ID: {})", tarefaId, e);
+            throw e;
+        }
+        return historico;
+    }
+
+    /**
+     * Verifica se o usuário tem alterações registradas (a chave usuario_id impede a exclusão do usuário)
+     */
+    public boolean existsByUsuarioId(Long usuarioId) throws SQLException {
+        try (Connection connection = DatabaseUtil.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(EXISTS_BY_USUARIO_SQL)) {
+
+            stmt.setLong(1, usuarioId);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next();
+            }
+
+        } catch (SQLException e) {
+            logger.error("Erro ao verificar histórico de tarefas do usuário (ID: {})", usuarioId, e);
+            throw e;
+        }
+    }
+
+    private HistoricoTarefa mapResultSetToHistorico(ResultSet rs) throws SQLException {
+        HistoricoTarefa historico = new HistoricoTarefa();
+        historico.setId(rs.getLong("id"));
+        historico.setTarefaId(rs.getLong("tarefa_id"));
+        historico.setUsuarioId(rs.getLong("usuario_id"));
+        historico.setCampo(rs.getString("campo"));
+        historico.setValorAnterior(rs.getString("valor_anterior"));
+        historico.setValorNovo(rs.getString("valor_novo"));
+
+        Timestamp dataHora = rs.getTimestamp("data_hora");
+        historico.setDataHora(dataHora != null ? dataHora.toLocalDateTime() : null);
+        return historico;
+    }
+}
@@ -0,0 +1,96 @@
+package com.gestao.projetos.dao;
+
+import com.gestao.projetos.model.LogAcesso;
+import com.gestao.projetos.util.DatabaseUtil;
+import com.gestao.projetos.util.StreamingQuery;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * DAO para o log de acesso.
+ * O log cresce sem limite: as gravações são feitas em lote e as leituras em streaming.
+ */
+public class LogAcessoDAO {
+
+    private static final Logger logger = LoggerFactory.getLogger(LogAcessoDAO.class);
+
+    // Queries SQL
+    private static final String INSERT_SQL =
+        "INSERT INTO log_acesso (acao, data_hora, usuario_id, sucesso, ip_origem, user_agent) " +
+        "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_DESDE_SQL =
+        "SELECT id, acao, data_hora, ip_origem, user_agent, sucesso, usuario_id FROM log_acesso " +
+        "WHERE data_hora >= ? ORDER BY data_hora, id";
+
+    /**
+     * Insere os registros com um único lote JDBC (reescrito em um INSERT multi-linha pelo driver)
+     */
+    public void insertBatch(List<LogAcesso> logs) throws SQLException {
+        if (logs.isEmpty()) {
+            return;
+        }
+
+        try (Connection connection = DatabaseUtil.getConnection();
+             PreparedStatement stmt = connection.prepareStatement(INSERT_SQL)) {
+
+            for (LogAcesso log : logs) {
+                stmt.setString(1, log.getAcao());
+                stmt.setTimestamp(2, Timestamp.valueOf(log.getDataHora()));
+                if (log.getUsuarioId() != null) {
+                    stmt.setLong(3, log.getUsuarioId());
+                } else {
+                    stmt.setNull(3, Types.BIGINT);
+                }
+                stmt.setBoolean(4, log.isSucesso());
+                stmt.setString(5, log.getIpOrigem());
+                stmt.setString(6, log.getUserAgent());
+                stmt.addBatch();
+            }
+
+            stmt.executeBatch();
+            DatabaseUtil.commit(connection);
+            logger.debug("{} registros inseridos no log de acesso", logs.size());
+
+        } catch (SQLException e) {
+            logger.error("Erro ao inserir lote de {} registros no log de acesso", logs.size(), e);
+            throw e;
+        }
+    }
+
+    /**
+     * Percorre em streaming os registros a partir da data informada, em ordem cronológica
+     *
+     * @return Quantidade de registros processados
+     */
+    public long forEachDesde(LocalDateTime desde, Consumer<? super LogAcesso> handler) throws SQLException {
+        logger.debug("Percorrendo log de acesso desde {}", desde);
+        return StreamingQuery.forEach(SELECT_DESDE_SQL, this::mapResultSetToLogAcesso, handler,
+                                      Timestamp.valueOf(desde));
+    }
+
+    private LogAcesso mapResultSetToLogAcesso(ResultSet rs) throws SQLException {
+        LogAcesso log = new LogAcesso();
+        log.setId(rs.getLong("id"));
+        log.setAcao(rs.getString("acao"));
+
+        Timestamp dataHora = rs.getTimestamp("data_hora");
+        log.setDataHora(dataHora != null ? dataHora.toLocalDateTime() : null);
+
+        log.setIpOrigem(rs.getString("ip_origem"));
+        log.setUserAgent(rs.getString("user_agent"));
+        log.setSucesso(rs.getBoolean("sucesso"));
+        log.setUsuarioId((Long) rs.getObject("usuario_id"));
+        return log;
+    }
+}
@@ -0,0 +1,62 @@
+package com.gestao.projetos.dao;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de resultados de uma consulta paginada por chave, com o cursor
+ * para a página seguinte (null quando esta é a última)
+ *
+ * @param <T> Tipo da entidade
+ */
+public final class Page<T> {
+
+    private final List<T> items;
+    private final int size;
+    private final String nextCursor;
+
+    public Page(List<T> items, int size, String nextCursor) {
+        this.items = Collections.unmodifiableList(new ArrayList<>(items));
+        this.size = size;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Monta a página a partir de até {@code size + 1} linhas lidas: a linha
+     * excedente indica que há próxima página, cujo cursor é a chave da última linha mantida
+     */
+    static <T> Page<T> of(List<T> linhas, int size, Function<T, String> cursorDe) {
+        if (linhas.size() <= size) {
+            return new Page<>(linhas, size, null);
+        }
+        List<T> items = linhas.subList(0, size);
+        return new Page<>(items, size, cursorDe.apply(items.get(size - 1)));
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "Page{items=" + items.size() + ", size=" + size + ", hasNext=" + hasNext() + '}';
+    }
+}
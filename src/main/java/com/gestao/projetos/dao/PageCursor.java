@@ -0,0 +1,70 @@
+package com.gestao.projetos.dao;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Codifica e decodifica os cursores opacos da paginação por chave.
+ * O cursor guarda os valores da chave de ordenação da última linha da página.
+ */
+final class PageCursor {
+
+    private static final String NULO = "~";
+    private static final String SEPARADOR = ".";
+
+    private PageCursor() {
+    }
+
+    /**
+     * Gera o cursor a partir dos valores da chave de ordenação (null é permitido)
+     */
+    static String encode(Object... valores) {
+        StringBuilder cursor = new StringBuilder();
+        for (int i = 0; i < valores.length; i++) {
+            if (i > 0) {
+                cursor.append(SEPARADOR);
+            }
+            if (valores[i] == null) {
+                cursor.append(NULO);
+            } else {
+                cursor.append(Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(valores[i].toString().getBytes(StandardCharsets.UTF_8)));
+            }
+        }
+        return cursor.toString();
+    }
+
+    /**
+     * Obtém os valores (em texto) da chave de ordenação guardados no cursor
+     *
+     * @throws IllegalArgumentException se o cursor não tiver a quantidade esperada de valores
+     */
+    static String[] decode(String cursor, int quantidade) {
+        String[] partes = cursor.split("\\" + SEPARADOR, -1);
+        if (partes.length != quantidade) {
+            throw new IllegalArgumentException("Cursor de paginação inválido: " + cursor);
+        }
+
+        String[] valores = new String[quantidade];
+        try {
+            for (int i = 0; i < quantidade; i++) {
+                valores[i] = NULO.equals(partes[i]) ? null
+                    : new String(Base64.getUrlDecoder().decode(partes[i]), StandardCharsets.UTF_8);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor de paginação inválido: " + cursor, e);
+        }
+        return valores;
+    }
+
+    /**
+     * Converte um valor do cursor para long, validando o formato
+     */
+    static long parseLong(String valor) {
+        try {
+            return Long.parseLong(valor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Cursor de paginação inválido: " + valor, e);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.gestao.projetos.dao;
+
+/**
+ * Pedido de uma página em paginação por chave (keyset): tamanho da página,
+ * cursor opaco devolvido pela página anterior (null para a primeira página) e,
+ * opcionalmente, a chave de ordenação escolhida (null para a ordem padrão do DAO).
+ * O cursor só vale para a mesma ordenação da página que o gerou.
+ */
+public final class PageRequest {
+
+    public static final int DEFAULT_SIZE = 100;
+    public static final int MAX_SIZE = 1000;
+
+    private final int size;
+    private final String cursor;
+    private final String sortKey;
+    private final boolean descending;
+
+    private PageRequest(int size, String cursor) {
+        this(size, cursor, null, false);
+    }
+
+    private PageRequest(int size, String cursor, String sortKey, boolean descending) {
+        if (size <= 0 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("Tamanho de página deve estar entre 1 e " + MAX_SIZE);
+        }
+        this.size = size;
+        this.cursor = cursor;
+        this.sortKey = sortKey;
+        this.descending = sortKey != null && descending;
+    }
+
+    /**
+     * Primeira página com o tamanho informado
+     */
+    public static PageRequest first(int size) {
+        return new PageRequest(size, null);
+    }
+
+    /**
+     * Página seguinte à posição indicada pelo cursor, com o mesmo tamanho e
+     * a mesma ordenação deste pedido (o cursor foi gerado nessa ordenação)
+     */
+    public PageRequest after(String cursor) {
+        return new PageRequest(size, cursor, sortKey, descending);
+    }
+
+    /**
+     * Página seguinte à página informada, que foi lida com este pedido
+     * ou com outro da mesma ordenação
+     */
+    public PageRequest next(Page<?> page) {
+        if (!page.hasNext()) {
+            throw new IllegalStateException("Não há próxima página");
+        }
+        return after(page.getNextCursor());
+    }
+
+    /**
+     * O mesmo pedido ordenado pela chave informada (null volta à ordem padrão).
+     * As chaves aceitas são definidas por cada DAO.
+     */
+    public PageRequest withSort(String sortKey, boolean descending) {
+        return new PageRequest(size, cursor, sortKey, descending);
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public String getCursor() {
+        return cursor;
+    }
+
+    public boolean isFirst() {
+        return cursor == null;
+    }
+
+    public String getSortKey() {
+        return sortKey;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    public boolean isSorted() {
+        return sortKey != null;
+    }
+
+    @Override
+    public String toString() {
+        return "PageRequest{size=" + size + ", cursor=" + cursor
+            + (sortKey != null ? ", sort=" + sortKey + (descending ? " DESC" : "") : "") + '}';
+    }
+}
@@ -0,0 +1,129 @@
+package com.gestao.projetos.dao;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Ordenação de uma consulta paginada por uma coluna escolhida (ex.: clique no cabeçalho
+ * da tabela), desempatada pelo ID no mesmo sentido. Monta o ORDER BY e a condição de
+ * continuação a partir do cursor. Os nulos seguem a ordem do MySQL: primeiro na ordem
+ * crescente, por último na decrescente.
+ *
+ * @param <T> Tipo da entidade
+ */
+final class PageSort<T> {
+
+    private final String colunaId;
+    private final Function<T, Long> id;
+    private final Map<String, Coluna<T>> colunas = new LinkedHashMap<>();
+
+    private static final class Coluna<T> {
+        private final String expressao;
+        private final Function<T, Object> valor;
+
+        private Coluna(String expressao, Function<T, Object> valor) {
+            this.expressao = expressao;
+            this.valor = valor;
+        }
+    }
+
+    /**
+     * Consulta montada: SQL e parâmetros na ordem dos marcadores (o último é o LIMIT)
+     */
+    static final class Consulta {
+        private final String sql;
+        private final Object[] parametros;
+
+        private Consulta(String sql, List<Object> parametros) {
+            this.sql = sql;
+            this.parametros = parametros.toArray();
+        }
+
+        String getSql() {
+            return sql;
+        }
+
+        Object[] getParametros() {
+            return parametros;
+        }
+    }
+
+    PageSort(String colunaId, Function<T, Long> id) {
+        this.colunaId = colunaId;
+        this.id = id;
+    }
+
+    /**
+     * Aceita a chave de ordenação {@code chave}, que ordena pela expressão SQL informada.
+     * O valor extraído da entidade vai para o cursor em texto e é comparado pelo banco
+     * com a coluna, portanto deve estar no formato do banco (datas ISO, booleanos 1/0,
+     * enums pelo código).
+     */
+    PageSort<T> coluna(String chave, String expressao, Function<T, Object> valor) {
+        colunas.put(chave, new Coluna<>(expressao, valor));
+        return this;
+    }
+
+    /**
+     * Monta a consulta da página: {@code select} sem WHERE, o filtro opcional (com seus
+     * parâmetros), a condição de continuação do cursor, o ORDER BY e o LIMIT
+     *
+     * @throws IllegalArgumentException se a chave de ordenação não for aceita ou o cursor for inválido
+     */
+    Consulta montar(String select, String filtro, List<Object> parametrosFiltro, PageRequest pageRequest) {
+        Coluna<T> coluna = coluna(pageRequest);
+        String sentido = pageRequest.isDescending() ? " DESC" : "";
+        List<String> condicoes = new ArrayList<>();
+        List<Object> parametros = new ArrayList<>();
+
+        if (filtro != null) {
+            condicoes.add("(" + filtro + ")");
+            parametros.addAll(parametrosFiltro);
+        }
+        if (!pageRequest.isFirst()) {
+            String[] chave = PageCursor.decode(pageRequest.getCursor(), 2);
+            long ultimoId = PageCursor.parseLong(chave[1]);
+            String c = coluna.expressao;
+            String comparacao = pageRequest.isDescending() ? "<" : ">";
+            if (chave[0] == null) {
+                condicoes.add(pageRequest.isDescending()
+                    ? "(" + c + " IS NULL AND " + colunaId + " < ?)"
+                    : "((" + c + " IS NULL AND " + colunaId + " > ?) OR " + c + " IS NOT NULL)");
+                parametros.add(ultimoId);
+            } else {
+                condicoes.add("(" + c + " " + comparacao + " ? OR (" + c + " = ? AND " + colunaId + " "
+                    + comparacao + " ?)" + (pageRequest.isDescending() ? " OR " + c + " IS NULL" : "") + ")");
+                Collections.addAll(parametros, chave[0], chave[0], ultimoId);
+            }
+        }
+
+        StringBuilder sql = new StringBuilder(select);
+        if (!condicoes.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", condicoes));
+        }
+        sql.append(" ORDER BY ").append(coluna.expressao).append(sentido)
+           .append(", ").append(colunaId).append(sentido).append(" LIMIT ?");
+        parametros.add(pageRequest.getSize() + 1);
+        return new Consulta(sql.toString(), parametros);
+    }
+
+    /**
+     * Cursor de uma linha na ordenação do pedido
+     */
+    Function<T, String> cursor(PageRequest pageRequest) {
+        Coluna<T> coluna = coluna(pageRequest);
+        return item -> PageCursor.encode(coluna.valor.apply(item), id.apply(item));
+    }
+
+    private Coluna<T> coluna(PageRequest pageRequest) {
+        Coluna<T> coluna = colunas.get(pageRequest.getSortKey());
+        if (coluna == null) {
+            throw new IllegalArgumentException("Ordenação não suportada: " + pageRequest.getSortKey());
+        }
+        return coluna;
+    }
+}
@@ -2,6 +2,8 @@ package com.gestao.projetos.dao;
 
 import com.gestao.projetos.model.Papel;
 import com.gestao.projetos.util.DatabaseUtil;
+import com.gestao.projetos.util.PermissionMatrix;
+import com.gestao.projetos.util.ReferenceDataCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -12,7 +14,8 @@ import java.util.List;
 import java.util.Optional;
 
 /**
- * DAO para operações relacionadas à entidade Papel
+ * DAO para operações relacionadas à entidade Papel. As buscas por ID, por nome e a listagem
+ * completa são servidas pelo {@link ReferenceDataCache}; as gravações recarregam o cache.
  */
 public class PapelDAO implements BaseDAO<Papel, Long> {
     
@@ -28,14 +31,16 @@ public class PapelDAO implements BaseDAO<Papel, Long> {
     private static final String DELETE_SQL = 
         "DELETE FROM papel WHERE id = ?";
     
-    private static final String SELECT_BY_ID_SQL = 
-        "SELECT id, nome, descricao, criado_em, atualizado_em FROM papel WHERE id = ?";
-    
     private static final String SELECT_ALL_SQL = 
         "SELECT id, nome, descricao, criado_em, atualizado_em FROM papel ORDER BY nome";
     
-    private static final String SELECT_BY_NOME_SQL = 
-        "SELECT id, nome, descricao, criado_em, atualizado_em FROM papel WHERE nome = ?";
+    private static final String SELECT_PAGE_SQL = 
+        "SELECT id, nome, descricao, criado_em, atualizado_em FROM papel " +
+        "ORDER BY nome, id LIMIT ?";
+    
+    private static final String SELECT_PAGE_AFTER_SQL = 
+        "SELECT id, nome, descricao, criado_em, atualizado_em FROM papel " +
+        "WHERE (nome, id) > (?, ?) ORDER BY nome, id LIMIT ?";
     
     private static final String EXISTS_SQL = 
         "SELECT 1 FROM papel WHERE id = ?";
@@ -74,8 +79,8 @@ public class PapelDAO implements BaseDAO<Papel, Long> {
             generatedKeys = statement.getGeneratedKeys();
             if (generatedKeys.next()) {
                 papel.setId(generatedKeys.getLong(1));
+                DatabaseUtil.commit(connection);
                 logger.debug("Papel inserido com ID: {}", papel.getId());
-                return papel;
             } else {
                 throw new SQLException("Falha ao inserir papel, ID não gerado");
             }
@@ -88,6 +93,9 @@ public class PapelDAO implements BaseDAO<Papel, Long> {
             if (statement != null) statement.close();
             if (connection != null) connection.close();
         }
+        
+        recarregarCache();
+        return papel;
     }
 
     @Override
@@ -115,8 +123,8 @@ public class PapelDAO implements BaseDAO<Papel, Long> {
                 throw new SQLException("Falha ao atualizar papel, nenhuma linha afetada");
             }
             
+            DatabaseUtil.commit(connection);
             logger.debug("Papel atualizado: {}", papel.getId());
-            return papel;
             
         } catch (SQLException e) {
             logger.error("Erro ao atualizar papel: {}", papel.getId(), e);
@@ -125,6 +133,9 @@ public class PapelDAO implements BaseDAO<Papel, Long> {
             if (statement != null) statement.close();
             if (connection != null) connection.close();
         }
+        
+        recarregarCache();
+        return papel;
     }
 
     @Override
@@ -146,6 +157,7 @@ public class PapelDAO implements BaseDAO<Papel, Long> {
                 throw new SQLException("Falha ao excluir papel, nenhuma linha afetada");
             }
             
+            DatabaseUtil.commit(connection);
             logger.debug("Papel excluído: {}", id);
             
         } catch (SQLException e) {
@@ -155,6 +167,8 @@ public class PapelDAO implements BaseDAO<Papel, Long> {
             if (statement != null) statement.close();
             if (connection != null) connection.close();
         }
+        
+        recarregarCache();
     }
 
     @Override
@@ -163,34 +177,28 @@ public class PapelDAO implements BaseDAO<Papel, Long> {
             return Optional.empty();
         }
 
-        Connection connection = null;
-        PreparedStatement statement = null;
-        ResultSet resultSet = null;
+        return ReferenceDataCache.getInstance().getPapeis(this::carregarTodos).porId(id).map(PapelDAO::copiar);
+    }
 
-        try {
-            connection = DatabaseUtil.getConnection();
-            statement = connection.prepareStatement(SELECT_BY_ID_SQL);
-            statement.setLong(1, id);
-            
-            resultSet = statement.executeQuery();
-            if (resultSet.next()) {
-                return Optional.of(mapResultSetToPapel(resultSet));
-            }
-            return Optional.empty();
-            
-        } catch (SQLException e) {
-            logger.error("Erro ao buscar papel por ID: {}", id, e);
-            throw e;
-        } finally {
-            if (resultSet != null) resultSet.close();
-            if (statement != null) statement.close();
-            if (connection != null) connection.close();
+    @Override
+    public List<Papel> findAll() throws SQLException {
+        List<Papel> papeis = new ArrayList<>();
+        for (Papel papel : ReferenceDataCache.getInstance().getPapeis(this::carregarTodos).getItens()) {
+            papeis.add(copiar(papel));
         }
+        return papeis;
     }
 
     @Override
-    public List<Papel> findAll() throws SQLException {
-        return executeQuery(SELECT_ALL_SQL);
+    public Page<Papel> findPage(PageRequest pageRequest) throws SQLException {
+        List<Papel> papeis;
+        if (pageRequest.isFirst()) {
+            papeis = executeQuery(SELECT_PAGE_SQL, pageRequest.getSize() + 1);
+        } else {
+            String[] chave = PageCursor.decode(pageRequest.getCursor(), 2);
+            papeis = executeQuery(SELECT_PAGE_AFTER_SQL, chave[0], PageCursor.parseLong(chave[1]), pageRequest.getSize() + 1);
+        }
+        return Page.of(papeis, pageRequest.getSize(), p -> PageCursor.encode(p.getNome(), p.getId()));
     }
     
     /**
@@ -201,29 +209,7 @@ public class PapelDAO implements BaseDAO<Papel, Long> {
             return Optional.empty();
         }
 
-        Connection connection = null;
-        PreparedStatement statement = null;
-        ResultSet resultSet = null;
-
-        try {
-            connection = DatabaseUtil.getConnection();
-            statement = connection.prepareStatement(SELECT_BY_NOME_SQL);
-            statement.setString(1, nome.trim());
-            
-            resultSet = statement.executeQuery();
-            if (resultSet.next()) {
-                return Optional.of(mapResultSetToPapel(resultSet));
-            }
-            return Optional.empty();
-            
-        } catch (SQLException e) {
-            logger.error("Erro ao buscar papel por nome: {}", nome, e);
-            throw e;
-        } finally {
-            if (resultSet != null) resultSet.close();
-            if (statement != null) statement.close();
-            if (connection != null) connection.close();
-        }
+        return ReferenceDataCache.getInstance().getPapeis(this::carregarTodos).porNome(nome.trim()).map(PapelDAO::copiar);
     }
 
     @Override
@@ -277,6 +263,32 @@ public class PapelDAO implements BaseDAO<Papel, Long> {
         }
     }
 
+    /**
+     * Recarrega do banco os papéis em cache e invalida a matriz de permissões; chamado após cada gravação
+     */
+    public void recarregarCache() throws SQLException {
+        try {
+            ReferenceDataCache.getInstance().recarregarPapeis(this::carregarTodos);
+        } finally {
+            PermissionMatrix.invalidar();
+        }
+    }
+
+    private List<Papel> carregarTodos() throws SQLException {
+        return executeQuery(SELECT_ALL_SQL);
+    }
+
+    /**
+     * Cópia entregue aos chamadores, para que alterações não atinjam o snapshot em cache
+     */
+    private static Papel copiar(Papel original) {
+        Papel papel = new Papel(original.getNome(), original.getDescricao());
+        papel.setId(original.getId());
+        papel.setCriadoEm(original.getCriadoEm());
+        papel.setAtualizadoEm(original.getAtualizadoEm());
+        return papel;
+    }
+
     /**
      * Método auxiliar para executar queries que retornam lista de papéis
      */
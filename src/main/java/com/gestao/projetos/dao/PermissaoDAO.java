@@ -0,0 +1,325 @@
+package com.gestao.projetos.dao;
+
+import com.gestao.projetos.model.Permissao;
+import com.gestao.projetos.util.DatabaseUtil;
+import com.gestao.projetos.util.PermissionMatrix;
+import com.gestao.projetos.util.ReferenceDataCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * DAO para operações relacionadas à entidade Permissao. A busca por ID e a listagem completa
+ * são servidas pelo {@link ReferenceDataCache}; as gravações recarregam o cache.
+ */
+public class PermissaoDAO implements BaseDAO<Permissao, Long> {
+
+    private static final Logger logger = LoggerFactory.getLogger(PermissaoDAO.class);
+
+    // Queries SQL
+    private static final String INSERT_SQL =
+        "INSERT INTO permissao (chave, descricao, criado_em, atualizado_em) VALUES (?, ?, ?, ?)";
+
+    private static final String UPDATE_SQL =
+        "UPDATE permissao SET chave = ?, descricao = ?, atualizado_em = ? WHERE id = ?";
+
+    private static final String DELETE_SQL =
+        "DELETE FROM permissao WHERE id = ?";
+
+    private static final String SELECT_ALL_SQL =
+        "SELECT id, chave, descricao, criado_em, atualizado_em FROM permissao ORDER BY chave";
+
+    private static final String SELECT_CHAVES_POR_PAPEL_SQL =
+        "SELECT p.nome AS papel_nome, pe.chave FROM papel p " +
+        "INNER JOIN papel_permissao pp ON pp.papel_id = p.id " +
+        "INNER JOIN permissao pe ON pe.id = pp.permissao_id";
+
+    private static final String SELECT_PAGE_SQL =
+        "SELECT id, chave, descricao, criado_em, atualizado_em FROM permissao " +
+        "ORDER BY chave, id LIMIT ?";
+
+    private static final String SELECT_PAGE_AFTER_SQL =
+        "SELECT id, chave, descricao, criado_em, atualizado_em FROM permissao " +
+        "WHERE (chave, id) > (?, ?) ORDER BY chave, id LIMIT ?";
+
+    private static final String EXISTS_SQL =
+        "SELECT 1 FROM permissao WHERE id = ?";
+
+    private static final String COUNT_SQL =
+        "SELECT COUNT(*) FROM permissao";
+
+    @Override
+    public Permissao save(Permissao permissao) throws SQLException {
+        if (permissao == null || !permissao.isValid()) {
+            throw new IllegalArgumentException("Permissão inválida para inserção");
+        }
+
+        try (Connection connection = DatabaseUtil.getConnection();
+             PreparedStatement statement = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+
+            LocalDateTime now = LocalDateTime.now();
+            permissao.setCriadoEm(now);
+            permissao.setAtualizadoEm(now);
+
+            statement.setString(1, permissao.getChave());
+            statement.setString(2, permissao.getDescricao());
+            statement.setTimestamp(3, Timestamp.valueOf(permissao.getCriadoEm()));
+            statement.setTimestamp(4, Timestamp.valueOf(permissao.getAtualizadoEm()));
+
+            statement.executeUpdate();
+
+            try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                if (generatedKeys.next()) {
+                    permissao.setId(generatedKeys.getLong(1));
+                } else {
+                    throw new SQLException("Falha ao inserir permissão, ID não gerado");
+                }
+            }
+
+            DatabaseUtil.commit(connection);
+            logger.debug("Permissão inserida com ID: {}", permissao.getId());
+
+        } catch (SQLException e) {
+            logger.error("Erro ao inserir permissão: {}", permissao.getChave(), e);
+            throw e;
+        }
+
+        recarregarCache();
+        return permissao;
+    }
+
+    @Override
+    public Permissao update(Permissao permissao) throws SQLException {
+        if (permissao == null || !permissao.isValid() || permissao.getId() == null) {
+            throw new IllegalArgumentException("Permissão inválida para atualização");
+        }
+
+        try (Connection connection = DatabaseUtil.getConnection();
+             PreparedStatement statement = connection.prepareStatement(UPDATE_SQL)) {
+
+            permissao.setAtualizadoEm(LocalDateTime.now());
+
+            statement.setString(1, permissao.getChave());
+            statement.setString(2, permissao.getDescricao());
+            statement.setTimestamp(3, Timestamp.valueOf(permissao.getAtualizadoEm()));
+            statement.setLong(4, permissao.getId());
+
+            int affectedRows = statement.executeUpdate();
+            if (affectedRows == 0) {
+                throw new SQLException("Falha ao atualizar permissão, nenhuma linha afetada");
+            }
+
+            DatabaseUtil.commit(connection);
+            logger.debug("Permissão atualizada: {}", permissao.getId());
+
+        } catch (SQLException e) {
+            logger.error("Erro ao atualizar permissão: {}", permissao.getId(), e);
+            throw e;
+        }
+
+        recarregarCache();
+        return permissao;
+    }
+
+    @Override
+    public void delete(Long id) throws SQLException {
+        if (id == null || id <= 0) {
+            throw new IllegalArgumentException("ID inválido para exclusão");
+        }
+
+        try (Connection connection = DatabaseUtil.getConnection();
+             PreparedStatement statement = connection.prepareStatement(DELETE_SQL)) {
+
+            statement.setLong(1, id);
+
+            int affectedRows = statement.executeUpdate();
+            if (affectedRows == 0) {
+                throw new SQLException("Falha ao excluir permissão, nenhuma linha afetada");
+            }
+
+            DatabaseUtil.commit(connection);
+            logger.debug("Permissão excluída: {}", id);
+
+        } catch (SQLException e) {
+            logger.error("Erro ao excluir permissão: {}", id, e);
+            throw e;
+        }
+
+        recarregarCache();
+    }
+
+    @Override
+    public Optional<Permissao> findById(Long id) throws SQLException {
+        if (id == null || id <= 0) {
+            return Optional.empty();
+        }
+
+        return ReferenceDataCache.getInstance().getPermissoes(this::carregarTodas).porId(id).map(PermissaoDAO::copiar);
+    }
+
+    @Override
+    public List<Permissao> findAll() throws SQLException {
+        List<Permissao> permissoes = new ArrayList<>();
+        for (Permissao permissao : ReferenceDataCache.getInstance().getPermissoes(this::carregarTodas).getItens()) {
+            permissoes.add(copiar(permissao));
+        }
+        return permissoes;
+    }
+
+    @Override
+    public Page<Permissao> findPage(PageRequest pageRequest) throws SQLException {
+        List<Permissao> permissoes;
+        if (pageRequest.isFirst()) {
+            permissoes = executeQuery(SELECT_PAGE_SQL, pageRequest.getSize() + 1);
+        } else {
+            String[] chave = PageCursor.decode(pageRequest.getCursor(), 2);
+            permissoes = executeQuery(SELECT_PAGE_AFTER_SQL, chave[0], PageCursor.parseLong(chave[1]), pageRequest.getSize() + 1);
+        }
+        return Page.of(permissoes, pageRequest.getSize(), p -> PageCursor.encode(p.getChave(), p.getId()));
+    }
+
+    /**
+     * Obtém as chaves de permissão concedidas a cada papel, indexadas pelo nome do papel
+     */
+    public Map<String, Set<String>> findChavesPorPapel() throws SQLException {
+        Map<String, Set<String>> chavesPorPapel = new HashMap<>();
+
+        try (Connection connection = DatabaseUtil.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_CHAVES_POR_PAPEL_SQL);
+             ResultSet resultSet = statement.executeQuery()) {
+
+            while (resultSet.next()) {
+                chavesPorPapel.computeIfAbsent(resultSet.getString("papel_nome"), k -> new HashSet<>())
+                    .add(resultSet.getString("chave"));
+            }
+
+        } catch (SQLException e) {
+            logger.error("Erro ao buscar permissões por papel", e);
+            throw e;
+        }
+
+        return chavesPorPapel;
+    }
+
+    @Override
+    public boolean exists(Long id) throws SQLException {
+        if (id == null || id <= 0) {
+            return false;
+        }
+
+        try (Connection connection = DatabaseUtil.getConnection();
+             PreparedStatement statement = connection.prepareStatement(EXISTS_SQL)) {
+
+            statement.setLong(1, id);
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
+
+        } catch (SQLException e) {
+            logger.error("Erro ao verificar existência da permissão: {}", id, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public long count() throws SQLException {
+        try (Connection connection = DatabaseUtil.getConnection();
+             PreparedStatement statement = connection.prepareStatement(COUNT_SQL);
+             ResultSet resultSet = statement.executeQuery()) {
+
+            if (resultSet.next()) {
+                return resultSet.getLong(1);
+            }
+            return 0;
+
+        } catch (SQLException e) {
+            logger.error("Erro ao contar permissões", e);
+            throw e;
+        }
+    }
+
+    /**
+     * Recarrega do banco as permissões em cache e invalida a matriz de permissões; chamado após cada gravação
+     */
+    public void recarregarCache() throws SQLException {
+        try {
+            ReferenceDataCache.getInstance().recarregarPermissoes(this::carregarTodas);
+        } finally {
+            PermissionMatrix.invalidar();
+        }
+    }
+
+    private List<Permissao> carregarTodas() throws SQLException {
+        return executeQuery(SELECT_ALL_SQL);
+    }
+
+    /**
+     * Cópia entregue aos chamadores, para que alterações não atinjam o snapshot em cache
+     */
+    private static Permissao copiar(Permissao original) {
+        Permissao permissao = new Permissao(original.getChave(), original.getDescricao());
+        permissao.setId(original.getId());
+        permissao.setCriadoEm(original.getCriadoEm());
+        permissao.setAtualizadoEm(original.getAtualizadoEm());
+        return permissao;
+    }
+
+    /**
+     * Método auxiliar para executar queries que retornam lista de permissões
+     */
+    private List<Permissao> executeQuery(String sql, Object... parameters) throws SQLException {
+        List<Permissao> permissoes = new ArrayList<>();
+
+        try (Connection connection = DatabaseUtil.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    permissoes.add(mapResultSetToPermissao(resultSet));
+                }
+            }
+
+        } catch (SQLException e) {
+            logger.error("Erro ao executar query de permissões: {}", sql, e);
+            throw e;
+        }
+
+        return permissoes;
+    }
+
+    /**
+     * Mapeia ResultSet para objeto Permissao
+     */
+    private Permissao mapResultSetToPermissao(ResultSet rs) throws SQLException {
+        Permissao permissao = new Permissao();
+        permissao.setId(rs.getLong("id"));
+        permissao.setChave(rs.getString("chave"));
+        permissao.setDescricao(rs.getString("descricao"));
+
+        Timestamp criadoEm = rs.getTimestamp("criado_em");
+        if (criadoEm != null) {
+            permissao.setCriadoEm(criadoEm.toLocalDateTime());
+        }
+
+        Timestamp atualizadoEm = rs.getTimestamp("atualizado_em");
+        if (atualizadoEm != null) {
+            permissao.setAtualizadoEm(atualizadoEm.toLocalDateTime());
+        }
+
+        return permissao;
+    }
+}
@@ -11,7 +11,10 @@ import org.slf4j.LoggerFactory;
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -81,6 +84,64 @@ public class ProjetoDAO implements BaseDAO<Projeto, Long> {
         "AND p.status NOT IN ('CONCLUIDO', 'CANCELADO') " +
         "ORDER BY p.data_fim_prevista";
     
+    private static final String SELECT_BY_IDS_SQL = 
+        "SELECT p.id, p.nome, p.descricao, p.data_inicio, p.data_fim_prevista, " +
+        "p.data_fim_real, p.status, p.gerente_id, p.criado_em, p.atualizado_em, " +
+        "u.nome as gerente_nome, u.email as gerente_email, u.ativo as gerente_ativo " +
+        "FROM projeto p " +
+        "LEFT JOIN usuario u ON p.gerente_id = u.id " +
+        "WHERE p.id IN ";
+    
+    private static final String SELECT_PAGE_SQL = 
+        "SELECT p.id, p.nome, p.descricao, p.data_inicio, p.data_fim_prevista, " +
+        "p.data_fim_real, p.status, p.gerente_id, p.criado_em, p.atualizado_em, " +
+        "u.nome as gerente_nome, u.email as gerente_email, u.ativo as gerente_ativo " +
+        "FROM projeto p " +
+        "LEFT JOIN usuario u ON p.gerente_id = u.id " +
+        "ORDER BY p.nome, p.id LIMIT ?";
+    
+    private static final String SELECT_PAGE_ORDENADA_SQL = 
+        "SELECT p.id, p.nome, p.descricao, p.data_inicio, p.data_fim_prevista, " +
+        "p.data_fim_real, p.status, p.gerente_id, p.criado_em, p.atualizado_em, " +
+        "u.nome as gerente_nome, u.email as gerente_email, u.ativo as gerente_ativo " +
+        "FROM projeto p " +
+        "LEFT JOIN usuario u ON p.gerente_id = u.id";
+    
+    // Chaves aceitas em PageRequest.withSort
+    private static final PageSort<Projeto> ORDENACAO = new PageSort<Projeto>("p.id", Projeto::getId)
+        .coluna("id", "p.id", Projeto::getId)
+        .coluna("nome", "p.nome", Projeto::getNome)
+        .coluna("status", "p.status", Projeto::getStatus)
+        .coluna("data_inicio", "p.data_inicio", Projeto::getDataInicio)
+        .coluna("data_fim_prevista", "p.data_fim_prevista", Projeto::getDataFimPrevista)
+        .coluna("gerente_id", "p.gerente_id", Projeto::getGerenteId);
+    
+    private static final String SELECT_PAGE_AFTER_SQL = 
+        "SELECT p.id, p.nome, p.descricao, p.data_inicio, p.data_fim_prevista, " +
+        "p.data_fim_real, p.status, p.gerente_id, p.criado_em, p.atualizado_em, " +
+        "u.nome as gerente_nome, u.email as gerente_email, u.ativo as gerente_ativo " +
+        "FROM projeto p " +
+        "LEFT JOIN usuario u ON p.gerente_id = u.id " +
+        "WHERE (p.nome, p.id) > (?, ?) ORDER BY p.nome, p.id LIMIT ?";
+    
+    private static final String SEARCH_PREFIXO_SQL = 
+        "SELECT p.id, p.nome, p.descricao, p.data_inicio, p.data_fim_prevista, " +
+        "p.data_fim_real, p.status, p.gerente_id, p.criado_em, p.atualizado_em, " +
+        "u.nome as gerente_nome, u.email as gerente_email, u.ativo as gerente_ativo " +
+        "FROM projeto p " +
+        "LEFT JOIN usuario u ON p.gerente_id = u.id " +
+        "WHERE p.nome LIKE ? " +
+        "ORDER BY CASE WHEN p.nome = ? THEN 0 ELSE 1 END, p.nome LIMIT ?";
+    
+    private static final String SEARCH_CONTEM_SQL = 
+        "SELECT p.id, p.nome, p.descricao, p.data_inicio, p.data_fim_prevista, " +
+        "p.data_fim_real, p.status, p.gerente_id, p.criado_em, p.atualizado_em, " +
+        "u.nome as gerente_nome, u.email as gerente_email, u.ativo as gerente_ativo " +
+        "FROM projeto p " +
+        "LEFT JOIN usuario u ON p.gerente_id = u.id " +
+        "WHERE p.nome LIKE ? OR p.descricao LIKE ? " +
+        "ORDER BY CASE WHEN p.nome LIKE ? THEN 0 ELSE 1 END, p.nome LIMIT ?";
+    
     private static final String EXISTS_SQL = 
         "SELECT 1 FROM projeto WHERE id = ?";
     
@@ -277,6 +338,23 @@ public class ProjetoDAO implements BaseDAO<Projeto, Long> {
         return executeQuery(SELECT_ALL_SQL);
     }
     
+    @Override
+    public Page<Projeto> findPage(PageRequest pageRequest) throws SQLException {
+        if (pageRequest.isSorted()) {
+            PageSort.Consulta consulta = ORDENACAO.montar(SELECT_PAGE_ORDENADA_SQL, null, null, pageRequest);
+            return Page.of(executeQuery(consulta.getSql(), consulta.getParametros()),
+                           pageRequest.getSize(), ORDENACAO.cursor(pageRequest));
+        }
+        List<Projeto> projetos;
+        if (pageRequest.isFirst()) {
+            projetos = executeQuery(SELECT_PAGE_SQL, pageRequest.getSize() + 1);
+        } else {
+            String[] chave = PageCursor.decode(pageRequest.getCursor(), 2);
+            projetos = executeQuery(SELECT_PAGE_AFTER_SQL, chave[0], PageCursor.parseLong(chave[1]), pageRequest.getSize() + 1);
+        }
+        return Page.of(projetos, pageRequest.getSize(), p -> PageCursor.encode(p.getNome(), p.getId()));
+    }
+    
     /**
      * Busca projetos por gerente
      */
@@ -297,6 +375,29 @@ public class ProjetoDAO implements BaseDAO<Projeto, Long> {
         return executeQuery(SELECT_BY_STATUS_SQL, status.getCodigo());
     }
     
+    /**
+     * Pesquisa projetos por nome no banco, limitada a {@code limite} linhas.
+     * Busca primeiro por prefixo do nome (índice idx_projeto_nome); sem resultados,
+     * procura o termo em qualquer posição do nome ou da descrição.
+     */
+    public List<Projeto> pesquisar(String termo, int limite) throws SQLException {
+        if (termo == null || termo.trim().isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        String termoBusca = termo.trim();
+        String escapado = DatabaseUtil.escapeLike(termoBusca);
+        int limiteEfetivo = limite > 0 ? limite : DatabaseUtil.DEFAULT_SEARCH_LIMIT;
+        
+        List<Projeto> projetos = executeQuery(SEARCH_PREFIXO_SQL, escapado + "%", termoBusca, limiteEfetivo);
+        if (!projetos.isEmpty()) {
+            return projetos;
+        }
+        
+        String contem = "%" + escapado + "%";
+        return executeQuery(SEARCH_CONTEM_SQL, contem, contem, contem, limiteEfetivo);
+    }
+    
     /**
      * Busca projetos atrasados
      */
@@ -359,6 +460,33 @@ public class ProjetoDAO implements BaseDAO<Projeto, Long> {
         }
     }
 
+    /**
+     * Busca em lote os projetos com os IDs informados usando a conexão recebida,
+     * com uma consulta IN (...) por lote de {@link DatabaseUtil#MAX_IN_PARAMETERS} IDs
+     */
+    Map<Long, Projeto> findByIds(Collection<Long> ids, Connection connection) throws SQLException {
+        Map<Long, Projeto> projetos = new HashMap<>();
+        
+        for (List<Long> lote : DatabaseUtil.partition(ids, DatabaseUtil.MAX_IN_PARAMETERS)) {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    SELECT_BY_IDS_SQL + DatabaseUtil.buildPlaceholders(lote.size()))) {
+                
+                for (int i = 0; i < lote.size(); i++) {
+                    statement.setLong(i + 1, lote.get(i));
+                }
+                
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        Projeto projeto = mapResultSetToProjeto(resultSet);
+                        projetos.put(projeto.getId(), projeto);
+                    }
+                }
+            }
+        }
+        
+        return projetos;
+    }
+
     /**
      * Método auxiliar para executar queries que retornam lista de projetos
      */
@@ -1,19 +1,31 @@
 package com.gestao.projetos.dao;
 
+import com.gestao.projetos.model.HistoricoTarefa;
 import com.gestao.projetos.model.StatusTarefa;
 import com.gestao.projetos.model.Tarefa;
 import com.gestao.projetos.model.Projeto;
 import com.gestao.projetos.model.Usuario;
 import com.gestao.projetos.model.Equipe;
 import com.gestao.projetos.util.DatabaseUtil;
+import com.gestao.projetos.util.SearchIndexManager;
+import com.gestao.projetos.util.StreamingQuery;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.*;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public class TarefaDAO implements BaseDAO<Tarefa, Long> {
 
@@ -29,10 +41,84 @@ public class TarefaDAO implements BaseDAO<Tarefa, Long> {
                     "data_inicio = ?, data_fim_prevista = ?, data_fim_real = ?, projeto_id = ?, responsavel_id = ?, equipe_id = ?, atualizado_em = ? WHERE id = ?";
 
     private static final String DELETE_SQL = "DELETE FROM tarefa WHERE id = ?";
+    // Operações em massa: %1$s é a coluna alterada (constante desta classe) e %2$s a condição do FiltroTarefa
+    private static final String UPDATE_CAMPO_EM_MASSA_SQL =
+            "UPDATE tarefa SET %1$s = ?, atualizado_em = ? WHERE %2$s AND NOT (%1$s <=> ?)";
+    private static final String HISTORICO_EM_MASSA_SQL =
+            "INSERT INTO historico_tarefa (tarefa_id, usuario_id, campo, valor_anterior, valor_novo, data_hora) " +
+                    "SELECT id, ?, '%1$s', CAST(%1$s AS CHAR), ?, ? FROM tarefa WHERE %2$s AND NOT (%1$s <=> ?)";
+    private static final String SELECT_IDS_PARA_EXCLUSAO_SQL = "SELECT id FROM tarefa WHERE %s FOR UPDATE";
+    private static final String DELETE_EM_MASSA_SQL = "DELETE FROM tarefa WHERE %s";
     private static final String SELECT_BY_ID_SQL = "SELECT * FROM tarefa WHERE id = ?";
     private static final String SELECT_ALL_SQL = "SELECT * FROM tarefa ORDER BY data_fim_prevista, prioridade DESC";
     private static final String EXISTS_SQL = "SELECT 1 FROM tarefa WHERE id = ?";
     private static final String COUNT_SQL = "SELECT COUNT(*) FROM tarefa";
+    // Sondagens de existência e contagens: usam apenas os índices das chaves estrangeiras, sem ler as linhas
+    private static final String EXISTS_BY_PROJETO_SQL = "SELECT 1 FROM tarefa WHERE projeto_id = ? LIMIT 1";
+    private static final String EXISTS_BY_EQUIPE_SQL = "SELECT 1 FROM tarefa WHERE equipe_id = ? LIMIT 1";
+    private static final String EXISTS_BY_RESPONSAVEL_SQL = "SELECT 1 FROM tarefa WHERE responsavel_id = ? LIMIT 1";
+    private static final String EXISTS_BY_CRIADOR_SQL = "SELECT 1 FROM tarefa WHERE criador_id = ? LIMIT 1";
+    private static final String COUNT_BY_PROJETO_SQL = "SELECT COUNT(*) FROM tarefa WHERE projeto_id = ?";
+    private static final String COUNT_BY_EQUIPE_SQL = "SELECT COUNT(*) FROM tarefa WHERE equipe_id = ?";
+    private static final String COUNT_BY_RESPONSAVEL_SQL = "SELECT COUNT(*) FROM tarefa WHERE responsavel_id = ?";
+    private static final String SELECT_BY_PROJETO_SQL = "SELECT * FROM tarefa WHERE projeto_id = ? ORDER BY data_fim_prevista, prioridade DESC";
+    private static final String SELECT_BY_EQUIPE_SQL = "SELECT * FROM tarefa WHERE equipe_id = ? ORDER BY data_fim_prevista, prioridade DESC";
+    private static final String SELECT_BY_STATUS_SQL = "SELECT * FROM tarefa WHERE status = ? ORDER BY data_fim_prevista, prioridade DESC";
+    private static final String SELECT_BY_RESPONSAVEL_SQL = "SELECT * FROM tarefa WHERE responsavel_id = ? ORDER BY data_fim_prevista, prioridade DESC";
+    private static final String SELECT_ATRASADAS_SQL = "SELECT * FROM tarefa WHERE data_fim_prevista < CURDATE() AND status NOT IN ('CONCLUIDA', 'CANCELADA') ORDER BY data_fim_prevista, prioridade DESC";
+    private static final String SEARCH_TITULO_SQL = "SELECT * FROM tarefa WHERE lower(titulo) LIKE ?";
+    private static final String SELECT_BY_IDS_SQL = "SELECT * FROM tarefa WHERE id IN ";
+    // Paginação por chave em (data_fim_prevista, prioridade DESC, id); como no MySQL, datas nulas vêm
+    // primeiro e prioridades nulas por último. %1$s é a condição do FiltroTarefa: "WHERE (...) " na primeira
+    // página e "(...) AND " nas seguintes (vazia sem filtro); %2$s é a continuação pela prioridade
+    private static final String SELECT_PAGE_SQL =
+        "SELECT * FROM tarefa %1$sORDER BY data_fim_prevista, prioridade DESC, id LIMIT ?";
+    private static final String SELECT_PAGE_AFTER_SEM_PRAZO_SQL =
+        "SELECT * FROM tarefa WHERE %1$s(data_fim_prevista IS NOT NULL OR (data_fim_prevista IS NULL AND %2$s)) " +
+        "ORDER BY data_fim_prevista, prioridade DESC, id LIMIT ?";
+    private static final String SELECT_PAGE_AFTER_SQL =
+        "SELECT * FROM tarefa WHERE %1$s(data_fim_prevista > ? OR (data_fim_prevista = ? AND %2$s)) " +
+        "ORDER BY data_fim_prevista, prioridade DESC, id LIMIT ?";
+    private static final String CONTINUACAO_PRIORIDADE_SQL =
+        "(prioridade < ? OR (prioridade = ? AND id > ?) OR prioridade IS NULL)";
+    private static final String CONTINUACAO_SEM_PRIORIDADE_SQL = "(prioridade IS NULL AND id > ?)";
+    private static final String SELECT_PAGE_ORDENADA_SQL = "SELECT * FROM tarefa";
+    private static final String COUNT_FILTRO_SQL = "SELECT COUNT(*) FROM tarefa WHERE %s";
+    // Chaves aceitas em PageRequest.withSort
+    private static final PageSort<Tarefa> ORDENACAO = new PageSort<Tarefa>("id", Tarefa::getId)
+        .coluna("id", "id", Tarefa::getId)
+        .coluna("titulo", "titulo", Tarefa::getTitulo)
+        .coluna("status", "status", t -> t.getStatus() != null ? t.getStatus().getCodigo() : null)
+        .coluna("prioridade", "prioridade", Tarefa::getPrioridade)
+        .coluna("estimativa_horas", "estimativa_horas", Tarefa::getEstimativaHoras)
+        .coluna("horas_trabalhadas", "horas_trabalhadas", Tarefa::getHorasTrabalhadas)
+        .coluna("data_inicio", "data_inicio", Tarefa::getDataInicioPrevista)
+        .coluna("data_fim_prevista", "data_fim_prevista", Tarefa::getDataFimPrevista);
+    private static final String SELECT_CAMPOS_PESQUISA_SQL = "SELECT id, titulo, descricao FROM tarefa";
+    private static final String SEARCH_FULLTEXT_SQL =
+        "SELECT t.*, MATCH(t.titulo, t.descricao) AGAINST (? IN BOOLEAN MODE) AS relevancia FROM tarefa t " +
+        "WHERE MATCH(t.titulo, t.descricao) AGAINST (? IN BOOLEAN MODE) " +
+        "ORDER BY relevancia DESC, t.id DESC LIMIT ?";
+    private static final String SEARCH_CONTEM_SQL =
+        "SELECT * FROM tarefa WHERE titulo LIKE ? OR descricao LIKE ? " +
+        "ORDER BY CASE WHEN titulo LIKE ? THEN 0 ELSE 1 END, titulo LIMIT ?";
+
+    // Código MySQL para MATCH sem índice FULLTEXT correspondente
+    private static final int ER_FT_MATCHING_KEY_NOT_FOUND = 1191;
+    // Valor padrão de innodb_ft_min_token_size; palavras menores não são indexadas
+    private static final int TAMANHO_MINIMO_PALAVRA = 3;
+
+    private final ProjetoDAO projetoDAO;
+    private final UsuarioDAO usuarioDAO;
+    private final EquipeDAO equipeDAO;
+    private final HistoricoTarefaDAO historicoTarefaDAO;
+
+    public TarefaDAO() {
+        this.projetoDAO = new ProjetoDAO();
+        this.usuarioDAO = new UsuarioDAO();
+        this.equipeDAO = new EquipeDAO();
+        this.historicoTarefaDAO = new HistoricoTarefaDAO();
+    }
 
     @Override
     public Tarefa save(Tarefa tarefa) throws SQLException {
@@ -50,7 +136,7 @@ public class TarefaDAO implements BaseDAO<Tarefa, Long> {
             statement.setString(1, tarefa.getTitulo());
             statement.setString(2, tarefa.getDescricao());
             statement.setString(3, tarefa.getStatus().getCodigo());
-            statement.setInt(4, tarefa.getPrioridade());
+            statement.setObject(4, tarefa.getPrioridade(), Types.INTEGER);
             statement.setObject(5, tarefa.getEstimativaHoras());
             statement.setObject(6, tarefa.getHorasTrabalhadas());
             statement.setObject(7, tarefa.getDataInicioPrevista());
@@ -73,6 +159,8 @@ public class TarefaDAO implements BaseDAO<Tarefa, Long> {
                 }
             }
             DatabaseUtil.commit(connection);
+            tarefa.marcarComoPersistida();
+            SearchIndexManager.getInstance().indexarTarefa(tarefa);
             return tarefa;
 
         } catch (SQLException e) {
@@ -83,6 +171,16 @@ public class TarefaDAO implements BaseDAO<Tarefa, Long> {
 
     @Override
     public Tarefa update(Tarefa tarefa) throws SQLException {
+        update(tarefa, Collections.emptyList());
+        return tarefa;
+    }
+
+    /**
+     * Atualiza a tarefa e grava as alterações no histórico na mesma transação
+     *
+     * @return false se a tarefa não existe mais no banco
+     */
+    public boolean update(Tarefa tarefa, List<HistoricoTarefa> alteracoes) throws SQLException {
         if (tarefa == null || !tarefa.isValid() || tarefa.getId() == null) {
             throw new IllegalArgumentException("Dados da tarefa inválidos para atualização.");
         }
@@ -94,7 +192,7 @@ public class TarefaDAO implements BaseDAO<Tarefa, Long> {
             statement.setString(1, tarefa.getTitulo());
             statement.setString(2, tarefa.getDescricao());
             statement.setString(3, tarefa.getStatus().getCodigo());
-            statement.setInt(4, tarefa.getPrioridade());
+            statement.setObject(4, tarefa.getPrioridade(), Types.INTEGER);
             statement.setObject(5, tarefa.getEstimativaHoras());
             statement.setObject(6, tarefa.getHorasTrabalhadas());
             statement.setObject(7, tarefa.getDataInicioPrevista());
@@ -106,9 +204,21 @@ public class TarefaDAO implements BaseDAO<Tarefa, Long> {
             statement.setTimestamp(13, Timestamp.valueOf(tarefa.getAtualizadoEm()));
             statement.setLong(14, tarefa.getId()); // WHERE
 
-            statement.executeUpdate();
-            DatabaseUtil.commit(connection);
-            return tarefa;
+            try {
+                if (statement.executeUpdate() == 0) {
+                    DatabaseUtil.rollback(connection);
+                    return false;
+                }
+                historicoTarefaDAO.insertBatch(alteracoes, connection);
+                DatabaseUtil.commit(connection);
+            } catch (SQLException e) {
+                DatabaseUtil.rollback(connection);
+                throw e;
+            }
+
+            tarefa.marcarComoPersistida();
+            SearchIndexManager.getInstance().indexarTarefa(tarefa);
+            return true;
         } catch (SQLException e) {
             logger.error("Erro ao atualizar tarefa: " + e.getMessage());
             throw e;
@@ -125,6 +235,7 @@ public class TarefaDAO implements BaseDAO<Tarefa, Long> {
             statement.setLong(1, id);
             statement.executeUpdate();
             DatabaseUtil.commit(connection);
+            SearchIndexManager.getInstance().removerTarefa(id);
             logger.info("Tentativa de exclusão para tarefa ID: {}", id);
         } catch (SQLException e) {
             logger.error("Erro ao excluir tarefa: {}", id, e);
@@ -132,40 +243,340 @@ public class TarefaDAO implements BaseDAO<Tarefa, Long> {
         }
     }
 
+    /**
+     * Altera o status de todas as tarefas do filtro em uma transação, com um UPDATE por condição.
+     * Se o usuário for informado, o histórico das tarefas alteradas é gravado com INSERT ... SELECT.
+     *
+     * @return Quantidade de tarefas alteradas (as que já estavam no status não contam)
+     */
+    public int updateStatusEmMassa(FiltroTarefa filtro, StatusTarefa status, Long usuarioId) throws SQLException {
+        return updateCampoEmMassa(filtro, "status", status.getCodigo(), Types.VARCHAR, usuarioId);
+    }
+
+    /**
+     * Atribui o responsável (null remove a atribuição) a todas as tarefas do filtro em uma transação
+     *
+     * @return Quantidade de tarefas alteradas
+     */
+    public int updateResponsavelEmMassa(FiltroTarefa filtro, Long responsavelId, Long usuarioId) throws SQLException {
+        return updateCampoEmMassa(filtro, "responsavel_id", responsavelId, Types.BIGINT, usuarioId);
+    }
+
+    /**
+     * Atribui a equipe (null remove a atribuição) a todas as tarefas do filtro em uma transação
+     *
+     * @return Quantidade de tarefas alteradas
+     */
+    public int updateEquipeEmMassa(FiltroTarefa filtro, Long equipeId, Long usuarioId) throws SQLException {
+        return updateCampoEmMassa(filtro, "equipe_id", equipeId, Types.BIGINT, usuarioId);
+    }
+
+    /**
+     * Exclui todas as tarefas do filtro em uma transação. O histórico das tarefas
+     * é removido pelo banco (ON DELETE CASCADE).
+     *
+     * @return Quantidade de tarefas excluídas
+     */
+    public int deleteEmMassa(FiltroTarefa filtro) throws SQLException {
+        List<Long> removidas = new ArrayList<>();
+        int total = 0;
+
+        try (Connection connection = DatabaseUtil.getConnection()) {
+            try {
+                for (CondicaoSql condicao : montarCondicoes(filtro)) {
+                    if (filtro.isPorIds()) {
+                        removidas.addAll(condicao.parametros.stream().map(Long.class::cast).toList());
+                    } else {
+                        // Trava as linhas e obtém os IDs para retirá-los do índice de pesquisa
+                        try (PreparedStatement statement = connection.prepareStatement(
+                                String.format(SELECT_IDS_PARA_EXCLUSAO_SQL, condicao.sql))) {
+                            definirParametros(statement, 1, condicao.parametros);
+                            try (ResultSet resultSet = statement.executeQuery()) {
+                                while (resultSet.next()) {
+                                    removidas.add(resultSet.getLong(1));
+                                }
+                            }
+                        }
+                    }
+
+                    try (PreparedStatement statement = connection.prepareStatement(
+                            String.format(DELETE_EM_MASSA_SQL, condicao.sql))) {
+                        definirParametros(statement, 1, condicao.parametros);
+                        total += statement.executeUpdate();
+                    }
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                DatabaseUtil.rollback(connection);
+                throw e;
+            }
+        } catch (SQLException e) {
+            logger.error("Erro ao excluir tarefas em massa ({})", filtro, e);
+            throw e;
+        }
+
+        for (Long id : removidas) {
+            SearchIndexManager.getInstance().removerTarefa(id);
+        }
+        logger.info("{} tarefas excluídas em massa ({})", total, filtro);
+        return total;
+    }
+
+    private int updateCampoEmMassa(FiltroTarefa filtro, String coluna, Object valor, int tipoSql,
+                                   Long usuarioId) throws SQLException {
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+        int total = 0;
+
+        try (Connection connection = DatabaseUtil.getConnection()) {
+            try {
+                for (CondicaoSql condicao : montarCondicoes(filtro)) {
+                    // O histórico vem antes do UPDATE, enquanto o valor anterior ainda está na linha;
+                    // o INSERT ... SELECT trava as linhas lidas até o fim da transação
+                    if (usuarioId != null) {
+                        try (PreparedStatement statement = connection.prepareStatement(
+                                String.format(HISTORICO_EM_MASSA_SQL, coluna, condicao.sql))) {
+                            statement.setLong(1, usuarioId);
+                            statement.setString(2, valor != null ? valor.toString() : null);
+                            statement.setTimestamp(3, agora);
+                            int indice = definirParametros(statement, 4, condicao.parametros);
+                            statement.setObject(indice, valor, tipoSql);
+                            statement.executeUpdate();
+                        }
+                    }
+
+                    try (PreparedStatement statement = connection.prepareStatement(
+                            String.format(UPDATE_CAMPO_EM_MASSA_SQL, coluna, condicao.sql))) {
+                        statement.setObject(1, valor, tipoSql);
+                        statement.setTimestamp(2, agora);
+                        int indice = definirParametros(statement, 3, condicao.parametros);
+                        statement.setObject(indice, valor, tipoSql);
+                        total += statement.executeUpdate();
+                    }
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                DatabaseUtil.rollback(connection);
+                throw e;
+            }
+        } catch (SQLException e) {
+            logger.error("Erro ao alterar {} de tarefas em massa ({})", coluna, filtro, e);
+            throw e;
+        }
+
+        logger.info("{} tarefas com {} alterado em massa ({})", total, coluna, filtro);
+        return total;
+    }
+
+    /**
+     * Traduz o filtro em condições WHERE: uma por lote de IDs (limite de parâmetros do IN)
+     * ou uma única com os critérios informados
+     */
+    private List<CondicaoSql> montarCondicoes(FiltroTarefa filtro) {
+        List<CondicaoSql> condicoes = new ArrayList<>();
+        if (filtro.isPorIds()) {
+            for (List<Long> lote : DatabaseUtil.partition(filtro.getIds(), DatabaseUtil.MAX_IN_PARAMETERS)) {
+                condicoes.add(new CondicaoSql("id IN " + DatabaseUtil.buildPlaceholders(lote.size()),
+                                              new ArrayList<>(lote)));
+            }
+            return condicoes;
+        }
+
+        List<String> criterios = new ArrayList<>();
+        List<Object> parametros = new ArrayList<>();
+        if (filtro.getProjetoId() != null) {
+            criterios.add("projeto_id = ?");
+            parametros.add(filtro.getProjetoId());
+        }
+        if (filtro.getEquipeId() != null) {
+            criterios.add("equipe_id = ?");
+            parametros.add(filtro.getEquipeId());
+        }
+        if (filtro.getStatus() != null) {
+            criterios.add("status = ?");
+            parametros.add(filtro.getStatus().getCodigo());
+        }
+        if (filtro.isAtrasadas()) {
+            criterios.add("data_fim_prevista < CURDATE() AND status NOT IN ('CONCLUIDA', 'CANCELADA')");
+        }
+        condicoes.add(new CondicaoSql(String.join(" AND ", criterios), parametros));
+        return condicoes;
+    }
+
+    /**
+     * Condição do filtro em uma única consulta (consultas paginadas e contagens)
+     */
+    private CondicaoSql condicaoUnica(FiltroTarefa filtro) {
+        List<CondicaoSql> condicoes = montarCondicoes(filtro);
+        if (condicoes.size() > 1) {
+            throw new IllegalArgumentException("Filtro com mais de " + DatabaseUtil.MAX_IN_PARAMETERS
+                                               + " IDs não pode ser consultado em uma única consulta");
+        }
+        return condicoes.get(0);
+    }
+
+    /**
+     * @return Próximo índice de parâmetro livre
+     */
+    private static int definirParametros(PreparedStatement statement, int inicio, List<Object> parametros)
+            throws SQLException {
+        int indice = inicio;
+        for (Object parametro : parametros) {
+            statement.setObject(indice++, parametro);
+        }
+        return indice;
+    }
+
     @Override
     public Optional<Tarefa> findById(Long id) throws SQLException {
         if (id == null || id <= 0) {
             return Optional.empty();
         }
+        List<Tarefa> tarefas = executeQuery(SELECT_BY_ID_SQL, id);
+        return tarefas.isEmpty() ? Optional.empty() : Optional.of(tarefas.get(0));
+    }
+
+    @Override
+    public List<Tarefa> findAll() throws SQLException {
+        return executeQuery(SELECT_ALL_SQL);
+    }
+
+    /**
+     * Percorre todas as tarefas em streaming, sem acumulá-las em memória (exportações e relatórios).
+     * As tarefas trazem apenas os IDs de projeto, responsável e equipe, pois a conexão
+     * fica ocupada pela leitura e não pode carregar os objetos relacionados.
+     *
+     * @return Quantidade de tarefas processadas
+     */
+    public long forEach(Consumer<? super Tarefa> handler) throws SQLException {
+        // Exportação pesada: lê da réplica quando houver
+        try (Connection connection = DatabaseUtil.getReadConnection()) {
+            return StreamingQuery.forEach(connection, SELECT_ALL_SQL, this::mapResultSetToTarefa, handler);
+        }
+    }
+
+    @Override
+    public Page<Tarefa> findPage(PageRequest pageRequest) throws SQLException {
+        return findPage(null, pageRequest);
+    }
+
+    /**
+     * Lista uma página das tarefas do filtro (null para todas), na ordem padrão
+     * ou na ordenação do pedido
+     *
+     * @throws IllegalArgumentException se o filtro tiver mais IDs do que cabem em uma consulta
+     */
+    public Page<Tarefa> findPage(FiltroTarefa filtro, PageRequest pageRequest) throws SQLException {
+        CondicaoSql condicao = filtro != null ? condicaoUnica(filtro) : new CondicaoSql(null, new ArrayList<>());
+        if (pageRequest.isSorted()) {
+            PageSort.Consulta consulta = ORDENACAO.montar(SELECT_PAGE_ORDENADA_SQL, condicao.sql,
+                                                          condicao.parametros, pageRequest);
+            return Page.of(executeQuery(consulta.getSql(), consulta.getParametros()),
+                           pageRequest.getSize(), ORDENACAO.cursor(pageRequest));
+        }
+
+        String prefixo = condicao.sql != null ? "(" + condicao.sql + ") AND " : "";
+        String continuacao = "";
+        List<Object> parametros = new ArrayList<>(condicao.parametros);
+        String sql;
+        if (pageRequest.isFirst()) {
+            sql = SELECT_PAGE_SQL;
+            prefixo = condicao.sql != null ? "WHERE (" + condicao.sql + ") " : "";
+        } else {
+            String[] chave = PageCursor.decode(pageRequest.getCursor(), 3);
+            long id = PageCursor.parseLong(chave[2]);
+            if (chave[0] == null) {
+                sql = SELECT_PAGE_AFTER_SEM_PRAZO_SQL;
+            } else {
+                LocalDate prazo = parseData(chave[0]);
+                sql = SELECT_PAGE_AFTER_SQL;
+                parametros.addAll(Arrays.asList(prazo, prazo));
+            }
+            if (chave[1] == null) {
+                continuacao = CONTINUACAO_SEM_PRIORIDADE_SQL;
+                parametros.add(id);
+            } else {
+                int prioridade = (int) PageCursor.parseLong(chave[1]);
+                continuacao = CONTINUACAO_PRIORIDADE_SQL;
+                parametros.addAll(Arrays.asList(prioridade, prioridade, id));
+            }
+        }
+        parametros.add(pageRequest.getSize() + 1);
+        List<Tarefa> tarefas = executeQuery(String.format(sql, prefixo, continuacao), parametros.toArray());
+        return Page.of(tarefas, pageRequest.getSize(),
+                       t -> PageCursor.encode(t.getDataFimPrevista(), t.getPrioridade(), t.getId()));
+    }
+
+    /**
+     * Conta as tarefas do filtro
+     */
+    public long count(FiltroTarefa filtro) throws SQLException {
+        CondicaoSql condicao = condicaoUnica(filtro);
         try (Connection connection = DatabaseUtil.getConnection();
-             PreparedStatement statement = connection.prepareStatement(SELECT_BY_ID_SQL)) {
-            statement.setLong(1, id);
+             PreparedStatement statement = connection.prepareStatement(String.format(COUNT_FILTRO_SQL, condicao.sql))) {
+            definirParametros(statement, 1, condicao.parametros);
             try (ResultSet resultSet = statement.executeQuery()) {
                 if (resultSet.next()) {
-                    return Optional.of(mapResultSetToTarefa(resultSet));
+                    return resultSet.getLong(1);
                 }
             }
         } catch (SQLException e) {
-            logger.error("Erro ao buscar tarefa por ID: {}", id, e);
+            logger.error("Erro ao contar tarefas ({})", filtro, e);
             throw e;
         }
-        return Optional.empty();
+        return 0;
+    }
+
+    private static LocalDate parseData(String valor) {
+        try {
+            return LocalDate.parse(valor);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor de paginação inválido: " + valor, e);
+        }
     }
 
-    @Override
-    public List<Tarefa> findAll() throws SQLException {
-        List<Tarefa> tarefas = new ArrayList<>();
+    /**
+     * Busca as tarefas com os IDs informados, na mesma ordem da lista
+     */
+    public List<Tarefa> findByIds(List<Long> ids) throws SQLException {
+        if (ids == null || ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, Tarefa> porId = new HashMap<>();
+        for (List<Long> lote : DatabaseUtil.partition(ids, DatabaseUtil.MAX_IN_PARAMETERS)) {
+            for (Tarefa tarefa : executeQuery(SELECT_BY_IDS_SQL + DatabaseUtil.buildPlaceholders(lote.size()), lote.toArray())) {
+                porId.put(tarefa.getId(), tarefa);
+            }
+        }
+
+        List<Tarefa> tarefas = new ArrayList<>(porId.size());
+        for (Long id : ids) {
+            Tarefa tarefa = porId.get(id);
+            if (tarefa != null) {
+                tarefas.add(tarefa);
+            }
+        }
+        return tarefas;
+    }
+
+    /**
+     * Obtém título e descrição de todas as tarefas, para construir o índice de pesquisa em memória
+     */
+    public Map<Long, List<String>> findCamposPesquisa() throws SQLException {
+        Map<Long, List<String>> campos = new HashMap<>();
+
         try (Connection connection = DatabaseUtil.getConnection();
-             PreparedStatement statement = connection.prepareStatement(SELECT_ALL_SQL);
+             PreparedStatement statement = connection.prepareStatement(SELECT_CAMPOS_PESQUISA_SQL);
              ResultSet resultSet = statement.executeQuery()) {
             while (resultSet.next()) {
-                tarefas.add(mapResultSetToTarefa(resultSet));
+                campos.put(resultSet.getLong("id"),
+                           Arrays.asList(resultSet.getString("titulo"), resultSet.getString("descricao")));
             }
         } catch (SQLException e) {
-            logger.error("Erro ao buscar todas as tarefas", e);
+            logger.error("Erro ao carregar campos de pesquisa das tarefas", e);
             throw e;
         }
-        return tarefas;
+        return campos;
     }
 
     @Override
@@ -173,7 +584,64 @@ public class TarefaDAO implements BaseDAO<Tarefa, Long> {
         if (id == null || id <= 0) {
             return false;
         }
-        return findById(id).isPresent();
+        return existe(EXISTS_SQL, id);
+    }
+
+    public boolean existsByProjetoId(Long projetoId) throws SQLException {
+        return existe(EXISTS_BY_PROJETO_SQL, projetoId);
+    }
+
+    public boolean existsByEquipeId(Long equipeId) throws SQLException {
+        return existe(EXISTS_BY_EQUIPE_SQL, equipeId);
+    }
+
+    public boolean existsByResponsavelId(Long responsavelId) throws SQLException {
+        return existe(EXISTS_BY_RESPONSAVEL_SQL, responsavelId);
+    }
+
+    /**
+     * Verifica se o usuário criou alguma tarefa (a chave criador_id impede a exclusão do usuário)
+     */
+    public boolean existsByCriadorId(Long criadorId) throws SQLException {
+        return existe(EXISTS_BY_CRIADOR_SQL, criadorId);
+    }
+
+    public long countByProjetoId(Long projetoId) throws SQLException {
+        return contar(COUNT_BY_PROJETO_SQL, projetoId);
+    }
+
+    public long countByEquipeId(Long equipeId) throws SQLException {
+        return contar(COUNT_BY_EQUIPE_SQL, equipeId);
+    }
+
+    public long countByResponsavelId(Long responsavelId) throws SQLException {
+        return contar(COUNT_BY_RESPONSAVEL_SQL, responsavelId);
+    }
+
+    private boolean existe(String sql, Long id) throws SQLException {
+        try (Connection connection = DatabaseUtil.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, id);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
+        } catch (SQLException e) {
+            logger.error("Erro ao verificar existência de tarefas (ID: {})", id, e);
+            throw e;
+        }
+    }
+
+    private long contar(String sql, Long id) throws SQLException {
+        try (Connection connection = DatabaseUtil.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, id);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getLong(1) : 0;
+            }
+        } catch (SQLException e) {
+            logger.error("Erro ao contar tarefas (ID: {})", id, e);
+            throw e;
+        }
     }
 
     @Override
@@ -191,15 +659,49 @@ public class TarefaDAO implements BaseDAO<Tarefa, Long> {
         return 0;
     }
 
-    private Tarefa mapResultSetToTarefa(ResultSet rs) throws SQLException {
+    /**
+     * Método auxiliar para executar queries que retornam lista de tarefas.
+     * As tarefas e seus objetos relacionados são carregados na mesma conexão,
+     * com uma consulta em lote por entidade relacionada em vez de uma por linha.
+     */
+    private List<Tarefa> executeQuery(String sql, Object... parameters) throws SQLException {
+        List<Tarefa> tarefas = new ArrayList<>();
+
+        try (Connection connection = DatabaseUtil.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    tarefas.add(mapResultSetToTarefa(resultSet));
+                }
+            }
+
+            carregarObjetosRelacionados(tarefas, connection);
+        } catch (SQLException e) {
+            logger.error("Erro ao executar query de tarefas: {}", sql, e);
+            throw e;
+        }
+        return tarefas;
+    }
+
+    // Visível no pacote para o benchmark de mapeamento (src/jmh/java)
+    Tarefa mapResultSetToTarefa(ResultSet rs) throws SQLException {
         Tarefa tarefa = new Tarefa();
         tarefa.setId(rs.getLong("id"));
         tarefa.setTitulo(rs.getString("titulo"));
         tarefa.setDescricao(rs.getString("descricao"));
         tarefa.setStatus(StatusTarefa.fromCodigo(rs.getString("status")));
-        tarefa.setPrioridade(rs.getInt("prioridade"));
-        tarefa.setEstimativaHoras(rs.getDouble("estimativa_horas"));
-        tarefa.setHorasTrabalhadas(rs.getDouble("horas_trabalhadas"));
+        // Colunas anuláveis: NULL continua null na entidade (e no cursor da paginação), não 0
+        int prioridade = rs.getInt("prioridade");
+        tarefa.setPrioridade(rs.wasNull() ? null : prioridade);
+        double estimativaHoras = rs.getDouble("estimativa_horas");
+        tarefa.setEstimativaHoras(rs.wasNull() ? null : estimativaHoras);
+        double horasTrabalhadas = rs.getDouble("horas_trabalhadas");
+        tarefa.setHorasTrabalhadas(rs.wasNull() ? null : horasTrabalhadas);
 
         Date dataInicio = rs.getDate("data_inicio");
         if (dataInicio != null) {
@@ -216,181 +718,163 @@ public class TarefaDAO implements BaseDAO<Tarefa, Long> {
             tarefa.setDataFimReal(dataFimReal.toLocalDate());
         }
 
-        // Definir IDs
+        // Definir IDs (os objetos relacionados são carregados em lote depois)
         tarefa.setProjetoId(rs.getLong("projeto_id"));
         tarefa.setResponsavelId((Long) rs.getObject("responsavel_id"));
         tarefa.setEquipeId((Long) rs.getObject("equipe_id"));
 
-        // Carregar objetos relacionados
-        carregarObjetosRelacionados(tarefa);
-
         tarefa.setCriadoEm(rs.getTimestamp("criado_em").toLocalDateTime());
         tarefa.setAtualizadoEm(rs.getTimestamp("atualizado_em").toLocalDateTime());
+        tarefa.marcarComoPersistida();
 
         return tarefa;
     }
 
-    private void carregarObjetosRelacionados(Tarefa tarefa) {
-        try {
-            // Carregar projeto
+    /**
+     * Carrega projeto, responsável e equipe de todas as tarefas com uma consulta
+     * IN (...) por entidade. Tarefas que apontam para o mesmo registro recebem
+     * a mesma instância.
+     */
+    private void carregarObjetosRelacionados(List<Tarefa> tarefas, Connection connection) {
+        if (tarefas.isEmpty()) {
+            return;
+        }
+
+        Set<Long> projetoIds = new HashSet<>();
+        Set<Long> responsavelIds = new HashSet<>();
+        Set<Long> equipeIds = new HashSet<>();
+        for (Tarefa tarefa : tarefas) {
             if (tarefa.getProjetoId() != null) {
-                ProjetoDAO projetoDAO = new ProjetoDAO();
-                projetoDAO.findById(tarefa.getProjetoId()).ifPresent(tarefa::setProjeto);
+                projetoIds.add(tarefa.getProjetoId());
             }
-
-            // Carregar responsável
             if (tarefa.getResponsavelId() != null) {
-                UsuarioDAO usuarioDAO = new UsuarioDAO();
-                usuarioDAO.findById(tarefa.getResponsavelId()).ifPresent(tarefa::setResponsavel);
+                responsavelIds.add(tarefa.getResponsavelId());
             }
-
-            // Carregar equipe
             if (tarefa.getEquipeId() != null) {
-                EquipeDAO equipeDAO = new EquipeDAO();
-                equipeDAO.findById(tarefa.getEquipeId()).ifPresent(tarefa::setEquipe);
+                equipeIds.add(tarefa.getEquipeId());
+            }
+        }
+
+        try {
+            Map<Long, Projeto> projetos = projetoDAO.findByIds(projetoIds, connection);
+            Map<Long, Usuario> responsaveis = usuarioDAO.findByIds(responsavelIds, connection);
+            Map<Long, Equipe> equipes = equipeDAO.findByIds(equipeIds, connection);
+
+            for (Tarefa tarefa : tarefas) {
+                LocalDateTime atualizadoEm = tarefa.getAtualizadoEm();
+                if (tarefa.getProjetoId() != null && projetos.containsKey(tarefa.getProjetoId())) {
+                    tarefa.setProjeto(projetos.get(tarefa.getProjetoId()));
+                }
+                if (tarefa.getResponsavelId() != null && responsaveis.containsKey(tarefa.getResponsavelId())) {
+                    tarefa.setResponsavel(responsaveis.get(tarefa.getResponsavelId()));
+                }
+                if (tarefa.getEquipeId() != null && equipes.containsKey(tarefa.getEquipeId())) {
+                    tarefa.setEquipe(equipes.get(tarefa.getEquipeId()));
+                }
+                tarefa.setAtualizadoEm(atualizadoEm);
             }
-            
         } catch (SQLException e) {
-            logger.warn("Erro ao carregar objetos relacionados para tarefa {}: {}", tarefa.getId(), e.getMessage());
+            logger.warn("Erro ao carregar objetos relacionados para {} tarefas: {}", tarefas.size(), e.getMessage());
         }
     }
 
     public List<Tarefa> pesquisarPorTitulo(String termo) throws SQLException {
-        String sql = "SELECT * FROM tarefa WHERE lower(titulo) LIKE ?";
-        List<Tarefa> tarefas = new ArrayList<>();
+        return executeQuery(SEARCH_TITULO_SQL, "%" + termo.toLowerCase() + "%");
+    }
 
-        try (Connection connection = DatabaseUtil.getConnection();
-             PreparedStatement statement = connection.prepareStatement(sql)) {
+    /**
+     * Pesquisa tarefas por título e descrição no banco, ordenadas por relevância.
+     * Usa o índice FULLTEXT de tarefa e, quando o termo não tem palavras indexáveis, não há
+     * resultados ou o índice não existe, procura o termo em qualquer posição do título ou da
+     * descrição, com os títulos que começam pelo termo primeiro.
+     */
+    public List<Tarefa> pesquisar(String termo, int limite) throws SQLException {
+        if (termo == null || termo.trim().isEmpty()) {
+            return new ArrayList<>();
+        }
 
-            statement.setString(1, "%" + termo.toLowerCase() + "%");
+        String termoBusca = termo.trim();
+        int limiteEfetivo = limite > 0 ? limite : DatabaseUtil.DEFAULT_SEARCH_LIMIT;
 
-            try (ResultSet resultSet = statement.executeQuery()) {
-                while (resultSet.next()) {
-                    tarefas.add(mapResultSetToTarefa(resultSet));
+        String expressao = montarExpressaoFullText(termoBusca);
+        if (expressao != null) {
+            try {
+                List<Tarefa> tarefas = executeQuery(SEARCH_FULLTEXT_SQL, expressao, expressao, limiteEfetivo);
+                if (!tarefas.isEmpty()) {
+                    return tarefas;
+                }
+            } catch (SQLException e) {
+                if (e.getErrorCode() != ER_FT_MATCHING_KEY_NOT_FOUND) {
+                    throw e;
                 }
+                logger.warn("Índice FULLTEXT de tarefa não encontrado, usando pesquisa por LIKE");
             }
-        } catch (SQLException e) {
-            logger.error("Erro ao pesquisar tarefas por título", e);
-            throw e;
         }
-        return tarefas;
+
+        String escapado = DatabaseUtil.escapeLike(termoBusca);
+        String contem = "%" + escapado + "%";
+        return executeQuery(SEARCH_CONTEM_SQL, contem, contem, escapado + "%", limiteEfetivo);
+    }
+
+    /**
+     * Monta a expressão BOOLEAN MODE exigindo cada palavra como prefixo (ex.: "+relat* +mensal*").
+     * Retorna null se nenhuma palavra tiver o tamanho mínimo indexado.
+     */
+    private String montarExpressaoFullText(String termo) {
+        StringBuilder expressao = new StringBuilder();
+        for (String palavra : termo.split("[^\\p{L}\\p{N}]+")) {
+            if (palavra.length() >= TAMANHO_MINIMO_PALAVRA) {
+                if (expressao.length() > 0) {
+                    expressao.append(' ');
+                }
+                expressao.append('+').append(palavra).append('*');
+            }
+        }
+        return expressao.length() > 0 ? expressao.toString() : null;
     }
 
     public List<Tarefa> findByProjectoId(Long projetoId) throws SQLException {
         if (projetoId == null || projetoId <= 0) {
             return new ArrayList<>();
         }
-        
-        String sql = "SELECT * FROM tarefa WHERE projeto_id = ? ORDER BY data_fim_prevista, prioridade DESC";
-        List<Tarefa> tarefas = new ArrayList<>();
-
-        try (Connection connection = DatabaseUtil.getConnection();
-             PreparedStatement statement = connection.prepareStatement(sql)) {
-
-            statement.setLong(1, projetoId);
-
-            try (ResultSet resultSet = statement.executeQuery()) {
-                while (resultSet.next()) {
-                    tarefas.add(mapResultSetToTarefa(resultSet));
-                }
-            }
-        } catch (SQLException e) {
-            logger.error("Erro ao buscar tarefas por projeto ID: {}", projetoId, e);
-            throw e;
-        }
-        return tarefas;
+        return executeQuery(SELECT_BY_PROJETO_SQL, projetoId);
     }
 
     public List<Tarefa> findByEquipeId(Long equipeId) throws SQLException {
         if (equipeId == null || equipeId <= 0) {
             return new ArrayList<>();
         }
-        
-        String sql = "SELECT * FROM tarefa WHERE equipe_id = ? ORDER BY data_fim_prevista, prioridade DESC";
-        List<Tarefa> tarefas = new ArrayList<>();
-
-        try (Connection connection = DatabaseUtil.getConnection();
-             PreparedStatement statement = connection.prepareStatement(sql)) {
-
-            statement.setLong(1, equipeId);
-
-            try (ResultSet resultSet = statement.executeQuery()) {
-                while (resultSet.next()) {
-                    tarefas.add(mapResultSetToTarefa(resultSet));
-                }
-            }
-        } catch (SQLException e) {
-            logger.error("Erro ao buscar tarefas por equipe ID: {}", equipeId, e);
-            throw e;
-        }
-        return tarefas;
+        return executeQuery(SELECT_BY_EQUIPE_SQL, equipeId);
     }
 
     public List<Tarefa> findByStatus(StatusTarefa status) throws SQLException {
         if (status == null) {
             return new ArrayList<>();
         }
-        
-        String sql = "SELECT * FROM tarefa WHERE status = ? ORDER BY data_fim_prevista, prioridade DESC";
-        List<Tarefa> tarefas = new ArrayList<>();
-
-        try (Connection connection = DatabaseUtil.getConnection();
-             PreparedStatement statement = connection.prepareStatement(sql)) {
-
-            statement.setString(1, status.getCodigo());
-
-            try (ResultSet resultSet = statement.executeQuery()) {
-                while (resultSet.next()) {
-                    tarefas.add(mapResultSetToTarefa(resultSet));
-                }
-            }
-        } catch (SQLException e) {
-            logger.error("Erro ao buscar tarefas por status: {}", status, e);
-            throw e;
-        }
-        return tarefas;
+        return executeQuery(SELECT_BY_STATUS_SQL, status.getCodigo());
     }
 
     public List<Tarefa> findByResponsavelId(Long responsavelId) throws SQLException {
         if (responsavelId == null || responsavelId <= 0) {
             return new ArrayList<>();
         }
-        
-        String sql = "SELECT * FROM tarefa WHERE responsavel_id = ? ORDER BY data_fim_prevista, prioridade DESC";
-        List<Tarefa> tarefas = new ArrayList<>();
-
-        try (Connection connection = DatabaseUtil.getConnection();
-             PreparedStatement statement = connection.prepareStatement(sql)) {
-
-            statement.setLong(1, responsavelId);
-
-            try (ResultSet resultSet = statement.executeQuery()) {
-                while (resultSet.next()) {
-                    tarefas.add(mapResultSetToTarefa(resultSet));
-                }
-            }
-        } catch (SQLException e) {
-            logger.error("Erro ao buscar tarefas por responsável ID: {}", responsavelId, e);
-            throw e;
-        }
-        return tarefas;
+        return executeQuery(SELECT_BY_RESPONSAVEL_SQL, responsavelId);
     }
 
     public List<Tarefa> findTarefasAtrasadas() throws SQLException {
-        String sql = "SELECT * FROM tarefa WHERE data_fim_prevista < CURDATE() AND status NOT IN ('CONCLUIDA', 'CANCELADA') ORDER BY data_fim_prevista, prioridade DESC";
-        List<Tarefa> tarefas = new ArrayList<>();
+        return executeQuery(SELECT_ATRASADAS_SQL);
+    }
 
-        try (Connection connection = DatabaseUtil.getConnection();
-             PreparedStatement statement = connection.prepareStatement(sql);
-             ResultSet resultSet = statement.executeQuery()) {
-            
-            while (resultSet.next()) {
-                tarefas.add(mapResultSetToTarefa(resultSet));
-            }
-        } catch (SQLException e) {
-            logger.error("Erro ao buscar tarefas atrasadas", e);
-            throw e;
+    /**
+     * Trecho WHERE com seus parâmetros
+     */
+    private static final class CondicaoSql {
+        private final String sql;
+        private final List<Object> parametros;
+
+        private CondicaoSql(String sql, List<Object> parametros) {
+            this.sql = sql;
+            this.parametros = parametros;
         }
-        return tarefas;
     }
 }
\ No newline at end of file
@@ -2,13 +2,18 @@ package com.gestao.projetos.dao;
 
 import com.gestao.projetos.model.Usuario;
 import com.gestao.projetos.util.DatabaseUtil;
+import com.gestao.projetos.util.SearchIndexManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -46,6 +51,47 @@ public class UsuarioDAO implements BaseDAO<Usuario, Long> {
     private static final String SELECT_ACTIVE_SQL = 
         "SELECT id, nome, cpf, email, cargo, login, ativo, criado_em, atualizado_em FROM usuario WHERE ativo = true ORDER BY nome";
     
+    private static final String SELECT_BY_IDS_SQL = 
+        "SELECT id, nome, cpf, email, cargo, login, ativo, criado_em, atualizado_em FROM usuario WHERE id IN ";
+    
+    private static final String SEARCH_PREFIXO_SQL = 
+        "SELECT id, nome, cpf, email, cargo, login, ativo, criado_em, atualizado_em FROM usuario " +
+        "WHERE nome LIKE ? OR email LIKE ? " +
+        "ORDER BY CASE WHEN nome = ? OR email = ? THEN 0 WHEN nome LIKE ? THEN 1 ELSE 2 END, nome LIMIT ?";
+    
+    private static final String SEARCH_CONTEM_SQL = 
+        "SELECT id, nome, cpf, email, cargo, login, ativo, criado_em, atualizado_em FROM usuario " +
+        "WHERE nome LIKE ? OR email LIKE ? ORDER BY nome LIMIT ?";
+    
+    private static final String SELECT_BY_CHAVES_SQL = 
+        "SELECT id, nome, cpf, email, cargo, login, ativo, criado_em, atualizado_em FROM usuario " +
+        "WHERE email IN %s OR cpf IN %s OR login IN %s";
+    
+    private static final String SELECT_CAMPOS_PESQUISA_SQL = 
+        "SELECT id, nome, email, login, cpf FROM usuario";
+    
+    private static final String SELECT_PAGE_SQL = 
+        "SELECT id, nome, cpf, email, cargo, login, ativo, criado_em, atualizado_em FROM usuario " +
+        "ORDER BY nome, id LIMIT ?";
+    
+    private static final String SELECT_PAGE_AFTER_SQL = 
+        "SELECT id, nome, cpf, email, cargo, login, ativo, criado_em, atualizado_em FROM usuario " +
+        "WHERE (nome, id) > (?, ?) ORDER BY nome, id LIMIT ?";
+    
+    private static final String SELECT_PAGE_ORDENADA_SQL = 
+        "SELECT id, nome, cpf, email, cargo, login, ativo, criado_em, atualizado_em FROM usuario";
+    
+    // Chaves aceitas em PageRequest.withSort
+    private static final PageSort<Usuario> ORDENACAO = new PageSort<Usuario>("id", Usuario::getId)
+        .coluna("id", "id", Usuario::getId)
+        .coluna("nome", "nome", Usuario::getNome)
+        .coluna("cpf", "cpf", Usuario::getCpf)
+        .coluna("email", "email", Usuario::getEmail)
+        .coluna("cargo", "cargo", Usuario::getCargo)
+        .coluna("login", "login", Usuario::getLogin)
+        .coluna("ativo", "ativo", u -> u.isAtivo() ? 1 : 0)
+        .coluna("criado_em", "criado_em", u -> u.getCriadoEm() != null ? Timestamp.valueOf(u.getCriadoEm()) : null);
+    
     private static final String EXISTS_SQL = 
         "SELECT 1 FROM usuario WHERE id = ?";
     
@@ -116,6 +162,7 @@ public class UsuarioDAO implements BaseDAO<Usuario, Long> {
             }
             
             DatabaseUtil.commit(connection);
+            SearchIndexManager.getInstance().indexarUsuario(usuario);
             logger.info("Usuário inserido com sucesso: {}", usuario.getEmail());
             
             return usuario;
@@ -167,6 +214,8 @@ public class UsuarioDAO implements BaseDAO<Usuario, Long> {
             if (generatedKeys.next()) {
                 usuario.setId(generatedKeys.getLong(1));
                 logger.debug("Usuário inserido com ID: {} usando conexão da transação", usuario.getId());
+                // Se a transação for desfeita, a entrada órfã não aparece: os resultados são relidos do banco
+                SearchIndexManager.getInstance().indexarUsuario(usuario);
             } else {
                 throw new SQLException("Falha ao inserir usuário, ID não gerado");
             }
@@ -182,6 +231,97 @@ public class UsuarioDAO implements BaseDAO<Usuario, Long> {
             // NÃO fechar a conexão aqui pois ela é da transação
         }
     }
+    
+    /**
+     * Insere os usuários com um único lote JDBC usando a conexão da transação (sem commit).
+     * Os IDs gerados são atribuídos na ordem da lista.
+     */
+    public void saveBatch(List<Usuario> usuarios, Connection connection) throws SQLException {
+        if (usuarios.isEmpty()) {
+            return;
+        }
+        
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            LocalDateTime now = LocalDateTime.now();
+            for (Usuario usuario : usuarios) {
+                if (!usuario.isValid()) {
+                    throw new IllegalArgumentException("Usuário inválido para inserção: " + usuario.getEmail());
+                }
+                usuario.setCriadoEm(now);
+                usuario.setAtualizadoEm(now);
+                
+                statement.setString(1, usuario.getNome());
+                statement.setString(2, usuario.getCpf());
+                statement.setString(3, usuario.getEmail());
+                statement.setString(4, usuario.getCargo());
+                statement.setString(5, usuario.getLogin());
+                statement.setBoolean(6, usuario.isAtivo());
+                statement.setTimestamp(7, Timestamp.valueOf(now));
+                statement.setTimestamp(8, Timestamp.valueOf(now));
+                statement.addBatch();
+            }
+            
+            statement.executeBatch();
+            
+            try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                for (Usuario usuario : usuarios) {
+                    if (!generatedKeys.next()) {
+                        throw new SQLException("Falha ao inserir lote de usuários, IDs não gerados");
+                    }
+                    usuario.setId(generatedKeys.getLong(1));
+                }
+            }
+            
+            for (Usuario usuario : usuarios) {
+                SearchIndexManager.getInstance().indexarUsuario(usuario);
+            }
+            logger.debug("{} usuários inseridos em lote usando conexão da transação", usuarios.size());
+            
+        } catch (SQLException e) {
+            logger.error("Erro ao inserir lote de {} usuários na transação", usuarios.size(), e);
+            throw e;
+        }
+    }
+    
+    /**
+     * Busca, em uma única consulta, os usuários que já usam algum dos emails, CPFs ou logins informados
+     */
+    public List<Usuario> findByChaves(Collection<String> emails, Collection<String> cpfs, Collection<String> logins,
+                                      Connection connection) throws SQLException {
+        List<Usuario> usuarios = new ArrayList<>();
+        if (emails.isEmpty() || cpfs.isEmpty() || logins.isEmpty()) {
+            return usuarios;
+        }
+        
+        String sql = String.format(SELECT_BY_CHAVES_SQL, DatabaseUtil.buildPlaceholders(emails.size()),
+                                   DatabaseUtil.buildPlaceholders(cpfs.size()),
+                                   DatabaseUtil.buildPlaceholders(logins.size()));
+        
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            int indice = 1;
+            for (String email : emails) {
+                statement.setString(indice++, email);
+            }
+            for (String cpf : cpfs) {
+                statement.setString(indice++, cpf);
+            }
+            for (String login : logins) {
+                statement.setString(indice++, login);
+            }
+            
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    usuarios.add(mapResultSetToUsuario(resultSet));
+                }
+            }
+        } catch (SQLException e) {
+            logger.error("Erro ao verificar {} chaves de usuário existentes", emails.size() + cpfs.size() + logins.size(), e);
+            throw e;
+        }
+        
+        return usuarios;
+    }
+    
     public List<Usuario> searchByNomeOuEmail(String termo) throws SQLException {
         String sql = "SELECT id, nome, cpf, email, cargo, login, ativo, criado_em, atualizado_em " +
                 "FROM usuario WHERE LOWER(nome) LIKE ? OR LOWER(email) LIKE ? OR LOWER(login) LIKE ? OR cpf LIKE ? ORDER BY nome";
@@ -189,6 +329,32 @@ public class UsuarioDAO implements BaseDAO<Usuario, Long> {
         return executeQuery(sql, filtro, filtro, filtro, filtro);
     }
 
+    
+    /**
+     * Pesquisa usuários por nome ou email no banco, limitada a {@code limite} linhas.
+     * Busca primeiro por prefixo (coberto pelos índices de nome e email), com
+     * correspondências exatas e de nome à frente; sem resultados, procura o termo
+     * em qualquer posição.
+     */
+    public List<Usuario> pesquisar(String termo, int limite) throws SQLException {
+        if (termo == null || termo.trim().isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        String termoBusca = termo.trim();
+        String escapado = DatabaseUtil.escapeLike(termoBusca);
+        int limiteEfetivo = limite > 0 ? limite : DatabaseUtil.DEFAULT_SEARCH_LIMIT;
+        
+        String prefixo = escapado + "%";
+        List<Usuario> usuarios = executeQuery(SEARCH_PREFIXO_SQL, prefixo, prefixo,
+                                              termoBusca, termoBusca, prefixo, limiteEfetivo);
+        if (!usuarios.isEmpty()) {
+            return usuarios;
+        }
+        
+        String contem = "%" + escapado + "%";
+        return executeQuery(SEARCH_CONTEM_SQL, contem, contem, limiteEfetivo);
+    }
 
     @Override
     public Usuario update(Usuario usuario) throws SQLException {
@@ -235,6 +401,7 @@ public class UsuarioDAO implements BaseDAO<Usuario, Long> {
             }
             
             DatabaseUtil.commit(connection);
+            SearchIndexManager.getInstance().indexarUsuario(usuario);
             logger.info("Usuário atualizado com sucesso: {}", usuario.getEmail());
             
             return usuario;
@@ -269,6 +436,7 @@ public class UsuarioDAO implements BaseDAO<Usuario, Long> {
             }
             
             DatabaseUtil.commit(connection);
+            SearchIndexManager.getInstance().removerUsuario(id);
             logger.info("Usuário excluído com sucesso: {}", id);
             
         } catch (SQLException e) {
@@ -318,6 +486,23 @@ public class UsuarioDAO implements BaseDAO<Usuario, Long> {
     public List<Usuario> findAll() throws SQLException {
         return executeQuery(SELECT_ALL_SQL);
     }
+
+    @Override
+    public Page<Usuario> findPage(PageRequest pageRequest) throws SQLException {
+        if (pageRequest.isSorted()) {
+            PageSort.Consulta consulta = ORDENACAO.montar(SELECT_PAGE_ORDENADA_SQL, null, null, pageRequest);
+            return Page.of(executeQuery(consulta.getSql(), consulta.getParametros()),
+                           pageRequest.getSize(), ORDENACAO.cursor(pageRequest));
+        }
+        List<Usuario> usuarios;
+        if (pageRequest.isFirst()) {
+            usuarios = executeQuery(SELECT_PAGE_SQL, pageRequest.getSize() + 1);
+        } else {
+            String[] chave = PageCursor.decode(pageRequest.getCursor(), 2);
+            usuarios = executeQuery(SELECT_PAGE_AFTER_SQL, chave[0], PageCursor.parseLong(chave[1]), pageRequest.getSize() + 1);
+        }
+        return Page.of(usuarios, pageRequest.getSize(), u -> PageCursor.encode(u.getNome(), u.getId()));
+    }
     
     /**
      * Busca usuário por email
@@ -454,6 +639,80 @@ public class UsuarioDAO implements BaseDAO<Usuario, Long> {
         }
     }
 
+    /**
+     * Busca os usuários com os IDs informados, na mesma ordem da lista
+     */
+    public List<Usuario> findByIds(List<Long> ids) throws SQLException {
+        if (ids == null || ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        Map<Long, Usuario> porId;
+        try (Connection connection = DatabaseUtil.getConnection()) {
+            porId = findByIds(ids, connection);
+        } catch (SQLException e) {
+            logger.error("Erro ao buscar {} usuários por ID", ids.size(), e);
+            throw e;
+        }
+        
+        List<Usuario> usuarios = new ArrayList<>(porId.size());
+        for (Long id : ids) {
+            Usuario usuario = porId.get(id);
+            if (usuario != null) {
+                usuarios.add(usuario);
+            }
+        }
+        return usuarios;
+    }
+    
+    /**
+     * Obtém nome, email, login e CPF de todos os usuários, para construir o índice de pesquisa em memória
+     */
+    public Map<Long, List<String>> findCamposPesquisa() throws SQLException {
+        Map<Long, List<String>> campos = new HashMap<>();
+        
+        try (Connection connection = DatabaseUtil.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_CAMPOS_PESQUISA_SQL);
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                campos.put(resultSet.getLong("id"), Arrays.asList(
+                    resultSet.getString("nome"), resultSet.getString("email"),
+                    resultSet.getString("login"), resultSet.getString("cpf")));
+            }
+        } catch (SQLException e) {
+            logger.error("Erro ao carregar campos de pesquisa dos usuários", e);
+            throw e;
+        }
+        return campos;
+    }
+
+    /**
+     * Busca em lote os usuários com os IDs informados usando a conexão recebida,
+     * com uma consulta IN (...) por lote de {@link DatabaseUtil#MAX_IN_PARAMETERS} IDs
+     */
+    Map<Long, Usuario> findByIds(Collection<Long> ids, Connection connection) throws SQLException {
+        Map<Long, Usuario> usuarios = new HashMap<>();
+        
+        for (List<Long> lote : DatabaseUtil.partition(ids, DatabaseUtil.MAX_IN_PARAMETERS)) {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    SELECT_BY_IDS_SQL + DatabaseUtil.buildPlaceholders(lote.size()))) {
+                
+                for (int i = 0; i < lote.size(); i++) {
+                    statement.setLong(i + 1, lote.get(i));
+                }
+                
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        Usuario usuario = mapResultSetToUsuario(resultSet);
+                        usuarios.put(usuario.getId(), usuario);
+                    }
+                }
+            }
+        }
+        
+        return usuarios;
+    }
+
     /**
      * Método auxiliar para executar queries que retornam lista de usuários
      */
@@ -2,6 +2,7 @@ package com.gestao.projetos.dao;
 
 import com.gestao.projetos.model.UsuarioPapel;
 import com.gestao.projetos.util.DatabaseUtil;
+import com.gestao.projetos.util.PermissionCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,6 +44,14 @@ public class UsuarioPapelDAO implements BaseDAO<UsuarioPapel, Long> {
     private static final String DEACTIVATE_USER_ROLES_SQL = 
         "UPDATE usuario_papel SET ativo = FALSE WHERE usuario_id = ? AND ativo = TRUE";
     
+    private static final String SELECT_PAGE_SQL = 
+        "SELECT id, usuario_id, papel_id, atribuido_em, expira_em, ativo FROM usuario_papel " +
+        "ORDER BY id LIMIT ?";
+    
+    private static final String SELECT_PAGE_AFTER_SQL = 
+        "SELECT id, usuario_id, papel_id, atribuido_em, expira_em, ativo FROM usuario_papel " +
+        "WHERE id > ? ORDER BY id LIMIT ?";
+    
     private static final String EXISTS_SQL = 
         "SELECT 1 FROM usuario_papel WHERE id = ?";
     
@@ -159,6 +168,45 @@ public class UsuarioPapelDAO implements BaseDAO<UsuarioPapel, Long> {
         }
     }
 
+    /**
+     * Insere as atribuições com um único lote JDBC usando a conexão da transação (sem commit)
+     */
+    public void saveBatch(List<UsuarioPapel> atribuicoes, Connection connection) throws SQLException {
+        if (atribuicoes.isEmpty()) {
+            return;
+        }
+
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+            LocalDateTime now = LocalDateTime.now();
+            for (UsuarioPapel usuarioPapel : atribuicoes) {
+                if (!usuarioPapel.isValid()) {
+                    throw new IllegalArgumentException("UsuarioPapel inválido para inserção");
+                }
+                if (usuarioPapel.getAtribuidoEm() == null) {
+                    usuarioPapel.setAtribuidoEm(now);
+                }
+
+                statement.setLong(1, usuarioPapel.getUsuarioId());
+                statement.setLong(2, usuarioPapel.getPapelId());
+                statement.setTimestamp(3, Timestamp.valueOf(usuarioPapel.getAtribuidoEm()));
+                if (usuarioPapel.getExpiraEm() != null) {
+                    statement.setTimestamp(4, Timestamp.valueOf(usuarioPapel.getExpiraEm()));
+                } else {
+                    statement.setNull(4, Types.TIMESTAMP);
+                }
+                statement.setBoolean(5, usuarioPapel.isAtivo());
+                statement.addBatch();
+            }
+
+            statement.executeBatch();
+            logger.debug("{} atribuições de papel inseridas em lote usando conexão da transação", atribuicoes.size());
+
+        } catch (SQLException e) {
+            logger.error("Erro ao inserir lote de {} atribuições de papel na transação", atribuicoes.size(), e);
+            throw e;
+        }
+    }
+
     @Override
     public UsuarioPapel update(UsuarioPapel usuarioPapel) throws SQLException {
         if (usuarioPapel == null || usuarioPapel.getId() == null) {
@@ -263,6 +311,18 @@ public class UsuarioPapelDAO implements BaseDAO<UsuarioPapel, Long> {
     public List<UsuarioPapel> findAll() throws SQLException {
         return executeQuery(SELECT_ALL_SQL);
     }
+
+    @Override
+    public Page<UsuarioPapel> findPage(PageRequest pageRequest) throws SQLException {
+        List<UsuarioPapel> usuarioPapeis;
+        if (pageRequest.isFirst()) {
+            usuarioPapeis = executeQuery(SELECT_PAGE_SQL, pageRequest.getSize() + 1);
+        } else {
+            String[] chave = PageCursor.decode(pageRequest.getCursor(), 1);
+            usuarioPapeis = executeQuery(SELECT_PAGE_AFTER_SQL, PageCursor.parseLong(chave[0]), pageRequest.getSize() + 1);
+        }
+        return Page.of(usuarioPapeis, pageRequest.getSize(), u -> PageCursor.encode(u.getId()));
+    }
     
     /**
      * Busca papéis ativos de um usuário
@@ -366,6 +426,7 @@ public class UsuarioPapelDAO implements BaseDAO<UsuarioPapel, Long> {
             statement.setLong(1, usuarioId);
             
             int affectedRows = statement.executeUpdate();
+            PermissionCache.getInstance().invalidate(usuarioId);
             logger.debug("Desativados {} papéis do usuário: {}", affectedRows, usuarioId);
             
         } catch (SQLException e) {
@@ -0,0 +1,129 @@
+package com.gestao.projetos.model;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fotografia imutável das estatísticas do dashboard, obtida de uma só vez
+ * e compartilhada por todos os indicadores de uma atualização
+ */
+public final class DashboardSnapshot {
+
+    private final Map<String, Long> projetosPorStatus;
+    private final long projetosAtrasados;
+    private final Map<String, Long> tarefasPorStatus;
+    private final long tarefasAtrasadas;
+    private final long totalUsuarios;
+    private final long usuariosAtivos;
+    private final long usuariosInativos;
+    private final Map<String, Long> usuariosAtivosPorPapel;
+    private final long totalEquipes;
+    private final long equipesAtivas;
+    private final LocalDateTime geradoEm;
+
+    public DashboardSnapshot(Map<String, Long> projetosPorStatus, long projetosAtrasados,
+                             Map<String, Long> tarefasPorStatus, long tarefasAtrasadas,
+                             long totalUsuarios, long usuariosAtivos, long usuariosInativos,
+                             Map<String, Long> usuariosAtivosPorPapel,
+                             long totalEquipes, long equipesAtivas) {
+        this.projetosPorStatus = Collections.unmodifiableMap(new HashMap<>(projetosPorStatus));
+        this.projetosAtrasados = projetosAtrasados;
+        this.tarefasPorStatus = Collections.unmodifiableMap(new HashMap<>(tarefasPorStatus));
+        this.tarefasAtrasadas = tarefasAtrasadas;
+        this.totalUsuarios = totalUsuarios;
+        this.usuariosAtivos = usuariosAtivos;
+        this.usuariosInativos = usuariosInativos;
+        this.usuariosAtivosPorPapel = Collections.unmodifiableMap(new HashMap<>(usuariosAtivosPorPapel));
+        this.totalEquipes = totalEquipes;
+        this.equipesAtivas = equipesAtivas;
+        this.geradoEm = LocalDateTime.now();
+    }
+
+    // Projetos
+    public long getTotalProjetos() {
+        return soma(projetosPorStatus);
+    }
+
+    public long getProjetos(StatusProjeto status) {
+        return projetosPorStatus.getOrDefault(status.getCodigo(), 0L);
+    }
+
+    public long getProjetosAtrasados() {
+        return projetosAtrasados;
+    }
+
+    public Map<String, Long> getProjetosPorStatus() {
+        return projetosPorStatus;
+    }
+
+    // Tarefas
+    public long getTotalTarefas() {
+        return soma(tarefasPorStatus);
+    }
+
+    public long getTarefas(StatusTarefa status) {
+        return tarefasPorStatus.getOrDefault(status.getCodigo(), 0L);
+    }
+
+    public long getTarefasAtrasadas() {
+        return tarefasAtrasadas;
+    }
+
+    public Map<String, Long> getTarefasPorStatus() {
+        return tarefasPorStatus;
+    }
+
+    // Usuários
+    public long getTotalUsuarios() {
+        return totalUsuarios;
+    }
+
+    public long getUsuariosAtivos() {
+        return usuariosAtivos;
+    }
+
+    public long getUsuariosInativos() {
+        return usuariosInativos;
+    }
+
+    /**
+     * Quantidade de usuários ativos com o papel informado (ex.: "ADMINISTRADOR")
+     */
+    public long getUsuariosAtivosComPapel(String nomePapel) {
+        return usuariosAtivosPorPapel.getOrDefault(nomePapel, 0L);
+    }
+
+    // Equipes
+    public long getTotalEquipes() {
+        return totalEquipes;
+    }
+
+    public long getEquipesAtivas() {
+        return equipesAtivas;
+    }
+
+    public LocalDateTime getGeradoEm() {
+        return geradoEm;
+    }
+
+    private static long soma(Map<String, Long> contagens) {
+        long total = 0;
+        for (Long valor : contagens.values()) {
+            total += valor;
+        }
+        return total;
+    }
+
+    @Override
+    public String toString() {
+        return "DashboardSnapshot{" +
+                "projetos=" + projetosPorStatus +
+                ", tarefas=" + tarefasPorStatus +
+                ", usuarios=" + totalUsuarios +
+                ", equipes=" + totalEquipes +
+                ", geradoEm=" + geradoEm +
+                '}';
+    }
+}
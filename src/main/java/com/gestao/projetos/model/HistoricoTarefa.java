@@ -0,0 +1,113 @@
+package com.gestao.projetos.model;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Modelo para representar a alteração de um campo de uma tarefa
+ */
+public class HistoricoTarefa {
+
+    private Long id;
+    private Long tarefaId;
+    private Long usuarioId;
+    private String campo;
+    private String valorAnterior;
+    private String valorNovo;
+    private LocalDateTime dataHora;
+
+    public HistoricoTarefa() {
+        this.dataHora = LocalDateTime.now();
+    }
+
+    public HistoricoTarefa(Long tarefaId, Long usuarioId, String campo, String valorAnterior, String valorNovo) {
+        this();
+        this.tarefaId = tarefaId;
+        this.usuarioId = usuarioId;
+        this.campo = campo;
+        this.valorAnterior = valorAnterior;
+        this.valorNovo = valorNovo;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getTarefaId() {
+        return tarefaId;
+    }
+
+    public Long getUsuarioId() {
+        return usuarioId;
+    }
+
+    public String getCampo() {
+        return campo;
+    }
+
+    public String getValorAnterior() {
+        return valorAnterior;
+    }
+
+    public String getValorNovo() {
+        return valorNovo;
+    }
+
+    public LocalDateTime getDataHora() {
+        return dataHora;
+    }
+
+    // Setters
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public void setTarefaId(Long tarefaId) {
+        this.tarefaId = tarefaId;
+    }
+
+    public void setUsuarioId(Long usuarioId) {
+        this.usuarioId = usuarioId;
+    }
+
+    public void setCampo(String campo) {
+        this.campo = campo;
+    }
+
+    public void setValorAnterior(String valorAnterior) {
+        this.valorAnterior = valorAnterior;
+    }
+
+    public void setValorNovo(String valorNovo) {
+        this.valorNovo = valorNovo;
+    }
+
+    public void setDataHora(LocalDateTime dataHora) {
+        this.dataHora = dataHora;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        HistoricoTarefa that = (HistoricoTarefa) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "HistoricoTarefa{" +
+               "tarefaId=" + tarefaId +
+               ", campo='" + campo + '\'' +
+               ", valorAnterior='" + valorAnterior + '\'' +
+               ", valorNovo='" + valorNovo + '\'' +
+               ", dataHora=" + dataHora +
+               '}';
+    }
+}
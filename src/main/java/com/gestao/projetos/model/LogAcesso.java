@@ -0,0 +1,113 @@
+package com.gestao.projetos.model;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Modelo para representar um registro do log de acesso
+ */
+public class LogAcesso {
+
+    private Long id;
+    private String acao;
+    private LocalDateTime dataHora;
+    private String ipOrigem;
+    private String userAgent;
+    private boolean sucesso;
+    private Long usuarioId;
+
+    public LogAcesso() {
+        this.dataHora = LocalDateTime.now();
+    }
+
+    public LogAcesso(Long usuarioId, String acao, boolean sucesso, String ipOrigem, String userAgent) {
+        this();
+        this.usuarioId = usuarioId;
+        this.acao = acao;
+        this.sucesso = sucesso;
+        this.ipOrigem = ipOrigem;
+        this.userAgent = userAgent;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public String getAcao() {
+        return acao;
+    }
+
+    public LocalDateTime getDataHora() {
+        return dataHora;
+    }
+
+    public String getIpOrigem() {
+        return ipOrigem;
+    }
+
+    public String getUserAgent() {
+        return userAgent;
+    }
+
+    public boolean isSucesso() {
+        return sucesso;
+    }
+
+    public Long getUsuarioId() {
+        return usuarioId;
+    }
+
+    // Setters
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public void setAcao(String acao) {
+        this.acao = acao;
+    }
+
+    public void setDataHora(LocalDateTime dataHora) {
+        this.dataHora = dataHora;
+    }
+
+    public void setIpOrigem(String ipOrigem) {
+        this.ipOrigem = ipOrigem;
+    }
+
+    public void setUserAgent(String userAgent) {
+        this.userAgent = userAgent;
+    }
+
+    public void setSucesso(boolean sucesso) {
+        this.sucesso = sucesso;
+    }
+
+    public void setUsuarioId(Long usuarioId) {
+        this.usuarioId = usuarioId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LogAcesso logAcesso = (LogAcesso) o;
+        return Objects.equals(id, logAcesso.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "LogAcesso{" +
+               "id=" + id +
+               ", acao='" + acao + '\'' +
+               ", dataHora=" + dataHora +
+               ", sucesso=" + sucesso +
+               ", usuarioId=" + usuarioId +
+               '}';
+    }
+}
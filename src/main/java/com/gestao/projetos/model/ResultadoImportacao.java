@@ -0,0 +1,88 @@
+package com.gestao.projetos.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Resultado de uma importação em massa: quantidade de registros lidos e importados
+ * e os erros de cada registro recusado
+ */
+public class ResultadoImportacao {
+
+    /**
+     * Erro de um registro do arquivo importado
+     */
+    public static class ErroLinha {
+        private final int linha;
+        private final String mensagem;
+
+        public ErroLinha(int linha, String mensagem) {
+            this.linha = linha;
+            this.mensagem = mensagem;
+        }
+
+        /**
+         * Número do registro no arquivo (o cabeçalho é o registro 1)
+         */
+        public int getLinha() {
+            return linha;
+        }
+
+        public String getMensagem() {
+            return mensagem;
+        }
+
+        @Override
+        public String toString() {
+            return "Linha " + linha + ": " + mensagem;
+        }
+    }
+
+    private int totalLinhas;
+    private int importados;
+    private final List<ErroLinha> erros = new ArrayList<>();
+
+    public int getTotalLinhas() {
+        return totalLinhas;
+    }
+
+    public int getImportados() {
+        return importados;
+    }
+
+    /**
+     * Erros dos registros recusados, em ordem de linha
+     */
+    public List<ErroLinha> getErros() {
+        List<ErroLinha> ordenados = new ArrayList<>(erros);
+        ordenados.sort(Comparator.comparingInt(ErroLinha::getLinha));
+        return Collections.unmodifiableList(ordenados);
+    }
+
+    public boolean temErros() {
+        return !erros.isEmpty();
+    }
+
+    public void adicionarLinhas(int quantidade) {
+        this.totalLinhas += quantidade;
+    }
+
+    public void adicionarImportados(int quantidade) {
+        this.importados += quantidade;
+    }
+
+    public void adicionarErro(int linha, String mensagem) {
+        erros.add(new ErroLinha(linha, mensagem));
+    }
+
+    @Override
+    public String toString() {
+        return "ResultadoImportacao{" +
+               "totalLinhas=" + totalLinhas +
+               ", importados=" + importados +
+               ", erros=" + erros.size() +
+               '}';
+    }
+}
@@ -1,5 +1,9 @@
 package com.gestao.projetos.model;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Enum que representa os diferentes tipos de status de um projeto
  */
@@ -14,6 +18,9 @@ package com.gestao.projetos.model;
         private final String codigo;
         private final String descricao;
 
+        // Índice imutável por código, para a conversão das linhas lidas do banco
+        private static final Map<String, StatusProjeto> POR_CODIGO = criarIndice();
+
         StatusProjeto(String codigo, String descricao) {
             this.codigo = codigo;
             this.descricao = descricao;
@@ -28,12 +35,19 @@ package com.gestao.projetos.model;
         }
 
         public static StatusProjeto fromCodigo(String codigo) {
+            StatusProjeto status = codigo != null ? POR_CODIGO.get(codigo) : null;
+            if (status == null) {
+                throw new IllegalArgumentException("Status de projeto inválido: " + codigo);
+            }
+            return status;
+        }
+
+        private static Map<String, StatusProjeto> criarIndice() {
+            Map<String, StatusProjeto> indice = new HashMap<>();
             for (StatusProjeto status : values()) {
-                if (status.getCodigo().equals(codigo)) {
-                    return status;
-                }
+                indice.put(status.codigo, status);
             }
-            throw new IllegalArgumentException("Status de projeto inválido: " + codigo);
+            return Collections.unmodifiableMap(indice);
         }
 
         @Override
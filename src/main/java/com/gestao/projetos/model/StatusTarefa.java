@@ -1,5 +1,9 @@
 package com.gestao.projetos.model;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Enum que representa os diferentes tipos de status de uma tarefa
  */
@@ -13,6 +17,9 @@ public enum StatusTarefa {
     private final String codigo;
     private final String descricao;
 
+    // Índice imutável por código, para a conversão das linhas lidas do banco
+    private static final Map<String, StatusTarefa> POR_CODIGO = criarIndice();
+
     StatusTarefa(String codigo, String descricao) {
         this.codigo = codigo;
         this.descricao = descricao;
@@ -27,12 +34,19 @@ public enum StatusTarefa {
     }
 
     public static StatusTarefa fromCodigo(String codigo) {
+        StatusTarefa status = codigo != null ? POR_CODIGO.get(codigo) : null;
+        if (status == null) {
+            throw new IllegalArgumentException("Status de tarefa inválido: " + codigo);
+        }
+        return status;
+    }
+
+    private static Map<String, StatusTarefa> criarIndice() {
+        Map<String, StatusTarefa> indice = new HashMap<>();
         for (StatusTarefa status : values()) {
-            if (status.codigo.equals(codigo)) {
-                return status;
-            }
+            indice.put(status.codigo, status);
         }
-        throw new IllegalArgumentException("Status de tarefa inválido: " + codigo);
+        return Collections.unmodifiableMap(indice);
     }
 
     @Override
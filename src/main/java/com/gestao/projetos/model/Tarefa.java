@@ -9,7 +9,7 @@ public class Tarefa {
     private String titulo;
     private String descricao;
     private StatusTarefa status;
-    private int prioridade; // 1-5 (1=Baixa, 5=Crítica)
+    private Integer prioridade; // 1-5 (1=Baixa, 5=Crítica); null quando não definida no banco
     private Double estimativaHoras;
     private Double horasTrabalhadas;
     private LocalDate dataInicioPrevista;
@@ -24,6 +24,7 @@ public class Tarefa {
     private Long equipeId;
     private LocalDateTime criadoEm;
     private LocalDateTime atualizadoEm;
+    private Tarefa estadoPersistido; // Cópia dos campos como estão no banco, base do histórico
 
     public Tarefa() {
         this.status = StatusTarefa.NOVA;
@@ -75,12 +76,12 @@ public class Tarefa {
         this.atualizadoEm = LocalDateTime.now();
     }
 
-    public int getPrioridade() {
+    public Integer getPrioridade() {
         return prioridade;
     }
 
-    public void setPrioridade(int prioridade) {
-        if (prioridade < 1 || prioridade > 5) {
+    public void setPrioridade(Integer prioridade) {
+        if (prioridade != null && (prioridade < 1 || prioridade > 5)) {
             throw new IllegalArgumentException("Prioridade deve estar entre 1 e 5");
         }
         this.prioridade = prioridade;
@@ -214,6 +215,37 @@ public class Tarefa {
         this.atualizadoEm = atualizadoEm;
     }
 
+    /**
+     * Guarda uma cópia dos campos atuais como o estado gravado no banco (usado pelo DAO)
+     */
+    public void marcarComoPersistida() {
+        Tarefa copia = new Tarefa();
+        copia.id = id;
+        copia.titulo = titulo;
+        copia.descricao = descricao;
+        copia.status = status;
+        copia.prioridade = prioridade;
+        copia.estimativaHoras = estimativaHoras;
+        copia.horasTrabalhadas = horasTrabalhadas;
+        copia.dataInicioPrevista = dataInicioPrevista;
+        copia.dataFimPrevista = dataFimPrevista;
+        copia.dataInicioReal = dataInicioReal;
+        copia.dataFimReal = dataFimReal;
+        copia.projetoId = projetoId;
+        copia.responsavelId = responsavelId;
+        copia.equipeId = equipeId;
+        copia.criadoEm = criadoEm;
+        copia.atualizadoEm = atualizadoEm;
+        this.estadoPersistido = copia;
+    }
+
+    /**
+     * Estado da tarefa quando foi carregada ou gravada pela última vez (null se nunca foi)
+     */
+    public Tarefa getEstadoPersistido() {
+        return estadoPersistido;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -235,7 +267,7 @@ public class Tarefa {
     public boolean isValid() {
         return titulo != null && !titulo.trim().isEmpty() &&
                 projetoId != null &&
-                prioridade >= 1 && prioridade <= 5 &&
+                prioridade != null && prioridade >= 1 && prioridade <= 5 &&
                 (dataFimPrevista == null || dataInicioPrevista == null ||
                         !dataFimPrevista.isBefore(dataInicioPrevista));
     }
@@ -257,6 +289,9 @@ public class Tarefa {
     }
 
     public String getPrioridadeTexto() {
+        if (prioridade == null) {
+            return "Indefinida";
+        }
         switch (prioridade) {
             case 1: return "Muito Baixa";
             case 2: return "Baixa";
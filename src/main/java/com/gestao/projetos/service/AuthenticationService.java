@@ -4,35 +4,93 @@ import com.gestao.projetos.model.Usuario;
 import com.gestao.projetos.model.Credencial;
 import com.gestao.projetos.dao.UsuarioDAO;
 import com.gestao.projetos.dao.CredencialDAO;
-import com.gestao.projetos.util.DatabaseUtil;
+import com.gestao.projetos.dao.LogAcessoDAO;
+import com.gestao.projetos.model.LogAcesso;
+import com.gestao.projetos.util.AccessLogWriter;
+import com.gestao.projetos.util.CsvUtil;
+import com.gestao.projetos.util.MetricsRegistry;
+import com.gestao.projetos.util.PasswordHasher;
+import com.gestao.projetos.util.TransactionTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.mindrot.jbcrypt.BCrypt;
 
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class AuthenticationService {
     private static final Logger logger = LoggerFactory.getLogger(AuthenticationService.class);
     
+    // Consultas do login (E/S), separadas do pool de BCrypt, que é limitado aos processadores
+    private static final ExecutorService CONSULTA_EXECUTOR = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "auth-lookup");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
     private final UsuarioDAO usuarioDAO;
     private final CredencialDAO credencialDAO;
+    private final LogAcessoDAO logAcessoDAO;
+    private final PasswordHasher passwordHasher;
     
     public AuthenticationService() {
         this.usuarioDAO = new UsuarioDAO();
         this.credencialDAO = new CredencialDAO();
+        this.logAcessoDAO = new LogAcessoDAO();
+        this.passwordHasher = PasswordHasher.getInstance();
         logger.debug("AuthenticationService inicializado");
     }
 
+    /**
+     * Autentica o usuário aguardando o resultado; devolve null se as credenciais
+     * forem inválidas ou a autenticação não puder ser concluída
+     */
     public Usuario authenticate(String email, String password) {
+        try {
+            return authenticateAsync(email, password).join();
+        } catch (CompletionException e) {
+            Throwable causa = e.getCause() != null ? e.getCause() : e;
+            logger.warn("Autenticação não concluída para {}: {}", email, causa.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Autentica o usuário sem bloquear quem chama: as consultas rodam em um executor próprio
+     * e a verificação de senha no pool de BCrypt. Completa com null se as credenciais forem
+     * inválidas, ou com {@link java.util.concurrent.RejectedExecutionException} se o pool
+     * de senhas estiver saturado.
+     */
+    public CompletableFuture<Usuario> authenticateAsync(String email, String password) {
         if (email == null || password == null || email.trim().isEmpty() || password.trim().isEmpty()) {
             logger.warn("Tentativa de login com credenciais vazias");
-            return null;
+            return CompletableFuture.completedFuture(null);
         }
 
+        MetricsRegistry.Medicao medicao = MetricsRegistry.getInstance()
+            .temporizadorServico("AuthenticationService", "authenticate").iniciar();
+        return CompletableFuture.supplyAsync(() -> buscarCredencialLogin(email), CONSULTA_EXECUTOR)
+            .thenCompose(tentativa -> {
+                if (tentativa == null) {
+                    return CompletableFuture.completedFuture(null);
+                }
+                return passwordHasher.verificarAsync(password, tentativa.credencial.getHash())
+                    .thenApply(senhaCorreta -> concluirLogin(tentativa.usuario, email, senhaCorreta));
+            })
+            .whenComplete((usuario, erro) -> medicao.close());
+    }
+
+    /**
+     * Busca usuário e credencial para o login; null se o login não pode prosseguir
+     */
+    private TentativaLogin buscarCredencialLogin(String email) {
         try {
             // Buscar usuário pelo email usando DAO
             Optional<Usuario> usuarioOpt = usuarioDAO.findByEmail(email.trim().toLowerCase());
@@ -60,18 +118,7 @@ public class AuthenticationService {
                 return null;
             }
             
-            Credencial credencial = credencialOpt.get();
-            
-            // Verificar senha
-            if (BCrypt.checkpw(password, credencial.getHash())) {
-                registrarLogAcesso(usuario.getId(), "LOGIN", true, null);
-                logger.info("Usuário autenticado com sucesso: {}", email);
-                return usuario;
-            } else {
-                registrarLogAcesso(usuario.getId(), "LOGIN_FAILED", false, "Senha incorreta");
-                logger.warn("Tentativa de login com senha incorreta para usuário: {}", email);
-                return null;
-            }
+            return new TentativaLogin(usuario, credencialOpt.get());
             
         } catch (SQLException e) {
             logger.error("Erro ao autenticar usuário: {}", email, e);
@@ -80,6 +127,17 @@ public class AuthenticationService {
         }
     }
 
+    private Usuario concluirLogin(Usuario usuario, String email, boolean senhaCorreta) {
+        if (senhaCorreta) {
+            registrarLogAcesso(usuario.getId(), "LOGIN", true, null);
+            logger.info("Usuário autenticado com sucesso: {}", email);
+            return usuario;
+        }
+        registrarLogAcesso(usuario.getId(), "LOGIN_FAILED", false, "Senha incorreta");
+        logger.warn("Tentativa de login com senha incorreta para usuário: {}", email);
+        return null;
+    }
+
     public Usuario createUser(String nome, String email, String password) {
         if (nome == null || email == null || password == null ||
             nome.trim().isEmpty() || email.trim().isEmpty() || password.trim().isEmpty()) {
@@ -95,11 +153,10 @@ public class AuthenticationService {
                 return null;
             }
 
-            Connection conn = null;
-            try {
-                conn = DatabaseUtil.getConnection();
-                conn.setAutoCommit(false);
+            // O hash é gerado antes da transação para não prender uma conexão durante o BCrypt
+            String hashedPassword = passwordHasher.hash(password, PasswordHasher.CUSTO_PADRAO);
 
+            return TransactionTemplate.executar(connection -> {
                 // Criar usuário usando DAO
                 Usuario novoUsuario = new Usuario();
                 novoUsuario.setNome(nome.trim());
@@ -112,42 +169,19 @@ public class AuthenticationService {
                 }
 
                 // Criar credencial usando DAO
-                String salt = BCrypt.gensalt(12);
-                String hashedPassword = BCrypt.hashpw(password, salt);
-
                 Credencial credencial = new Credencial();
                 credencial.setUsuarioId(usuarioSalvo.getId());
                 credencial.setHash(hashedPassword);
-                credencial.setSalt(salt);
+                credencial.setSalt(PasswordHasher.extrairSalt(hashedPassword));
 
                 Credencial credencialSalva = credencialDAO.save(credencial);
                 if (credencialSalva == null) {
                     throw new SQLException("Falha ao criar credencial");
                 }
 
-                conn.commit();
                 logger.info("Usuário criado com sucesso: {}", email);
                 return usuarioSalvo;
-
-            } catch (SQLException e) {
-                if (conn != null) {
-                    try {
-                        conn.rollback();
-                    } catch (SQLException ex) {
-                        logger.error("Erro ao fazer rollback", ex);
-                    }
-                }
-                throw e;
-            } finally {
-                if (conn != null) {
-                    try {
-                        conn.setAutoCommit(true);
-                        conn.close();
-                    } catch (SQLException e) {
-                        logger.error("Erro ao fechar conexão", e);
-                    }
-                }
-            }
+            });
         } catch (SQLException e) {
             logger.error("Erro ao criar usuário: {}", email, e);
             return null;
@@ -172,13 +206,13 @@ public class AuthenticationService {
             Credencial credencial = credencialOpt.get();
             
             // Verificar senha atual
-            if (!BCrypt.checkpw(currentPassword, credencial.getHash())) {
+            if (!passwordHasher.verificar(currentPassword, credencial.getHash())) {
                 logger.warn("Tentativa de alteração de senha com senha atual incorreta para usuário ID: {}", userId);
                 return false;
             }
             
             // Gerar novo hash
-            String newHash = BCrypt.hashpw(newPassword, BCrypt.gensalt(12));
+            String newHash = passwordHasher.hash(newPassword, PasswordHasher.CUSTO_PADRAO);
             
             // Atualizar credencial usando DAO
             boolean updated = credencialDAO.updateHashByUserId(userId, newHash);
@@ -197,31 +231,39 @@ public class AuthenticationService {
         }
     }
 
-    private void registrarLogAcesso(Long userId, String acao, boolean sucesso, String detalhes) {
-        try (Connection conn = DatabaseUtil.getConnection()) {
-            String sql = """
-                INSERT INTO log_acesso (acao, usuario_id, sucesso, ip_origem, user_agent)
-                VALUES (?, ?, ?, ?, ?)
-                """;
-
-            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
-                stmt.setString(1, acao);
-                if (userId != null) {
-                    stmt.setLong(2, userId);
-                } else {
-                    stmt.setNull(2, java.sql.Types.BIGINT);
+    /**
+     * Exporta o log de acesso a partir da data informada em CSV, lendo-o em streaming (memória constante)
+     *
+     * @return Quantidade de registros exportados
+     */
+    public long exportarLogAcessoCsv(LocalDateTime desde, Writer writer) throws SQLException, IOException {
+        CsvUtil.escreverLinha(writer, "id", "data_hora", "acao", "sucesso", "usuario_id", "ip_origem", "user_agent");
+        try {
+            long total = logAcessoDAO.forEachDesde(desde, log -> {
+                try {
+                    CsvUtil.escreverLinha(writer, log.getId(), log.getDataHora(), log.getAcao(), log.isSucesso(),
+                                          log.getUsuarioId(), log.getIpOrigem(), log.getUserAgent());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
                 }
-                stmt.setBoolean(3, sucesso);
-                stmt.setString(4, "127.0.0.1"); // IP local por enquanto
-                stmt.setString(5, detalhes != null ? detalhes : "Desktop Application");
-
-                stmt.executeUpdate();
-            }
-        } catch (SQLException e) {
-            logger.warn("Erro ao registrar log de acesso", e);
+            });
+            writer.flush();
+            logger.info("Exportados {} registros do log de acesso desde {}", total, desde);
+            return total;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
     }
 
+    /**
+     * Enfileira o registro no gravador assíncrono, sem acessar o banco durante o login
+     */
+    private void registrarLogAcesso(Long userId, String acao, boolean sucesso, String detalhes) {
+        LogAcesso log = new LogAcesso(userId, acao, sucesso, "127.0.0.1", // IP local por enquanto
+                                      detalhes != null ? detalhes : "Desktop Application");
+        AccessLogWriter.getInstance().registrar(log);
+    }
+
     public boolean isValidEmail(String email) {
         if (email == null || email.trim().isEmpty()) {
             return false;
@@ -238,4 +280,17 @@ public class AuthenticationService {
 
         return true;
     }
+
+    /**
+     * Usuário e credencial encontrados para uma tentativa de login
+     */
+    private static final class TentativaLogin {
+        private final Usuario usuario;
+        private final Credencial credencial;
+
+        private TentativaLogin(Usuario usuario, Credencial credencial) {
+            this.usuario = usuario;
+            this.credencial = credencial;
+        }
+    }
 }
@@ -3,14 +3,22 @@ package com.gestao.projetos.service;
 import com.gestao.projetos.model.Usuario;
 import com.gestao.projetos.dao.UsuarioPapelDAO;
 import com.gestao.projetos.dao.PapelDAO;
+import com.gestao.projetos.dao.PermissaoDAO;
 import com.gestao.projetos.model.Papel;
+import com.gestao.projetos.model.Permissao;
 import com.gestao.projetos.model.UsuarioPapel;
+import com.gestao.projetos.util.PermissionCache;
+import com.gestao.projetos.util.PermissionMatrix;
 import com.gestao.projetos.util.SessionManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.HashSet;
@@ -38,11 +46,21 @@ public class AuthorizationService {
     public static final String PAPEL_GERENTE = "GERENTE";
     public static final String PAPEL_COLABORADOR = "COLABORADOR";
     
+    private static final String SUFIXO_VISUALIZAR = ".visualizar";
+    
+    // Papéis com acesso a cada recurso quando não há chave "<recurso>.visualizar" no banco
+    private static final Map<String, Set<String>> REGRAS_PADRAO = criarRegrasPadrao();
+    
     public AuthorizationService() {
         this.usuarioPapelDAO = new UsuarioPapelDAO();
         this.papelDAO = new PapelDAO();
     }
     
+    public AuthorizationService(UsuarioPapelDAO usuarioPapelDAO, PapelDAO papelDAO) {
+        this.usuarioPapelDAO = usuarioPapelDAO;
+        this.papelDAO = papelDAO;
+    }
+    
     /**
      * Verifica se o usuário atual pode acessar um recurso
      */
@@ -57,7 +75,8 @@ public class AuthorizationService {
     }
     
     /**
-     * Verifica se um usuário específico pode acessar um recurso
+     * Verifica se um usuário específico pode acessar um recurso ou chave de permissão
+     * (ex.: "projetos" ou "projetos.editar") com um AND sobre a máscara do usuário
      */
     public boolean podeAcessar(Long usuarioId, String recurso) {
         if (usuarioId == null || recurso == null || recurso.trim().isEmpty()) {
@@ -65,38 +84,20 @@ public class AuthorizationService {
         }
         
         try {
-            Set<String> papeisUsuario = obterPapeisUsuario(usuarioId);
-            
-            switch (recurso.toLowerCase()) {
-                case RECURSO_USUARIOS:
-                    return papeisUsuario.contains(PAPEL_ADMINISTRADOR);
-                    
-                case RECURSO_PROJETOS:
-                    return papeisUsuario.contains(PAPEL_ADMINISTRADOR) || 
-                           papeisUsuario.contains(PAPEL_GERENTE);
-                    
-                case RECURSO_TAREFAS:
-                    return papeisUsuario.contains(PAPEL_ADMINISTRADOR) || 
-                           papeisUsuario.contains(PAPEL_GERENTE) || 
-                           papeisUsuario.contains(PAPEL_COLABORADOR);
-                    
-                case RECURSO_EQUIPES:
-                    return papeisUsuario.contains(PAPEL_ADMINISTRADOR);
-                    
-                case RECURSO_DASHBOARD:
-                    return papeisUsuario.contains(PAPEL_ADMINISTRADOR) || 
-                           papeisUsuario.contains(PAPEL_GERENTE) || 
-                           papeisUsuario.contains(PAPEL_COLABORADOR);
-                    
-                case RECURSO_RELATORIOS:
-                    return papeisUsuario.contains(PAPEL_ADMINISTRADOR) || 
-                           papeisUsuario.contains(PAPEL_GERENTE);
-                    
-                default:
-                    logger.warn("Recurso desconhecido: {}", recurso);
+            PermissionMatrix matriz = obterMatriz();
+            int indice = matriz.getIndice(recurso);
+            if (indice < 0) {
+                if (!matriz.isCarregada()) {
+                    logger.warn("Permissões indisponíveis; acesso negado ao recurso {}", recurso);
                     return false;
+                }
+                logger.warn("Recurso desconhecido: {}", recurso);
+                return false;
             }
             
+            long[] mascara = PermissionCache.getInstance().getMascara(usuarioId, this::carregarPapeisUsuario);
+            return PermissionMatrix.permite(mascara, indice);
+            
         } catch (SQLException e) {
             logger.error("Erro ao verificar acesso para usuário {} ao recurso {}", usuarioId, recurso, e);
             return false;
@@ -104,15 +105,92 @@ public class AuthorizationService {
     }
     
     /**
-     * Obtém todos os papéis de um usuário
+     * Recarrega a matriz de permissões do banco; as máscaras em cache são recompiladas no próximo acesso
      */
-    public Set<String> obterPapeisUsuario(Long usuarioId) throws SQLException {
-        Set<String> papeis = new HashSet<>();
+    public static synchronized void recarregarPermissoes() {
+        Set<String> chaves = new HashSet<>();
+        Map<String, Set<String>> chavesPorPapel = new HashMap<>();
         
+        try {
+            PermissaoDAO permissaoDAO = new PermissaoDAO();
+            for (Permissao permissao : permissaoDAO.findAll()) {
+                chaves.add(permissao.getChave());
+            }
+            chavesPorPapel.putAll(permissaoDAO.findChavesPorPapel());
+        } catch (SQLException e) {
+            // Não publica: a matriz continua não carregada e a próxima verificação tenta de novo
+            logger.error("Erro ao carregar permissões do banco; nova tentativa na próxima verificação", e);
+            return;
+        }
+        
+        PermissionMatrix matriz = montarMatriz(chaves, chavesPorPapel);
+        PermissionMatrix.publicar(matriz);
+        logger.info("Matriz de permissões carregada: {} permissões, {} papéis",
+                   matriz.getTotalPermissoes(), chavesPorPapel.size());
+    }
+    
+    /**
+     * Monta a matriz a partir das chaves cadastradas e das concessões por papel; recursos
+     * sem chave "<recurso>.visualizar" cadastrada seguem as regras padrão.
+     * Altera os conjuntos recebidos.
+     */
+    static PermissionMatrix montarMatriz(Set<String> chaves, Map<String, Set<String>> chavesPorPapel) {
+        for (Map.Entry<String, Set<String>> regra : REGRAS_PADRAO.entrySet()) {
+            String chave = regra.getKey() + SUFIXO_VISUALIZAR;
+            if (chaves.add(chave)) {
+                for (String papel : regra.getValue()) {
+                    chavesPorPapel.computeIfAbsent(papel, k -> new HashSet<>()).add(chave);
+                }
+            }
+        }
+        return PermissionMatrix.build(chaves, chavesPorPapel);
+    }
+    
+    /**
+     * Obtém a matriz de permissões, carregando-a na primeira verificação e após cada invalidação
+     */
+    private static PermissionMatrix obterMatriz() {
+        PermissionMatrix matriz = PermissionMatrix.getAtual();
+        if (!matriz.isCarregada()) {
+            synchronized (AuthorizationService.class) {
+                matriz = PermissionMatrix.getAtual();
+                if (!matriz.isCarregada()) {
+                    recarregarPermissoes();
+                    matriz = PermissionMatrix.getAtual();
+                }
+            }
+        }
+        return matriz;
+    }
+    
+    private static Map<String, Set<String>> criarRegrasPadrao() {
+        Map<String, Set<String>> regras = new LinkedHashMap<>();
+        regras.put(RECURSO_USUARIOS, Set.of(PAPEL_ADMINISTRADOR));
+        regras.put(RECURSO_PROJETOS, Set.of(PAPEL_ADMINISTRADOR, PAPEL_GERENTE));
+        regras.put(RECURSO_TAREFAS, Set.of(PAPEL_ADMINISTRADOR, PAPEL_GERENTE, PAPEL_COLABORADOR));
+        regras.put(RECURSO_EQUIPES, Set.of(PAPEL_ADMINISTRADOR));
+        regras.put(RECURSO_DASHBOARD, Set.of(PAPEL_ADMINISTRADOR, PAPEL_GERENTE, PAPEL_COLABORADOR));
+        regras.put(RECURSO_RELATORIOS, Set.of(PAPEL_ADMINISTRADOR, PAPEL_GERENTE));
+        return Collections.unmodifiableMap(regras);
+    }
+    
+    /**
+     * Obtém todos os papéis de um usuário, usando o cache de permissões
+     */
+    public Set<String> obterPapeisUsuario(Long usuarioId) throws SQLException {
         if (usuarioId == null) {
-            return papeis;
+            return new HashSet<>();
         }
         
+        return PermissionCache.getInstance().getPapeis(usuarioId, this::carregarPapeisUsuario);
+    }
+    
+    /**
+     * Carrega do banco os papéis ativos e não expirados de um usuário
+     */
+    private Set<String> carregarPapeisUsuario(Long usuarioId) throws SQLException {
+        Set<String> papeis = new HashSet<>();
+        
         List<UsuarioPapel> usuarioPapeis = usuarioPapelDAO.findByUsuarioId(usuarioId);
         
         for (UsuarioPapel usuarioPapel : usuarioPapeis) {
@@ -1,6 +1,8 @@
 package com.gestao.projetos.service;
 
+import com.gestao.projetos.model.DashboardSnapshot;
 import com.gestao.projetos.util.DatabaseUtil;
+import com.gestao.projetos.util.MetricsRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -9,14 +11,128 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
- * Serviço para coleta de dados estatísticos do dashboard
+ * Serviço para coleta de dados estatísticos do dashboard. Todas as consultas são
+ * somente leitura e usam a réplica de leitura quando configurada.
  */
 public class DashboardService {
     
     private static final Logger logger = LoggerFactory.getLogger(DashboardService.class);
     
+    private static final String PROJETOS_POR_STATUS_SQL = """
+        SELECT status, COUNT(*) AS quantidade,
+               SUM(CASE WHEN data_fim_prevista < CURRENT_DATE() 
+                        AND status NOT IN ('CONCLUIDO', 'CANCELADO') THEN 1 ELSE 0 END) AS atrasados
+        FROM projeto GROUP BY status
+        """;
+    
+    private static final String TAREFAS_POR_STATUS_SQL = """
+        SELECT status, COUNT(*) AS quantidade,
+               SUM(CASE WHEN data_fim_prevista < CURRENT_DATE() 
+                        AND status NOT IN ('CONCLUIDA', 'CANCELADA') THEN 1 ELSE 0 END) AS atrasadas
+        FROM tarefa GROUP BY status
+        """;
+    
+    private static final String USUARIOS_SQL = """
+        SELECT COUNT(*) AS total,
+               COALESCE(SUM(CASE WHEN ativo = true THEN 1 ELSE 0 END), 0) AS ativos,
+               COALESCE(SUM(CASE WHEN ativo = false THEN 1 ELSE 0 END), 0) AS inativos
+        FROM usuario
+        """;
+    
+    private static final String USUARIOS_POR_PAPEL_SQL = """
+        SELECT p.nome, COUNT(DISTINCT u.id) AS quantidade FROM usuario u 
+        INNER JOIN usuario_papel up ON u.id = up.usuario_id 
+        INNER JOIN papel p ON up.papel_id = p.id 
+        WHERE u.ativo = true 
+        GROUP BY p.nome
+        """;
+    
+    private static final String EQUIPES_SQL = """
+        SELECT (SELECT COUNT(*) FROM equipe) AS total,
+               (SELECT COUNT(DISTINCT e.id) FROM equipe e 
+                INNER JOIN equipe_membro em ON e.id = em.equipe_id 
+                INNER JOIN usuario u ON em.usuario_id = u.id 
+                WHERE u.ativo = true AND em.ativo = true) AS ativas
+        """;
+    
+    // ========== SNAPSHOT AGREGADO ==========
+    
+    /**
+     * Obtém todas as estatísticas do dashboard com poucas consultas agrupadas,
+     * executadas em uma única conexão
+     */
+    public DashboardSnapshot obterSnapshot() throws SQLException {
+        return medir("obterSnapshot", () -> obterSnapshotInterno());
+    }
+
+    private DashboardSnapshot obterSnapshotInterno() throws SQLException {
+        Map<String, Long> projetosPorStatus = new HashMap<>();
+        Map<String, Long> tarefasPorStatus = new HashMap<>();
+        Map<String, Long> usuariosPorPapel = new HashMap<>();
+        long projetosAtrasados = 0;
+        long tarefasAtrasadas = 0;
+        long totalUsuarios = 0;
+        long usuariosAtivos = 0;
+        long usuariosInativos = 0;
+        long totalEquipes = 0;
+        long equipesAtivas = 0;
+        
+        try (Connection connection = DatabaseUtil.getReadConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement(PROJETOS_POR_STATUS_SQL);
+                 ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    projetosPorStatus.put(resultSet.getString("status"), resultSet.getLong("quantidade"));
+                    projetosAtrasados += resultSet.getLong("atrasados");
+                }
+            }
+            
+            try (PreparedStatement statement = connection.prepareStatement(TAREFAS_POR_STATUS_SQL);
+                 ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    tarefasPorStatus.put(resultSet.getString("status"), resultSet.getLong("quantidade"));
+                    tarefasAtrasadas += resultSet.getLong("atrasadas");
+                }
+            }
+            
+            try (PreparedStatement statement = connection.prepareStatement(USUARIOS_SQL);
+                 ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    totalUsuarios = resultSet.getLong("total");
+                    usuariosAtivos = resultSet.getLong("ativos");
+                    usuariosInativos = resultSet.getLong("inativos");
+                }
+            }
+            
+            try (PreparedStatement statement = connection.prepareStatement(USUARIOS_POR_PAPEL_SQL);
+                 ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    usuariosPorPapel.put(resultSet.getString("nome"), resultSet.getLong("quantidade"));
+                }
+            }
+            
+            try (PreparedStatement statement = connection.prepareStatement(EQUIPES_SQL);
+                 ResultSet resultSet = statement.executeQuery()) {
+                if (resultSet.next()) {
+                    totalEquipes = resultSet.getLong("total");
+                    equipesAtivas = resultSet.getLong("ativas");
+                }
+            }
+            
+        } catch (SQLException e) {
+            logger.error("Erro ao obter snapshot do dashboard", e);
+            throw e;
+        }
+        
+        return new DashboardSnapshot(projetosPorStatus, projetosAtrasados,
+                                     tarefasPorStatus, tarefasAtrasadas,
+                                     totalUsuarios, usuariosAtivos, usuariosInativos,
+                                     usuariosPorPapel, totalEquipes, equipesAtivas);
+    }
+    
     // ========== ESTATÍSTICAS DE PROJETOS ==========
     
     /**
@@ -227,7 +343,7 @@ public class DashboardService {
      * Executa uma query de contagem
      */
     private long executarContagem(String sql) throws SQLException {
-        try (Connection connection = DatabaseUtil.getConnection();
+        try (Connection connection = DatabaseUtil.getReadConnection();
              PreparedStatement statement = connection.prepareStatement(sql);
              ResultSet resultSet = statement.executeQuery()) {
             
@@ -246,7 +362,7 @@ public class DashboardService {
      * Executa uma query de contagem com parâmetro
      */
     private long executarContagem(String sql, Object... params) throws SQLException {
-        try (Connection connection = DatabaseUtil.getConnection();
+        try (Connection connection = DatabaseUtil.getReadConnection();
              PreparedStatement statement = connection.prepareStatement(sql)) {
             
             // Definir parâmetros
@@ -275,7 +391,7 @@ public class DashboardService {
     public double obterMediaHorasTrabalhadasPorTarefa() throws SQLException {
         String sql = "SELECT COALESCE(AVG(horas_trabalhadas), 0) FROM tarefa WHERE horas_trabalhadas IS NOT NULL";
         
-        try (Connection connection = DatabaseUtil.getConnection();
+        try (Connection connection = DatabaseUtil.getReadConnection();
              PreparedStatement statement = connection.prepareStatement(sql);
              ResultSet resultSet = statement.executeQuery()) {
             
@@ -300,7 +416,7 @@ public class DashboardService {
             ) t
             """;
         
-        try (Connection connection = DatabaseUtil.getConnection();
+        try (Connection connection = DatabaseUtil.getReadConnection();
              PreparedStatement statement = connection.prepareStatement(sql);
              ResultSet resultSet = statement.executeQuery()) {
             
@@ -350,7 +466,7 @@ public class DashboardService {
             WHERE responsavel_id = ?
             """;
         
-        try (Connection connection = DatabaseUtil.getConnection();
+        try (Connection connection = DatabaseUtil.getReadConnection();
              PreparedStatement statement = connection.prepareStatement(sql)) {
             
             statement.setLong(1, usuarioId);
@@ -389,7 +505,7 @@ public class DashboardService {
             ) t
             """;
         
-        try (Connection connection = DatabaseUtil.getConnection();
+        try (Connection connection = DatabaseUtil.getReadConnection();
              PreparedStatement statement = connection.prepareStatement(sql);
              ResultSet resultSet = statement.executeQuery()) {
             
@@ -406,4 +522,8 @@ public class DashboardService {
             return "Erro ao obter data";
         }
     }
-}
\ No newline at end of file
+
+    private static <T, E extends Exception> T medir(String metodo, MetricsRegistry.Chamada<T, E> chamada) throws E {
+        return MetricsRegistry.getInstance().temporizadorServico("DashboardService", metodo).medir(chamada);
+    }
+}
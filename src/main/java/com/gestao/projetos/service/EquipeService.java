@@ -1,11 +1,18 @@
 package com.gestao.projetos.service;
 
 import com.gestao.projetos.dao.EquipeDAO;
+import com.gestao.projetos.dao.Page;
+import com.gestao.projetos.dao.PageRequest;
+import com.gestao.projetos.dao.TarefaDAO;
 import com.gestao.projetos.dao.UsuarioDAO;
 import com.gestao.projetos.dao.UsuarioPapelDAO;
 import com.gestao.projetos.model.Equipe;
 import com.gestao.projetos.model.Usuario;
+import com.gestao.projetos.util.DatabaseUtil;
+import com.gestao.projetos.util.MetricsRegistry;
+import com.gestao.projetos.util.ReadOnlyRouter;
 import com.gestao.projetos.util.SessionManager;
+import com.gestao.projetos.util.TransactionTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,12 +31,14 @@ public class EquipeService {
     private final EquipeDAO equipeDAO;
     private final UsuarioDAO usuarioDAO;
     private final UsuarioPapelDAO usuarioPapelDAO;
+    private final TarefaDAO tarefaDAO;
     private final AuthorizationService authorizationService;
 
     public EquipeService() {
         this.equipeDAO = new EquipeDAO();
         this.usuarioDAO = new UsuarioDAO();
         this.usuarioPapelDAO = new UsuarioPapelDAO();
+        this.tarefaDAO = new TarefaDAO();
         this.authorizationService = new AuthorizationService();
     }
     
@@ -37,6 +46,7 @@ public class EquipeService {
         this.equipeDAO = equipeDAO;
         this.usuarioDAO = new UsuarioDAO();
         this.usuarioPapelDAO = new UsuarioPapelDAO();
+        this.tarefaDAO = new TarefaDAO();
         this.authorizationService = new AuthorizationService();
     }
 
@@ -44,6 +54,10 @@ public class EquipeService {
      * Cria uma nova equipe
      */
     public Equipe criarEquipe(String nome, String descricao, List<Long> membrosIds, Long gerenteId) throws SQLException {
+        return medir("criarEquipe", () -> criarEquipeInterno(nome, descricao, membrosIds, gerenteId));
+    }
+
+    private Equipe criarEquipeInterno(String nome, String descricao, List<Long> membrosIds, Long gerenteId) throws SQLException {
         // Verificar permissão - apenas admin pode criar equipes
         if (!isUsuarioAdmin()) {
             throw new SecurityException("Apenas administradores podem criar equipes");
@@ -51,61 +65,68 @@ public class EquipeService {
         
         validateCreateEquipeParams(nome, membrosIds, gerenteId);
         
-        // Verificar se nome já existe
-        if (equipeDAO.existsByNome(nome)) {
-            throw new IllegalArgumentException("Já existe uma equipe com este nome");
-        }
-        
-        // Verificar se gerente não é admin
-        if (isUsuarioAdministrador(gerenteId)) {
-            throw new IllegalArgumentException("Administradores não podem ser membros de equipes");
-        }
+        // Verificações e gravação na mesma conexão e transação
+        return TransactionTemplate.executar(connection -> {
+            // Verificar se nome já existe
+            if (equipeDAO.existsByNome(nome)) {
+                throw new IllegalArgumentException("Já existe uma equipe com este nome");
+            }
         
-        // Verificar se todos os membros não são admins
-        for (Long membroId : membrosIds) {
-            if (isUsuarioAdministrador(membroId)) {
+            // Verificar se gerente não é admin
+            if (isUsuarioAdministrador(gerenteId)) {
                 throw new IllegalArgumentException("Administradores não podem ser membros de equipes");
             }
-        }
         
-        // Criar equipe
-        Equipe equipe = new Equipe(nome, descricao);
+            // Verificar se todos os membros não são admins
+            for (Long membroId : membrosIds) {
+                if (isUsuarioAdministrador(membroId)) {
+                    throw new IllegalArgumentException("Administradores não podem ser membros de equipes");
+                }
+            }
         
-        // Carregar membros
-        List<Usuario> membros = carregarUsuarios(membrosIds);
+            // Criar equipe
+            Equipe equipe = new Equipe(nome, descricao);
         
-        // Definir papéis - gerente tem papel GERENTE, outros são COLABORADOR
-        for (Usuario membro : membros) {
-            if (membro.getId().equals(gerenteId)) {
-                membro.setCargo("GERENTE"); // Usando cargo temporariamente para papel na equipe
-            } else {
-                membro.setCargo("COLABORADOR");
+            // Carregar membros
+            List<Usuario> membros = carregarUsuarios(membrosIds);
+        
+            // Definir papéis - gerente tem papel GERENTE, outros são COLABORADOR
+            for (Usuario membro : membros) {
+                if (membro.getId().equals(gerenteId)) {
+                    membro.setCargo("GERENTE"); // Usando cargo temporariamente para papel na equipe
+                } else {
+                    membro.setCargo("COLABORADOR");
+                }
             }
-        }
         
-        // Verificar se gerente está na lista de membros
-        boolean gerenteNaLista = membros.stream().anyMatch(u -> u.getId().equals(gerenteId));
-        if (!gerenteNaLista) {
-            Optional<Usuario> gerenteOpt = usuarioDAO.findById(gerenteId);
-            if (gerenteOpt.isPresent()) {
-                Usuario gerente = gerenteOpt.get();
-                gerente.setCargo("GERENTE");
-                membros.add(gerente);
+            // Verificar se gerente está na lista de membros
+            boolean gerenteNaLista = membros.stream().anyMatch(u -> u.getId().equals(gerenteId));
+            if (!gerenteNaLista) {
+                Optional<Usuario> gerenteOpt = usuarioDAO.findById(gerenteId);
+                if (gerenteOpt.isPresent()) {
+                    Usuario gerente = gerenteOpt.get();
+                    gerente.setCargo("GERENTE");
+                    membros.add(gerente);
+                }
             }
-        }
         
-        equipe.setMembros(membros);
+            equipe.setMembros(membros);
         
-        Equipe equipeSalva = equipeDAO.save(equipe);
-        logger.info("Equipe criada com sucesso: {} (ID: {})", equipeSalva.getNome(), equipeSalva.getId());
+            Equipe equipeSalva = equipeDAO.save(equipe);
+            logger.info("Equipe criada com sucesso: {} (ID: {})", equipeSalva.getNome(), equipeSalva.getId());
         
-        return equipeSalva;
+            return equipeSalva;
+        });
     }
 
     /**
      * Atualiza uma equipe existente
      */
     public Equipe atualizarEquipe(Long id, String nome, String descricao, List<Long> membrosIds, Long gerenteId) throws SQLException {
+        return medir("atualizarEquipe", () -> atualizarEquipeInterno(id, nome, descricao, membrosIds, gerenteId));
+    }
+
+    private Equipe atualizarEquipeInterno(Long id, String nome, String descricao, List<Long> membrosIds, Long gerenteId) throws SQLException {
         // Verificar permissão - apenas admin pode atualizar equipes
         if (!isUsuarioAdmin()) {
             throw new SecurityException("Apenas administradores podem atualizar equipes");
@@ -113,68 +134,75 @@ public class EquipeService {
         
         validateUpdateEquipeParams(id, nome, membrosIds, gerenteId);
         
-        // Verificar se equipe existe
-        Optional<Equipe> equipeExistente = equipeDAO.findById(id);
-        if (!equipeExistente.isPresent()) {
-            throw new IllegalArgumentException("Equipe não encontrada");
-        }
-        
-        // Verificar se nome já existe para outra equipe
-        if (equipeDAO.existsByNomeForOtherEquipe(nome, id)) {
-            throw new IllegalArgumentException("Já existe outra equipe com este nome");
-        }
+        // Verificações e gravação na mesma conexão e transação
+        return TransactionTemplate.executar(connection -> {
+            // Verificar se equipe existe
+            Optional<Equipe> equipeExistente = equipeDAO.findById(id);
+            if (!equipeExistente.isPresent()) {
+                throw new IllegalArgumentException("Equipe não encontrada");
+            }
         
-        // Verificar se gerente não é admin
-        if (isUsuarioAdministrador(gerenteId)) {
-            throw new IllegalArgumentException("Administradores não podem ser membros de equipes");
-        }
+            // Verificar se nome já existe para outra equipe
+            if (equipeDAO.existsByNomeForOtherEquipe(nome, id)) {
+                throw new IllegalArgumentException("Já existe outra equipe com este nome");
+            }
         
-        // Verificar se todos os membros não são admins
-        for (Long membroId : membrosIds) {
-            if (isUsuarioAdministrador(membroId)) {
+            // Verificar se gerente não é admin
+            if (isUsuarioAdministrador(gerenteId)) {
                 throw new IllegalArgumentException("Administradores não podem ser membros de equipes");
             }
-        }
         
-        Equipe equipe = equipeExistente.get();
-        equipe.setNome(nome);
-        equipe.setDescricao(descricao);
+            // Verificar se todos os membros não são admins
+            for (Long membroId : membrosIds) {
+                if (isUsuarioAdministrador(membroId)) {
+                    throw new IllegalArgumentException("Administradores não podem ser membros de equipes");
+                }
+            }
         
-        // Carregar novos membros
-        List<Usuario> membros = carregarUsuarios(membrosIds);
+            Equipe equipe = equipeExistente.get();
+            equipe.setNome(nome);
+            equipe.setDescricao(descricao);
         
-        // Definir papéis
-        for (Usuario membro : membros) {
-            if (membro.getId().equals(gerenteId)) {
-                membro.setCargo("GERENTE");
-            } else {
-                membro.setCargo("COLABORADOR");
+            // Carregar novos membros
+            List<Usuario> membros = carregarUsuarios(membrosIds);
+        
+            // Definir papéis
+            for (Usuario membro : membros) {
+                if (membro.getId().equals(gerenteId)) {
+                    membro.setCargo("GERENTE");
+                } else {
+                    membro.setCargo("COLABORADOR");
+                }
             }
-        }
         
-        // Verificar se gerente está na lista de membros
-        boolean gerenteNaLista = membros.stream().anyMatch(u -> u.getId().equals(gerenteId));
-        if (!gerenteNaLista) {
-            Optional<Usuario> gerenteOpt = usuarioDAO.findById(gerenteId);
-            if (gerenteOpt.isPresent()) {
-                Usuario gerente = gerenteOpt.get();
-                gerente.setCargo("GERENTE");
-                membros.add(gerente);
+            // Verificar se gerente está na lista de membros
+            boolean gerenteNaLista = membros.stream().anyMatch(u -> u.getId().equals(gerenteId));
+            if (!gerenteNaLista) {
+                Optional<Usuario> gerenteOpt = usuarioDAO.findById(gerenteId);
+                if (gerenteOpt.isPresent()) {
+                    Usuario gerente = gerenteOpt.get();
+                    gerente.setCargo("GERENTE");
+                    membros.add(gerente);
+                }
             }
-        }
         
-        equipe.setMembros(membros);
+            equipe.setMembros(membros);
         
-        Equipe equipeAtualizada = equipeDAO.update(equipe);
-        logger.info("Equipe atualizada com sucesso: {} (ID: {})", equipeAtualizada.getNome(), equipeAtualizada.getId());
+            Equipe equipeAtualizada = equipeDAO.update(equipe);
+            logger.info("Equipe atualizada com sucesso: {} (ID: {})", equipeAtualizada.getNome(), equipeAtualizada.getId());
         
-        return equipeAtualizada;
+            return equipeAtualizada;
+        });
     }
 
     /**
      * Remove uma equipe
      */
     public void removerEquipe(Long id) throws SQLException {
+        medir("removerEquipe", () -> removerEquipeInterno(id));
+    }
+
+    private void removerEquipeInterno(Long id) throws SQLException {
         // Verificar permissão - apenas admin pode remover equipes
         if (!isUsuarioAdmin()) {
             throw new SecurityException("Apenas administradores podem remover equipes");
@@ -193,6 +221,13 @@ public class EquipeService {
         logger.info("Equipe removida com sucesso (ID: {})", id);
     }
 
+    /**
+     * Conta as tarefas atribuídas à equipe, que ficam sem equipe quando ela é removida
+     */
+    public long contarTarefas(Long equipeId) throws SQLException {
+        return tarefaDAO.countByEquipeId(equipeId);
+    }
+
     /**
      * Busca equipe por ID
      */
@@ -218,7 +253,62 @@ public class EquipeService {
             throw new SecurityException("Apenas administradores podem visualizar equipes");
         }
         
-        return equipeDAO.findAll();
+        return ReadOnlyRouter.executar(() -> equipeDAO.findAll());
+    }
+
+    /**
+     * Lista todas as equipes, opcionalmente sem carregar os membros
+     */
+    public List<Equipe> listarTodas(boolean incluirMembros) throws SQLException {
+        // Verificar permissão - apenas admin pode visualizar equipes
+        if (!isUsuarioAdmin()) {
+            throw new SecurityException("Apenas administradores podem visualizar equipes");
+        }
+        
+        return ReadOnlyRouter.executar(() -> equipeDAO.findAll(incluirMembros));
+    }
+
+    /**
+     * Lista uma página de equipes, ordenadas por nome, com os membros
+     */
+    public Page<Equipe> listarPagina(PageRequest pageRequest) throws SQLException {
+        return medir("listarPagina", () -> listarPaginaInterno(pageRequest));
+    }
+
+    private Page<Equipe> listarPaginaInterno(PageRequest pageRequest) throws SQLException {
+        // Verificar permissão - apenas admin pode visualizar equipes
+        if (!isUsuarioAdmin()) {
+            throw new SecurityException("Apenas administradores podem visualizar equipes");
+        }
+        
+        return ReadOnlyRouter.executar(() -> equipeDAO.findPage(pageRequest, true));
+    }
+
+    /**
+     * Conta o total de equipes
+     */
+    public long contarTodas() throws SQLException {
+        return ReadOnlyRouter.executar(() -> equipeDAO.count());
+    }
+
+    /**
+     * Pesquisa equipes por nome ou descrição
+     */
+    public List<Equipe> pesquisar(String termo) throws SQLException {
+        return medir("pesquisar", () -> pesquisarInterno(termo));
+    }
+
+    private List<Equipe> pesquisarInterno(String termo) throws SQLException {
+        // Verificar permissão - apenas admin pode visualizar equipes
+        if (!isUsuarioAdmin()) {
+            throw new SecurityException("Apenas administradores podem visualizar equipes");
+        }
+        
+        if (termo == null || termo.trim().isEmpty()) {
+            return ReadOnlyRouter.executar(() -> equipeDAO.findAll());
+        }
+        
+        return ReadOnlyRouter.executar(() -> equipeDAO.pesquisar(termo.trim(), DatabaseUtil.DEFAULT_SEARCH_LIMIT));
     }
 
     /**
@@ -230,7 +320,7 @@ public class EquipeService {
             throw new SecurityException("Apenas administradores podem visualizar equipes");
         }
         
-        return equipeDAO.findAllActive();
+        return ReadOnlyRouter.executar(() -> equipeDAO.findAllActive());
     }
 
     /**
@@ -365,4 +455,12 @@ public class EquipeService {
         
         validateCreateEquipeParams(nome, membrosIds, gerenteId);
     }
-}
\ No newline at end of file
+
+    private static <T, E extends Exception> T medir(String metodo, MetricsRegistry.Chamada<T, E> chamada) throws E {
+        return MetricsRegistry.getInstance().temporizadorServico("EquipeService", metodo).medir(chamada);
+    }
+
+    private static <E extends Exception> void medir(String metodo, MetricsRegistry.Acao<E> acao) throws E {
+        MetricsRegistry.getInstance().temporizadorServico("EquipeService", metodo).medir(acao);
+    }
+}
@@ -1,9 +1,15 @@
 
 package com.gestao.projetos.service;
 
+import com.gestao.projetos.dao.Page;
+import com.gestao.projetos.dao.PageRequest;
 import com.gestao.projetos.dao.ProjetoDAO;
+import com.gestao.projetos.dao.TarefaDAO;
 import com.gestao.projetos.model.Projeto;
 import com.gestao.projetos.model.Equipe;
+import com.gestao.projetos.util.DatabaseUtil;
+import com.gestao.projetos.util.MetricsRegistry;
+import com.gestao.projetos.util.ReadOnlyRouter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -18,15 +24,21 @@ public class ProjetoService {
     
     private static final Logger logger = LoggerFactory.getLogger(ProjetoService.class);
     private final ProjetoDAO projetoDAO;
+    private final TarefaDAO tarefaDAO;
 
     public ProjetoService() {
         this.projetoDAO = new ProjetoDAO();
+        this.tarefaDAO = new TarefaDAO();
     }
 
     /**
      * Cria um novo projeto
      */
     public Projeto criar(Projeto projeto) throws SQLException {
+        return medir("criar", () -> criarInterno(projeto));
+    }
+
+    private Projeto criarInterno(Projeto projeto) throws SQLException {
         logger.info("Criando novo projeto: {}", projeto.getNome());
         return projetoDAO.save(projeto);
     }
@@ -35,6 +47,10 @@ public class ProjetoService {
      * Atualiza um projeto existente
      */
     public Projeto atualizar(Projeto projeto) throws SQLException {
+        return medir("atualizar", () -> atualizarInterno(projeto));
+    }
+
+    private Projeto atualizarInterno(Projeto projeto) throws SQLException {
         logger.info("Atualizando projeto ID: {}", projeto.getId());
         return projetoDAO.update(projeto);
     }
@@ -52,16 +68,33 @@ public class ProjetoService {
      */
     public List<Projeto> listarTodos() throws SQLException {
         logger.debug("Listando todos os projetos");
-        return projetoDAO.findAll();
+        return ReadOnlyRouter.executar(() -> projetoDAO.findAll());
+    }
+
+    /**
+     * Lista uma página de projetos, ordenados por nome
+     */
+    public Page<Projeto> listarPagina(PageRequest pageRequest) throws SQLException {
+        return medir("listarPagina", () -> listarPaginaInterno(pageRequest));
+    }
+
+    private Page<Projeto> listarPaginaInterno(PageRequest pageRequest) throws SQLException {
+        return ReadOnlyRouter.executar(() -> projetoDAO.findPage(pageRequest));
     }
 
     /**
      * Pesquisa projetos por termo
      */
     public List<Projeto> pesquisar(String termo) throws SQLException {
+        return medir("pesquisar", () -> pesquisarInterno(termo));
+    }
+
+    private List<Projeto> pesquisarInterno(String termo) throws SQLException {
         logger.debug("Pesquisando projetos com termo: {}", termo);
-        // Implementar pesquisa no DAO
-        return projetoDAO.findAll(); // Por enquanto retorna todos
+        if (termo == null || termo.trim().isEmpty()) {
+            return ReadOnlyRouter.executar(() -> projetoDAO.findAll());
+        }
+        return ReadOnlyRouter.executar(() -> projetoDAO.pesquisar(termo, DatabaseUtil.DEFAULT_SEARCH_LIMIT));
     }
 
     /**
@@ -69,7 +102,7 @@ public class ProjetoService {
      */
     public List<Projeto> listarPorStatus(String status) throws SQLException {
         logger.debug("Listando projetos por status: {}", status);
-        return projetoDAO.findByStatus(status);
+        return ReadOnlyRouter.executar(() -> projetoDAO.findByStatus(status));
     }
 
     /**
@@ -77,7 +110,7 @@ public class ProjetoService {
      */
     public List<Projeto> listarPorGerente(Long gerenteId) throws SQLException {
         logger.debug("Listando projetos por gerente ID: {}", gerenteId);
-        return projetoDAO.findByGerente(gerenteId);
+        return ReadOnlyRouter.executar(() -> projetoDAO.findByGerente(gerenteId));
     }
 
     /**
@@ -85,17 +118,28 @@ public class ProjetoService {
      */
     public List<Projeto> listarAtrasados() throws SQLException {
         logger.debug("Listando projetos atrasados");
-        return projetoDAO.findAtrasados();
+        return ReadOnlyRouter.executar(() -> projetoDAO.findAtrasados());
     }
 
     /**
      * Exclui um projeto
      */
     public void excluir(Long id) throws SQLException {
+        medir("excluir", () -> excluirInterno(id));
+    }
+
+    private void excluirInterno(Long id) throws SQLException {
         logger.info("Excluindo projeto ID: {}", id);
         projetoDAO.delete(id);
     }
 
+    /**
+     * Conta as tarefas do projeto, que são excluídas junto com ele
+     */
+    public long contarTarefas(Long projetoId) throws SQLException {
+        return tarefaDAO.countByProjetoId(projetoId);
+    }
+
     /**
      * Atribui uma equipe a um projeto
      */
@@ -118,7 +162,7 @@ public class ProjetoService {
      */
     public List<Equipe> listarEquipesProjeto(Long projetoId) throws SQLException {
         logger.debug("Listando equipes do projeto ID: {}", projetoId);
-        return projetoDAO.findEquipesByProjeto(projetoId);
+        return ReadOnlyRouter.executar(() -> projetoDAO.findEquipesByProjeto(projetoId));
     }
 
     /**
@@ -132,7 +176,7 @@ public class ProjetoService {
      * Conta o total de projetos
      */
     public long contarTodos() throws SQLException {
-        return projetoDAO.count();
+        return ReadOnlyRouter.executar(() -> projetoDAO.count());
     }
 
     /**
@@ -151,4 +195,12 @@ public class ProjetoService {
             return false;
         }
     }
+
+    private static <T, E extends Exception> T medir(String metodo, MetricsRegistry.Chamada<T, E> chamada) throws E {
+        return MetricsRegistry.getInstance().temporizadorServico("ProjetoService", metodo).medir(chamada);
+    }
+
+    private static <E extends Exception> void medir(String metodo, MetricsRegistry.Acao<E> acao) throws E {
+        MetricsRegistry.getInstance().temporizadorServico("ProjetoService", metodo).medir(acao);
+    }
 }
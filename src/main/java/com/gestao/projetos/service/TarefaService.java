@@ -1,24 +1,41 @@
 package com.gestao.projetos.service;
 
+import com.gestao.projetos.dao.FiltroTarefa;
+import com.gestao.projetos.dao.HistoricoTarefaDAO;
+import com.gestao.projetos.dao.Page;
+import com.gestao.projetos.dao.PageRequest;
 import com.gestao.projetos.dao.TarefaDAO;
+import com.gestao.projetos.model.HistoricoTarefa;
 import com.gestao.projetos.model.StatusTarefa;
 import com.gestao.projetos.model.Tarefa;
+import com.gestao.projetos.util.CsvUtil;
+import com.gestao.projetos.util.DatabaseUtil;
+import com.gestao.projetos.util.MetricsRegistry;
+import com.gestao.projetos.util.ReadOnlyRouter;
+import com.gestao.projetos.util.SearchIndexManager;
+import com.gestao.projetos.util.SessionManager;
 import com.gestao.projetos.util.ValidationUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 public class TarefaService {
 
     private static final Logger logger = LoggerFactory.getLogger(TarefaService.class);
     private final TarefaDAO tarefaDAO;
+    private final HistoricoTarefaDAO historicoTarefaDAO;
 
     public TarefaService() {
         this.tarefaDAO = new TarefaDAO();
+        this.historicoTarefaDAO = new HistoricoTarefaDAO();
     }
 
     private void validarTarefa(Tarefa tarefa) {
@@ -34,6 +51,10 @@ public class TarefaService {
     }
 
     public Tarefa salvar(Tarefa tarefa) throws SQLException {
+        return medir("salvar", () -> salvarInterno(tarefa));
+    }
+
+    private Tarefa salvarInterno(Tarefa tarefa) throws SQLException {
         if (tarefa == null) {
             throw new IllegalArgumentException("O objeto Tarefa não pode ser nulo.");
         }
@@ -42,19 +63,93 @@ public class TarefaService {
         return tarefaDAO.save(tarefa);
     }
 
+    /**
+     * Atualiza a tarefa gravando no histórico apenas os campos alterados.
+     * A comparação usa o estado guardado quando a tarefa foi carregada; o banco
+     * só é lido de novo se a tarefa não veio do DAO.
+     */
     public Tarefa atualizar(Tarefa tarefa) throws SQLException {
+        return medir("atualizar", () -> atualizarInterno(tarefa));
+    }
+
+    private Tarefa atualizarInterno(Tarefa tarefa) throws SQLException {
         if (tarefa == null || tarefa.getId() == null) {
             throw new IllegalArgumentException("Tarefa ou ID da tarefa não pode ser nulo para atualização.");
         }
-        if (!tarefaDAO.exists(tarefa.getId())) {
-            throw new IllegalArgumentException("Tarefa não encontrada para o ID: " + tarefa.getId());
+        Tarefa anterior = tarefa.getEstadoPersistido();
+        if (anterior == null) {
+            anterior = tarefaDAO.findById(tarefa.getId())
+                .orElseThrow(() -> new IllegalArgumentException("Tarefa não encontrada para o ID: " + tarefa.getId()));
         }
         validarTarefa(tarefa);
         logger.info("Atualizando tarefa ID {}: {}", tarefa.getId(), tarefa.getTitulo());
-        return tarefaDAO.update(tarefa);
+
+        List<HistoricoTarefa> alteracoes = calcularAlteracoes(anterior, tarefa);
+        if (!tarefaDAO.update(tarefa, alteracoes)) {
+            throw new IllegalArgumentException("Tarefa não encontrada para o ID: " + tarefa.getId());
+        }
+        logger.debug("{} campos alterados registrados no histórico da tarefa ID {}", alteracoes.size(), tarefa.getId());
+        return tarefa;
+    }
+
+    /**
+     * Lista o histórico de alterações da tarefa, da mais recente para a mais antiga
+     */
+    public List<HistoricoTarefa> listarHistorico(Long tarefaId) throws SQLException {
+        if (tarefaId == null || tarefaId <= 0) {
+            throw new IllegalArgumentException("ID de tarefa inválido.");
+        }
+        return ReadOnlyRouter.executar(() -> historicoTarefaDAO.findByTarefaId(tarefaId));
+    }
+
+    /**
+     * Compara campo a campo o estado anterior com o novo; os nomes dos campos são os das colunas
+     */
+    private List<HistoricoTarefa> calcularAlteracoes(Tarefa anterior, Tarefa nova) {
+        List<HistoricoTarefa> alteracoes = new ArrayList<>();
+        Long usuarioId = SessionManager.getInstance().getCurrentUserId();
+        if (usuarioId == null) {
+            logger.warn("Tarefa ID {} atualizada sem usuário na sessão; histórico não registrado", nova.getId());
+            return alteracoes;
+        }
+
+        adicionarSeAlterado(alteracoes, nova, usuarioId, "titulo", anterior.getTitulo(), nova.getTitulo());
+        adicionarSeAlterado(alteracoes, nova, usuarioId, "descricao", anterior.getDescricao(), nova.getDescricao());
+        adicionarSeAlterado(alteracoes, nova, usuarioId, "status",
+                            anterior.getStatus() != null ? anterior.getStatus().getCodigo() : null,
+                            nova.getStatus() != null ? nova.getStatus().getCodigo() : null);
+        adicionarSeAlterado(alteracoes, nova, usuarioId, "prioridade", anterior.getPrioridade(), nova.getPrioridade());
+        adicionarSeAlterado(alteracoes, nova, usuarioId, "estimativa_horas",
+                            anterior.getEstimativaHoras(), nova.getEstimativaHoras());
+        adicionarSeAlterado(alteracoes, nova, usuarioId, "horas_trabalhadas",
+                            anterior.getHorasTrabalhadas(), nova.getHorasTrabalhadas());
+        adicionarSeAlterado(alteracoes, nova, usuarioId, "data_inicio",
+                            anterior.getDataInicioPrevista(), nova.getDataInicioPrevista());
+        adicionarSeAlterado(alteracoes, nova, usuarioId, "data_fim_prevista",
+                            anterior.getDataFimPrevista(), nova.getDataFimPrevista());
+        adicionarSeAlterado(alteracoes, nova, usuarioId, "data_fim_real",
+                            anterior.getDataFimReal(), nova.getDataFimReal());
+        adicionarSeAlterado(alteracoes, nova, usuarioId, "projeto_id", anterior.getProjetoId(), nova.getProjetoId());
+        adicionarSeAlterado(alteracoes, nova, usuarioId, "responsavel_id",
+                            anterior.getResponsavelId(), nova.getResponsavelId());
+        adicionarSeAlterado(alteracoes, nova, usuarioId, "equipe_id", anterior.getEquipeId(), nova.getEquipeId());
+        return alteracoes;
+    }
+
+    private void adicionarSeAlterado(List<HistoricoTarefa> alteracoes, Tarefa tarefa, Long usuarioId,
+                                     String campo, Object valorAnterior, Object valorNovo) {
+        if (!Objects.equals(valorAnterior, valorNovo)) {
+            alteracoes.add(new HistoricoTarefa(tarefa.getId(), usuarioId, campo,
+                                               valorAnterior != null ? valorAnterior.toString() : null,
+                                               valorNovo != null ? valorNovo.toString() : null));
+        }
     }
 
     public void remover(Long id) throws SQLException {
+        medir("remover", () -> removerInterno(id));
+    }
+
+    private void removerInterno(Long id) throws SQLException {
         if (id == null || id <= 0) {
             throw new IllegalArgumentException("ID de tarefa inválido.");
         }
@@ -65,6 +160,88 @@ public class TarefaService {
         tarefaDAO.delete(id);
     }
 
+    /**
+     * Altera o status de todas as tarefas do filtro em uma única transação, com histórico
+     *
+     * @return Quantidade de tarefas alteradas
+     */
+    public int alterarStatusEmMassa(FiltroTarefa filtro, StatusTarefa status) throws SQLException {
+        return medir("alterarStatusEmMassa", () -> alterarStatusEmMassaInterno(filtro, status));
+    }
+
+    private int alterarStatusEmMassaInterno(FiltroTarefa filtro, StatusTarefa status) throws SQLException {
+        if (filtro == null || status == null) {
+            throw new IllegalArgumentException("Filtro e status são obrigatórios.");
+        }
+        logger.info("Alterando status para {} em massa: {}", status, filtro);
+        return tarefaDAO.updateStatusEmMassa(filtro, status, usuarioDoHistoricoEmMassa());
+    }
+
+    /**
+     * Atribui o responsável (null remove a atribuição) a todas as tarefas do filtro, com histórico
+     *
+     * @return Quantidade de tarefas alteradas
+     */
+    public int atribuirResponsavelEmMassa(FiltroTarefa filtro, Long responsavelId) throws SQLException {
+        return medir("atribuirResponsavelEmMassa", () -> atribuirResponsavelEmMassaInterno(filtro, responsavelId));
+    }
+
+    private int atribuirResponsavelEmMassaInterno(FiltroTarefa filtro, Long responsavelId) throws SQLException {
+        if (filtro == null) {
+            throw new IllegalArgumentException("Filtro é obrigatório.");
+        }
+        if (responsavelId != null && responsavelId <= 0) {
+            throw new IllegalArgumentException("ID do responsável inválido.");
+        }
+        logger.info("Atribuindo responsável ID {} em massa: {}", responsavelId, filtro);
+        return tarefaDAO.updateResponsavelEmMassa(filtro, responsavelId, usuarioDoHistoricoEmMassa());
+    }
+
+    /**
+     * Atribui a equipe (null remove a atribuição) a todas as tarefas do filtro, com histórico
+     *
+     * @return Quantidade de tarefas alteradas
+     */
+    public int atribuirEquipeEmMassa(FiltroTarefa filtro, Long equipeId) throws SQLException {
+        return medir("atribuirEquipeEmMassa", () -> atribuirEquipeEmMassaInterno(filtro, equipeId));
+    }
+
+    private int atribuirEquipeEmMassaInterno(FiltroTarefa filtro, Long equipeId) throws SQLException {
+        if (filtro == null) {
+            throw new IllegalArgumentException("Filtro é obrigatório.");
+        }
+        if (equipeId != null && equipeId <= 0) {
+            throw new IllegalArgumentException("ID da equipe inválido.");
+        }
+        logger.info("Atribuindo equipe ID {} em massa: {}", equipeId, filtro);
+        return tarefaDAO.updateEquipeEmMassa(filtro, equipeId, usuarioDoHistoricoEmMassa());
+    }
+
+    /**
+     * Exclui todas as tarefas do filtro em uma única transação, sem consultar cada tarefa antes
+     *
+     * @return Quantidade de tarefas excluídas
+     */
+    public int removerEmMassa(FiltroTarefa filtro) throws SQLException {
+        return medir("removerEmMassa", () -> removerEmMassaInterno(filtro));
+    }
+
+    private int removerEmMassaInterno(FiltroTarefa filtro) throws SQLException {
+        if (filtro == null) {
+            throw new IllegalArgumentException("Filtro é obrigatório.");
+        }
+        logger.info("Removendo tarefas em massa: {}", filtro);
+        return tarefaDAO.deleteEmMassa(filtro);
+    }
+
+    private Long usuarioDoHistoricoEmMassa() {
+        Long usuarioId = SessionManager.getInstance().getCurrentUserId();
+        if (usuarioId == null) {
+            logger.warn("Operação em massa sem usuário na sessão; histórico não registrado");
+        }
+        return usuarioId;
+    }
+
     public Optional<Tarefa> buscarPorId(Long id) throws SQLException {
         if (id == null || id <= 0) {
             return Optional.empty();
@@ -73,21 +250,88 @@ public class TarefaService {
     }
 
     public List<Tarefa> listarTodas() throws SQLException {
-        return tarefaDAO.findAll();
+        return ReadOnlyRouter.executar(() -> tarefaDAO.findAll());
+    }
+
+    public Page<Tarefa> listarPagina(PageRequest pageRequest) throws SQLException {
+        return medir("listarPagina", () -> listarPaginaInterno(pageRequest));
+    }
+
+    private Page<Tarefa> listarPaginaInterno(PageRequest pageRequest) throws SQLException {
+        return ReadOnlyRouter.executar(() -> tarefaDAO.findPage(pageRequest));
+    }
+
+    public long contarTodas() throws SQLException {
+        return ReadOnlyRouter.executar(() -> tarefaDAO.count());
+    }
+
+    public Page<Tarefa> listarPagina(FiltroTarefa filtro, PageRequest pageRequest) throws SQLException {
+        return medir("listarPaginaFiltrada", () -> listarPaginaInterno(filtro, pageRequest));
+    }
+
+    private Page<Tarefa> listarPaginaInterno(FiltroTarefa filtro, PageRequest pageRequest) throws SQLException {
+        return ReadOnlyRouter.executar(() -> tarefaDAO.findPage(filtro, pageRequest));
+    }
+
+    public long contar(FiltroTarefa filtro) throws SQLException {
+        return ReadOnlyRouter.executar(() -> tarefaDAO.count(filtro));
+    }
+
+    /**
+     * Exporta todas as tarefas em CSV, lendo-as do banco em streaming (memória constante)
+     *
+     * @return Quantidade de tarefas exportadas
+     */
+    public long exportarCsv(Writer writer) throws SQLException, IOException {
+        // Medição explícita: medir(...) não propaga IOException e SQLException juntas
+        MetricsRegistry.Medicao medicao = MetricsRegistry.getInstance()
+            .temporizadorServico("TarefaService", "exportarCsv").iniciar();
+        try {
+            return exportarCsvInterno(writer);
+        } finally {
+            medicao.close();
+        }
+    }
+
+    private long exportarCsvInterno(Writer writer) throws SQLException, IOException {
+        CsvUtil.escreverLinha(writer, "id", "titulo", "status", "prioridade", "estimativa_horas",
+                              "horas_trabalhadas", "data_inicio", "data_fim_prevista", "data_fim_real",
+                              "projeto_id", "responsavel_id", "equipe_id");
+        try {
+            long total = tarefaDAO.forEach(tarefa -> {
+                try {
+                    CsvUtil.escreverLinha(writer, tarefa.getId(), tarefa.getTitulo(), tarefa.getStatus().getCodigo(),
+                                          tarefa.getPrioridade(), tarefa.getEstimativaHoras(),
+                                          tarefa.getHorasTrabalhadas(), tarefa.getDataInicioPrevista(),
+                                          tarefa.getDataFimPrevista(), tarefa.getDataFimReal(),
+                                          tarefa.getProjetoId(), tarefa.getResponsavelId(), tarefa.getEquipeId());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+            logger.info("Exportadas {} tarefas em CSV", total);
+            return total;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
     }
 
     public List<Tarefa> pesquisar(String termo) throws SQLException {
+        return medir("pesquisar", () -> pesquisarInterno(termo));
+    }
+
+    private List<Tarefa> pesquisarInterno(String termo) throws SQLException {
         if (!ValidationUtil.isNotEmpty(termo)) {
             return listarTodas();
         }
 
-        List<Tarefa> todas = listarTodas();
-        String termoBusca = termo.toLowerCase().trim();
-
-        return todas.stream()
-                .filter(t -> t.getTitulo().toLowerCase().contains(termoBusca) ||
-                        (t.getDescricao() != null && t.getDescricao().toLowerCase().contains(termoBusca)))
-                .collect(Collectors.toList());
+        List<Long> ids = SearchIndexManager.getInstance().getTarefas()
+                .pesquisar(termo, DatabaseUtil.DEFAULT_SEARCH_LIMIT);
+        if (ids != null) {
+            return ReadOnlyRouter.executar(() -> tarefaDAO.findByIds(ids));
+        }
+        return ReadOnlyRouter.executar(() -> tarefaDAO.pesquisar(termo, DatabaseUtil.DEFAULT_SEARCH_LIMIT));
     }
 
     public List<Tarefa> listarPorProjeto(Long projetoId) throws SQLException {
@@ -95,7 +339,7 @@ public class TarefaService {
             throw new IllegalArgumentException("ID do projeto é obrigatório e deve ser maior que zero.");
         }
         logger.info("Listando tarefas do projeto ID: {}", projetoId);
-        return tarefaDAO.findByProjectoId(projetoId);
+        return ReadOnlyRouter.executar(() -> tarefaDAO.findByProjectoId(projetoId));
     }
 
     public List<Tarefa> listarPorEquipe(Long equipeId) throws SQLException {
@@ -103,7 +347,7 @@ public class TarefaService {
             throw new IllegalArgumentException("ID da equipe é obrigatório e deve ser maior que zero.");
         }
         logger.info("Listando tarefas da equipe ID: {}", equipeId);
-        return tarefaDAO.findByEquipeId(equipeId);
+        return ReadOnlyRouter.executar(() -> tarefaDAO.findByEquipeId(equipeId));
     }
 
     public List<Tarefa> listarPorStatus(StatusTarefa status) throws SQLException {
@@ -111,7 +355,7 @@ public class TarefaService {
             throw new IllegalArgumentException("Status é obrigatório.");
         }
         logger.info("Listando tarefas com status: {}", status);
-        return tarefaDAO.findByStatus(status);
+        return ReadOnlyRouter.executar(() -> tarefaDAO.findByStatus(status));
     }
 
     public List<Tarefa> listarPorResponsavel(Long responsavelId) throws SQLException {
@@ -119,26 +363,55 @@ public class TarefaService {
             throw new IllegalArgumentException("ID do responsável é obrigatório e deve ser maior que zero.");
         }
         logger.info("Listando tarefas do responsável ID: {}", responsavelId);
-        return tarefaDAO.findByResponsavelId(responsavelId);
+        return ReadOnlyRouter.executar(() -> tarefaDAO.findByResponsavelId(responsavelId));
     }
 
     public List<Tarefa> listarTarefasAtrasadas() throws SQLException {
         logger.info("Listando tarefas atrasadas");
-        return tarefaDAO.findTarefasAtrasadas();
+        return ReadOnlyRouter.executar(() -> tarefaDAO.findTarefasAtrasadas());
     }
 
     public boolean existeResponsavelAssociado(Long responsavelId) throws SQLException {
-        List<Tarefa> tarefas = listarPorResponsavel(responsavelId);
-        return !tarefas.isEmpty();
+        validarIdAssociado(responsavelId, "ID do responsável");
+        return tarefaDAO.existsByResponsavelId(responsavelId);
     }
 
     public boolean existeProjetoAssociado(Long projetoId) throws SQLException {
-        List<Tarefa> tarefas = listarPorProjeto(projetoId);
-        return !tarefas.isEmpty();
+        validarIdAssociado(projetoId, "ID do projeto");
+        return tarefaDAO.existsByProjetoId(projetoId);
     }
 
     public boolean existeEquipeAssociada(Long equipeId) throws SQLException {
-        List<Tarefa> tarefas = listarPorEquipe(equipeId);
-        return !tarefas.isEmpty();
+        validarIdAssociado(equipeId, "ID da equipe");
+        return tarefaDAO.existsByEquipeId(equipeId);
+    }
+
+    public long contarPorProjeto(Long projetoId) throws SQLException {
+        validarIdAssociado(projetoId, "ID do projeto");
+        return tarefaDAO.countByProjetoId(projetoId);
+    }
+
+    public long contarPorEquipe(Long equipeId) throws SQLException {
+        validarIdAssociado(equipeId, "ID da equipe");
+        return tarefaDAO.countByEquipeId(equipeId);
+    }
+
+    public long contarPorResponsavel(Long responsavelId) throws SQLException {
+        validarIdAssociado(responsavelId, "ID do responsável");
+        return tarefaDAO.countByResponsavelId(responsavelId);
+    }
+
+    private void validarIdAssociado(Long id, String descricao) {
+        if (id == null || id <= 0) {
+            throw new IllegalArgumentException(descricao + " é obrigatório e deve ser maior que zero.");
+        }
+    }
+
+    private static <T, E extends Exception> T medir(String metodo, MetricsRegistry.Chamada<T, E> chamada) throws E {
+        return MetricsRegistry.getInstance().temporizadorServico("TarefaService", metodo).medir(chamada);
+    }
+
+    private static <E extends Exception> void medir(String metodo, MetricsRegistry.Acao<E> acao) throws E {
+        MetricsRegistry.getInstance().temporizadorServico("TarefaService", metodo).medir(acao);
     }
 }
\ No newline at end of file
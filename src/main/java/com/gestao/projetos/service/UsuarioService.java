@@ -2,16 +2,33 @@ package com.gestao.projetos.service;
 
 import com.gestao.projetos.dao.*;
 import com.gestao.projetos.model.*;
+import com.gestao.projetos.util.CsvUtil;
 import com.gestao.projetos.util.DatabaseUtil;
+import com.gestao.projetos.util.MetricsRegistry;
+import com.gestao.projetos.util.PasswordHasher;
+import com.gestao.projetos.util.PermissionCache;
+import com.gestao.projetos.util.ReadOnlyRouter;
+import com.gestao.projetos.util.SearchIndexManager;
+import com.gestao.projetos.util.TransactionTemplate;
 import com.gestao.projetos.util.ValidationUtil;
-import org.mindrot.jbcrypt.BCrypt;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
 
 /**
  * Serviço para operações relacionadas a usuários
@@ -19,16 +36,38 @@ import java.util.Optional;
 public class UsuarioService {
     
     private static final Logger logger = LoggerFactory.getLogger(UsuarioService.class);
+    
+    // Custo de BCrypt.gensalt() sem parâmetros, mantido para as senhas criadas por este serviço
+    private static final int CUSTO_BCRYPT = 10;
+    
+    // Registros por lote na importação CSV: cada lote é uma consulta de duplicatas e uma transação
+    private static final int TAMANHO_LOTE_IMPORTACAO = Integer.getInteger("importacao.tamanhoLote", 500);
+    
+    private static final String COLUNA_NOME = "nome";
+    private static final String COLUNA_CPF = "cpf";
+    private static final String COLUNA_EMAIL = "email";
+    private static final String COLUNA_CARGO = "cargo";
+    private static final String COLUNA_LOGIN = "login";
+    private static final String COLUNA_SENHA = "senha";
+    private static final String COLUNA_PAPEIS = "papeis";
+    private static final List<String> COLUNAS_OBRIGATORIAS =
+        List.of(COLUNA_NOME, COLUNA_CPF, COLUNA_EMAIL, COLUNA_LOGIN, COLUNA_SENHA, COLUNA_PAPEIS);
+    
     private final UsuarioDAO usuarioDAO;
     private final CredencialDAO credencialDAO;
     private final PapelDAO papelDAO;
     private final UsuarioPapelDAO usuarioPapelDAO;
+    private final TarefaDAO tarefaDAO;
+    private final HistoricoTarefaDAO historicoTarefaDAO;
+    private final PasswordHasher passwordHasher = PasswordHasher.getInstance();
 
     public UsuarioService() {
         this.usuarioDAO = new UsuarioDAO();
         this.credencialDAO = new CredencialDAO();
         this.papelDAO = new PapelDAO();
         this.usuarioPapelDAO = new UsuarioPapelDAO();
+        this.tarefaDAO = new TarefaDAO();
+        this.historicoTarefaDAO = new HistoricoTarefaDAO();
     }
     
     public UsuarioService(UsuarioDAO usuarioDAO) {
@@ -36,12 +75,18 @@ public class UsuarioService {
         this.credencialDAO = new CredencialDAO();
         this.papelDAO = new PapelDAO();
         this.usuarioPapelDAO = new UsuarioPapelDAO();
+        this.tarefaDAO = new TarefaDAO();
+        this.historicoTarefaDAO = new HistoricoTarefaDAO();
     }
 
     /**
      * Salva um novo usuário
      */
     public Usuario salvar(Usuario usuario) throws SQLException {
+        return medir("salvar", () -> salvarInterno(usuario));
+    }
+
+    private Usuario salvarInterno(Usuario usuario) throws SQLException {
         if (usuario == null) {
             throw new IllegalArgumentException("Usuário não pode ser nulo");
         }
@@ -60,6 +105,10 @@ public class UsuarioService {
      * Atualiza um usuário existente
      */
     public Usuario atualizar(Usuario usuario) throws SQLException {
+        return medir("atualizar", () -> atualizarInterno(usuario));
+    }
+
+    private Usuario atualizarInterno(Usuario usuario) throws SQLException {
         if (usuario == null || usuario.getId() == null) {
             throw new IllegalArgumentException("Usuário ou ID não pode ser nulo");
         }
@@ -82,6 +131,10 @@ public class UsuarioService {
      * Remove um usuário
      */
     public void remover(Long id) throws SQLException {
+        medir("remover", () -> removerInterno(id));
+    }
+
+    private void removerInterno(Long id) throws SQLException {
         if (id == null || id <= 0) {
             throw new IllegalArgumentException("ID inválido");
         }
@@ -90,6 +143,14 @@ public class UsuarioService {
             throw new IllegalArgumentException("Usuário não encontrado: " + id);
         }
         
+        // Chaves com ON DELETE RESTRICT: uma sondagem indexada em vez de esperar a falha do DELETE
+        if (tarefaDAO.existsByCriadorId(id)) {
+            throw new IllegalArgumentException("Não é possível excluir este usuário pois ele criou tarefas");
+        }
+        if (historicoTarefaDAO.existsByUsuarioId(id)) {
+            throw new IllegalArgumentException("Não é possível excluir este usuário pois ele possui alterações no histórico de tarefas");
+        }
+        
         usuarioDAO.delete(id);
     }
 
@@ -119,14 +180,25 @@ public class UsuarioService {
      * Lista todos os usuários
      */
     public List<Usuario> listarTodos() throws SQLException {
-        return usuarioDAO.findAll();
+        return ReadOnlyRouter.executar(() -> usuarioDAO.findAll());
+    }
+
+    /**
+     * Lista uma página de usuários, ordenados por nome
+     */
+    public Page<Usuario> listarPagina(PageRequest pageRequest) throws SQLException {
+        return medir("listarPagina", () -> listarPaginaInterno(pageRequest));
+    }
+
+    private Page<Usuario> listarPaginaInterno(PageRequest pageRequest) throws SQLException {
+        return ReadOnlyRouter.executar(() -> usuarioDAO.findPage(pageRequest));
     }
 
     /**
      * Lista apenas usuários ativos
      */
     public List<Usuario> listarAtivos() throws SQLException {
-        return usuarioDAO.findAllActive();
+        return ReadOnlyRouter.executar(() -> usuarioDAO.findAllActive());
     }
 
     /**
@@ -196,26 +268,27 @@ public class UsuarioService {
      * Conta o total de usuários
      */
     public long contarUsuarios() throws SQLException {
-        return usuarioDAO.count();
+        return ReadOnlyRouter.executar(() -> usuarioDAO.count());
     }
 
     /**
      * Busca usuários por termo de pesquisa (nome ou email)
      */
     public List<Usuario> pesquisar(String termo) throws SQLException {
+        return medir("pesquisar", () -> pesquisarInterno(termo));
+    }
+
+    private List<Usuario> pesquisarInterno(String termo) throws SQLException {
         if (!ValidationUtil.isNotEmpty(termo)) {
             return listarTodos();
         }
         
-        // Por simplicidade, vamos filtrar na aplicação
-        // Em um sistema real, seria melhor fazer isso no banco
-        List<Usuario> todos = listarTodos();
-        String termoBusca = termo.toLowerCase().trim();
-        
-        return todos.stream()
-                .filter(u -> u.getNome().toLowerCase().contains(termoBusca) ||
-                           u.getEmail().toLowerCase().contains(termoBusca))
-                .toList();
+        List<Long> ids = SearchIndexManager.getInstance().getUsuarios()
+                .pesquisar(termo, DatabaseUtil.DEFAULT_SEARCH_LIMIT);
+        if (ids != null) {
+            return ReadOnlyRouter.executar(() -> usuarioDAO.findByIds(ids));
+        }
+        return ReadOnlyRouter.executar(() -> usuarioDAO.pesquisar(termo, DatabaseUtil.DEFAULT_SEARCH_LIMIT));
     }
 
     /**
@@ -223,6 +296,11 @@ public class UsuarioService {
      */
     public Usuario criarUsuarioCompleto(String nome, String email, String senha, 
                                        List<String> nomesPapeis) throws SQLException {
+        return medir("criarUsuarioCompleto", () -> criarUsuarioCompletoInterno(nome, email, senha, nomesPapeis));
+    }
+
+    private Usuario criarUsuarioCompletoInterno(String nome, String email, String senha, 
+                                               List<String> nomesPapeis) throws SQLException {
         
         if (nome == null || nome.trim().isEmpty()) {
             throw new IllegalArgumentException("Nome é obrigatório");
@@ -240,80 +318,44 @@ public class UsuarioService {
             throw new IllegalArgumentException("Pelo menos um papel deve ser informado");
         }
 
-        Connection connection = null;
-        try {
-            connection = DatabaseUtil.getConnection();
-            connection.setAutoCommit(false);
-            
-            // 1. Criar usuário
-            Usuario usuario = new Usuario(nome.trim(), email.trim().toLowerCase());
-            usuario.setAtivo(true);
-            
-            // Validar antes de salvar
-            validarUsuario(usuario);
-            
-            // Verificar se email já existe
-            if (emailExiste(usuario.getEmail())) {
-                throw new IllegalArgumentException("Email já está em uso: " + usuario.getEmail());
-            }
+        // O hash é gerado antes da transação para não prender uma conexão durante o BCrypt
+        String hash = passwordHasher.hash(senha, CUSTO_BCRYPT);
             
-            usuario = usuarioDAO.save(usuario);
-            logger.info("Usuário criado: {} (ID: {})", usuario.getNome(), usuario.getId());
-            
-            // 2. Criar credencial
-            String salt = BCrypt.gensalt();
-            String hash = BCrypt.hashpw(senha, salt);
-            
-            Credencial credencial = new Credencial();
-            credencial.setHash(hash);
-            credencial.setSalt(salt);
-            credencial.setUsuarioId(usuario.getId());
-            
-            credencialDAO.save(credencial);
-            logger.info("Credencial criada para usuário ID: {}", usuario.getId());
-            
-            // 3. Atribuir papéis
-            for (String nomePapel : nomesPapeis) {
-                Optional<Papel> papelOpt = papelDAO.findByNome(nomePapel.trim());
+        try {
+            return TransactionTemplate.executar(connection -> {
+                // 1. Criar usuário
+                Usuario usuario = new Usuario(nome.trim(), email.trim().toLowerCase());
+                usuario.setAtivo(true);
+                
+                // Validar antes de salvar
+                validarUsuario(usuario);
                 
-                if (papelOpt.isEmpty()) {
-                    logger.warn("Papel '{}' não encontrado, ignorando", nomePapel);
-                    continue;
+                // Verificar se email já existe
+                if (emailExiste(usuario.getEmail())) {
+                    throw new IllegalArgumentException("Email já está em uso: " + usuario.getEmail());
                 }
                 
-                UsuarioPapel usuarioPapel = new UsuarioPapel();
-                usuarioPapel.setUsuarioId(usuario.getId());
-                usuarioPapel.setPapelId(papelOpt.get().getId());
-                usuarioPapel.setAtivo(true);
+                usuario = usuarioDAO.save(usuario);
+                logger.info("Usuário criado: {} (ID: {})", usuario.getNome(), usuario.getId());
                 
-                usuarioPapelDAO.save(usuarioPapel);
-                logger.info("Papel '{}' atribuído ao usuário ID: {}", nomePapel, usuario.getId());
-            }
-            
-            connection.commit();
-            logger.info("Usuário completo criado com sucesso: {} ({})", usuario.getNome(), usuario.getEmail());
-            
-            return usuario;
-            
+                // 2. Criar credencial
+                Credencial credencial = new Credencial();
+                credencial.setHash(hash);
+                credencial.setSalt(PasswordHasher.extrairSalt(hash));
+                credencial.setUsuarioId(usuario.getId());
+                
+                credencialDAO.save(credencial);
+                logger.info("Credencial criada para usuário ID: {}", usuario.getId());
+                
+                // 3. Atribuir papéis
+                atribuirPapeis(usuario, nomesPapeis, connection);
+                
+                logger.info("Usuário completo criado com sucesso: {} ({})", usuario.getNome(), usuario.getEmail());
+                return usuario;
+            });
         } catch (SQLException e) {
-            if (connection != null) {
-                try {
-                    connection.rollback();
-                    logger.error("Rollback executado devido a erro na criação do usuário", e);
-                } catch (SQLException rollbackEx) {
-                    logger.error("Erro durante rollback", rollbackEx);
-                }
-            }
+            logger.error("Rollback executado devido a erro na criação do usuário", e);
             throw e;
-        } finally {
-            if (connection != null) {
-                try {
-                    connection.setAutoCommit(true);
-                    connection.close();
-                } catch (SQLException closeEx) {
-                    logger.error("Erro ao fechar conexão", closeEx);
-                }
-            }
         }
     }
 
@@ -322,6 +364,12 @@ public class UsuarioService {
      */
     public Usuario criarUsuarioCompleto(String nome, String cpf, String email, String cargo, String login,
                                        String senha, List<String> nomesPapeis) throws SQLException {
+        return medir("criarUsuarioCompleto",
+            () -> criarUsuarioCompletoInterno(nome, cpf, email, cargo, login, senha, nomesPapeis));
+    }
+
+    private Usuario criarUsuarioCompletoInterno(String nome, String cpf, String email, String cargo, String login,
+                                               String senha, List<String> nomesPapeis) throws SQLException {
         
         if (nome == null || nome.trim().isEmpty()) {
             throw new IllegalArgumentException("Nome é obrigatório");
@@ -347,90 +395,134 @@ public class UsuarioService {
             throw new IllegalArgumentException("Pelo menos um papel deve ser informado");
         }
 
-        Connection connection = null;
-        try {
-            connection = DatabaseUtil.getConnection();
-            connection.setAutoCommit(false);
-            
-            // 1. Criar usuário com todos os campos
-            Usuario usuario = new Usuario(nome.trim(), cpf.trim(), email.trim().toLowerCase(), 
-                                         cargo != null ? cargo.trim() : null, login.trim());
-            usuario.setAtivo(true);
-            
-            // Validar antes de salvar
-            validarUsuario(usuario);
-            
-            // Verificar duplicatas
-            if (emailExiste(usuario.getEmail())) {
-                throw new IllegalArgumentException("Email já está em uso: " + usuario.getEmail());
-            }
-            
-            if (cpfExiste(usuario.getCpf())) {
-                throw new IllegalArgumentException("CPF já está em uso: " + usuario.getCpf());
-            }
-            
-            if (loginExiste(usuario.getLogin())) {
-                throw new IllegalArgumentException("Login já está em uso: " + usuario.getLogin());
-            }
-            
-            usuario = usuarioDAO.save(usuario, connection);
-            logger.info("Usuário completo criado: {} (ID: {})", usuario.getNome(), usuario.getId());
-            
-            // 2. Criar credencial
-            String salt = BCrypt.gensalt();
-            String hash = BCrypt.hashpw(senha, salt);
+        // O hash é gerado antes da transação para não prender uma conexão durante o BCrypt
+        String hash = passwordHasher.hash(senha, CUSTO_BCRYPT);
             
-            Credencial credencial = new Credencial();
-            credencial.setHash(hash);
-            credencial.setSalt(salt);
-            credencial.setUsuarioId(usuario.getId());
-            
-            credencialDAO.save(credencial, connection);
-            logger.info("Credencial criada para usuário ID: {}", usuario.getId());
-            
-            // 3. Atribuir papéis
-            for (String nomePapel : nomesPapeis) {
-                Optional<Papel> papelOpt = papelDAO.findByNome(nomePapel.trim());
+        try {
+            return TransactionTemplate.executar(connection -> {
+                // 1. Criar usuário com todos os campos
+                Usuario usuario = new Usuario(nome.trim(), cpf.trim(), email.trim().toLowerCase(), 
+                                             cargo != null ? cargo.trim() : null, login.trim());
+                usuario.setAtivo(true);
                 
-                if (papelOpt.isEmpty()) {
-                    logger.warn("Papel '{}' não encontrado, ignorando", nomePapel);
-                    continue;
+                // Validar antes de salvar
+                validarUsuario(usuario);
+                
+                // Verificar duplicatas
+                if (emailExiste(usuario.getEmail())) {
+                    throw new IllegalArgumentException("Email já está em uso: " + usuario.getEmail());
                 }
                 
-                UsuarioPapel usuarioPapel = new UsuarioPapel();
-                usuarioPapel.setUsuarioId(usuario.getId());
-                usuarioPapel.setPapelId(papelOpt.get().getId());
-                usuarioPapel.setAtivo(true);
+                if (cpfExiste(usuario.getCpf())) {
+                    throw new IllegalArgumentException("CPF já está em uso: " + usuario.getCpf());
+                }
                 
-                usuarioPapelDAO.save(usuarioPapel, connection);
-                logger.info("Papel '{}' atribuído ao usuário ID: {}", nomePapel, usuario.getId());
-            }
-            
-            connection.commit();
-            logger.info("Usuário completo criado com sucesso: {} ({})", usuario.getNome(), usuario.getEmail());
-            
-            return usuario;
-            
-        } catch (SQLException e) {
-            if (connection != null) {
-                try {
-                    connection.rollback();
-                    logger.error("Rollback executado devido a erro na criação do usuário", e);
-                } catch (SQLException rollbackEx) {
-                    logger.error("Erro durante rollback", rollbackEx);
+                if (loginExiste(usuario.getLogin())) {
+                    throw new IllegalArgumentException("Login já está em uso: " + usuario.getLogin());
                 }
-            }
+                
+                usuario = usuarioDAO.save(usuario, connection);
+                logger.info("Usuário completo criado: {} (ID: {})", usuario.getNome(), usuario.getId());
+                
+                // 2. Criar credencial
+                Credencial credencial = new Credencial();
+                credencial.setHash(hash);
+                credencial.setSalt(PasswordHasher.extrairSalt(hash));
+                credencial.setUsuarioId(usuario.getId());
+                
+                credencialDAO.save(credencial, connection);
+                logger.info("Credencial criada para usuário ID: {}", usuario.getId());
+                
+                // 3. Atribuir papéis
+                atribuirPapeis(usuario, nomesPapeis, connection);
+                
+                logger.info("Usuário completo criado com sucesso: {} ({})", usuario.getNome(), usuario.getEmail());
+                return usuario;
+            });
+        } catch (SQLException e) {
+            logger.error("Rollback executado devido a erro na criação do usuário", e);
             throw e;
+        }
+    }
+    
+    /**
+     * Atribui os papéis pelo nome, ignorando os que não existem
+     */
+    private void atribuirPapeis(Usuario usuario, List<String> nomesPapeis, Connection connection) throws SQLException {
+        for (String nomePapel : nomesPapeis) {
+            Optional<Papel> papelOpt = papelDAO.findByNome(nomePapel.trim());
+        
+            if (papelOpt.isEmpty()) {
+                logger.warn("Papel '{}' não encontrado, ignorando", nomePapel);
+                continue;
+            }
+        
+            UsuarioPapel usuarioPapel = new UsuarioPapel();
+            usuarioPapel.setUsuarioId(usuario.getId());
+            usuarioPapel.setPapelId(papelOpt.get().getId());
+            usuarioPapel.setAtivo(true);
+        
+            usuarioPapelDAO.save(usuarioPapel, connection);
+            logger.info("Papel '{}' atribuído ao usuário ID: {}", nomePapel, usuario.getId());
+        }
+    }
+
+    /**
+     * Importa usuários de um arquivo CSV com cabeçalho. Colunas: nome, cpf, email, cargo (opcional),
+     * login, senha e papeis (nomes separados por ';').
+     * O arquivo é lido em streaming e processado em lotes: cada lote é validado em paralelo,
+     * verificado contra o banco com uma única consulta, tem as senhas geradas no pool de senhas
+     * e é inserido com lotes JDBC em uma transação própria. Registros inválidos são recusados
+     * individualmente; se a transação falhar, todos os registros do lote são recusados.
+     */
+    public ResultadoImportacao importarCsv(Reader reader) throws IOException, SQLException {
+        // Medição explícita: medir(...) não propaga IOException e SQLException juntas
+        MetricsRegistry.Medicao medicao = MetricsRegistry.getInstance()
+            .temporizadorServico("UsuarioService", "importarCsv").iniciar();
+        try {
+            return importarCsvInterno(reader);
         } finally {
-            if (connection != null) {
-                try {
-                    connection.setAutoCommit(true);
-                    connection.close();
-                } catch (SQLException closeEx) {
-                    logger.error("Erro ao fechar conexão", closeEx);
-                }
+            medicao.close();
+        }
+    }
+
+    private ResultadoImportacao importarCsvInterno(Reader reader) throws IOException, SQLException {
+        BufferedReader leitor = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        
+        List<String> cabecalho = CsvUtil.lerLinha(leitor);
+        if (cabecalho == null) {
+            throw new IllegalArgumentException("Arquivo CSV vazio");
+        }
+        Map<String, Integer> colunas = mapearColunas(cabecalho);
+        
+        Map<String, Long> papeisPorNome = new HashMap<>();
+        for (Papel papel : papelDAO.findAll()) {
+            papeisPorNome.put(papel.getNome().trim().toLowerCase(), papel.getId());
+        }
+        
+        ResultadoImportacao resultado = new ResultadoImportacao();
+        List<LinhaImportacao> lote = new ArrayList<>(TAMANHO_LOTE_IMPORTACAO);
+        int numeroLinha = 1;
+        List<String> campos;
+        
+        while ((campos = CsvUtil.lerLinha(leitor)) != null) {
+            numeroLinha++;
+            if (campos.size() == 1 && campos.get(0).trim().isEmpty()) {
+                continue;
             }
+            lote.add(new LinhaImportacao(numeroLinha, campos));
+            if (lote.size() == TAMANHO_LOTE_IMPORTACAO) {
+                importarLote(lote, colunas, papeisPorNome, resultado);
+                lote.clear();
+            }
+        }
+        if (!lote.isEmpty()) {
+            importarLote(lote, colunas, papeisPorNome, resultado);
         }
+        
+        logger.info("Importação de usuários concluída: {} linhas, {} importados, {} recusados",
+                   resultado.getTotalLinhas(), resultado.getImportados(), resultado.getErros().size());
+        return resultado;
     }
 
     /**
@@ -472,6 +564,7 @@ public class UsuarioService {
         usuarioPapel.setAtivo(true);
         
         usuarioPapelDAO.save(usuarioPapel);
+        PermissionCache.getInstance().invalidate(usuarioId);
         
         logger.info("Papel '{}' atribuído ao usuário ID: {}", nomePapel, usuarioId);
     }
@@ -506,6 +599,7 @@ public class UsuarioService {
         UsuarioPapel usuarioPapel = usuarioPapelOpt.get();
         usuarioPapel.setAtivo(false);
         usuarioPapelDAO.update(usuarioPapel);
+        PermissionCache.getInstance().invalidate(usuarioId);
         
         logger.info("Papel '{}' removido do usuário ID: {}", nomePapel, usuarioId);
     }
@@ -580,14 +674,14 @@ public class UsuarioService {
         Credencial credencial = credencialOpt.get();
         
         // Verificar senha atual
-        if (!BCrypt.checkpw(senhaAtual, credencial.getHash())) {
+        if (!passwordHasher.verificar(senhaAtual, credencial.getHash())) {
             logger.warn("Tentativa de alteração de senha com senha atual incorreta para usuário ID: {}", usuarioId);
             return false;
         }
         
         // Gerar novo hash
-        String salt = BCrypt.gensalt();
-        String novoHash = BCrypt.hashpw(novaSenha, salt);
+        String novoHash = passwordHasher.hash(novaSenha, CUSTO_BCRYPT);
+        String salt = PasswordHasher.extrairSalt(novoHash);
         
         // Atualizar credencial
         credencial.setHash(novoHash);
@@ -598,6 +692,224 @@ public class UsuarioService {
         return true;
     }
 
+    private Map<String, Integer> mapearColunas(List<String> cabecalho) {
+        Map<String, Integer> colunas = new HashMap<>();
+        for (int i = 0; i < cabecalho.size(); i++) {
+            // Remove o BOM que alguns editores gravam no início de arquivos UTF-8
+            String coluna = cabecalho.get(i).replace("\uFEFF", "").trim().toLowerCase();
+            colunas.putIfAbsent(coluna, i);
+        }
+        for (String obrigatoria : COLUNAS_OBRIGATORIAS) {
+            if (!colunas.containsKey(obrigatoria)) {
+                throw new IllegalArgumentException("Coluna obrigatória ausente no cabeçalho: " + obrigatoria);
+            }
+        }
+        return colunas;
+    }
+    
+    private void importarLote(List<LinhaImportacao> lote, Map<String, Integer> colunas,
+                              Map<String, Long> papeisPorNome, ResultadoImportacao resultado) throws SQLException {
+        resultado.adicionarLinhas(lote.size());
+        
+        // 1. Validação em paralelo: cada registro só lê e escreve o próprio estado
+        lote.parallelStream().forEach(linha -> validarLinha(linha, colunas, papeisPorNome));
+        
+        // 2. Duplicatas dentro do arquivo e já existentes no banco
+        marcarDuplicatasNoLote(lote);
+        marcarExistentes(validas(lote));
+        
+        // 3. Hash das senhas no pool, fora de qualquer conexão
+        gerarHashes(validas(lote));
+        
+        // 4. Inserção em lote na transação do lote
+        List<LinhaImportacao> aInserir = validas(lote);
+        if (!aInserir.isEmpty()) {
+            inserirLote(aInserir);
+            resultado.adicionarImportados((int) aInserir.stream().filter(linha -> linha.erro == null).count());
+        }
+        
+        for (LinhaImportacao linha : lote) {
+            if (linha.erro != null) {
+                resultado.adicionarErro(linha.numero, linha.erro);
+            }
+        }
+    }
+    
+    private void validarLinha(LinhaImportacao linha, Map<String, Integer> colunas, Map<String, Long> papeisPorNome) {
+        String nome = linha.campo(colunas, COLUNA_NOME);
+        String cpf = linha.campo(colunas, COLUNA_CPF);
+        String email = linha.campo(colunas, COLUNA_EMAIL).toLowerCase();
+        String cargo = linha.campo(colunas, COLUNA_CARGO);
+        String login = linha.campo(colunas, COLUNA_LOGIN);
+        
+        List<String> problemas = new ArrayList<>();
+        if (!ValidationUtil.hasMinLength(nome, 2)) {
+            problemas.add("Nome deve ter pelo menos 2 caracteres");
+        } else if (!ValidationUtil.hasMaxLength(nome, 100)) {
+            problemas.add("Nome não pode ter mais de 100 caracteres");
+        }
+        if (!ValidationUtil.isValidCPF(cpf)) {
+            problemas.add("CPF inválido");
+        }
+        if (!ValidationUtil.isValidEmail(email)) {
+            problemas.add("Email inválido");
+        } else if (!ValidationUtil.hasMaxLength(email, 150)) {
+            problemas.add("Email não pode ter mais de 150 caracteres");
+        }
+        if (!ValidationUtil.hasMaxLength(cargo, 100)) {
+            problemas.add("Cargo não pode ter mais de 100 caracteres");
+        }
+        if (!ValidationUtil.isNotEmpty(login)) {
+            problemas.add("Login é obrigatório");
+        } else if (!ValidationUtil.hasMaxLength(login, 50)) {
+            problemas.add("Login não pode ter mais de 50 caracteres");
+        }
+        
+        linha.senha = linha.campoBruto(colunas, COLUNA_SENHA);
+        if (!ValidationUtil.isNotEmpty(linha.senha)) {
+            problemas.add("Senha é obrigatória");
+        }
+        
+        boolean informouPapel = false;
+        for (String nomePapel : linha.campo(colunas, COLUNA_PAPEIS).split(";")) {
+            if (nomePapel.trim().isEmpty()) {
+                continue;
+            }
+            informouPapel = true;
+            Long papelId = papeisPorNome.get(nomePapel.trim().toLowerCase());
+            if (papelId == null) {
+                problemas.add("Papel não encontrado: " + nomePapel.trim());
+            } else if (!linha.papelIds.contains(papelId)) {
+                linha.papelIds.add(papelId);
+            }
+        }
+        if (!informouPapel) {
+            problemas.add("Pelo menos um papel deve ser informado");
+        }
+        
+        if (!problemas.isEmpty()) {
+            linha.erro = String.join("; ", problemas);
+            return;
+        }
+        
+        linha.usuario = new Usuario(nome, ValidationUtil.formatCPF(cpf), email, cargo.isEmpty() ? null : cargo, login);
+        linha.usuario.setAtivo(true);
+    }
+    
+    private void marcarDuplicatasNoLote(List<LinhaImportacao> lote) {
+        Set<String> emails = new HashSet<>();
+        Set<String> cpfs = new HashSet<>();
+        Set<String> logins = new HashSet<>();
+        for (LinhaImportacao linha : validas(lote)) {
+            Usuario usuario = linha.usuario;
+            if (!emails.add(usuario.getEmail())) {
+                linha.erro = "Email repetido no arquivo: " + usuario.getEmail();
+            } else if (!cpfs.add(usuario.getCpf())) {
+                linha.erro = "CPF repetido no arquivo: " + usuario.getCpf();
+            } else if (!logins.add(usuario.getLogin().toLowerCase())) {
+                linha.erro = "Login repetido no arquivo: " + usuario.getLogin();
+            }
+        }
+    }
+    
+    private void marcarExistentes(List<LinhaImportacao> linhas) throws SQLException {
+        if (linhas.isEmpty()) {
+            return;
+        }
+        
+        List<Usuario> existentes;
+        try (Connection connection = DatabaseUtil.getConnection()) {
+            existentes = usuarioDAO.findByChaves(
+                linhas.stream().map(linha -> linha.usuario.getEmail()).collect(Collectors.toList()),
+                linhas.stream().map(linha -> linha.usuario.getCpf()).collect(Collectors.toList()),
+                linhas.stream().map(linha -> linha.usuario.getLogin()).collect(Collectors.toList()),
+                connection);
+        }
+        
+        Set<String> emails = existentes.stream().map(u -> u.getEmail().toLowerCase()).collect(Collectors.toSet());
+        Set<String> cpfs = existentes.stream().map(Usuario::getCpf).collect(Collectors.toSet());
+        Set<String> logins = existentes.stream().map(u -> u.getLogin().toLowerCase()).collect(Collectors.toSet());
+        
+        for (LinhaImportacao linha : linhas) {
+            Usuario usuario = linha.usuario;
+            if (emails.contains(usuario.getEmail())) {
+                linha.erro = "Email já está em uso: " + usuario.getEmail();
+            } else if (cpfs.contains(usuario.getCpf())) {
+                linha.erro = "CPF já está em uso: " + usuario.getCpf();
+            } else if (logins.contains(usuario.getLogin().toLowerCase())) {
+                linha.erro = "Login já está em uso: " + usuario.getLogin();
+            }
+        }
+    }
+    
+    /**
+     * Gera os hashes em janelas de poucas tarefas por processador, para não esgotar a fila
+     * do pool de senhas que também atende os logins
+     */
+    private void gerarHashes(List<LinhaImportacao> linhas) {
+        int janela = Runtime.getRuntime().availableProcessors() * 2;
+        for (int inicio = 0; inicio < linhas.size(); inicio += janela) {
+            List<LinhaImportacao> parte = linhas.subList(inicio, Math.min(linhas.size(), inicio + janela));
+            
+            List<CompletableFuture<String>> futuros = new ArrayList<>(parte.size());
+            for (LinhaImportacao linha : parte) {
+                futuros.add(passwordHasher.hashAsync(linha.senha, CUSTO_BCRYPT));
+            }
+            
+            for (int i = 0; i < parte.size(); i++) {
+                try {
+                    parte.get(i).hash = futuros.get(i).join();
+                } catch (CompletionException e) {
+                    parte.get(i).erro = "Falha ao gerar hash da senha: " + e.getCause().getMessage();
+                }
+            }
+        }
+    }
+    
+    private void inserirLote(List<LinhaImportacao> linhas) {
+        List<Usuario> usuarios = linhas.stream().map(linha -> linha.usuario).collect(Collectors.toList());
+        
+        try {
+            TransactionTemplate.executar(connection -> {
+                usuarioDAO.saveBatch(usuarios, connection);
+                
+                List<Credencial> credenciais = new ArrayList<>(linhas.size());
+                List<UsuarioPapel> atribuicoes = new ArrayList<>();
+                for (LinhaImportacao linha : linhas) {
+                    Credencial credencial = new Credencial();
+                    credencial.setHash(linha.hash);
+                    credencial.setSalt(PasswordHasher.extrairSalt(linha.hash));
+                    credencial.setUsuarioId(linha.usuario.getId());
+                    credenciais.add(credencial);
+                    
+                    for (Long papelId : linha.papelIds) {
+                        UsuarioPapel usuarioPapel = new UsuarioPapel();
+                        usuarioPapel.setUsuarioId(linha.usuario.getId());
+                        usuarioPapel.setPapelId(papelId);
+                        usuarioPapel.setAtivo(true);
+                        atribuicoes.add(usuarioPapel);
+                    }
+                }
+                
+                credencialDAO.saveBatch(credenciais, connection);
+                usuarioPapelDAO.saveBatch(atribuicoes, connection);
+                return null;
+            });
+            logger.info("Lote de {} usuários importado", usuarios.size());
+            
+        } catch (SQLException e) {
+            logger.error("Rollback executado devido a erro na importação de {} usuários", usuarios.size(), e);
+            for (LinhaImportacao linha : linhas) {
+                linha.usuario.setId(null);
+                linha.erro = "Lote não importado: " + e.getMessage();
+            }
+        }
+    }
+    
+    private static List<LinhaImportacao> validas(List<LinhaImportacao> lote) {
+        return lote.stream().filter(linha -> linha.erro == null).collect(Collectors.toList());
+    }
+    
     /**
      * Valida os dados do usuário
      */
@@ -622,4 +934,40 @@ public class UsuarioService {
             throw new IllegalArgumentException("Email não pode ter mais de 150 caracteres");
         }
     }
+    
+    private static <T, E extends Exception> T medir(String metodo, MetricsRegistry.Chamada<T, E> chamada) throws E {
+        return MetricsRegistry.getInstance().temporizadorServico("UsuarioService", metodo).medir(chamada);
+    }
+
+    private static <E extends Exception> void medir(String metodo, MetricsRegistry.Acao<E> acao) throws E {
+        MetricsRegistry.getInstance().temporizadorServico("UsuarioService", metodo).medir(acao);
+    }
+
+    /**
+     * Estado de um registro do CSV durante a importação
+     */
+    private static class LinhaImportacao {
+        private final int numero;
+        private final List<String> campos;
+        private final List<Long> papelIds = new ArrayList<>();
+        private Usuario usuario;
+        private String senha;
+        private String hash;
+        private String erro;
+        
+        LinhaImportacao(int numero, List<String> campos) {
+            this.numero = numero;
+            this.campos = campos;
+        }
+        
+        String campo(Map<String, Integer> colunas, String coluna) {
+            String valor = campoBruto(colunas, coluna);
+            return valor != null ? valor.trim() : "";
+        }
+        
+        String campoBruto(Map<String, Integer> colunas, String coluna) {
+            Integer indice = colunas.get(coluna);
+            return indice != null && indice < campos.size() ? campos.get(indice) : null;
+        }
+    }
 }
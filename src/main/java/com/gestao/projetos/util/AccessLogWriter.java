@@ -0,0 +1,208 @@
+package com.gestao.projetos.util;
+
+import com.gestao.projetos.dao.LogAcessoDAO;
+import com.gestao.projetos.model.LogAcesso;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Grava o log de acesso de forma assíncrona: os registros entram em uma fila limitada
+ * e uma thread em segundo plano os insere em lote, quando o lote enche ou o intervalo
+ * expira. A fila é esvaziada em {@link DatabaseUtil#closeDataSource()}.
+ * Propriedades de sistema: "logAcesso.capacidade", "logAcesso.tamanhoLote",
+ * "logAcesso.intervaloMs", "logAcesso.overflow" (DESCARTAR_NOVO, DESCARTAR_ANTIGO, BLOQUEAR)
+ * e "logAcesso.bloqueioMaximoMs".
+ */
+public class AccessLogWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccessLogWriter.class);
+    private static final long ESPERA_ENCERRAMENTO_MS = 10000;
+    private static AccessLogWriter instance;
+
+    /**
+     * O que fazer com um novo registro quando a fila está cheia
+     */
+    public enum PoliticaOverflow {
+        /** Descarta o novo registro */
+        DESCARTAR_NOVO,
+        /** Descarta o registro mais antigo da fila para abrir espaço */
+        DESCARTAR_ANTIGO,
+        /** Bloqueia quem registra até haver espaço ou o tempo máximo expirar */
+        BLOQUEAR
+    }
+
+    private final LogAcessoDAO logAcessoDAO;
+    private final BlockingQueue<LogAcesso> fila;
+    private final int tamanhoLote;
+    private final long intervaloMs;
+    private final PoliticaOverflow politica;
+    private final long bloqueioMaximoMs;
+    private final Thread thread;
+
+    private final AtomicLong gravados = new AtomicLong();
+    private final AtomicLong descartados = new AtomicLong();
+    private final AtomicLong falhas = new AtomicLong();
+    private volatile boolean encerrado;
+
+    private AccessLogWriter() {
+        this.logAcessoDAO = new LogAcessoDAO();
+        this.fila = new ArrayBlockingQueue<>(Integer.getInteger("logAcesso.capacidade", 10000));
+        this.tamanhoLote = Integer.getInteger("logAcesso.tamanhoLote", 200);
+        this.intervaloMs = Long.getLong("logAcesso.intervaloMs", 1000);
+        this.politica = PoliticaOverflow.valueOf(
+            System.getProperty("logAcesso.overflow", PoliticaOverflow.DESCARTAR_NOVO.name()));
+        this.bloqueioMaximoMs = Long.getLong("logAcesso.bloqueioMaximoMs", 100);
+
+        MetricsRegistry metricas = MetricsRegistry.getInstance();
+        metricas.gauge("gestao_log_acesso_pendentes", "Registros do log de acesso aguardando gravação", fila::size);
+        metricas.gauge("gestao_log_acesso_gravados", "Registros do log de acesso gravados", gravados::get);
+        metricas.gauge("gestao_log_acesso_descartados", "Registros do log de acesso descartados", descartados::get);
+        metricas.gauge("gestao_log_acesso_falhas", "Registros do log de acesso com falha de gravação", falhas::get);
+
+        this.thread = new Thread(this::executar, "access-log-writer");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Obtém a instância singleton do AccessLogWriter, iniciando a thread de gravação
+     */
+    public static synchronized AccessLogWriter getInstance() {
+        if (instance == null) {
+            instance = new AccessLogWriter();
+        }
+        return instance;
+    }
+
+    /**
+     * Encerra o gravador, se tiver sido iniciado, gravando os registros pendentes
+     */
+    static synchronized void encerrarSeIniciado() {
+        if (instance != null) {
+            instance.encerrar();
+        }
+    }
+
+    /**
+     * Enfileira um registro para gravação, aplicando a política de overflow se a fila estiver cheia
+     *
+     * @return true se o registro foi enfileirado
+     */
+    public boolean registrar(LogAcesso log) {
+        if (encerrado) {
+            descartados.incrementAndGet();
+            logger.debug("Gravador do log de acesso encerrado; registro descartado: {}", log);
+            return false;
+        }
+
+        if (fila.offer(log)) {
+            return true;
+        }
+
+        switch (politica) {
+            case DESCARTAR_ANTIGO:
+                while (!fila.offer(log)) {
+                    if (fila.poll() != null) {
+                        descartados.incrementAndGet();
+                    }
+                }
+                return true;
+            case BLOQUEAR:
+                try {
+                    if (fila.offer(log, bloqueioMaximoMs, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                break;
+            default:
+                break;
+        }
+
+        if (descartados.incrementAndGet() % 1000 == 1) {
+            logger.warn("Fila do log de acesso cheia; registros descartados até agora: {}", descartados.get());
+        }
+        return false;
+    }
+
+    /**
+     * Informações sobre a fila e os registros gravados
+     */
+    public String getStatus() {
+        return String.format("Log de acesso: %d pendentes, %d gravados, %d descartados, %d falhas de gravação",
+                           fila.size(), gravados.get(), descartados.get(), falhas.get());
+    }
+
+    private void encerrar() {
+        encerrado = true;
+        try {
+            thread.join(ESPERA_ENCERRAMENTO_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            logger.warn("Gravador do log de acesso não terminou em {} ms; {} registros pendentes",
+                       ESPERA_ENCERRAMENTO_MS, fila.size());
+        } else {
+            logger.info(getStatus());
+        }
+    }
+
+    /**
+     * Laço da thread de gravação: monta um lote com o primeiro registro disponível e os que
+     * chegarem até o intervalo expirar ou o lote encher; ao encerrar, grava tudo o que restou
+     */
+    private void executar() {
+        List<LogAcesso> lote = new ArrayList<>(tamanhoLote);
+        while (!encerrado || !fila.isEmpty()) {
+            try {
+                LogAcesso primeiro = fila.poll(intervaloMs, TimeUnit.MILLISECONDS);
+                if (primeiro == null) {
+                    continue;
+                }
+                lote.add(primeiro);
+
+                long prazo = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(intervaloMs);
+                while (lote.size() < tamanhoLote) {
+                    fila.drainTo(lote, tamanhoLote - lote.size());
+                    long restante = prazo - System.nanoTime();
+                    if (lote.size() >= tamanhoLote || encerrado || restante <= 0) {
+                        break;
+                    }
+                    LogAcesso proximo = fila.poll(restante, TimeUnit.NANOSECONDS);
+                    if (proximo == null) {
+                        break;
+                    }
+                    lote.add(proximo);
+                }
+            } catch (InterruptedException e) {
+                encerrado = true;
+            } finally {
+                gravar(lote);
+                lote.clear();
+            }
+        }
+    }
+
+    private void gravar(List<LogAcesso> lote) {
+        if (lote.isEmpty()) {
+            return;
+        }
+        try {
+            logAcessoDAO.insertBatch(lote);
+            gravados.addAndGet(lote.size());
+        } catch (SQLException e) {
+            falhas.addAndGet(lote.size());
+            logger.warn("Erro ao gravar lote de {} registros do log de acesso", lote.size(), e);
+        }
+    }
+}
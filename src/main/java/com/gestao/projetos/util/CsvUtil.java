@@ -0,0 +1,96 @@
+package com.gestao.projetos.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utilitários para leitura e geração de arquivos CSV (RFC 4180, separador vírgula)
+ */
+public final class CsvUtil {
+
+    private static final String SEPARADOR = ",";
+    private static final String FIM_LINHA = "\r\n";
+    private static final char ASPAS = '"';
+
+    private CsvUtil() {
+    }
+
+    /**
+     * Escreve uma linha CSV com os campos informados (null vira campo vazio)
+     */
+    public static void escreverLinha(Writer writer, Object... campos) throws IOException {
+        for (int i = 0; i < campos.length; i++) {
+            if (i > 0) {
+                writer.write(SEPARADOR);
+            }
+            writer.write(escapar(campos[i] != null ? campos[i].toString() : ""));
+        }
+        writer.write(FIM_LINHA);
+    }
+
+    /**
+     * Coloca o campo entre aspas quando contém separador, aspas ou quebra de linha
+     */
+    public static String escapar(String campo) {
+        if (campo.contains(SEPARADOR) || campo.contains("\"") || campo.contains("\n") || campo.contains("\r")) {
+            return "\"" + campo.replace("\"", "\"\"") + "\"";
+        }
+        return campo;
+    }
+
+    /**
+     * Lê o próximo registro CSV do leitor. Campos entre aspas podem conter separador,
+     * aspas duplicadas e quebras de linha; aceita fim de linha LF ou CRLF.
+     *
+     * @return Campos do registro, ou null no fim do arquivo
+     */
+    public static List<String> lerLinha(BufferedReader reader) throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreAspas = false;
+
+        while (c != -1) {
+            char ch = (char) c;
+            if (entreAspas) {
+                if (ch == ASPAS) {
+                    reader.mark(1);
+                    if (reader.read() == ASPAS) {
+                        campo.append(ASPAS);
+                    } else {
+                        reader.reset();
+                        entreAspas = false;
+                    }
+                } else {
+                    campo.append(ch);
+                }
+            } else if (ch == ASPAS) {
+                entreAspas = true;
+            } else if (ch == SEPARADOR.charAt(0)) {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else if (ch == '\n') {
+                break;
+            } else if (ch == '\r') {
+                reader.mark(1);
+                if (reader.read() != '\n') {
+                    reader.reset();
+                }
+                break;
+            } else {
+                campo.append(ch);
+            }
+            c = reader.read();
+        }
+
+        campos.add(campo.toString());
+        return campos;
+    }
+}
@@ -5,10 +5,17 @@ import com.zaxxer.hikari.HikariDataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.sql.DataSource;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Paths;
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -18,9 +25,29 @@ import java.util.Properties;
 public class DatabaseUtil {
     private static final Logger logger = LoggerFactory.getLogger(DatabaseUtil.class);
     private static HikariDataSource dataSource;
+    // Origem das conexões da aplicação: o pool, envolvido pela instrumentação JDBC quando habilitada
+    private static DataSource connectionSource;
+    // Pool opcional da réplica de leitura ("db.replica.url"), usado pelo ReadOnlyRouter
+    private static HikariDataSource replicaDataSource;
+    private static DataSource replicaSource;
+    private static final MetricsRegistry.Temporizador esperaConexao = MetricsRegistry.getInstance()
+        .temporizador("gestao_pool_espera_conexao_segundos", "Tempo para obter uma conexão do pool");
+    private static final MetricsRegistry.Contador timeoutsConexao = MetricsRegistry.getInstance()
+        .contador("gestao_pool_timeouts_total", "Pedidos de conexão que esgotaram o tempo de espera");
     private static final String CONFIG_FILE = "database.properties";
+
+    /**
+     * Quantidade máxima de parâmetros usada em cada cláusula IN (...) de carga em lote
+     */
+    public static final int MAX_IN_PARAMETERS = 1000;
+
+    /**
+     * Limite padrão de linhas retornadas pelas pesquisas por texto
+     */
+    public static final int DEFAULT_SEARCH_LIMIT = 200;
     private static boolean initialized = false;
     private static Exception initializationError = null;
+    private static boolean closed = false;
 
     // Removed static block - initialization is now lazy
 
@@ -63,7 +90,71 @@ public class DatabaseUtil {
         config.setMaxLifetime(1800000); // 30 minutos
         config.setLeakDetectionThreshold(60000); // 1 minuto
         
-        // Configurações de validação
+        // Configurações de validação (propriedades do Connector/J, só para URLs do MySQL)
+        configurarDriverMysql(config, props.getProperty("db.url"));
+        
+        dataSource = new HikariDataSource(config);
+        connectionSource = JdbcInstrumentation.isHabilitada()
+            ? JdbcInstrumentation.getInstance().instrumentar(dataSource)
+            : dataSource;
+        registrarMetricasPool();
+        
+        // Qualquer saída da JVM (System.exit após login cancelado, erro fatal, fim normal)
+        // grava os registros de log de acesso pendentes e fecha o pool
+        Runtime.getRuntime().addShutdownHook(new Thread(DatabaseUtil::closeDataSource, "database-shutdown"));
+        
+        logger.info("Pool de conexões inicializado com sucesso");
+        logger.info("URL: {}", props.getProperty("db.url"));
+        logger.info("Pool mínimo: {}, Pool máximo: {}", 
+                   config.getMinimumIdle(), config.getMaximumPoolSize());
+        
+        String replicaUrl = props.getProperty("db.replica.url");
+        if (replicaUrl != null && !replicaUrl.trim().isEmpty()) {
+            initializeReplica(props, replicaUrl.trim());
+        }
+    }
+
+    /**
+     * Inicializa o pool da réplica de leitura; usuário, senha e tamanhos seguem os do
+     * primário quando não informados
+     */
+    private static void initializeReplica(Properties props, String url) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("gestao-replica");
+        config.setJdbcUrl(url);
+        config.setUsername(props.getProperty("db.replica.username", props.getProperty("db.username")));
+        config.setPassword(props.getProperty("db.replica.password", props.getProperty("db.password")));
+        config.setDriverClassName(props.getProperty("db.driver"));
+        
+        config.setMinimumIdle(Integer.parseInt(props.getProperty("db.replica.pool.min", props.getProperty("db.pool.min", "5"))));
+        config.setMaximumPoolSize(Integer.parseInt(props.getProperty("db.replica.pool.max", props.getProperty("db.pool.max", "20"))));
+        // Espera curta: com a réplica fora, a leitura vai logo para o primário
+        config.setConnectionTimeout(Long.parseLong(props.getProperty("db.replica.pool.timeout", "2000")));
+        config.setIdleTimeout(600000);
+        config.setMaxLifetime(1800000);
+        config.setLeakDetectionThreshold(60000);
+        config.setReadOnly(true);
+        // Não impede a inicialização se a réplica estiver fora do ar
+        config.setInitializationFailTimeout(-1);
+        configurarDriverMysql(config, url);
+        
+        ReadOnlyRouter.configurar(Long.parseLong(props.getProperty("db.replica.aderenciaMs", "5000")),
+                                  Long.parseLong(props.getProperty("db.replica.pausaMs", "30000")));
+        replicaDataSource = new HikariDataSource(config);
+        replicaSource = JdbcInstrumentation.isHabilitada()
+            ? JdbcInstrumentation.getInstance().instrumentar(replicaDataSource)
+            : replicaDataSource;
+        
+        logger.info("Pool da réplica de leitura inicializado: {}", url);
+    }
+
+    /**
+     * Propriedades do Connector/J, aplicadas só a URLs do MySQL
+     */
+    private static void configurarDriverMysql(HikariConfig config, String url) {
+        if (!url.startsWith("jdbc:mysql:")) {
+            return;
+        }
         config.addDataSourceProperty("cachePrepStmts", "true");
         config.addDataSourceProperty("prepStmtCacheSize", "250");
         config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
@@ -74,13 +165,23 @@ public class DatabaseUtil {
         config.addDataSourceProperty("cacheServerConfiguration", "true");
         config.addDataSourceProperty("elideSetAutoCommits", "true");
         config.addDataSourceProperty("maintainTimeStats", "false");
-        
-        dataSource = new HikariDataSource(config);
-        
-        logger.info("Pool de conexões inicializado com sucesso");
-        logger.info("URL: {}", props.getProperty("db.url"));
-        logger.info("Pool mínimo: {}, Pool máximo: {}", 
-                   config.getMinimumIdle(), config.getMaximumPoolSize());
+    }
+
+    /**
+     * Publica o estado do pool no MetricsRegistry
+     */
+    private static void registrarMetricasPool() {
+        MetricsRegistry metricas = MetricsRegistry.getInstance();
+        metricas.gauge("gestao_pool_conexoes_ativas", "Conexões do pool em uso",
+                       () -> dataSource.getHikariPoolMXBean().getActiveConnections());
+        metricas.gauge("gestao_pool_conexoes_ociosas", "Conexões do pool disponíveis",
+                       () -> dataSource.getHikariPoolMXBean().getIdleConnections());
+        metricas.gauge("gestao_pool_conexoes", "Total de conexões abertas pelo pool",
+                       () -> dataSource.getHikariPoolMXBean().getTotalConnections());
+        metricas.gauge("gestao_pool_threads_aguardando", "Threads aguardando uma conexão do pool",
+                       () -> dataSource.getHikariPoolMXBean().getThreadsAwaitingConnection());
+        metricas.gauge("gestao_pool_conexoes_maximo", "Tamanho máximo do pool",
+                       () -> dataSource.getMaximumPoolSize());
     }
 
     /**
@@ -98,6 +199,13 @@ public class DatabaseUtil {
             
             props.load(input);
             
+            // Propriedades de sistema "db.*" sobrepõem o arquivo (ex.: -Ddb.url=... para outro banco)
+            for (String nome : System.getProperties().stringPropertyNames()) {
+                if (nome.startsWith("db.")) {
+                    props.setProperty(nome, System.getProperty(nome));
+                }
+            }
+            
             // Validação das propriedades obrigatórias
             String[] requiredProps = {"db.url", "db.username", "db.driver"};
             for (String prop : requiredProps) {
@@ -112,12 +220,71 @@ public class DatabaseUtil {
     }
 
     /**
-     * Obtém uma conexão do pool
+     * Distribuição do tempo de espera por uma conexão do pool
+     */
+    public static LatencyHistogram getEsperaConexao() {
+        return esperaConexao.getHistograma();
+    }
+
+    /**
+     * Pedidos de conexão que esgotaram o connectionTimeout
+     */
+    public static long getTimeoutsConexao() {
+        return timeoutsConexao.getValor();
+    }
+
+    /**
+     * Obtém uma conexão do pool, ou a conexão da transação aberta pelo
+     * {@link TransactionTemplate} nesta thread. Dentro de uma consulta do
+     * {@link ReadOnlyRouter}, a conexão vem da réplica de leitura quando possível.
      * 
      * @return Conexão com o banco de dados
      * @throws SQLException se não conseguir obter a conexão
      */
     public static Connection getConnection() throws SQLException {
+        Connection participante = TransactionTemplate.conexaoParticipante();
+        if (participante != null) {
+            return participante;
+        }
+        
+        if (ReadOnlyRouter.isEmEscopo()) {
+            return getReadConnection();
+        }
+        return getPrimaryConnection();
+    }
+
+    /**
+     * Obtém uma conexão para consultas somente leitura: da réplica, se configurada e
+     * disponível, ou do primário. Fora de uma transação e sem gravação recente da sessão.
+     */
+    public static Connection getReadConnection() throws SQLException {
+        Connection participante = TransactionTemplate.conexaoParticipante();
+        if (participante != null) {
+            return participante;
+        }
+        
+        ensureInitialized();
+        
+        if (replicaSource != null) {
+            if (ReadOnlyRouter.isReplicaDisponivel()) {
+                try {
+                    Connection connection = replicaSource.getConnection();
+                    connection.setAutoCommit(false);
+                    ReadOnlyRouter.registrarLeituraReplica();
+                    return connection;
+                } catch (SQLException e) {
+                    ReadOnlyRouter.registrarFalha(e);
+                }
+            }
+            ReadOnlyRouter.registrarLeituraPrimario();
+        }
+        return getPrimaryConnection();
+    }
+
+    /**
+     * Obtém uma conexão do pool primário, ignorando a transação e o roteamento de leituras
+     */
+    static Connection getPrimaryConnection() throws SQLException {
         ensureInitialized();
         
         if (dataSource == null || initializationError != null) {
@@ -125,16 +292,54 @@ public class DatabaseUtil {
                 (initializationError != null ? initializationError.getMessage() : "Erro desconhecido"));
         }
         
-        Connection connection = dataSource.getConnection();
+        Connection connection;
+        long inicio = System.nanoTime();
+        try {
+            connection = connectionSource.getConnection();
+        } catch (SQLTransientConnectionException e) {
+            // O HikariCP lança esta exceção quando o connectionTimeout expira sem conexão livre
+            timeoutsConexao.incrementar();
+            throw e;
+        } finally {
+            esperaConexao.registrar(System.nanoTime() - inicio);
+        }
         connection.setAutoCommit(false); // Usar transações manuais por padrão
         
-        return connection;
+        // Com réplica, os commits no primário mantêm as leituras da sessão nele por alguns segundos
+        return replicaSource != null ? ReadOnlyRouter.registrarEscritas(connection) : connection;
     }
 
     /**
-     * Fecha o pool de conexões
+     * Fecha o pool de conexões. Chamadas seguintes (ex.: o gancho de encerramento da JVM
+     * após o fechamento explícito) não fazem nada.
      */
-    public static void closeDataSource() {
+    public static synchronized void closeDataSource() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        
+        // Grava os registros de log de acesso pendentes enquanto o pool ainda está aberto
+        AccessLogWriter.encerrarSeIniciado();
+        
+        // Última exportação das métricas, com o pool ainda aberto
+        MetricsExporter.encerrar();
+        
+        // Grava as estatísticas de SQL no arquivo da propriedade "sql.relatorio", se informada
+        String relatorioSql = System.getProperty("sql.relatorio");
+        if (relatorioSql != null && connectionSource != dataSource) {
+            try {
+                JdbcInstrumentation.getInstance().despejar(Paths.get(relatorioSql));
+            } catch (IOException e) {
+                logger.warn("Erro ao gravar estatísticas de SQL em {}", relatorioSql, e);
+            }
+        }
+        
+        if (replicaDataSource != null && !replicaDataSource.isClosed()) {
+            replicaDataSource.close();
+            logger.info("Pool da réplica de leitura fechado");
+        }
+        
         if (dataSource != null && !dataSource.isClosed()) {
             dataSource.close();
             logger.info("Pool de conexões fechado");
@@ -194,13 +399,20 @@ public class DatabaseUtil {
                 (initializationError != null ? initializationError.getMessage() : "Erro desconhecido");
         }
         
-        return String.format(
+        String status = String.format(
             "Pool Status - Ativas: %d, Idle: %d, Total: %d, Aguardando: %d",
             dataSource.getHikariPoolMXBean().getActiveConnections(),
             dataSource.getHikariPoolMXBean().getIdleConnections(),
             dataSource.getHikariPoolMXBean().getTotalConnections(),
             dataSource.getHikariPoolMXBean().getThreadsAwaitingConnection()
         );
+        if (replicaDataSource != null && replicaDataSource.getHikariPoolMXBean() != null) {
+            status += String.format(" | Réplica - Ativas: %d, Idle: %d, Total: %d",
+                replicaDataSource.getHikariPoolMXBean().getActiveConnections(),
+                replicaDataSource.getHikariPoolMXBean().getIdleConnections(),
+                replicaDataSource.getHikariPoolMXBean().getTotalConnections());
+        }
+        return status;
     }
 
     /**
@@ -222,4 +434,52 @@ public class DatabaseUtil {
             return false;
         }
     }
+
+    /**
+     * Gera a lista de placeholders de uma cláusula IN, ex.: "(?, ?, ?)"
+     */
+    public static String buildPlaceholders(int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Quantidade de placeholders deve ser maior que zero");
+        }
+        StringBuilder sb = new StringBuilder(count * 3 + 1).append('(');
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append('?');
+        }
+        return sb.append(')').toString();
+    }
+
+    /**
+     * Divide uma coleção em lotes de até {@code size} elementos, para que
+     * cláusulas IN (...) não ultrapassem {@link #MAX_IN_PARAMETERS}
+     */
+    public static <T> List<List<T>> partition(Collection<T> items, int size) {
+        if (items == null || items.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<T> lista = new ArrayList<>(items);
+        List<List<T>> lotes = new ArrayList<>((lista.size() + size - 1) / size);
+        for (int i = 0; i < lista.size(); i += size) {
+            lotes.add(lista.subList(i, Math.min(i + size, lista.size())));
+        }
+        return lotes;
+    }
+
+    /**
+     * Escapa os curingas de LIKE (%, _ e \) para que o termo seja comparado literalmente
+     */
+    public static String escapeLike(String termo) {
+        StringBuilder sb = new StringBuilder(termo.length() + 8);
+        for (int i = 0; i < termo.length(); i++) {
+            char c = termo.charAt(i);
+            if (c == '%' || c == '_' || c == '\\') {
+                sb.append('\\');
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
 }
@@ -0,0 +1,452 @@
+package com.gestao.projetos.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.swing.SwingUtilities;
+import java.awt.AWTEvent;
+import java.awt.Component;
+import java.awt.EventQueue;
+import java.awt.Toolkit;
+import java.awt.Window;
+import java.awt.event.InputEvent;
+import java.awt.event.InvocationEvent;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Monitor da Event Dispatch Thread: instala uma EventQueue que mede o tempo de despacho de cada
+ * evento e a espera entre o evento ser gerado e ser tratado, e um watchdog que captura a pilha da
+ * EDT quando ela fica bloqueada no mesmo evento além do limite. Os travamentos são agrupados pela
+ * origem (métodos de telas e controllers na pilha) e enviados ao logger "com.gestao.projetos.edt.travamento".
+ * O tempo de um evento não inclui os eventos despachados dentro dele (diálogos modais).
+ * Propriedades de sistema: "edt.monitor" (true/false), "edt.limiteMs", "edt.amostragemMs" e
+ * "edt.relatorio" (arquivo gravado ao encerrar a aplicação).
+ */
+public class EdtMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(EdtMonitor.class);
+    private static final Logger stallLogger = LoggerFactory.getLogger("com.gestao.projetos.edt.travamento");
+
+    private static final String PACOTE_APLICACAO = "com.gestao.projetos.";
+    private static final String PACOTE_UTIL = "com.gestao.projetos.util.";
+    private static final String PACOTE_VIEW = "com.gestao.projetos.view.";
+    private static final String PACOTE_CONTROLLER = "com.gestao.projetos.controller.";
+    private static final int MAXIMO_LINHAS_PILHA = 40;
+    private static final Travamento FECHADO = new Travamento("", null);
+
+    private static EdtMonitor instance;
+
+    private final long limiteNanos;
+    private final long amostragemMs;
+    private final MetricsRegistry.Temporizador tempoDespacho;
+    private final MetricsRegistry.Temporizador tempoEspera;
+    private final MetricsRegistry.Contador travamentos;
+    private volatile LatencyHistogram despachos = new LatencyHistogram();
+    private volatile LatencyHistogram esperas = new LatencyHistogram();
+    private volatile ConcurrentMap<String, EstatisticaTravamento> porOrigem = new ConcurrentHashMap<>();
+    private volatile LocalDateTime desde = LocalDateTime.now();
+    // Evento mais interno em despacho na EDT; escrito apenas pela EDT
+    private volatile Despacho atual;
+
+    private EdtMonitor() {
+        this.limiteNanos = TimeUnit.MILLISECONDS.toNanos(Long.getLong("edt.limiteMs", 200));
+        this.amostragemMs = Math.max(10, Long.getLong("edt.amostragemMs", 50));
+
+        MetricsRegistry metricas = MetricsRegistry.getInstance();
+        this.tempoDespacho = metricas.temporizador("gestao_edt_despacho_segundos",
+                                                   "Tempo de despacho dos eventos na EDT");
+        this.tempoEspera = metricas.temporizador("gestao_edt_espera_segundos",
+                                                 "Tempo entre a geração de um evento e seu despacho na EDT");
+        this.travamentos = metricas.contador("gestao_edt_travamentos_total",
+                                             "Eventos que bloquearam a EDT além do limite");
+    }
+
+    /**
+     * Obtém a instância singleton do EdtMonitor
+     */
+    public static synchronized EdtMonitor getInstance() {
+        if (instance == null) {
+            instance = new EdtMonitor();
+        }
+        return instance;
+    }
+
+    /**
+     * Instala o monitor na fila de eventos do AWT, se habilitado (propriedade "edt.monitor", padrão true)
+     */
+    public static synchronized void instalar() {
+        if (!Boolean.parseBoolean(System.getProperty("edt.monitor", "true")) || instance != null) {
+            return;
+        }
+        EdtMonitor monitor = getInstance();
+        Toolkit.getDefaultToolkit().getSystemEventQueue().push(monitor.new FilaMonitorada());
+
+        Thread watchdog = new Thread(monitor::vigiar, "edt-watchdog");
+        watchdog.setDaemon(true);
+        watchdog.start();
+
+        String relatorio = System.getProperty("edt.relatorio");
+        if (relatorio != null) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    monitor.despejar(Paths.get(relatorio));
+                } catch (IOException e) {
+                    logger.warn("Erro ao gravar o relatório da EDT em {}", relatorio, e);
+                }
+            }, "edt-relatorio"));
+        }
+        logger.info("Monitor da EDT instalado: limite de {} ms, amostragem a cada {} ms",
+                   TimeUnit.NANOSECONDS.toMillis(monitor.limiteNanos), monitor.amostragemMs);
+    }
+
+    /**
+     * Travamentos de uma origem
+     */
+    public static final class EstatisticaTravamento {
+        private final String origem;
+        private final LatencyHistogram duracao = new LatencyHistogram();
+        private volatile String pilha;
+
+        private EstatisticaTravamento(String origem) {
+            this.origem = origem;
+        }
+
+        public String getOrigem() {
+            return origem;
+        }
+
+        public LatencyHistogram getDuracao() {
+            return duracao;
+        }
+
+        /**
+         * Pilha da EDT capturada no travamento mais longo (null se não houve captura)
+         */
+        public String getPilha() {
+            return pilha;
+        }
+    }
+
+    /**
+     * Estatísticas por origem, da maior para a menor soma de tempo bloqueado
+     */
+    public List<EstatisticaTravamento> getEstatisticas() {
+        List<EstatisticaTravamento> lista = new ArrayList<>(porOrigem.values());
+        lista.sort(Comparator.comparingLong((EstatisticaTravamento e) -> e.getDuracao().getSomaNanos()).reversed());
+        return lista;
+    }
+
+    /**
+     * Tempo de despacho dos eventos desde a última reinicialização
+     */
+    public LatencyHistogram getDespachos() {
+        return despachos;
+    }
+
+    /**
+     * Espera dos eventos na fila desde a última reinicialização
+     */
+    public LatencyHistogram getEsperas() {
+        return esperas;
+    }
+
+    /**
+     * Descarta as estatísticas acumuladas
+     */
+    public void reiniciar() {
+        despachos = new LatencyHistogram();
+        esperas = new LatencyHistogram();
+        porOrigem = new ConcurrentHashMap<>();
+        desde = LocalDateTime.now();
+        logger.info("Estatísticas da EDT reiniciadas");
+    }
+
+    /**
+     * Resumo com as origens que mais tempo bloquearam a EDT
+     */
+    public String getResumo(int limite) {
+        StringBuilder sb = new StringBuilder();
+        try {
+            escreverRelatorio(sb, limite, false);
+        } catch (IOException e) {
+            // StringBuilder não lança IOException
+            throw new IllegalStateException(e);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Grava o relatório completo, com a pilha do travamento mais longo de cada origem
+     */
+    public void despejar(Path arquivo) throws IOException {
+        if (arquivo.getParent() != null) {
+            Files.createDirectories(arquivo.getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(arquivo, StandardCharsets.UTF_8)) {
+            escreverRelatorio(writer, Integer.MAX_VALUE, true);
+        }
+        logger.info("Estatísticas da EDT gravadas em {}", arquivo.toAbsolutePath());
+    }
+
+    private void escreverRelatorio(Appendable saida, int limite, boolean incluirPilhas) throws IOException {
+        List<EstatisticaTravamento> origens = getEstatisticas();
+        LatencyHistogram d = despachos;
+        LatencyHistogram e = esperas;
+
+        saida.append(String.format("Travamentos da EDT desde %s (limite %d ms)%n",
+                                   ValidationUtil.formatDateTime(desde), TimeUnit.NANOSECONDS.toMillis(limiteNanos)));
+        saida.append(String.format("%d eventos: despacho p50 %.2f ms, p99 %.2f ms, máx %.2f ms; "
+                                   + "espera p50 %.2f ms, p99 %.2f ms, máx %.2f ms%n%n",
+                                   d.getContagem(), d.getPercentilNanos(0.5) / 1e6, d.getPercentilNanos(0.99) / 1e6,
+                                   d.getMaximoNanos() / 1e6, e.getPercentilNanos(0.5) / 1e6,
+                                   e.getPercentilNanos(0.99) / 1e6, e.getMaximoNanos() / 1e6));
+        saida.append(String.format("%8s %10s %9s %9s %9s  %s%n", "vezes", "total ms", "média", "p95", "máx", "origem"));
+        for (EstatisticaTravamento t : origens.subList(0, Math.min(limite, origens.size()))) {
+            LatencyHistogram h = t.getDuracao();
+            saida.append(String.format("%8d %10.1f %9.1f %9.1f %9.1f  %s%n",
+                                       h.getContagem(), h.getSomaNanos() / 1e6, h.getMediaNanos() / 1e6,
+                                       h.getPercentilNanos(0.95) / 1e6, h.getMaximoNanos() / 1e6, t.getOrigem()));
+        }
+
+        if (incluirPilhas) {
+            for (EstatisticaTravamento t : origens) {
+                if (t.getPilha() != null) {
+                    saida.append(String.format("%n%s (máx %.1f ms)%n%s", t.getOrigem(),
+                                               t.getDuracao().getMaximoNanos() / 1e6, t.getPilha()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Fila de eventos que delimita os intervalos em que a EDT executa código de um evento:
+     * o intervalo é pausado enquanto a EDT espera eventos ou despacha um evento aninhado
+     */
+    private final class FilaMonitorada extends EventQueue {
+
+        @Override
+        public AWTEvent getNextEvent() throws InterruptedException {
+            Despacho emAndamento = atual;
+            pausar(emAndamento);
+            try {
+                return super.getNextEvent();
+            } finally {
+                retomar(emAndamento);
+            }
+        }
+
+        @Override
+        protected void dispatchEvent(AWTEvent event) {
+            Despacho anterior = atual;
+            pausar(anterior);
+            registrarEspera(event);
+
+            Despacho despacho = new Despacho(event, Thread.currentThread());
+            atual = despacho;
+            try {
+                super.dispatchEvent(event);
+            } finally {
+                pausar(despacho);
+                despachos.registrar(despacho.ocupadoNanos);
+                tempoDespacho.registrar(despacho.ocupadoNanos);
+                atual = anterior;
+                retomar(anterior);
+            }
+        }
+    }
+
+    /**
+     * Evento em despacho na EDT
+     */
+    private static final class Despacho {
+        private final AWTEvent evento;
+        private final Thread thread;
+        // Soma dos intervalos já encerrados; acessado apenas pela EDT
+        private long ocupadoNanos;
+        private volatile Intervalo intervalo = new Intervalo();
+
+        private Despacho(AWTEvent evento, Thread thread) {
+            this.evento = evento;
+            this.thread = thread;
+        }
+    }
+
+    /**
+     * Período contínuo em que a EDT executa o código de um evento. O watchdog e a EDT
+     * disputam o travamento por CAS: ou ele é capturado, ou o intervalo já foi encerrado.
+     */
+    private static final class Intervalo {
+        private final long inicio = System.nanoTime();
+        private final AtomicReference<Travamento> travamento = new AtomicReference<>();
+    }
+
+    private static final class Travamento {
+        private final String origem;
+        private final String pilha;
+
+        private Travamento(String origem, String pilha) {
+            this.origem = origem;
+            this.pilha = pilha;
+        }
+    }
+
+    private void pausar(Despacho despacho) {
+        if (despacho == null || despacho.intervalo == null) {
+            return;
+        }
+        Intervalo intervalo = despacho.intervalo;
+        despacho.intervalo = null;
+        long duracao = System.nanoTime() - intervalo.inicio;
+        despacho.ocupadoNanos += duracao;
+
+        Travamento travamento = intervalo.travamento.getAndSet(FECHADO);
+        if (travamento != null) {
+            registrarTravamento(travamento, duracao);
+        } else if (duracao >= limiteNanos) {
+            // Encerrado antes da amostragem do watchdog: sem pilha, identificado pelo evento
+            registrarTravamento(new Travamento(origemDoEvento(despacho.evento), null), duracao);
+        }
+    }
+
+    private static void retomar(Despacho despacho) {
+        if (despacho != null) {
+            despacho.intervalo = new Intervalo();
+        }
+    }
+
+    private void registrarEspera(AWTEvent event) {
+        long quando;
+        if (event instanceof InputEvent) {
+            quando = ((InputEvent) event).getWhen();
+        } else if (event instanceof InvocationEvent) {
+            quando = ((InvocationEvent) event).getWhen();
+        } else {
+            return;
+        }
+        long esperaNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, System.currentTimeMillis() - quando));
+        esperas.registrar(esperaNanos);
+        tempoEspera.registrar(esperaNanos);
+    }
+
+    private void registrarTravamento(Travamento travamento, long duracao) {
+        travamentos.incrementar();
+        EstatisticaTravamento estatistica = porOrigem.computeIfAbsent(travamento.origem, EstatisticaTravamento::new);
+        if (travamento.pilha != null
+            && (estatistica.pilha == null || duracao > estatistica.getDuracao().getMaximoNanos())) {
+            estatistica.pilha = travamento.pilha;
+        }
+        estatistica.getDuracao().registrar(duracao);
+        stallLogger.warn("EDT bloqueada por {} ms [{}]", TimeUnit.NANOSECONDS.toMillis(duracao), travamento.origem);
+    }
+
+    /**
+     * Laço do watchdog: verifica periodicamente se o intervalo corrente da EDT passou do limite
+     */
+    private void vigiar() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(amostragemMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            Despacho despacho = atual;
+            Intervalo intervalo = despacho != null ? despacho.intervalo : null;
+            if (intervalo == null || intervalo.travamento.get() != null) {
+                continue;
+            }
+            long bloqueado = System.nanoTime() - intervalo.inicio;
+            if (bloqueado < limiteNanos) {
+                continue;
+            }
+
+            StackTraceElement[] pilha = despacho.thread.getStackTrace();
+            Travamento travamento = new Travamento(origem(pilha, despacho.evento), formatarPilha(pilha));
+            if (intervalo.travamento.compareAndSet(null, travamento)) {
+                stallLogger.warn("EDT bloqueada há {} ms [{}]{}{}", TimeUnit.NANOSECONDS.toMillis(bloqueado),
+                                 travamento.origem, System.lineSeparator(), travamento.pilha);
+            }
+        }
+    }
+
+    /**
+     * Origem do travamento: o método de tela ou controller mais externo e o mais interno da pilha
+     * (por exemplo "TarefaFrame.carregarDados > TarefaController.listarTarefas")
+     */
+    static String origem(StackTraceElement[] pilha, AWTEvent evento) {
+        String interno = null;
+        String externo = null;
+        String aplicacao = null;
+        for (StackTraceElement frame : pilha) {
+            String classe = frame.getClassName();
+            if (!classe.startsWith(PACOTE_APLICACAO) || classe.startsWith(PACOTE_UTIL)) {
+                continue;
+            }
+            String metodo = frame.getMethodName();
+            if (metodo.startsWith("lambda$") || metodo.startsWith("access$")) {
+                continue;
+            }
+            String nome = nomeSimples(classe) + "." + metodo;
+            if (aplicacao == null) {
+                aplicacao = nome;
+            }
+            if (classe.startsWith(PACOTE_VIEW) || classe.startsWith(PACOTE_CONTROLLER)) {
+                if (interno == null) {
+                    interno = nome;
+                }
+                externo = nome;
+            }
+        }
+
+        if (interno != null) {
+            return interno.equals(externo) ? interno : externo + " > " + interno;
+        }
+        return aplicacao != null ? aplicacao : origemDoEvento(evento);
+    }
+
+    /**
+     * Origem quando não há pilha: janela de onde veio o evento e o tipo do evento
+     */
+    private static String origemDoEvento(AWTEvent evento) {
+        String tipo = evento.getClass().getSimpleName();
+        if (evento.getSource() instanceof Component) {
+            Component componente = (Component) evento.getSource();
+            Window janela = componente instanceof Window ? (Window) componente : SwingUtilities.getWindowAncestor(componente);
+            Object alvo = janela != null ? janela : componente;
+            return nomeSimples(alvo.getClass().getName()) + " (" + tipo + ")";
+        }
+        return "(" + tipo + ")";
+    }
+
+    private static String nomeSimples(String classe) {
+        String nome = classe.substring(classe.lastIndexOf('.') + 1);
+        int interna = nome.indexOf('$');
+        return interna > 0 ? nome.substring(0, interna) : nome;
+    }
+
+    private static String formatarPilha(StackTraceElement[] pilha) {
+        StringBuilder sb = new StringBuilder();
+        int linhas = Math.min(pilha.length, MAXIMO_LINHAS_PILHA);
+        for (int i = 0; i < linhas; i++) {
+            sb.append("\tat ").append(pilha[i]).append(System.lineSeparator());
+        }
+        if (pilha.length > linhas) {
+            sb.append("\t... ").append(pilha.length - linhas).append(" mais").append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+}
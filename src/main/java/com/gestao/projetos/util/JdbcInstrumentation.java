@@ -0,0 +1,502 @@
+package com.gestao.projetos.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Instrumentação do JDBC: envolve o DataSource, as conexões, os statements e os result sets
+ * em proxies que medem o tempo de execução e de leitura de cada comando, agrupado pelo SQL
+ * normalizado, e a quantidade de comandos e linhas de cada operação lógica (o intervalo entre
+ * obter e fechar uma conexão, identificado pelo método que a obteve).
+ * Comandos acima do limite vão para o logger "com.gestao.projetos.sql.lento".
+ * Propriedades de sistema: "sql.instrumentacao" (true/false) e "sql.lentoMs".
+ */
+public class JdbcInstrumentation {
+
+    private static final Logger logger = LoggerFactory.getLogger(JdbcInstrumentation.class);
+    private static final Logger slowLogger = LoggerFactory.getLogger("com.gestao.projetos.sql.lento");
+
+    private static final Pattern LITERAL_TEXTO = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern LITERAL_NUMERO = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern LISTA_PARAMETROS = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern ESPACOS = Pattern.compile("\\s+");
+
+    // Limite de SQLs distintos guardados no cache de normalização (SQL montado com literais não o esgota)
+    private static final int MAXIMO_NORMALIZACOES = 5000;
+    private static final String PACOTE_APLICACAO = "com.gestao.projetos.";
+    private static final String PACOTE_UTIL = "com.gestao.projetos.util.";
+
+    private static JdbcInstrumentation instance;
+
+    private final long limiteLentoNanos;
+    private final StackWalker stackWalker = StackWalker.getInstance();
+    private final ConcurrentMap<String, String> normalizacoes = new ConcurrentHashMap<>();
+    private volatile ConcurrentMap<String, EstatisticaSql> porSql = new ConcurrentHashMap<>();
+    private volatile ConcurrentMap<String, EstatisticaOperacao> porOperacao = new ConcurrentHashMap<>();
+    private volatile LocalDateTime desde = LocalDateTime.now();
+    private final LongAdder comandosLentos = new LongAdder();
+
+    private JdbcInstrumentation() {
+        this.limiteLentoNanos = TimeUnit.MILLISECONDS.toNanos(Long.getLong("sql.lentoMs", 500));
+        MetricsRegistry.getInstance().gauge("gestao_sql_comandos_lentos",
+                                            "Comandos SQL acima do limite do log de consultas lentas",
+                                            comandosLentos::sum);
+    }
+
+    /**
+     * Obtém a instância singleton do JdbcInstrumentation
+     */
+    public static synchronized JdbcInstrumentation getInstance() {
+        if (instance == null) {
+            instance = new JdbcInstrumentation();
+        }
+        return instance;
+    }
+
+    /**
+     * Indica se a instrumentação deve ser instalada (propriedade "sql.instrumentacao", padrão true)
+     */
+    public static boolean isHabilitada() {
+        return Boolean.parseBoolean(System.getProperty("sql.instrumentacao", "true"));
+    }
+
+    /**
+     * Estatísticas de um SQL normalizado
+     */
+    public static final class EstatisticaSql {
+        private final String sql;
+        private final LatencyHistogram execucao = new LatencyHistogram();
+        private final LatencyHistogram leitura = new LatencyHistogram();
+        private final LongAdder linhas = new LongAdder();
+
+        private EstatisticaSql(String sql) {
+            this.sql = sql;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        /**
+         * Tempo das chamadas execute*, até o driver devolver o controle
+         */
+        public LatencyHistogram getExecucao() {
+            return execucao;
+        }
+
+        /**
+         * Tempo gasto em ResultSet.next() por consulta (transferência das linhas)
+         */
+        public LatencyHistogram getLeitura() {
+            return leitura;
+        }
+
+        public long getLinhas() {
+            return linhas.sum();
+        }
+
+        private long getTempoTotalNanos() {
+            return execucao.getSomaNanos() + leitura.getSomaNanos();
+        }
+    }
+
+    /**
+     * Estatísticas de uma operação lógica: comandos e linhas entre obter e fechar a conexão
+     */
+    public static final class EstatisticaOperacao {
+        private final String nome;
+        private final LatencyHistogram duracao = new LatencyHistogram();
+        private final LongAdder comandos = new LongAdder();
+        private final AtomicLong maximoComandos = new AtomicLong();
+        private final LongAdder linhas = new LongAdder();
+
+        private EstatisticaOperacao(String nome) {
+            this.nome = nome;
+        }
+
+        public String getNome() {
+            return nome;
+        }
+
+        /**
+         * Tempo com a conexão em uso
+         */
+        public LatencyHistogram getDuracao() {
+            return duracao;
+        }
+
+        public long getExecucoes() {
+            return duracao.getContagem();
+        }
+
+        public long getComandos() {
+            return comandos.sum();
+        }
+
+        public long getMaximoComandos() {
+            return maximoComandos.get();
+        }
+
+        public long getLinhas() {
+            return linhas.sum();
+        }
+    }
+
+    /**
+     * Envolve o DataSource: as conexões obtidas por ele passam a ser medidas
+     */
+    public DataSource instrumentar(DataSource dataSource) {
+        logger.info("Instrumentação JDBC instalada (comandos lentos a partir de {} ms)",
+                   TimeUnit.NANOSECONDS.toMillis(limiteLentoNanos));
+        return proxy(DataSource.class, (proxy, method, args) -> {
+            Object resultado = invocar(dataSource, method, args);
+            if (resultado instanceof Connection) {
+                return new ConexaoInstrumentada((Connection) resultado, nomeOperacao()).proxy;
+            }
+            return resultado;
+        });
+    }
+
+    /**
+     * Estatísticas por SQL, do maior para o menor tempo total (execução + leitura)
+     */
+    public List<EstatisticaSql> getEstatisticasSql() {
+        List<EstatisticaSql> lista = new ArrayList<>(porSql.values());
+        lista.sort(Comparator.comparingLong(EstatisticaSql::getTempoTotalNanos).reversed());
+        return lista;
+    }
+
+    /**
+     * Estatísticas por operação lógica, da maior para a menor quantidade de comandos
+     */
+    public List<EstatisticaOperacao> getEstatisticasOperacoes() {
+        List<EstatisticaOperacao> lista = new ArrayList<>(porOperacao.values());
+        lista.sort(Comparator.comparingLong(EstatisticaOperacao::getComandos).reversed());
+        return lista;
+    }
+
+    public long getComandosLentos() {
+        return comandosLentos.sum();
+    }
+
+    /**
+     * Descarta as estatísticas acumuladas
+     */
+    public void reiniciar() {
+        porSql = new ConcurrentHashMap<>();
+        porOperacao = new ConcurrentHashMap<>();
+        desde = LocalDateTime.now();
+        logger.info("Estatísticas de SQL reiniciadas");
+    }
+
+    /**
+     * Resumo com os SQLs de maior tempo total e as operações com mais comandos
+     */
+    public String getResumo(int limite) {
+        StringBuilder sb = new StringBuilder();
+        try {
+            escreverRelatorio(sb, limite);
+        } catch (IOException e) {
+            // StringBuilder não lança IOException
+            throw new IllegalStateException(e);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Grava o relatório completo no arquivo informado
+     */
+    public void despejar(Path arquivo) throws IOException {
+        if (arquivo.getParent() != null) {
+            Files.createDirectories(arquivo.getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(arquivo, StandardCharsets.UTF_8)) {
+            escreverRelatorio(writer, Integer.MAX_VALUE);
+        }
+        logger.info("Estatísticas de SQL gravadas em {}", arquivo.toAbsolutePath());
+    }
+
+    private void escreverRelatorio(Appendable saida, int limite) throws IOException {
+        List<EstatisticaSql> comandos = getEstatisticasSql();
+        List<EstatisticaOperacao> operacoes = getEstatisticasOperacoes();
+
+        saida.append(String.format("Estatísticas de SQL desde %s (%d comandos lentos)%n%n",
+                                   ValidationUtil.formatDateTime(desde), getComandosLentos()));
+        saida.append(String.format("%8s %10s %8s %8s %8s %9s %10s %9s  %s%n", "exec", "total ms", "média",
+                                   "p95", "p99", "máx", "leitura ms", "linhas", "sql"));
+        for (EstatisticaSql e : comandos.subList(0, Math.min(limite, comandos.size()))) {
+            LatencyHistogram h = e.getExecucao();
+            saida.append(String.format("%8d %10.1f %8.2f %8.2f %8.2f %9.2f %10.1f %9d  %s%n",
+                                       h.getContagem(), h.getSomaNanos() / 1e6, h.getMediaNanos() / 1e6,
+                                       h.getPercentilNanos(0.95) / 1e6, h.getPercentilNanos(0.99) / 1e6,
+                                       h.getMaximoNanos() / 1e6, e.getLeitura().getSomaNanos() / 1e6,
+                                       e.getLinhas(), e.getSql()));
+        }
+
+        saida.append(String.format("%n%8s %10s %10s %10s %9s %9s  %s%n", "vezes", "comandos", "cmd/op",
+                                   "máx cmd", "linhas", "p95 ms", "operação"));
+        for (EstatisticaOperacao o : operacoes.subList(0, Math.min(limite, operacoes.size()))) {
+            long vezes = o.getExecucoes();
+            saida.append(String.format("%8d %10d %10.1f %10d %9d %9.2f  %s%n",
+                                       vezes, o.getComandos(), vezes > 0 ? (double) o.getComandos() / vezes : 0.0,
+                                       o.getMaximoComandos(), o.getLinhas(),
+                                       o.getDuracao().getPercentilNanos(0.95) / 1e6, o.getNome()));
+        }
+    }
+
+    /**
+     * Normaliza o SQL para agrupar variações do mesmo comando: literais viram "?",
+     * listas de parâmetros de tamanhos diferentes viram "(?...)" e espaços são compactados
+     */
+    static String normalizar(String sql) {
+        String normalizado = LITERAL_TEXTO.matcher(sql).replaceAll("?");
+        normalizado = LITERAL_NUMERO.matcher(normalizado).replaceAll("?");
+        normalizado = LISTA_PARAMETROS.matcher(normalizado).replaceAll("(?...)");
+        return ESPACOS.matcher(normalizado).replaceAll(" ").trim();
+    }
+
+    private EstatisticaSql estatistica(String sql) {
+        String normalizado = normalizacoes.get(sql);
+        if (normalizado == null) {
+            normalizado = normalizar(sql);
+            if (normalizacoes.size() < MAXIMO_NORMALIZACOES) {
+                normalizacoes.put(sql, normalizado);
+            }
+        }
+        return porSql.computeIfAbsent(normalizado, EstatisticaSql::new);
+    }
+
+    /**
+     * Nome da operação lógica: classe e método do primeiro chamador da aplicação fora do pacote util
+     */
+    private String nomeOperacao() {
+        return stackWalker.walk(frames -> frames
+            .filter(f -> f.getClassName().startsWith(PACOTE_APLICACAO) && !f.getClassName().startsWith(PACOTE_UTIL))
+            .findFirst()
+            .map(f -> f.getClassName().substring(f.getClassName().lastIndexOf('.') + 1) + "." + f.getMethodName())
+            .orElse("(externa)"));
+    }
+
+    private void registrarLento(String sql, String operacao, long execucaoNanos, long leituraNanos, long linhas) {
+        comandosLentos.increment();
+        if (leituraNanos > 0 || linhas > 0) {
+            slowLogger.warn("{} ms (execução {} ms, leitura {} ms, {} linhas) [{}] {}",
+                            TimeUnit.NANOSECONDS.toMillis(execucaoNanos + leituraNanos),
+                            TimeUnit.NANOSECONDS.toMillis(execucaoNanos), TimeUnit.NANOSECONDS.toMillis(leituraNanos),
+                            linhas, operacao, sql);
+        } else {
+            slowLogger.warn("{} ms [{}] {}", TimeUnit.NANOSECONDS.toMillis(execucaoNanos), operacao, sql);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> tipo, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(JdbcInstrumentation.class.getClassLoader(), new Class<?>[]{tipo}, handler);
+    }
+
+    private static Object invocar(Object alvo, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(alvo, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Conexão medida; como uma conexão do pool é usada por uma thread por vez, os contadores não são atômicos
+     */
+    private final class ConexaoInstrumentada implements InvocationHandler {
+        private final Connection conexao;
+        private final String operacao;
+        private final long inicio = System.nanoTime();
+        private final Connection proxy;
+        private long comandos;
+        private long linhas;
+        private boolean fechada;
+
+        private ConexaoInstrumentada(Connection conexao, String operacao) {
+            this.conexao = conexao;
+            this.operacao = operacao;
+            this.proxy = JdbcInstrumentation.proxy(Connection.class, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String nome = method.getName();
+            if (nome.equals("close")) {
+                fechar();
+            }
+
+            Object resultado = invocar(conexao, method, args);
+
+            if (resultado instanceof CallableStatement) {
+                return new StatementInstrumentado((Statement) resultado, (String) args[0], this)
+                    .proxy(CallableStatement.class);
+            }
+            if (resultado instanceof PreparedStatement) {
+                return new StatementInstrumentado((Statement) resultado, (String) args[0], this)
+                    .proxy(PreparedStatement.class);
+            }
+            if (resultado instanceof Statement) {
+                return new StatementInstrumentado((Statement) resultado, null, this).proxy(Statement.class);
+            }
+            return resultado;
+        }
+
+        private void fechar() {
+            if (fechada) {
+                return;
+            }
+            fechada = true;
+            EstatisticaOperacao estatistica = porOperacao.computeIfAbsent(operacao, EstatisticaOperacao::new);
+            estatistica.duracao.registrar(System.nanoTime() - inicio);
+            estatistica.comandos.add(comandos);
+            estatistica.maximoComandos.accumulateAndGet(comandos, Math::max);
+            estatistica.linhas.add(linhas);
+        }
+    }
+
+    private final class StatementInstrumentado implements InvocationHandler {
+        private final Statement statement;
+        private final String sql;
+        private final ConexaoInstrumentada conexao;
+        private Object proxy;
+        private ResultSetInstrumentado resultadoAberto;
+
+        private StatementInstrumentado(Statement statement, String sql, ConexaoInstrumentada conexao) {
+            this.statement = statement;
+            this.sql = sql;
+            this.conexao = conexao;
+        }
+
+        private Object proxy(Class<? extends Statement> tipo) {
+            this.proxy = JdbcInstrumentation.proxy(tipo, this);
+            return proxy;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String nome = method.getName();
+            if (nome.equals("getConnection")) {
+                return conexao.proxy;
+            }
+            if (nome.equals("close") && resultadoAberto != null) {
+                resultadoAberto.finalizar();
+            }
+            if (!nome.startsWith("execute")) {
+                return invocar(statement, method, args);
+            }
+
+            String comando = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : sql;
+            if (comando == null) {
+                comando = "(lote de comandos)";
+            }
+
+            long inicio = System.nanoTime();
+            long duracao;
+            Object resultado;
+            try {
+                resultado = invocar(statement, method, args);
+            } finally {
+                duracao = System.nanoTime() - inicio;
+                estatistica(comando).execucao.registrar(duracao);
+                conexao.comandos++;
+                if (!nome.equals("executeQuery") && duracao >= limiteLentoNanos) {
+                    registrarLento(comando, conexao.operacao, duracao, 0, 0);
+                }
+            }
+
+            if (resultado instanceof ResultSet) {
+                resultadoAberto = new ResultSetInstrumentado((ResultSet) resultado, comando, this, duracao);
+                return resultadoAberto.proxy;
+            }
+            return resultado;
+        }
+    }
+
+    private final class ResultSetInstrumentado implements InvocationHandler {
+        private final ResultSet resultSet;
+        private final String sql;
+        private final StatementInstrumentado statement;
+        private final long execucaoNanos;
+        private final ResultSet proxy;
+        private long leituraNanos;
+        private long linhas;
+        private boolean finalizado;
+
+        private ResultSetInstrumentado(ResultSet resultSet, String sql, StatementInstrumentado statement,
+                                       long execucaoNanos) {
+            this.resultSet = resultSet;
+            this.sql = sql;
+            this.statement = statement;
+            this.execucaoNanos = execucaoNanos;
+            this.proxy = JdbcInstrumentation.proxy(ResultSet.class, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String nome = method.getName();
+            if (nome.equals("next")) {
+                long inicio = System.nanoTime();
+                boolean existe = (Boolean) invocar(resultSet, method, args);
+                leituraNanos += System.nanoTime() - inicio;
+                if (existe) {
+                    linhas++;
+                } else {
+                    finalizar();
+                }
+                return existe;
+            }
+            if (nome.equals("getStatement")) {
+                return statement.proxy;
+            }
+            if (nome.equals("close")) {
+                finalizar();
+            }
+            return invocar(resultSet, method, args);
+        }
+
+        private void finalizar() {
+            if (finalizado) {
+                return;
+            }
+            finalizado = true;
+            EstatisticaSql estatistica = estatistica(sql);
+            estatistica.leitura.registrar(leituraNanos);
+            estatistica.linhas.add(linhas);
+            statement.conexao.linhas += linhas;
+            if (statement.resultadoAberto == this) {
+                statement.resultadoAberto = null;
+            }
+            if (execucaoNanos + leituraNanos >= limiteLentoNanos) {
+                registrarLento(sql, statement.conexao.operacao, execucaoNanos, leituraNanos, linhas);
+            }
+        }
+    }
+}
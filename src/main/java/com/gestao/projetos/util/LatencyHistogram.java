@@ -0,0 +1,129 @@
+package com.gestao.projetos.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latências sem travas: as amostras são contadas em faixas exponenciais
+ * (potências de 2 em microssegundos, de 1 µs a cerca de 36 minutos) com operações atômicas,
+ * podendo ser registradas por várias threads ao mesmo tempo.
+ * Os percentis são aproximados pelo limite superior da faixa.
+ */
+public class LatencyHistogram {
+
+    private static final int FAIXAS = 32;
+
+    private final AtomicLongArray contagens = new AtomicLongArray(FAIXAS);
+    private final LongAdder contagem = new LongAdder();
+    private final LongAdder somaNanos = new LongAdder();
+    private final AtomicLong maximoNanos = new AtomicLong();
+
+    /**
+     * Registra uma amostra
+     */
+    public void registrar(long nanos) {
+        long duracao = Math.max(0, nanos);
+        contagens.incrementAndGet(faixa(duracao));
+        contagem.increment();
+        somaNanos.add(duracao);
+        maximoNanos.accumulateAndGet(duracao, Math::max);
+    }
+
+    public long getContagem() {
+        return contagem.sum();
+    }
+
+    public long getSomaNanos() {
+        return somaNanos.sum();
+    }
+
+    public long getMaximoNanos() {
+        return maximoNanos.get();
+    }
+
+    public double getMediaNanos() {
+        long total = getContagem();
+        return total > 0 ? (double) getSomaNanos() / total : 0.0;
+    }
+
+    /**
+     * Valor abaixo do qual está a fração informada das amostras (0.5 = mediana)
+     */
+    public long getPercentilNanos(double fracao) {
+        long total = 0;
+        long[] copia = new long[FAIXAS];
+        for (int i = 0; i < FAIXAS; i++) {
+            copia[i] = contagens.get(i);
+            total += copia[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long alvo = Math.max(1, (long) Math.ceil(fracao * total));
+        long acumulado = 0;
+        for (int i = 0; i < FAIXAS; i++) {
+            acumulado += copia[i];
+            if (acumulado >= alvo) {
+                return Math.min(getLimiteSuperiorNanos(i), getMaximoNanos());
+            }
+        }
+        return getMaximoNanos();
+    }
+
+    /**
+     * Cópia do estado atual, para medir um intervalo com {@link #desde(LatencyHistogram)}
+     */
+    public LatencyHistogram copiar() {
+        LatencyHistogram copia = new LatencyHistogram();
+        for (int i = 0; i < FAIXAS; i++) {
+            copia.contagens.set(i, contagens.get(i));
+        }
+        copia.contagem.add(getContagem());
+        copia.somaNanos.add(getSomaNanos());
+        copia.maximoNanos.set(getMaximoNanos());
+        return copia;
+    }
+
+    /**
+     * Amostras registradas depois da cópia informada. O máximo não pode ser separado por
+     * intervalo e continua sendo o do histograma inteiro.
+     */
+    public LatencyHistogram desde(LatencyHistogram inicial) {
+        LatencyHistogram intervalo = new LatencyHistogram();
+        for (int i = 0; i < FAIXAS; i++) {
+            intervalo.contagens.set(i, Math.max(0, contagens.get(i) - inicial.contagens.get(i)));
+        }
+        intervalo.contagem.add(Math.max(0, getContagem() - inicial.getContagem()));
+        intervalo.somaNanos.add(Math.max(0, getSomaNanos() - inicial.getSomaNanos()));
+        intervalo.maximoNanos.set(getMaximoNanos());
+        return intervalo;
+    }
+
+    public int getQuantidadeFaixas() {
+        return FAIXAS;
+    }
+
+    /**
+     * Quantidade de amostras da faixa (não acumulada)
+     */
+    public long getContagemFaixa(int faixa) {
+        return contagens.get(faixa);
+    }
+
+    /**
+     * Limite superior da faixa: 2^faixa microssegundos
+     */
+    public long getLimiteSuperiorNanos(int faixa) {
+        return (1L << faixa) * 1000L;
+    }
+
+    private static int faixa(long nanos) {
+        long micros = nanos / 1000;
+        if (micros == 0) {
+            return 0;
+        }
+        return Math.min(FAIXAS - 1, 64 - Long.numberOfLeadingZeros(micros));
+    }
+}
@@ -0,0 +1,124 @@
+package com.gestao.projetos.util;
+
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exporta o {@link MetricsRegistry} no formato texto do Prometheus: em um arquivo .prom
+ * regravado periodicamente (para o textfile collector do node_exporter) e/ou em um endpoint
+ * HTTP "/metrics" aceito apenas no endereço de loopback.
+ * Propriedades de sistema: "metricas.arquivo", "metricas.intervaloMs" e "metricas.porta".
+ */
+public final class MetricsExporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricsExporter.class);
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static ScheduledExecutorService agendador;
+    private static HttpServer servidor;
+
+    private MetricsExporter() {
+    }
+
+    /**
+     * Inicia as exportações configuradas; sem as propriedades, as métricas ficam só em memória e no JMX
+     */
+    public static synchronized void iniciar() {
+        String arquivo = System.getProperty("metricas.arquivo");
+        if (arquivo != null && agendador == null) {
+            Path destino = Paths.get(arquivo);
+            long intervaloMs = Long.getLong("metricas.intervaloMs", 15000);
+            agendador = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "metrics-exporter");
+                thread.setDaemon(true);
+                return thread;
+            });
+            agendador.scheduleWithFixedDelay(() -> exportarArquivo(destino), 0, intervaloMs, TimeUnit.MILLISECONDS);
+            logger.info("Métricas exportadas para {} a cada {} ms", destino.toAbsolutePath(), intervaloMs);
+        }
+
+        Integer porta = Integer.getInteger("metricas.porta");
+        if (porta != null && servidor == null) {
+            iniciarServidor(porta);
+        }
+    }
+
+    /**
+     * Encerra as exportações, gravando o arquivo uma última vez
+     */
+    public static synchronized void encerrar() {
+        if (agendador != null) {
+            agendador.shutdownNow();
+            agendador = null;
+            exportarArquivo(Paths.get(System.getProperty("metricas.arquivo")));
+        }
+        if (servidor != null) {
+            servidor.stop(0);
+            servidor = null;
+        }
+    }
+
+    /**
+     * Grava as métricas no arquivo, substituindo-o de forma atômica para o coletor nunca ler um arquivo parcial
+     */
+    public static void exportarArquivo(Path destino) {
+        try {
+            Path diretorio = destino.toAbsolutePath().getParent();
+            Files.createDirectories(diretorio);
+            Path temporario = Files.createTempFile(diretorio, destino.getFileName().toString(), ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temporario, StandardCharsets.UTF_8)) {
+                MetricsRegistry.getInstance().escreverPrometheus(writer);
+            }
+            Files.move(temporario, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Erro ao exportar métricas para {}", destino, e);
+        }
+    }
+
+    private static void iniciarServidor(int porta) {
+        try {
+            servidor = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), porta), 0);
+            servidor.createContext("/metrics", troca -> {
+                try {
+                    StringBuilder corpo = new StringBuilder();
+                    MetricsRegistry.getInstance().escreverPrometheus(corpo);
+                    byte[] bytes = corpo.toString().getBytes(StandardCharsets.UTF_8);
+
+                    troca.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+                    troca.sendResponseHeaders(200, bytes.length);
+                    try (OutputStream saida = troca.getResponseBody()) {
+                        saida.write(bytes);
+                    }
+                } finally {
+                    troca.close();
+                }
+            });
+            servidor.setExecutor(Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "metrics-http");
+                thread.setDaemon(true);
+                return thread;
+            }));
+            servidor.start();
+            logger.info("Métricas disponíveis em http://{}:{}/metrics",
+                       InetAddress.getLoopbackAddress().getHostAddress(), porta);
+        } catch (IOException e) {
+            servidor = null;
+            logger.warn("Não foi possível abrir o endpoint de métricas na porta {}", porta, e);
+        }
+    }
+}
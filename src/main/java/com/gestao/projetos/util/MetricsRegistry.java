@@ -0,0 +1,399 @@
+package com.gestao.projetos.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+
+/**
+ * Registro de métricas da aplicação: contadores, gauges e temporizadores identificados por
+ * nome e rótulos. Cada métrica também é publicada como MBean em "com.gestao.projetos:type=Metricas"
+ * (desligável com a propriedade de sistema "metricas.jmx=false"); o formato texto do Prometheus
+ * é gerado por {@link #escreverPrometheus(Appendable)} e exportado pelo {@link MetricsExporter}.
+ */
+public class MetricsRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(MetricsRegistry.class);
+    private static final String DOMINIO_JMX = "com.gestao.projetos";
+    private static final String TEMPORIZADOR_SERVICO = "gestao_servico_duracao_segundos";
+
+    private static MetricsRegistry instance;
+
+    private final Map<String, Metrica> metricas = new ConcurrentHashMap<>();
+    private final Map<String, Temporizador> temporizadoresServico = new ConcurrentHashMap<>();
+    private final boolean jmxHabilitado;
+
+    private MetricsRegistry() {
+        this.jmxHabilitado = Boolean.parseBoolean(System.getProperty("metricas.jmx", "true"));
+    }
+
+    /**
+     * Obtém a instância singleton do MetricsRegistry
+     */
+    public static synchronized MetricsRegistry getInstance() {
+        if (instance == null) {
+            instance = new MetricsRegistry();
+        }
+        return instance;
+    }
+
+    /**
+     * Chamada medida por um temporizador
+     */
+    @FunctionalInterface
+    public interface Chamada<T, E extends Exception> {
+        T executar() throws E;
+    }
+
+    public interface ContadorMBean {
+        long getValor();
+    }
+
+    public interface GaugeMBean {
+        double getValor();
+    }
+
+    public interface TemporizadorMBean {
+        long getContagem();
+
+        double getMediaMs();
+
+        double getP95Ms();
+
+        double getP99Ms();
+
+        double getMaximoMs();
+    }
+
+    /**
+     * Ação sem retorno medida por um temporizador
+     */
+    @FunctionalInterface
+    public interface Acao<E extends Exception> {
+        void executar() throws E;
+    }
+
+    /**
+     * Medição em andamento, encerrada por try-with-resources
+     */
+    public interface Medicao extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    /**
+     * Base das métricas: nome, rótulos já formatados e texto de ajuda
+     */
+    private abstract static class Metrica {
+        private final String nome;
+        private final String rotulos;
+        private final String ajuda;
+
+        private Metrica(String nome, String rotulos, String ajuda) {
+            this.nome = nome;
+            this.rotulos = rotulos;
+            this.ajuda = ajuda;
+        }
+
+        abstract String tipo();
+
+        abstract void escrever(Appendable saida) throws IOException;
+    }
+
+    /**
+     * Contador monotônico
+     */
+    public static final class Contador extends Metrica implements ContadorMBean {
+        private final LongAdder valor = new LongAdder();
+
+        private Contador(String nome, String rotulos, String ajuda) {
+            super(nome, rotulos, ajuda);
+        }
+
+        public void incrementar() {
+            valor.increment();
+        }
+
+        public void incrementar(long quantidade) {
+            valor.add(quantidade);
+        }
+
+        @Override
+        public long getValor() {
+            return valor.sum();
+        }
+
+        @Override
+        String tipo() {
+            return "counter";
+        }
+
+        @Override
+        void escrever(Appendable saida) throws IOException {
+            linha(saida, super.nome, super.rotulos, getValor());
+        }
+    }
+
+    /**
+     * Valor instantâneo lido de uma função no momento da exportação
+     */
+    public static final class Gauge extends Metrica implements GaugeMBean {
+        private volatile DoubleSupplier fonte;
+
+        private Gauge(String nome, String rotulos, String ajuda, DoubleSupplier fonte) {
+            super(nome, rotulos, ajuda);
+            this.fonte = fonte;
+        }
+
+        @Override
+        public double getValor() {
+            try {
+                return fonte.getAsDouble();
+            } catch (RuntimeException e) {
+                logger.debug("Erro ao ler gauge {}", super.nome, e);
+                return Double.NaN;
+            }
+        }
+
+        @Override
+        String tipo() {
+            return "gauge";
+        }
+
+        @Override
+        void escrever(Appendable saida) throws IOException {
+            linha(saida, super.nome, super.rotulos, getValor());
+        }
+    }
+
+    /**
+     * Distribuição de durações, exportada como histograma em segundos
+     */
+    public static final class Temporizador extends Metrica implements TemporizadorMBean {
+        private final LatencyHistogram histograma = new LatencyHistogram();
+
+        private Temporizador(String nome, String rotulos, String ajuda) {
+            super(nome, rotulos, ajuda);
+        }
+
+        public void registrar(long nanos) {
+            histograma.registrar(nanos);
+        }
+
+        /**
+         * Executa a chamada registrando sua duração, inclusive quando ela falha
+         */
+        public <T, E extends Exception> T medir(Chamada<T, E> chamada) throws E {
+            long inicio = System.nanoTime();
+            try {
+                return chamada.executar();
+            } finally {
+                registrar(System.nanoTime() - inicio);
+            }
+        }
+
+        /**
+         * Executa a ação registrando sua duração, inclusive quando ela falha
+         */
+        public <E extends Exception> void medir(Acao<E> acao) throws E {
+            long inicio = System.nanoTime();
+            try {
+                acao.executar();
+            } finally {
+                registrar(System.nanoTime() - inicio);
+            }
+        }
+
+        /**
+         * Inicia uma medição que é registrada quando fechada
+         */
+        public Medicao iniciar() {
+            long inicio = System.nanoTime();
+            return () -> registrar(System.nanoTime() - inicio);
+        }
+
+        public LatencyHistogram getHistograma() {
+            return histograma;
+        }
+
+        @Override
+        public long getContagem() {
+            return histograma.getContagem();
+        }
+
+        @Override
+        public double getMediaMs() {
+            return histograma.getMediaNanos() / 1e6;
+        }
+
+        @Override
+        public double getP95Ms() {
+            return histograma.getPercentilNanos(0.95) / 1e6;
+        }
+
+        @Override
+        public double getP99Ms() {
+            return histograma.getPercentilNanos(0.99) / 1e6;
+        }
+
+        @Override
+        public double getMaximoMs() {
+            return histograma.getMaximoNanos() / 1e6;
+        }
+
+        @Override
+        String tipo() {
+            return "histogram";
+        }
+
+        @Override
+        void escrever(Appendable saida) throws IOException {
+            String prefixo = super.rotulos.isEmpty() ? "{" : super.rotulos.substring(0, super.rotulos.length() - 1) + ",";
+            long acumulado = 0;
+            for (int i = 0; i < histograma.getQuantidadeFaixas(); i++) {
+                acumulado += histograma.getContagemFaixa(i);
+                double limite = histograma.getLimiteSuperiorNanos(i) / 1e9;
+                linha(saida, super.nome + "_bucket", prefixo + "le=\"" + formatar(limite) + "\"}", acumulado);
+            }
+            linha(saida, super.nome + "_bucket", prefixo + "le=\"+Inf\"}", acumulado);
+            linha(saida, super.nome + "_sum", super.rotulos, histograma.getSomaNanos() / 1e9);
+            linha(saida, super.nome + "_count", super.rotulos, acumulado);
+        }
+    }
+
+    /**
+     * Obtém (ou cria) o contador com o nome e os rótulos informados (pares chave, valor)
+     */
+    public Contador contador(String nome, String ajuda, String... rotulos) {
+        return obter(nome, rotulos, Contador.class, r -> new Contador(nome, r, ajuda));
+    }
+
+    /**
+     * Registra um gauge; se já existir, passa a ler da nova função
+     */
+    public Gauge gauge(String nome, String ajuda, DoubleSupplier fonte, String... rotulos) {
+        Gauge gauge = obter(nome, rotulos, Gauge.class, r -> new Gauge(nome, r, ajuda, fonte));
+        gauge.fonte = fonte;
+        return gauge;
+    }
+
+    /**
+     * Obtém (ou cria) o temporizador com o nome e os rótulos informados (pares chave, valor)
+     */
+    public Temporizador temporizador(String nome, String ajuda, String... rotulos) {
+        return obter(nome, rotulos, Temporizador.class, r -> new Temporizador(nome, r, ajuda));
+    }
+
+    /**
+     * Temporizador das chamadas a um método de serviço; fica em cache para não formatar
+     * os rótulos a cada chamada
+     */
+    public Temporizador temporizadorServico(String servico, String metodo) {
+        return temporizadoresServico.computeIfAbsent(servico + '.' + metodo,
+            chave -> temporizador(TEMPORIZADOR_SERVICO, "Duração das chamadas aos métodos dos serviços",
+                                  "servico", servico, "metodo", metodo));
+    }
+
+    /**
+     * Escreve todas as métricas no formato texto do Prometheus (versão 0.0.4)
+     */
+    public void escreverPrometheus(Appendable saida) throws IOException {
+        List<Metrica> ordenadas = new ArrayList<>(metricas.values());
+        ordenadas.sort(Comparator.comparing((Metrica m) -> m.nome).thenComparing(m -> m.rotulos));
+
+        String nomeAnterior = null;
+        for (Metrica metrica : ordenadas) {
+            if (!metrica.nome.equals(nomeAnterior)) {
+                saida.append("# HELP ").append(metrica.nome).append(' ').append(metrica.ajuda).append('\n');
+                saida.append("# TYPE ").append(metrica.nome).append(' ').append(metrica.tipo()).append('\n');
+                nomeAnterior = metrica.nome;
+            }
+            metrica.escrever(saida);
+        }
+    }
+
+    private <M extends Metrica> M obter(String nome, String[] rotulos, Class<M> tipo,
+                                        Function<String, M> criar) {
+        if (rotulos.length % 2 != 0) {
+            throw new IllegalArgumentException("Rótulos devem ser informados em pares chave, valor");
+        }
+        String rotulosFormatados = formatarRotulos(rotulos);
+        Metrica metrica = metricas.computeIfAbsent(nome + rotulosFormatados, chave -> {
+            M nova = criar.apply(rotulosFormatados);
+            registrarJmx(nova, rotulos);
+            return nova;
+        });
+        if (!tipo.isInstance(metrica)) {
+            throw new IllegalArgumentException("Métrica " + nome + " já registrada como " + metrica.tipo());
+        }
+        return tipo.cast(metrica);
+    }
+
+    private void registrarJmx(Metrica metrica, String[] rotulos) {
+        if (!jmxHabilitado) {
+            return;
+        }
+        try {
+            StringBuilder nome = new StringBuilder(DOMINIO_JMX).append(":type=Metricas,name=").append(metrica.nome);
+            for (int i = 0; i < rotulos.length; i += 2) {
+                nome.append(',').append(rotulos[i]).append('=').append(ObjectName.quote(rotulos[i + 1]));
+            }
+
+            Class<?> interfaceMBean = metrica instanceof Contador ? ContadorMBean.class
+                : metrica instanceof Gauge ? GaugeMBean.class : TemporizadorMBean.class;
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            StandardMBean mbean = new StandardMBean(metrica, (Class) interfaceMBean);
+
+            MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(nome.toString());
+            if (!servidor.isRegistered(objectName)) {
+                servidor.registerMBean(mbean, objectName);
+            }
+        } catch (JMException e) {
+            logger.warn("Erro ao publicar a métrica {} via JMX", metrica.nome, e);
+        }
+    }
+
+    private static String formatarRotulos(String[] rotulos) {
+        if (rotulos.length == 0) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < rotulos.length; i += 2) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(rotulos[i]).append("=\"")
+              .append(rotulos[i + 1].replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n"))
+              .append('"');
+        }
+        return sb.append('}').toString();
+    }
+
+    private static void linha(Appendable saida, String nome, String rotulos, double valor) throws IOException {
+        saida.append(nome).append(rotulos).append(' ').append(formatar(valor)).append('\n');
+    }
+
+    private static String formatar(double valor) {
+        if (Double.isNaN(valor)) {
+            return "NaN";
+        }
+        if (valor == Math.rint(valor) && Math.abs(valor) < 1e15) {
+            return Long.toString((long) valor);
+        }
+        return Double.toString(valor);
+    }
+}
@@ -0,0 +1,191 @@
+package com.gestao.projetos.util;
+
+import org.mindrot.jbcrypt.BCrypt;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Executa o trabalho de BCrypt (hash e verificação de senhas) em um pool dedicado,
+ * dimensionado pela quantidade de processadores, fora da thread de quem chama.
+ * Com o pool ocupado e a fila cheia, novas tarefas são recusadas imediatamente
+ * com {@link RejectedExecutionException}, em vez de acumular espera.
+ * Propriedades de sistema: "senha.threads" e "senha.capacidadeFila".
+ */
+public class PasswordHasher {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHasher.class);
+
+    /**
+     * Custo padrão de BCrypt para novas senhas
+     */
+    public static final int CUSTO_PADRAO = 12;
+
+    // "$2a$" + custo com dois dígitos + "$" + 22 caracteres de salt
+    private static final int TAMANHO_SALT = 29;
+
+    private static PasswordHasher instance;
+
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong concluidas = new AtomicLong();
+    private final AtomicLong rejeitadas = new AtomicLong();
+    private final AtomicLong esperaTotalNanos = new AtomicLong();
+    private final AtomicLong esperaMaximaNanos = new AtomicLong();
+    private final AtomicLong execucaoTotalNanos = new AtomicLong();
+
+    private PasswordHasher() {
+        int threads = Integer.getInteger("senha.threads", Runtime.getRuntime().availableProcessors());
+        int capacidadeFila = Integer.getInteger("senha.capacidadeFila", threads * 16);
+
+        AtomicInteger contador = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(capacidadeFila), runnable -> {
+                Thread thread = new Thread(runnable, "password-hasher-" + contador.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        logger.info("Pool de senhas iniciado: {} threads, fila de {}", threads, capacidadeFila);
+
+        MetricsRegistry metricas = MetricsRegistry.getInstance();
+        metricas.gauge("gestao_senha_ativas", "Hashes de senha em execução", executor::getActiveCount);
+        metricas.gauge("gestao_senha_fila", "Hashes de senha aguardando no pool", () -> executor.getQueue().size());
+        metricas.gauge("gestao_senha_concluidas", "Hashes de senha concluídos", concluidas::get);
+        metricas.gauge("gestao_senha_recusadas", "Hashes de senha recusados com o pool saturado", rejeitadas::get);
+    }
+
+    /**
+     * Obtém a instância singleton do PasswordHasher
+     */
+    public static synchronized PasswordHasher getInstance() {
+        if (instance == null) {
+            instance = new PasswordHasher();
+        }
+        return instance;
+    }
+
+    /**
+     * Gera o hash da senha com o custo padrão
+     */
+    public CompletableFuture<String> hashAsync(String senha) {
+        return hashAsync(senha, CUSTO_PADRAO);
+    }
+
+    /**
+     * Gera o hash da senha com o custo informado
+     */
+    public CompletableFuture<String> hashAsync(String senha, int custo) {
+        return submeter(() -> BCrypt.hashpw(senha, BCrypt.gensalt(custo)));
+    }
+
+    /**
+     * Verifica a senha contra o hash armazenado
+     */
+    public CompletableFuture<Boolean> verificarAsync(String senha, String hash) {
+        return submeter(() -> BCrypt.checkpw(senha, hash));
+    }
+
+    /**
+     * Gera o hash da senha com o custo informado, aguardando o pool
+     *
+     * @throws RejectedExecutionException se o pool estiver saturado
+     */
+    public String hash(String senha, int custo) {
+        return aguardar(hashAsync(senha, custo));
+    }
+
+    /**
+     * Verifica a senha contra o hash armazenado, aguardando o pool
+     *
+     * @throws RejectedExecutionException se o pool estiver saturado
+     */
+    public boolean verificar(String senha, String hash) {
+        return aguardar(verificarAsync(senha, hash));
+    }
+
+    /**
+     * Extrai o salt (prefixo com versão e custo) de um hash BCrypt
+     */
+    public static String extrairSalt(String hash) {
+        return hash.substring(0, TAMANHO_SALT);
+    }
+
+    /**
+     * Informações sobre o pool e os tempos de espera e de execução
+     */
+    public String getStatus() {
+        long total = concluidas.get();
+        return String.format("Pool de senhas: %d ativas, %d na fila, %d concluídas, %d recusadas, " +
+                           "espera média %.1f ms (máx. %.1f ms), hash médio %.1f ms",
+                           executor.getActiveCount(), executor.getQueue().size(), total, rejeitadas.get(),
+                           total > 0 ? esperaTotalNanos.get() / 1e6 / total : 0.0,
+                           esperaMaximaNanos.get() / 1e6,
+                           total > 0 ? execucaoTotalNanos.get() / 1e6 / total : 0.0);
+    }
+
+    public long getConcluidas() {
+        return concluidas.get();
+    }
+
+    public long getRejeitadas() {
+        return rejeitadas.get();
+    }
+
+    public int getTamanhoFila() {
+        return executor.getQueue().size();
+    }
+
+    public long getEsperaTotalNanos() {
+        return esperaTotalNanos.get();
+    }
+
+    public long getExecucaoTotalNanos() {
+        return execucaoTotalNanos.get();
+    }
+
+    private <T> CompletableFuture<T> submeter(Supplier<T> trabalho) {
+        CompletableFuture<T> futuro = new CompletableFuture<>();
+        long enfileiradoEm = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                long inicio = System.nanoTime();
+                long espera = inicio - enfileiradoEm;
+                esperaTotalNanos.addAndGet(espera);
+                esperaMaximaNanos.accumulateAndGet(espera, Math::max);
+                try {
+                    futuro.complete(trabalho.get());
+                } catch (RuntimeException e) {
+                    futuro.completeExceptionally(e);
+                } finally {
+                    execucaoTotalNanos.addAndGet(System.nanoTime() - inicio);
+                    concluidas.incrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejeitadas.incrementAndGet();
+            logger.warn("Pool de senhas saturado ({} na fila); tarefa recusada", executor.getQueue().size());
+            futuro.completeExceptionally(
+                new RejectedExecutionException("Sistema ocupado processando senhas. Tente novamente em instantes.", e));
+        }
+        return futuro;
+    }
+
+    private static <T> T aguardar(CompletableFuture<T> futuro) {
+        try {
+            return futuro.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.gestao.projetos.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache em memória dos papéis de cada usuário e da respectiva máscara de
+ * permissões, para que as verificações não consultem o banco a cada chamada.
+ * As entradas expiram após o TTL e são invalidadas explicitamente quando
+ * os papéis de um usuário mudam. Uma carga que corre em paralelo com a
+ * invalidação do mesmo usuário não fica no cache, para não restaurar os
+ * papéis antigos até o fim do TTL.
+ */
+public class PermissionCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(PermissionCache.class);
+    private static final long DEFAULT_TTL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    private static PermissionCache instance;
+
+    private final Map<Long, Entrada> entradas = new ConcurrentHashMap<>();
+    // Versão de invalidação por usuário e geração de invalidateAll, lidas antes de cada carga
+    private final Map<Long, Long> versoes = new ConcurrentHashMap<>();
+    private final AtomicLong geracao = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private volatile long ttlMillis = DEFAULT_TTL_MILLIS;
+
+    /**
+     * Carrega os papéis de um usuário quando não estão no cache
+     */
+    @FunctionalInterface
+    public interface RoleLoader {
+        Set<String> load(Long usuarioId) throws SQLException;
+    }
+
+    private static final class Entrada {
+        private final Set<String> papeis;
+        private final PermissionMatrix matriz;
+        private final long[] mascara;
+        private final long expiraEm;
+
+        private Entrada(Set<String> papeis, PermissionMatrix matriz, long expiraEm) {
+            this.papeis = papeis;
+            this.matriz = matriz;
+            this.mascara = matriz.compilar(papeis);
+            this.expiraEm = expiraEm;
+        }
+    }
+
+    private PermissionCache() {
+    }
+
+    /**
+     * Obtém a instância singleton do PermissionCache
+     */
+    public static synchronized PermissionCache getInstance() {
+        if (instance == null) {
+            instance = new PermissionCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Obtém os papéis do usuário, carregando-os com o loader em caso de ausência ou expiração
+     *
+     * @return Conjunto imutável com os nomes dos papéis
+     */
+    public Set<String> getPapeis(Long usuarioId, RoleLoader loader) throws SQLException {
+        return obterEntrada(usuarioId, loader).papeis;
+    }
+
+    /**
+     * Obtém a máscara de permissões do usuário (OR das máscaras dos seus papéis),
+     * compilada com a PermissionMatrix atual quando os papéis são carregados
+     */
+    public long[] getMascara(Long usuarioId, RoleLoader loader) throws SQLException {
+        return obterEntrada(usuarioId, loader).mascara;
+    }
+
+    private Entrada obterEntrada(Long usuarioId, RoleLoader loader) throws SQLException {
+        long agora = System.currentTimeMillis();
+        PermissionMatrix matriz = PermissionMatrix.getAtual();
+        Entrada entrada = entradas.get(usuarioId);
+
+        if (entrada != null && entrada.expiraEm > agora) {
+            hits.incrementAndGet();
+            if (entrada.matriz != matriz) {
+                // Matriz recarregada: recompila a máscara sem voltar ao banco; não recoloca
+                // a entrada se ela foi invalidada nesse meio-tempo
+                Entrada recompilada = new Entrada(entrada.papeis, matriz, entrada.expiraEm);
+                entradas.replace(usuarioId, entrada, recompilada);
+                entrada = recompilada;
+            }
+            return entrada;
+        }
+
+        misses.incrementAndGet();
+        long versao = versoes.getOrDefault(usuarioId, 0L);
+        long geracaoCarga = geracao.get();
+        Set<String> papeis = Collections.unmodifiableSet(new HashSet<>(loader.load(usuarioId)));
+        entrada = new Entrada(papeis, matriz, agora + ttlMillis);
+        entradas.put(usuarioId, entrada);
+        
+        // Conferido depois do put: se a invalidação veio antes dele, a entrada é retirada aqui;
+        // se veio depois, a própria invalidação a remove
+        if (versoes.getOrDefault(usuarioId, 0L) != versao || geracao.get() != geracaoCarga) {
+            entradas.remove(usuarioId, entrada);
+            logger.debug("Papéis do usuário {} invalidados durante a carga; resultado não mantido no cache", usuarioId);
+        }
+        return entrada;
+    }
+
+    /**
+     * Remove do cache os papéis de um usuário
+     */
+    public void invalidate(Long usuarioId) {
+        if (usuarioId == null) {
+            return;
+        }
+        versoes.merge(usuarioId, 1L, Long::sum);
+        if (entradas.remove(usuarioId) != null) {
+            logger.debug("Cache de permissões invalidado para usuário: {}", usuarioId);
+        }
+    }
+
+    /**
+     * Remove todas as entradas do cache
+     */
+    public void invalidateAll() {
+        geracao.incrementAndGet();
+        entradas.clear();
+        logger.debug("Cache de permissões invalidado por completo");
+    }
+
+    /**
+     * Define o tempo de vida das entradas; vale para as próximas cargas
+     */
+    public void setTtl(long duracao, TimeUnit unidade) {
+        if (duracao <= 0) {
+            throw new IllegalArgumentException("TTL deve ser maior que zero");
+        }
+        this.ttlMillis = unidade.toMillis(duracao);
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Obtém informações sobre o uso do cache
+     */
+    public String getStatus() {
+        long h = hits.get();
+        long m = misses.get();
+        double taxa = (h + m) > 0 ? (h * 100.0) / (h + m) : 0.0;
+        return String.format("Cache de permissões - Entradas: %d, Hits: %d, Misses: %d, Taxa de acerto: %.1f%%",
+            entradas.size(), h, m, taxa);
+    }
+}
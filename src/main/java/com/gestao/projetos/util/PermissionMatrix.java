@@ -0,0 +1,153 @@
+package com.gestao.projetos.util;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Matriz pré-compilada de permissões: cada chave de permissão (ex.: "tarefas.visualizar")
+ * recebe um bit e cada papel uma máscara com os bits concedidos.
+ * A máscara de um usuário é o OR das máscaras dos seus papéis, e a verificação
+ * de acesso é um único AND. Instâncias são imutáveis; uma recarga publica uma nova matriz.
+ */
+public final class PermissionMatrix {
+
+    private static final String SUFIXO_VISUALIZAR = ".visualizar";
+    private static volatile PermissionMatrix atual = new PermissionMatrix(
+        Collections.emptyMap(), Collections.emptyMap(), 1, false);
+
+    private final Map<String, Integer> indices;
+    private final Map<String, long[]> mascarasPorPapel;
+    private final int palavras;
+    private final boolean carregada;
+
+    private PermissionMatrix(Map<String, Integer> indices, Map<String, long[]> mascarasPorPapel,
+                             int palavras, boolean carregada) {
+        this.indices = indices;
+        this.mascarasPorPapel = mascarasPorPapel;
+        this.palavras = palavras;
+        this.carregada = carregada;
+    }
+
+    /**
+     * Obtém a matriz publicada atualmente
+     */
+    public static PermissionMatrix getAtual() {
+        return atual;
+    }
+
+    /**
+     * Publica uma nova matriz; máscaras de usuário compiladas com a anterior deixam de valer
+     */
+    public static void publicar(PermissionMatrix matriz) {
+        if (matriz == null) {
+            throw new IllegalArgumentException("Matriz de permissões não pode ser nula");
+        }
+        atual = matriz;
+    }
+
+    /**
+     * Marca a matriz atual como desatualizada após uma gravação de permissões ou papéis:
+     * a próxima verificação recarrega do banco e, até lá, as concessões atuais continuam valendo
+     */
+    public static void invalidar() {
+        PermissionMatrix anterior = atual;
+        if (anterior.carregada) {
+            atual = new PermissionMatrix(anterior.indices, anterior.mascarasPorPapel, anterior.palavras, false);
+        }
+    }
+
+    /**
+     * Compila a matriz a partir das chaves existentes e das chaves concedidas a cada papel.
+     * Chaves do tipo "recurso.visualizar" também ficam acessíveis pelo nome do recurso.
+     */
+    public static PermissionMatrix build(Collection<String> chaves, Map<String, Set<String>> chavesPorPapel) {
+        Map<String, Integer> indices = new HashMap<>();
+        for (String chave : chaves) {
+            if (chave != null && !indices.containsKey(chave)) {
+                int indice = indices.size();
+                indices.put(chave, indice);
+                if (chave.endsWith(SUFIXO_VISUALIZAR)) {
+                    indices.putIfAbsent(chave.substring(0, chave.length() - SUFIXO_VISUALIZAR.length()), indice);
+                }
+            }
+        }
+
+        int totalBits = 0;
+        for (Integer indice : indices.values()) {
+            totalBits = Math.max(totalBits, indice + 1);
+        }
+        int palavras = Math.max(1, (totalBits + 63) >>> 6);
+
+        Map<String, long[]> mascarasPorPapel = new HashMap<>();
+        for (Map.Entry<String, Set<String>> entrada : chavesPorPapel.entrySet()) {
+            long[] mascara = new long[palavras];
+            for (String chave : entrada.getValue()) {
+                Integer indice = indices.get(chave);
+                if (indice != null) {
+                    mascara[indice >>> 6] |= 1L << indice;
+                }
+            }
+            mascarasPorPapel.put(entrada.getKey(), mascara);
+        }
+
+        return new PermissionMatrix(Collections.unmodifiableMap(indices),
+                                    Collections.unmodifiableMap(mascarasPorPapel), palavras, true);
+    }
+
+    /**
+     * Indica se a matriz já foi carregada do banco
+     */
+    public boolean isCarregada() {
+        return carregada;
+    }
+
+    /**
+     * Obtém o bit de uma chave de permissão ou recurso, ou -1 se desconhecido
+     */
+    public int getIndice(String chaveOuRecurso) {
+        if (chaveOuRecurso == null) {
+            return -1;
+        }
+        Integer indice = indices.get(chaveOuRecurso);
+        if (indice == null) {
+            indice = indices.get(chaveOuRecurso.trim().toLowerCase());
+        }
+        return indice != null ? indice : -1;
+    }
+
+    /**
+     * Combina (OR) as máscaras dos papéis informados
+     */
+    public long[] compilar(Collection<String> papeis) {
+        long[] mascara = new long[palavras];
+        for (String papel : papeis) {
+            long[] mascaraPapel = mascarasPorPapel.get(papel);
+            if (mascaraPapel != null) {
+                for (int i = 0; i < palavras; i++) {
+                    mascara[i] |= mascaraPapel[i];
+                }
+            }
+        }
+        return mascara;
+    }
+
+    /**
+     * Verifica se a máscara concede o bit informado
+     */
+    public static boolean permite(long[] mascara, int indice) {
+        if (mascara == null || indice < 0 || (indice >>> 6) >= mascara.length) {
+            return false;
+        }
+        return (mascara[indice >>> 6] & (1L << indice)) != 0;
+    }
+
+    /**
+     * Quantidade de chaves de permissão distintas na matriz
+     */
+    public int getTotalPermissoes() {
+        return (int) indices.values().stream().distinct().count();
+    }
+}
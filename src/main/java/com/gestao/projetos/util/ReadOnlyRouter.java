@@ -0,0 +1,164 @@
+package com.gestao.projetos.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Roteamento de leituras para a réplica configurada em "db.replica.url". Dentro de
+ * {@link #executar(Consulta)}, {@link DatabaseUtil#getConnection()} devolve uma conexão da
+ * réplica, de modo que os DAOs chamados pela consulta leem dela sem alteração.
+ *
+ * As leituras voltam para o primário quando:
+ * - há uma transação do {@link TransactionTemplate} aberta na thread;
+ * - houve um commit no primário há menos de "db.replica.aderenciaMs" (5 s), para a sessão
+ *   enxergar as próprias gravações mesmo com atraso de replicação;
+ * - a réplica falhou há menos de "db.replica.pausaMs" (30 s).
+ *
+ * Se a réplica cair no meio da consulta, ela é repetida no primário; por isso a consulta
+ * não deve ter efeitos colaterais além da leitura.
+ */
+public final class ReadOnlyRouter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadOnlyRouter.class);
+
+    // Janelas configuradas por DatabaseUtil ao criar o pool da réplica
+    private static volatile long aderenciaNanos = TimeUnit.SECONDS.toNanos(5);
+    private static volatile long pausaNanos = TimeUnit.SECONDS.toNanos(30);
+
+    private static final ThreadLocal<Escopo> escopoAtual = new ThreadLocal<>();
+
+    private static final MetricsRegistry.Contador leiturasReplica = MetricsRegistry.getInstance()
+        .contador("gestao_leituras_roteadas_total", "Conexões de leitura por destino", "destino", "replica");
+    private static final MetricsRegistry.Contador leiturasPrimario = MetricsRegistry.getInstance()
+        .contador("gestao_leituras_roteadas_total", "Conexões de leitura por destino", "destino", "primario");
+    private static final MetricsRegistry.Contador falhasReplica = MetricsRegistry.getInstance()
+        .contador("gestao_replica_falhas_total", "Falhas da réplica que desviaram as leituras para o primário");
+
+    // Instantes (System.nanoTime) até os quais as leituras ficam no primário
+    private static volatile long aderenteAte = System.nanoTime();
+    private static volatile long suspensaAte = System.nanoTime();
+
+    /**
+     * Consulta somente leitura; pode ser executada duas vezes se a réplica falhar
+     */
+    @FunctionalInterface
+    public interface Consulta<T> {
+        T executar() throws SQLException;
+    }
+
+    /**
+     * Estado da consulta em andamento na thread
+     */
+    private static final class Escopo {
+        private boolean usouReplica;
+    }
+
+    private ReadOnlyRouter() {
+    }
+
+    /**
+     * Executa a consulta lendo da réplica quando possível
+     *
+     * @return Resultado da consulta
+     * @throws SQLException se a consulta falhar (no primário, quando a réplica também falhou)
+     */
+    public static <T> T executar(Consulta<T> consulta) throws SQLException {
+        if (escopoAtual.get() != null) {
+            return consulta.executar();
+        }
+
+        Escopo escopo = new Escopo();
+        escopoAtual.set(escopo);
+        try {
+            return consulta.executar();
+        } catch (SQLException e) {
+            if (!escopo.usouReplica || !falhaDeConexao(e)) {
+                throw e;
+            }
+            registrarFalha(e);
+            escopoAtual.remove();
+            return consulta.executar();
+        } finally {
+            escopoAtual.remove();
+        }
+    }
+
+    /**
+     * Define as janelas de aderência após gravação e de pausa após falha da réplica
+     */
+    static void configurar(long aderenciaMs, long pausaMs) {
+        aderenciaNanos = TimeUnit.MILLISECONDS.toNanos(aderenciaMs);
+        pausaNanos = TimeUnit.MILLISECONDS.toNanos(pausaMs);
+    }
+
+    /**
+     * Indica se a thread está dentro de uma consulta roteável
+     */
+    static boolean isEmEscopo() {
+        return escopoAtual.get() != null;
+    }
+
+    /**
+     * Indica se a próxima leitura pode ir para a réplica (sem gravação recente nem falha recente)
+     */
+    static boolean isReplicaDisponivel() {
+        long agora = System.nanoTime();
+        return agora - aderenteAte >= 0 && agora - suspensaAte >= 0;
+    }
+
+    static void registrarLeituraReplica() {
+        leiturasReplica.incrementar();
+        Escopo escopo = escopoAtual.get();
+        if (escopo != null) {
+            escopo.usouReplica = true;
+        }
+    }
+
+    static void registrarLeituraPrimario() {
+        leiturasPrimario.incrementar();
+    }
+
+    static void registrarFalha(SQLException e) {
+        suspensaAte = System.nanoTime() + pausaNanos;
+        falhasReplica.incrementar();
+        logger.warn("Réplica de leitura indisponível, leituras no primário por {} ms: {}",
+                    TimeUnit.NANOSECONDS.toMillis(pausaNanos), e.getMessage());
+    }
+
+    /**
+     * Envolve uma conexão do primário para registrar os commits, que mantêm as leituras
+     * no primário durante a janela de aderência
+     */
+    static Connection registrarEscritas(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(ReadOnlyRouter.class.getClassLoader(),
+            new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                Object resultado;
+                try {
+                    resultado = method.invoke(connection, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                if (method.getName().equals("commit")) {
+                    aderenteAte = System.nanoTime() + aderenciaNanos;
+                }
+                return resultado;
+            });
+    }
+
+    private static boolean falhaDeConexao(SQLException e) {
+        String estado = e.getSQLState();
+        return e instanceof SQLTransientConnectionException
+            || e instanceof SQLNonTransientConnectionException
+            || e instanceof SQLRecoverableException
+            || (estado != null && estado.startsWith("08"));
+    }
+}
@@ -0,0 +1,141 @@
+package com.gestao.projetos.util;
+
+import com.gestao.projetos.model.Papel;
+import com.gestao.projetos.model.Permissao;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Cache dos dados de referência (papéis e permissões), tabelas pequenas e quase estáticas.
+ * Cada tabela é carregada uma vez, na inicialização, em um snapshot imutável com busca por
+ * ID e por nome; uma gravação recarrega a tabela do banco e troca o snapshot inteiro
+ * (copy-on-write), de modo que as leituras nunca veem um estado parcial nem consultam o banco.
+ */
+public class ReferenceDataCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceDataCache.class);
+    private static ReferenceDataCache instance;
+
+    private final AtomicReference<Tabela<Papel>> papeis = new AtomicReference<>();
+    private final AtomicReference<Tabela<Permissao>> permissoes = new AtomicReference<>();
+
+    /**
+     * Carrega todas as linhas de uma tabela de referência
+     */
+    @FunctionalInterface
+    public interface Carregador<T> {
+        List<T> carregar() throws SQLException;
+    }
+
+    /**
+     * Snapshot imutável de uma tabela de referência, na ordem em que foi carregada.
+     * A busca por nome ignora maiúsculas e minúsculas, como a collation utf8mb4_unicode_ci
+     * das consultas por nome que o cache substituiu.
+     */
+    public static final class Tabela<T> {
+        private final List<T> itens;
+        private final Map<Long, T> porId;
+        private final Map<String, T> porNome;
+
+        private Tabela(List<T> itens, Function<T, Long> id, Function<T, String> nome) {
+            Map<Long, T> ids = new HashMap<>();
+            Map<String, T> nomes = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (T item : itens) {
+                ids.put(id.apply(item), item);
+                nomes.put(nome.apply(item), item);
+            }
+            this.itens = Collections.unmodifiableList(new ArrayList<>(itens));
+            this.porId = Collections.unmodifiableMap(ids);
+            this.porNome = Collections.unmodifiableMap(nomes);
+        }
+
+        public Optional<T> porId(Long id) {
+            return Optional.ofNullable(id != null ? porId.get(id) : null);
+        }
+
+        public Optional<T> porNome(String nome) {
+            return Optional.ofNullable(nome != null ? porNome.get(nome) : null);
+        }
+
+        public List<T> getItens() {
+            return itens;
+        }
+    }
+
+    private ReferenceDataCache() {
+    }
+
+    /**
+     * Obtém a instância singleton do ReferenceDataCache
+     */
+    public static synchronized ReferenceDataCache getInstance() {
+        if (instance == null) {
+            instance = new ReferenceDataCache();
+        }
+        return instance;
+    }
+
+    /**
+     * Papéis atuais; carrega com o carregador se ainda não foram carregados
+     */
+    public Tabela<Papel> getPapeis(Carregador<Papel> carregador) throws SQLException {
+        Tabela<Papel> tabela = papeis.get();
+        return tabela != null ? tabela : recarregarPapeis(carregador);
+    }
+
+    /**
+     * Recarrega os papéis do banco e publica o novo snapshot
+     */
+    public Tabela<Papel> recarregarPapeis(Carregador<Papel> carregador) throws SQLException {
+        return recarregar(papeis, carregador, Papel::getId, Papel::getNome, "papéis");
+    }
+
+    /**
+     * Permissões atuais; carrega com o carregador se ainda não foram carregadas
+     */
+    public Tabela<Permissao> getPermissoes(Carregador<Permissao> carregador) throws SQLException {
+        Tabela<Permissao> tabela = permissoes.get();
+        return tabela != null ? tabela : recarregarPermissoes(carregador);
+    }
+
+    /**
+     * Recarrega as permissões do banco e publica o novo snapshot
+     */
+    public Tabela<Permissao> recarregarPermissoes(Carregador<Permissao> carregador) throws SQLException {
+        return recarregar(permissoes, carregador, Permissao::getId, Permissao::getChave, "permissões");
+    }
+
+    private static <T> Tabela<T> recarregar(AtomicReference<Tabela<T>> referencia, Carregador<T> carregador,
+                                            Function<T, Long> id, Function<T, String> nome,
+                                            String descricao) throws SQLException {
+        // Recargas da mesma tabela em série, para um snapshot antigo não sobrescrever um mais novo
+        synchronized (referencia) {
+            Tabela<T> tabela = new Tabela<>(carregador.carregar(), id, nome);
+            referencia.set(tabela);
+            logger.debug("Dados de referência carregados: {} {}", tabela.getItens().size(), descricao);
+            return tabela;
+        }
+    }
+
+    /**
+     * Obtém informações sobre os dados carregados
+     */
+    public String getStatus() {
+        Tabela<Papel> p = papeis.get();
+        Tabela<Permissao> q = permissoes.get();
+        return String.format("Dados de referência - Papéis: %s, Permissões: %s",
+            p != null ? p.getItens().size() : "não carregados",
+            q != null ? q.getItens().size() : "não carregadas");
+    }
+}
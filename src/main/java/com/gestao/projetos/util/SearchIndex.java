@@ -0,0 +1,337 @@
+package com.gestao.projetos.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Índice invertido de trigramas em memória para pesquisa por substring e prefixo.
+ * Cada documento é um ID com alguns campos de texto, normalizados sem acentos e em minúsculas.
+ * Se a memória estimada ultrapassar o orçamento, o índice se desativa e
+ * {@link #pesquisar(String, int)} retorna null para que o chamador consulte o banco.
+ */
+public class SearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndex.class);
+
+    private static final int TAMANHO_GRAMA = 3;
+    private static final char SEPARADOR_CAMPOS = '\n';
+    private static final Pattern MARCAS_DIACRITICAS = Pattern.compile("\\p{M}+");
+
+    // Estimativas de ocupação por estrutura (JVM 64 bits com oops comprimidos)
+    private static final int BYTES_POR_DOCUMENTO = 64;
+    private static final int BYTES_POR_GRAMA = 96;
+    private static final int BYTES_POR_OCORRENCIA = 48;
+
+    private final String nome;
+    private final long memoriaMaximaBytes;
+    private final Map<Long, String> documentos = new HashMap<>();
+    private final Map<String, Set<Long>> ocorrencias = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long memoriaEstimadaBytes;
+    private volatile boolean disponivel;
+    private volatile long duracaoConstrucaoMs;
+    private volatile LocalDateTime construidoEm;
+
+    public SearchIndex(String nome, long memoriaMaximaBytes) {
+        if (memoriaMaximaBytes <= 0) {
+            throw new IllegalArgumentException("Orçamento de memória deve ser maior que zero");
+        }
+        this.nome = nome;
+        this.memoriaMaximaBytes = memoriaMaximaBytes;
+    }
+
+    /**
+     * Reconstrói o índice com os documentos informados (ID -> campos de texto)
+     */
+    public void construir(Map<Long, List<String>> novosDocumentos) {
+        long inicio = System.nanoTime();
+
+        lock.writeLock().lock();
+        try {
+            limpar();
+            disponivel = true;
+            for (Map.Entry<Long, List<String>> documento : novosDocumentos.entrySet()) {
+                if (!adicionar(documento.getKey(), documento.getValue())) {
+                    break;
+                }
+            }
+            construidoEm = LocalDateTime.now();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        duracaoConstrucaoMs = (System.nanoTime() - inicio) / 1_000_000;
+        logger.info(getStatus());
+    }
+
+    /**
+     * Inclui ou substitui um documento; ignorado enquanto o índice não estiver disponível
+     */
+    public void indexar(Long id, String... campos) {
+        if (id == null || !disponivel) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (disponivel) {
+                removerInterno(id);
+                adicionar(id, Arrays.asList(campos));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove um documento do índice
+     */
+    public void remover(Long id) {
+        if (id == null || !disponivel) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            removerInterno(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Pesquisa documentos que contenham o termo em algum campo.
+     * Começo de campo vem antes de começo de palavra, que vem antes de meio de palavra.
+     *
+     * @return IDs ordenados por relevância, ou null se o índice não estiver disponível
+     */
+    public List<Long> pesquisar(String termo, int limite) {
+        if (!disponivel) {
+            return null;
+        }
+
+        String termoNormalizado = normalizar(termo == null ? "" : termo.trim());
+        if (termoNormalizado.isEmpty() || limite <= 0) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (!disponivel) {
+                return null;
+            }
+
+            List<List<Long>> porRelevancia = List.of(new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+            for (Long id : candidatos(termoNormalizado)) {
+                int relevancia = relevancia(documentos.get(id), termoNormalizado);
+                if (relevancia >= 0) {
+                    porRelevancia.get(relevancia).add(id);
+                }
+            }
+
+            List<Long> resultado = new ArrayList<>();
+            for (List<Long> ids : porRelevancia) {
+                Collections.sort(ids);
+                for (Long id : ids) {
+                    if (resultado.size() >= limite) {
+                        return resultado;
+                    }
+                    resultado.add(id);
+                }
+            }
+            return resultado;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isDisponivel() {
+        return disponivel;
+    }
+
+    public int getTotalDocumentos() {
+        lock.readLock().lock();
+        try {
+            return documentos.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getMemoriaEstimadaBytes() {
+        lock.readLock().lock();
+        try {
+            return memoriaEstimadaBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long getDuracaoConstrucaoMs() {
+        return duracaoConstrucaoMs;
+    }
+
+    public LocalDateTime getConstruidoEm() {
+        return construidoEm;
+    }
+
+    /**
+     * Obtém informações sobre tamanho e construção do índice
+     */
+    public String getStatus() {
+        lock.readLock().lock();
+        try {
+            return String.format("Índice de pesquisa '%s' - Disponível: %s, Documentos: %d, Trigramas: %d, " +
+                                 "Memória estimada: %d KB de %d KB, Construção: %d ms",
+                nome, disponivel ? "sim" : "não", documentos.size(), ocorrencias.size(),
+                memoriaEstimadaBytes / 1024, memoriaMaximaBytes / 1024, duracaoConstrucaoMs);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * IDs que podem conter o termo: interseção das listas de seus trigramas,
+     * ou todos os documentos quando o termo é menor que um trigrama
+     */
+    private Set<Long> candidatos(String termo) {
+        if (termo.length() < TAMANHO_GRAMA) {
+            return documentos.keySet();
+        }
+
+        List<Set<Long>> listas = new ArrayList<>();
+        for (String grama : gramas(termo)) {
+            Set<Long> ids = ocorrencias.get(grama);
+            if (ids == null) {
+                return Collections.emptySet();
+            }
+            listas.add(ids);
+        }
+        listas.sort((a, b) -> Integer.compare(a.size(), b.size()));
+
+        Set<Long> resultado = new HashSet<>();
+        for (Long id : listas.get(0)) {
+            boolean emTodas = true;
+            for (int i = 1; i < listas.size() && emTodas; i++) {
+                emTodas = listas.get(i).contains(id);
+            }
+            if (emTodas) {
+                resultado.add(id);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * 0 = início de campo, 1 = início de palavra, 2 = meio de palavra, -1 = não contém
+     */
+    private int relevancia(String texto, String termo) {
+        int melhor = -1;
+        int posicao = texto.indexOf(termo);
+        while (posicao >= 0) {
+            if (posicao == 0 || texto.charAt(posicao - 1) == SEPARADOR_CAMPOS) {
+                return 0;
+            }
+            int atual = Character.isLetterOrDigit(texto.charAt(posicao - 1)) ? 2 : 1;
+            melhor = melhor < 0 ? atual : Math.min(melhor, atual);
+            posicao = texto.indexOf(termo, posicao + 1);
+        }
+        return melhor;
+    }
+
+    private boolean adicionar(Long id, List<String> campos) {
+        StringBuilder texto = new StringBuilder();
+        for (String campo : campos) {
+            if (campo != null && !campo.isEmpty()) {
+                if (texto.length() > 0) {
+                    texto.append(SEPARADOR_CAMPOS);
+                }
+                texto.append(normalizar(campo));
+            }
+        }
+
+        String documento = texto.toString();
+        documentos.put(id, documento);
+        memoriaEstimadaBytes += BYTES_POR_DOCUMENTO + 2L * documento.length();
+
+        for (String grama : gramas(documento)) {
+            Set<Long> ids = ocorrencias.get(grama);
+            if (ids == null) {
+                ids = new HashSet<>();
+                ocorrencias.put(grama, ids);
+                memoriaEstimadaBytes += BYTES_POR_GRAMA;
+            }
+            if (ids.add(id)) {
+                memoriaEstimadaBytes += BYTES_POR_OCORRENCIA;
+            }
+        }
+
+        if (memoriaEstimadaBytes > memoriaMaximaBytes) {
+            logger.warn("Índice de pesquisa '{}' excedeu o orçamento de {} KB com {} documentos; " +
+                       "pesquisas usarão o banco de dados", nome, memoriaMaximaBytes / 1024, documentos.size());
+            limpar();
+            disponivel = false;
+            return false;
+        }
+        return true;
+    }
+
+    private void removerInterno(Long id) {
+        String documento = documentos.remove(id);
+        if (documento == null) {
+            return;
+        }
+        memoriaEstimadaBytes -= BYTES_POR_DOCUMENTO + 2L * documento.length();
+
+        for (String grama : gramas(documento)) {
+            Set<Long> ids = ocorrencias.get(grama);
+            if (ids != null && ids.remove(id)) {
+                memoriaEstimadaBytes -= BYTES_POR_OCORRENCIA;
+                if (ids.isEmpty()) {
+                    ocorrencias.remove(grama);
+                    memoriaEstimadaBytes -= BYTES_POR_GRAMA;
+                }
+            }
+        }
+    }
+
+    private void limpar() {
+        documentos.clear();
+        ocorrencias.clear();
+        memoriaEstimadaBytes = 0;
+    }
+
+    /**
+     * Trigramas distintos do texto, sem atravessar a fronteira entre campos
+     */
+    private static Set<String> gramas(String texto) {
+        Set<String> gramas = new HashSet<>();
+        for (int i = 0; i + TAMANHO_GRAMA <= texto.length(); i++) {
+            String grama = texto.substring(i, i + TAMANHO_GRAMA);
+            if (grama.indexOf(SEPARADOR_CAMPOS) < 0) {
+                gramas.add(grama);
+            }
+        }
+        return gramas;
+    }
+
+    private static String normalizar(String texto) {
+        String semAcentos = MARCAS_DIACRITICAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return semAcentos.replace(SEPARADOR_CAMPOS, ' ').toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,78 @@
+package com.gestao.projetos.util;
+
+import com.gestao.projetos.model.Tarefa;
+import com.gestao.projetos.model.Usuario;
+
+/**
+ * Mantém os índices de pesquisa em memória de tarefas e usuários.
+ * Os índices são construídos na inicialização e atualizados pelos DAOs a cada escrita.
+ * O orçamento de memória (em MB) pode ser ajustado pelas propriedades de sistema
+ * "pesquisa.tarefas.memoriaMaximaMb" e "pesquisa.usuarios.memoriaMaximaMb".
+ */
+public class SearchIndexManager {
+
+    private static final long BYTES_POR_MB = 1024L * 1024L;
+    private static SearchIndexManager instance;
+
+    private final SearchIndex tarefas;
+    private final SearchIndex usuarios;
+
+    private SearchIndexManager() {
+        this.tarefas = new SearchIndex("tarefas",
+            Long.getLong("pesquisa.tarefas.memoriaMaximaMb", 128) * BYTES_POR_MB);
+        this.usuarios = new SearchIndex("usuarios",
+            Long.getLong("pesquisa.usuarios.memoriaMaximaMb", 32) * BYTES_POR_MB);
+    }
+
+    /**
+     * Obtém a instância singleton do SearchIndexManager
+     */
+    public static synchronized SearchIndexManager getInstance() {
+        if (instance == null) {
+            instance = new SearchIndexManager();
+        }
+        return instance;
+    }
+
+    /**
+     * Índice de tarefas por título e descrição
+     */
+    public SearchIndex getTarefas() {
+        return tarefas;
+    }
+
+    /**
+     * Índice de usuários por nome, email, login e CPF
+     */
+    public SearchIndex getUsuarios() {
+        return usuarios;
+    }
+
+    public void indexarTarefa(Tarefa tarefa) {
+        if (tarefa != null) {
+            tarefas.indexar(tarefa.getId(), tarefa.getTitulo(), tarefa.getDescricao());
+        }
+    }
+
+    public void removerTarefa(Long id) {
+        tarefas.remover(id);
+    }
+
+    public void indexarUsuario(Usuario usuario) {
+        if (usuario != null) {
+            usuarios.indexar(usuario.getId(), usuario.getNome(), usuario.getEmail(),
+                             usuario.getLogin(), usuario.getCpf());
+        }
+    }
+
+    public void removerUsuario(Long id) {
+        usuarios.remover(id);
+    }
+
+    /**
+     * Obtém informações sobre todos os índices
+     */
+    public String getStatus() {
+        return tarefas.getStatus() + "\n" + usuarios.getStatus();
+    }
+}
@@ -65,6 +65,7 @@ public class SessionManager {
         if (currentUser != null) {
             logger.info("Encerrando sessão para usuário: {} (ID: {})", 
                        currentUser.getEmail(), currentUser.getId());
+            PermissionCache.getInstance().invalidate(currentUser.getId());
         }
         
         this.currentUser = null;
@@ -0,0 +1,108 @@
+package com.gestao.projetos.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.Consumer;
+
+/**
+ * Consultas em modo streaming para exportações e relatórios sobre tabelas grandes.
+ * As linhas são lidas do servidor uma a uma, com cursor somente leitura e apenas
+ * para frente, e entregues a um callback sem serem acumuladas em memória.
+ * Enquanto o resultado é percorrido a conexão fica ocupada (o driver MySQL não
+ * aceita outras consultas nela), portanto o callback não deve depender da mesma conexão.
+ */
+public final class StreamingQuery {
+
+    private static final Logger logger = LoggerFactory.getLogger(StreamingQuery.class);
+
+    /**
+     * Fetch size que ativa a leitura linha a linha no MySQL Connector/J
+     */
+    public static final int MYSQL_STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    /**
+     * Converte a linha atual do ResultSet em um objeto
+     */
+    @FunctionalInterface
+    public interface RowMapper<T> {
+        T map(ResultSet rs) throws SQLException;
+    }
+
+    private StreamingQuery() {
+    }
+
+    /**
+     * Executa a consulta em uma conexão do pool e entrega cada linha ao callback
+     *
+     * @return Quantidade de linhas processadas
+     */
+    public static <T> long forEach(String sql, RowMapper<T> mapper, Consumer<? super T> handler,
+                                   Object... parameters) throws SQLException {
+        try (Connection connection = DatabaseUtil.getConnection()) {
+            return forEach(connection, sql, mapper, handler, parameters);
+        }
+    }
+
+    /**
+     * Executa a consulta na conexão informada e entrega cada linha ao callback
+     *
+     * @return Quantidade de linhas processadas
+     */
+    public static <T> long forEach(Connection connection, String sql, RowMapper<T> mapper,
+                                   Consumer<? super T> handler, Object... parameters) throws SQLException {
+        long linhas = 0;
+        try (PreparedStatement statement = prepare(connection, sql, parameters);
+             ResultSet resultSet = statement.executeQuery()) {
+
+            try {
+                while (resultSet.next()) {
+                    handler.accept(mapper.map(resultSet));
+                    linhas++;
+                }
+            } catch (RuntimeException | SQLException e) {
+                // Ao fechar, o driver leria as linhas restantes; cancela a consulta antes
+                cancelar(statement);
+                throw e;
+            }
+
+            logger.debug("Consulta em streaming processou {} linhas", linhas);
+            return linhas;
+
+        } catch (SQLException e) {
+            logger.error("Erro ao executar consulta em streaming: {}", sql, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Prepara um statement somente leitura, apenas para frente e com leitura linha a linha
+     */
+    public static PreparedStatement prepare(Connection connection, String sql, Object... parameters)
+            throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(
+            sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        try {
+            statement.setFetchSize(MYSQL_STREAMING_FETCH_SIZE);
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            return statement;
+        } catch (SQLException e) {
+            statement.close();
+            throw e;
+        }
+    }
+
+    private static void cancelar(PreparedStatement statement) {
+        try {
+            statement.cancel();
+        } catch (SQLException e) {
+            logger.warn("Erro ao cancelar consulta em streaming: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.gestao.projetos.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Unidade de trabalho com conexão presa à thread. Dentro de {@link #executar(Trabalho)},
+ * {@link DatabaseUtil#getConnection()} devolve a conexão da transação para todos os DAOs,
+ * de modo que uma operação com várias etapas usa uma única conexão e um único commit.
+ *
+ * Os DAOs não precisam saber da transação: na conexão participante, close(), commit(),
+ * rollback() e setAutoCommit() são ignorados, e quem decide o resultado é o template.
+ * A transação é confirmada quando o trabalho termina normalmente e desfeita quando ele
+ * lança qualquer exceção. Chamadas aninhadas participam da transação já aberta.
+ */
+public final class TransactionTemplate {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransactionTemplate.class);
+
+    private static final ThreadLocal<Connection> conexaoAtual = new ThreadLocal<>();
+
+    /**
+     * Trabalho executado dentro da transação; recebe a conexão para os métodos de DAO
+     * que aceitam uma conexão explícita
+     */
+    @FunctionalInterface
+    public interface Trabalho<T> {
+        T executar(Connection connection) throws SQLException;
+    }
+
+    private TransactionTemplate() {
+    }
+
+    /**
+     * Executa o trabalho em uma transação, ou na transação já aberta nesta thread
+     *
+     * @return Resultado do trabalho
+     * @throws SQLException se o trabalho, o commit ou a obtenção da conexão falharem
+     */
+    public static <T> T executar(Trabalho<T> trabalho) throws SQLException {
+        Connection atual = conexaoAtual.get();
+        if (atual != null) {
+            return trabalho.executar(participante(atual));
+        }
+
+        // Sempre no primário, mesmo dentro de uma consulta do ReadOnlyRouter
+        Connection connection = DatabaseUtil.getPrimaryConnection();
+        conexaoAtual.set(connection);
+        try {
+            T resultado = trabalho.executar(participante(connection));
+            connection.commit();
+            return resultado;
+        } catch (SQLException | RuntimeException | Error e) {
+            desfazer(connection, e);
+            throw e;
+        } finally {
+            conexaoAtual.remove();
+            DatabaseUtil.closeConnection(connection);
+        }
+    }
+
+    /**
+     * Indica se há uma transação aberta nesta thread
+     */
+    public static boolean isAtiva() {
+        return conexaoAtual.get() != null;
+    }
+
+    /**
+     * Conexão participante da transação da thread, ou null fora de uma transação
+     */
+    static Connection conexaoParticipante() {
+        Connection atual = conexaoAtual.get();
+        return atual != null ? participante(atual) : null;
+    }
+
+    private static void desfazer(Connection connection, Throwable causa) {
+        try {
+            connection.rollback();
+            logger.debug("Transação desfeita: {}", causa.toString());
+        } catch (SQLException e) {
+            causa.addSuppressed(e);
+            logger.error("Erro ao desfazer a transação", e);
+        }
+    }
+
+    private static Connection participante(Connection connection) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "close":
+                case "commit":
+                case "rollback":
+                    // rollback(Savepoint) continua valendo dentro da transação
+                    if (method.getParameterCount() == 0) {
+                        return null;
+                    }
+                    break;
+                case "setAutoCommit":
+                    return null;
+                default:
+                    break;
+            }
+            return invocar(connection, method, args);
+        };
+        return (Connection) Proxy.newProxyInstance(TransactionTemplate.class.getClassLoader(),
+                                                   new Class<?>[]{Connection.class}, handler);
+    }
+
+    private static Object invocar(Object alvo, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(alvo, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -12,8 +12,6 @@ import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.util.Map;
-import java.util.Timer;
-import java.util.TimerTask;
 
 /**
  * Tela de Dashboard com estatísticas, gráficos e indicadores do sistema
@@ -53,9 +51,6 @@ public class DashboardFrame extends JInternalFrame {
     private JLabel lblIndicadorAtrasos;
     private JLabel lblIndicadorDesempenho;
     
-    // Timer para atualização automática
-    private Timer updateTimer;
-    
     public DashboardFrame() {
         this.controller = new DashboardController(this);
         initializeComponents();
@@ -202,13 +197,11 @@ public class DashboardFrame extends JInternalFrame {
      * Configura os manipuladores de eventos
      */
     private void setupEventHandlers() {
-        // Adicionar listener para fechar o timer quando a janela for fechada
+        // Adicionar listener para encerrar a atualização automática quando a janela for fechada
         addInternalFrameListener(new javax.swing.event.InternalFrameAdapter() {
             @Override
             public void internalFrameClosing(javax.swing.event.InternalFrameEvent e) {
-                if (updateTimer != null) {
-                    updateTimer.cancel();
-                }
+                controller.encerrar();
             }
         });
     }
@@ -235,30 +228,15 @@ public class DashboardFrame extends JInternalFrame {
      * Configura atualização automática dos dados
      */
     private void setupAutoRefresh() {
-        updateTimer = new Timer();
-        updateTimer.scheduleAtFixedRate(new TimerTask() {
-            @Override
-            public void run() {
-                SwingUtilities.invokeLater(() -> refreshData());
-            }
-        }, 30000, 30000); // Atualiza a cada 30 segundos
+        controller.iniciarAtualizacaoAutomatica(); // Atualiza a cada 30 segundos, fora da EDT
     }
     
     /**
-     * Atualiza todos os dados do dashboard
+     * Atualiza todos os dados do dashboard. As consultas são feitas em segundo
+     * plano pelo controller e apenas o resultado é aplicado na EDT.
      */
     public void refreshData() {
-        SwingUtilities.invokeLater(() -> {
-            try {
-                controller.atualizarDados();
-            } catch (Exception e) {
-                logger.error("Erro ao atualizar dados do dashboard", e);
-                JOptionPane.showMessageDialog(this, 
-                    "Erro ao atualizar dados: " + e.getMessage(),
-                    "Erro", 
-                    JOptionPane.ERROR_MESSAGE);
-            }
-        });
+        controller.atualizarDados();
     }
     
     /**
@@ -6,8 +6,6 @@ import com.gestao.projetos.model.Equipe;
 import com.gestao.projetos.model.Usuario;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
-import javax.swing.table.TableRowSorter;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
@@ -21,12 +19,13 @@ import java.util.stream.Collectors;
  */
 public class EquipeFrame extends JInternalFrame {
     
+    private static final DateTimeFormatter DATA_HORA_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+    
     private final EquipeController controller;
     
     // Componentes da interface
     private JTable table;
-    private DefaultTableModel tableModel;
-    private TableRowSorter<DefaultTableModel> rowSorter;
+    private PagingTableModel<Equipe> tableModel;
     
     private JTextField txtNome;
     private JTextArea txtDescricao;
@@ -73,19 +72,14 @@ public class EquipeFrame extends JInternalFrame {
     private void initializeComponents() {
         // Tabela
         String[] colunas = {"ID", "Nome", "Descrição", "Gerente", "Membros", "Status", "Criada em"};
-        tableModel = new DefaultTableModel(colunas, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        // Linhas carregadas sob demanda, na ordem de nome do banco
+        tableModel = new PagingTableModel<>(colunas, this::mapearLinha);
+        tableModel.setTratadorErro(e -> showError("Erro ao carregar equipes: " + e.getMessage()));
         
         table = new JTable(tableModel);
         table.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
-        table.setAutoCreateRowSorter(true);
-        
-        rowSorter = new TableRowSorter<>(tableModel);
-        table.setRowSorter(rowSorter);
+        // Gerente e membros vêm dos membros da equipe e não ordenam
+        tableModel.instalarOrdenacao(table, "id", "nome", "descricao", null, null, "ativa", "criado_em");
         
         // Configurar larguras das colunas
         table.getColumnModel().getColumn(0).setPreferredWidth(50);  // ID
@@ -300,7 +294,9 @@ public class EquipeFrame extends JInternalFrame {
                     if (selectedRow >= 0) {
                         int modelRow = table.convertRowIndexToModel(selectedRow);
                         Long id = (Long) tableModel.getValueAt(modelRow, 0);
-                        controller.selecionarEquipe(id);
+                        if (id != null) {
+                            controller.selecionarEquipe(id);
+                        }
                     }
                 }
             }
@@ -508,14 +504,14 @@ public class EquipeFrame extends JInternalFrame {
     }
 
     /**
-     * Realiza a pesquisa
+     * Realiza a pesquisa no banco
      */
     private void pesquisar() {
         String texto = txtPesquisa.getText().trim();
         if (texto.isEmpty()) {
-            rowSorter.setRowFilter(null);
+            controller.carregarEquipes();
         } else {
-            rowSorter.setRowFilter(RowFilter.regexFilter("(?i)" + texto));
+            controller.pesquisarEquipes(texto);
         }
     }
 
@@ -524,7 +520,7 @@ public class EquipeFrame extends JInternalFrame {
      */
     private void limparPesquisa() {
         txtPesquisa.setText("");
-        rowSorter.setRowFilter(null);
+        controller.carregarEquipes();
     }
 
     /**
@@ -556,39 +552,41 @@ public class EquipeFrame extends JInternalFrame {
      * Atualiza a tabela com a lista de equipes
      */
     public void atualizarTabela(List<Equipe> equipes) {
-        tableModel.setRowCount(0);
-        
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
-        
-        for (Equipe equipe : equipes) {
-            String gerente = equipe.getMembros().stream()
-                    .filter(u -> "GERENTE".equals(u.getCargo()))
-                    .map(Usuario::getNome)
-                    .findFirst()
-                    .orElse("Não definido");
-            
-            int totalMembros = equipe.getMembros().size();
-            String status = equipe.isAtiva() ? "Ativa" : "Inativa";
-            String criadaEm = equipe.getCriadoEm() != null ? 
-                            equipe.getCriadoEm().format(formatter) : "";
-            
-            Object[] row = {
-                equipe.getId(),
-                equipe.getNome(),
-                equipe.getDescricao() != null ? 
-                    (equipe.getDescricao().length() > 50 ? 
-                        equipe.getDescricao().substring(0, 47) + "..." : 
-                        equipe.getDescricao()) : "",
-                gerente,
-                totalMembros,
-                status,
-                criadaEm
-            };
-            
-            tableModel.addRow(row);
-        }
-        
-        tableModel.fireTableDataChanged(); // Força atualização da tabela
+        tableModel.setItens(equipes);
+    }
+
+    /**
+     * Exibe todas as equipes, buscando as páginas sob demanda em segundo plano
+     */
+    public void carregarTabelaPaginada(PagingTableModel.PageLoader<Equipe> loader,
+                                       PagingTableModel.CountLoader contador) {
+        tableModel.setFonte(loader, contador);
+    }
+
+    private Object[] mapearLinha(Equipe equipe) {
+        String gerente = equipe.getMembros().stream()
+                .filter(u -> "GERENTE".equals(u.getCargo()))
+                .map(Usuario::getNome)
+                .findFirst()
+                .orElse("Não definido");
+        
+        int totalMembros = equipe.getMembros().size();
+        String status = equipe.isAtiva() ? "Ativa" : "Inativa";
+        String criadaEm = equipe.getCriadoEm() != null ? 
+                        equipe.getCriadoEm().format(DATA_HORA_FORMATTER) : "";
+        
+        return new Object[] {
+            equipe.getId(),
+            equipe.getNome(),
+            equipe.getDescricao() != null ? 
+                (equipe.getDescricao().length() > 50 ? 
+                    equipe.getDescricao().substring(0, 47) + "..." : 
+                    equipe.getDescricao()) : "",
+            gerente,
+            totalMembros,
+            status,
+            criadaEm
+        };
     }
 
     /**
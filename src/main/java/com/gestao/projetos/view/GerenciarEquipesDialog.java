@@ -3,6 +3,7 @@ package com.gestao.projetos.view;
 import com.gestao.projetos.controller.ProjetoController;
 import com.gestao.projetos.model.Projeto;
 import com.gestao.projetos.model.Equipe;
+import com.gestao.projetos.util.ValidationUtil;
 
 import javax.swing.*;
 import javax.swing.table.DefaultTableModel;
@@ -79,7 +80,10 @@ public class GerenciarEquipesDialog extends JDialog {
                 super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
                 if (value instanceof Equipe) {
                     Equipe equipe = (Equipe) value;
-                    setText(equipe.getNome() + " (" + equipe.getMembros().size() + " membros)");
+                    String descricao = equipe.getDescricao();
+                    setText(ValidationUtil.isNotEmpty(descricao)
+                        ? equipe.getNome() + " - " + ValidationUtil.truncate(descricao, 50)
+                        : equipe.getNome());
                 }
                 return this;
             }
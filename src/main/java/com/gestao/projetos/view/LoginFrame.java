@@ -98,35 +98,28 @@ public class LoginFrame extends JDialog {
         loginButton.setEnabled(false);
         showMessage("Autenticando...", Color.BLUE);
         
-        // Thread separada para não travar a UI
-        new Thread(() -> {
-            try {
-                AuthenticationService authService = new AuthenticationService();
-                Usuario usuario = authService.authenticate(email, password);
-                
-                SwingUtilities.invokeLater(() -> {
-                    if (usuario != null) {
-                        SessionManager.getInstance().startSession(usuario);
-                        showMessage("Login realizado com sucesso!", Color.GREEN);
-                        loginSuccessful = true;
-                        
-                        // Fechar automaticamente após um pequeno delay para mostrar a mensagem
-                        Timer timer = new Timer(500, evt -> dispose());
-                        timer.setRepeats(false);
-                        timer.start();
-                    } else {
-                        showMessage("Email ou senha inválidos", Color.RED);
-                        loginButton.setEnabled(true);
-                    }
-                });
-                
-            } catch (Exception ex) {
-                SwingUtilities.invokeLater(() -> {
-                    showMessage("Erro: " + ex.getMessage(), Color.RED);
+        // Consultas e verificação da senha rodam fora da EDT
+        AuthenticationService authService = new AuthenticationService();
+        authService.authenticateAsync(email, password).whenComplete((usuario, ex) ->
+            SwingUtilities.invokeLater(() -> {
+                if (ex != null) {
+                    Throwable causa = ex.getCause() != null ? ex.getCause() : ex;
+                    showMessage("Erro: " + causa.getMessage(), Color.RED);
                     loginButton.setEnabled(true);
-                });
-            }
-        }).start();
+                } else if (usuario != null) {
+                    SessionManager.getInstance().startSession(usuario);
+                    showMessage("Login realizado com sucesso!", Color.GREEN);
+                    loginSuccessful = true;
+                    
+                    // Fechar automaticamente após um pequeno delay para mostrar a mensagem
+                    Timer timer = new Timer(500, evt -> dispose());
+                    timer.setRepeats(false);
+                    timer.start();
+                } else {
+                    showMessage("Email ou senha inválidos", Color.RED);
+                    loginButton.setEnabled(true);
+                }
+            }));
     }
     
     private void showMessage(String text, Color color) {
@@ -0,0 +1,394 @@
+package com.gestao.projetos.view;
+
+import com.gestao.projetos.dao.Page;
+import com.gestao.projetos.dao.PageRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.TableColumn;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Modelo de tabela virtual que busca as linhas em páginas, sob demanda, à medida que
+ * a tabela as exibe, mantendo em memória no máximo {@code maxPaginas} páginas (LRU).
+ * A ordenação é feita no banco: a padrão da paginação por chave do DAO ou a da coluna
+ * escolhida no cabeçalho (ver {@link #instalarOrdenacao(JTable, String...)}). Os filtros de
+ * tarefas também são fontes paginadas; resultados de pesquisa, limitados no banco e na
+ * ordem de relevância, são exibidos inteiros com {@link #setItens(List)}.
+ *
+ * @param <T> Tipo da entidade exibida
+ */
+public class PagingTableModel<T> extends AbstractTableModel {
+
+    private static final Logger logger = LoggerFactory.getLogger(PagingTableModel.class);
+
+    public static final int DEFAULT_PAGE_SIZE = 200;
+    public static final int DEFAULT_MAX_PAGES = 20;
+
+    // Executor compartilhado por todas as tabelas; as buscas nunca rodam na EDT
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "table-page-loader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Busca uma página de entidades
+     */
+    @FunctionalInterface
+    public interface PageLoader<T> {
+        Page<T> load(PageRequest pageRequest) throws SQLException;
+    }
+
+    /**
+     * Conta o total de entidades da fonte paginada
+     */
+    @FunctionalInterface
+    public interface CountLoader {
+        long count() throws SQLException;
+    }
+
+    private final String[] colunas;
+    private final Class<?>[] tiposColunas;
+    private final Function<T, Object[]> mapeador;
+    private final int tamanhoPagina;
+    private final int maxPaginas;
+
+    // Estado abaixo é acessado apenas na EDT, exceto os cursores
+    private final LinkedHashMap<Integer, List<Object[]>> paginas;
+    private final Set<Integer> carregando = new HashSet<>();
+    // Cursores da geração atual (página -> cursor); cada fonte tem o seu mapa, de modo que
+    // uma carga de uma fonte anterior grava apenas no mapa descartado
+    private volatile Map<Integer, String> cursores = new ConcurrentHashMap<>();
+    private final AtomicInteger geracao = new AtomicInteger();
+    private PageLoader<T> loader;
+    private CountLoader contador;
+    private JTable tabela;
+    private String[] chavesOrdenacao;
+    private int colunaOrdenada = -1;
+    private boolean descendente;
+    private int totalLinhas;
+    private boolean erroNotificado;
+    private Consumer<Exception> tratadorErro = e -> { };
+
+    public PagingTableModel(String[] colunas, Function<T, Object[]> mapeador) {
+        this(colunas, null, mapeador, DEFAULT_PAGE_SIZE, DEFAULT_MAX_PAGES);
+    }
+
+    public PagingTableModel(String[] colunas, Class<?>[] tiposColunas, Function<T, Object[]> mapeador,
+                            int tamanhoPagina, int maxPaginas) {
+        if (tamanhoPagina <= 0 || maxPaginas <= 0) {
+            throw new IllegalArgumentException("Tamanho de página e máximo de páginas devem ser maiores que zero");
+        }
+        this.colunas = colunas;
+        this.tiposColunas = tiposColunas;
+        this.mapeador = mapeador;
+        this.tamanhoPagina = tamanhoPagina;
+        this.maxPaginas = maxPaginas;
+        this.paginas = new LinkedHashMap<Integer, List<Object[]>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, List<Object[]>> eldest) {
+                return loader != null && size() > PagingTableModel.this.maxPaginas;
+            }
+        };
+    }
+
+    /**
+     * Define o tratamento de erros de carga (executado na EDT)
+     */
+    public void setTratadorErro(Consumer<Exception> tratadorErro) {
+        this.tratadorErro = tratadorErro != null ? tratadorErro : e -> { };
+    }
+
+    /**
+     * Passa a exibir uma fonte paginada: conta as linhas e carrega a primeira página em segundo plano
+     */
+    public void setFonte(PageLoader<T> novoLoader, CountLoader novoContador) {
+        int minhaGeracao = reiniciar(novoLoader);
+        contador = novoContador;
+        Map<Integer, String> meusCursores = cursores;
+        String chave = getChaveOrdenacao();
+        boolean desc = descendente;
+        carregando.add(0);
+
+        EXECUTOR.execute(() -> {
+            try {
+                long total = novoContador.count();
+                Page<T> primeira = novoLoader.load(PageRequest.first(tamanhoPagina).withSort(chave, desc));
+                List<Object[]> linhas = mapear(primeira);
+                if (primeira.hasNext()) {
+                    meusCursores.put(1, primeira.getNextCursor());
+                }
+                SwingUtilities.invokeLater(() -> {
+                    if (minhaGeracao != geracao.get()) {
+                        return;
+                    }
+                    carregando.remove(0);
+                    totalLinhas = (int) Math.min(Integer.MAX_VALUE,
+                        primeira.hasNext() ? Math.max(total, linhas.size() + 1L) : linhas.size());
+                    paginas.put(0, linhas);
+                    fireTableDataChanged();
+                });
+            } catch (Exception e) {
+                publicarErro(minhaGeracao, 0, e);
+            }
+        });
+    }
+
+    /**
+     * Passa a exibir uma lista já carregada (ex.: resultado de pesquisa ou filtro)
+     */
+    public void setItens(List<T> itens) {
+        reiniciar(null);
+        List<Object[]> linhas = new ArrayList<>(itens.size());
+        for (T item : itens) {
+            linhas.add(mapeador.apply(item));
+        }
+        for (int inicio = 0, pagina = 0; inicio < linhas.size(); inicio += tamanhoPagina, pagina++) {
+            paginas.put(pagina, new ArrayList<>(linhas.subList(inicio, Math.min(inicio + tamanhoPagina, linhas.size()))));
+        }
+        totalLinhas = linhas.size();
+        fireTableDataChanged();
+    }
+
+    /**
+     * Permite ordenar a tabela pelo cabeçalho. {@code chaves} traz, para cada coluna do
+     * modelo, a chave de ordenação aceita pelo DAO (null para coluna sem ordenação).
+     * Um clique ordena a fonte paginada pela coluna; outro clique inverte o sentido.
+     */
+    public void instalarOrdenacao(JTable table, String... chaves) {
+        this.tabela = table;
+        this.chavesOrdenacao = chaves;
+        table.getTableHeader().addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int coluna = table.columnAtPoint(e.getPoint());
+                if (coluna >= 0) {
+                    ordenarPor(table.convertColumnIndexToModel(coluna));
+                }
+            }
+        });
+    }
+
+    /**
+     * Ordena a fonte paginada pela coluna do modelo, invertendo o sentido se ela já for
+     * a coluna ordenada. Sem fonte paginada ou sem chave para a coluna, nada muda.
+     */
+    public void ordenarPor(int coluna) {
+        if (loader == null || chavesOrdenacao == null || coluna >= chavesOrdenacao.length
+                || chavesOrdenacao[coluna] == null) {
+            return;
+        }
+        descendente = coluna == colunaOrdenada && !descendente;
+        colunaOrdenada = coluna;
+        setFonte(loader, contador);
+    }
+
+    /**
+     * Indica se a linha já está carregada
+     */
+    public boolean isLinhaCarregada(int linha) {
+        return paginas.containsKey(linha / tamanhoPagina);
+    }
+
+    /**
+     * Quantidade de páginas atualmente em memória
+     */
+    public int getPaginasCarregadas() {
+        return paginas.size();
+    }
+
+    @Override
+    public int getRowCount() {
+        return totalLinhas;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return colunas.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        if (loader != null && column == colunaOrdenada) {
+            return colunas[column] + (descendente ? " ▼" : " ▲");
+        }
+        return colunas[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return tiposColunas != null ? tiposColunas[column] : Object.class;
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return false;
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        int pagina = row / tamanhoPagina;
+        List<Object[]> linhas = paginas.get(pagina);
+        if (linhas == null) {
+            solicitarPagina(pagina);
+            return null;
+        }
+        int indice = row % tamanhoPagina;
+        return indice < linhas.size() ? linhas.get(indice)[column] : null;
+    }
+
+    private int reiniciar(PageLoader<T> novoLoader) {
+        int novaGeracao = geracao.incrementAndGet();
+        loader = novoLoader;
+        paginas.clear();
+        carregando.clear();
+        cursores = new ConcurrentHashMap<>();
+        totalLinhas = 0;
+        erroNotificado = false;
+        fireTableDataChanged();
+        atualizarCabecalho();
+        return novaGeracao;
+    }
+
+    private String getChaveOrdenacao() {
+        return colunaOrdenada >= 0 ? chavesOrdenacao[colunaOrdenada] : null;
+    }
+
+    /**
+     * Os títulos do cabeçalho são copiados para as colunas da tabela na criação;
+     * atualiza-os para exibir o indicador de ordenação
+     */
+    private void atualizarCabecalho() {
+        if (tabela == null) {
+            return;
+        }
+        for (int i = 0; i < tabela.getColumnModel().getColumnCount(); i++) {
+            TableColumn coluna = tabela.getColumnModel().getColumn(i);
+            coluna.setHeaderValue(getColumnName(coluna.getModelIndex()));
+        }
+        tabela.getTableHeader().repaint();
+    }
+
+    /**
+     * Agenda a carga de uma página. Sem o cursor da página, avança a partir
+     * da página anterior mais próxima cujo cursor é conhecido: enquanto faltam
+     * ao menos {@code passo} páginas, avança {@code passo} páginas por consulta
+     * (uma página do tamanho máximo do DAO) e guarda o cursor a cada salto.
+     */
+    private void solicitarPagina(int pagina) {
+        PageLoader<T> loaderAtual = loader;
+        if (loaderAtual == null || !carregando.add(pagina)) {
+            return;
+        }
+        int minhaGeracao = geracao.get();
+        Map<Integer, String> meusCursores = cursores;
+        String chave = getChaveOrdenacao();
+        boolean desc = descendente;
+        int passo = Math.max(1, PageRequest.MAX_SIZE / tamanhoPagina);
+
+        EXECUTOR.execute(() -> {
+            try {
+                int atual = pagina;
+                while (atual > 0 && !meusCursores.containsKey(atual)) {
+                    atual--;
+                }
+                String cursor = meusCursores.get(atual);
+
+                while (minhaGeracao == geracao.get()) {
+                    int salto = pagina - atual >= passo ? passo : 1;
+                    int tamanho = tamanhoPagina * salto;
+                    PageRequest primeira = PageRequest.first(tamanho).withSort(chave, desc);
+                    PageRequest request = cursor == null ? primeira : primeira.after(cursor);
+                    Page<T> page = loaderAtual.load(request);
+                    if (!page.hasNext()) {
+                        // A fonte terminou antes da página pedida: publica o que restou
+                        // na página em que as últimas linhas caem
+                        int ultima = atual + Math.max(0, page.getItems().size() - 1) / tamanhoPagina;
+                        publicarPagina(minhaGeracao, ultima, pagina, ultimaPagina(page, atual, ultima));
+                        return;
+                    }
+                    meusCursores.put(atual + salto, page.getNextCursor());
+                    if (atual == pagina) {
+                        publicarPagina(minhaGeracao, atual, pagina, page);
+                        return;
+                    }
+                    cursor = page.getNextCursor();
+                    atual += salto;
+                }
+            } catch (Exception e) {
+                publicarErro(minhaGeracao, pagina, e);
+            }
+        });
+    }
+
+    /**
+     * Linhas da página {@code ultima} dentro de uma consulta que começou na página {@code inicio}
+     */
+    private Page<T> ultimaPagina(Page<T> page, int inicio, int ultima) {
+        if (ultima == inicio) {
+            return page;
+        }
+        List<T> itens = page.getItems();
+        return new Page<>(itens.subList((ultima - inicio) * tamanhoPagina, itens.size()), tamanhoPagina, null);
+    }
+
+    private void publicarPagina(int minhaGeracao, int carregada, int solicitada, Page<T> page) {
+        List<Object[]> linhas = mapear(page);
+        SwingUtilities.invokeLater(() -> {
+            if (minhaGeracao != geracao.get()) {
+                return;
+            }
+            carregando.remove(solicitada);
+            paginas.put(carregada, linhas);
+
+            int inicio = carregada * tamanhoPagina;
+            int fimCarregado = inicio + linhas.size();
+            if (!page.hasNext() && fimCarregado != totalLinhas) {
+                // A tabela mudou desde a contagem: ajusta o total ao fim real
+                totalLinhas = fimCarregado;
+                fireTableDataChanged();
+            } else if (linhas.size() > 0) {
+                fireTableRowsUpdated(inicio, Math.min(fimCarregado, totalLinhas) - 1);
+            }
+        });
+    }
+
+    /**
+     * A página com erro permanece marcada como em carga, para não ser buscada
+     * de novo a cada repintura; o erro é notificado uma vez por fonte
+     */
+    private void publicarErro(int minhaGeracao, int pagina, Exception e) {
+        logger.error("Erro ao carregar página {} da tabela", pagina, e);
+        SwingUtilities.invokeLater(() -> {
+            if (minhaGeracao == geracao.get() && !erroNotificado) {
+                erroNotificado = true;
+                tratadorErro.accept(e);
+            }
+        });
+    }
+
+    private List<Object[]> mapear(Page<T> page) {
+        List<Object[]> linhas = new ArrayList<>(page.getItems().size());
+        for (T item : page.getItems()) {
+            linhas.add(mapeador.apply(item));
+        }
+        return linhas;
+    }
+}
@@ -7,8 +7,6 @@ import com.gestao.projetos.model.Equipe;
 import com.gestao.projetos.util.ValidationUtil;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
-import javax.swing.table.TableRowSorter;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
@@ -26,8 +24,7 @@ public class ProjetoFrame extends JInternalFrame {
     
     // Componentes da interface
     private JTable table;
-    private DefaultTableModel tableModel;
-    private TableRowSorter<DefaultTableModel> rowSorter;
+    private PagingTableModel<Projeto> tableModel;
     
     private JTextField txtNome;
     private JTextArea txtDescricao;
@@ -81,19 +78,13 @@ public class ProjetoFrame extends JInternalFrame {
     private void initializeComponents() {
         // Tabela
         String[] colunas = {"ID", "Nome", "Descrição", "Status", "Data Início", "Data Término", "Gerente"};
-        tableModel = new DefaultTableModel(colunas, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        // Linhas carregadas sob demanda, na ordem de nome do banco
+        tableModel = new PagingTableModel<>(colunas, this::mapearLinha);
+        tableModel.setTratadorErro(e -> exibirMensagemErro("Erro ao carregar projetos: " + e.getMessage()));
         
         table = new JTable(tableModel);
         table.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
-        table.setAutoCreateRowSorter(true);
-        
-        rowSorter = new TableRowSorter<>(tableModel);
-        table.setRowSorter(rowSorter);
+        tableModel.instalarOrdenacao(table, "id", "nome", null, "status", "data_inicio", "data_fim_prevista", "gerente_id");
         
         // Campos do formulário
         txtNome = new JTextField(20);
@@ -331,7 +322,9 @@ public class ProjetoFrame extends JInternalFrame {
                 if (selectedRow >= 0) {
                     int modelRow = table.convertRowIndexToModel(selectedRow);
                     Long id = (Long) tableModel.getValueAt(modelRow, 0);
-                    controller.selecionarProjeto(id);
+                    if (id != null) {
+                        controller.selecionarProjeto(id);
+                    }
                 }
             }
         });
@@ -622,22 +615,29 @@ public class ProjetoFrame extends JInternalFrame {
      * Atualiza a tabela com a lista de projetos
      */
     public void atualizarTabela(List<Projeto> projetos) {
-        tableModel.setRowCount(0);
-        
-        for (Projeto projeto : projetos) {
-            Object[] row = {
-                projeto.getId(),
-                projeto.getNome(),
-                projeto.getDescricao(),
-                projeto.getStatus(),
-                projeto.getDataInicio() != null ? 
-                    projeto.getDataInicio().format(dateFormatter) : "",
-                projeto.getDataFimPrevista() != null ? 
-                    projeto.getDataFimPrevista().format(dateFormatter) : "",
-                projeto.getGerenteId() != null ? "ID: " + projeto.getGerenteId() : ""
-            };
-            tableModel.addRow(row);
-        }
+        tableModel.setItens(projetos);
+    }
+
+    /**
+     * Exibe todos os projetos, buscando as páginas sob demanda em segundo plano
+     */
+    public void carregarTabelaPaginada(PagingTableModel.PageLoader<Projeto> loader,
+                                       PagingTableModel.CountLoader contador) {
+        tableModel.setFonte(loader, contador);
+    }
+
+    private Object[] mapearLinha(Projeto projeto) {
+        return new Object[] {
+            projeto.getId(),
+            projeto.getNome(),
+            projeto.getDescricao(),
+            projeto.getStatus(),
+            projeto.getDataInicio() != null ? 
+                projeto.getDataInicio().format(dateFormatter) : "",
+            projeto.getDataFimPrevista() != null ? 
+                projeto.getDataFimPrevista().format(dateFormatter) : "",
+            projeto.getGerenteId() != null ? "ID: " + projeto.getGerenteId() : ""
+        };
     }
 
     /**
@@ -7,16 +7,20 @@ import javax.swing.event.DocumentListener;
 import java.awt.*;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import com.gestao.projetos.model.Usuario;
 import com.gestao.projetos.service.UsuarioService;
+import com.gestao.projetos.util.SearchIndexManager;
 
 public class SelecionarUsuarioView extends JFrame {
     private JTextField txtBusca;
     private JList<String> listaUsuarios;
     private DefaultListModel<String> modeloLista;
     private List<Usuario> usuarios;
+    private Map<Long, Usuario> usuariosPorId;
 
 
     public SelecionarUsuarioView(Consumer<String> callback) throws SQLException {
@@ -36,6 +40,10 @@ public class SelecionarUsuarioView extends JFrame {
             ex.printStackTrace();
             JOptionPane.showMessageDialog(null, "Erro ao carregar usuários: " + ex.getMessage());
         }
+        usuariosPorId = new HashMap<>();
+        for (Usuario u : usuarios) {
+            usuariosPorId.put(u.getId(), u);
+        }
 
 
         txtBusca.getDocument().addDocumentListener(new DocumentListener() {
@@ -61,6 +69,19 @@ public class SelecionarUsuarioView extends JFrame {
 
     private void atualizarLista(String filtro) {
         modeloLista.clear();
+        if (!filtro.trim().isEmpty()) {
+            // Pesquisa no índice em memória (nome, email, login e CPF)
+            List<Long> ids = SearchIndexManager.getInstance().getUsuarios().pesquisar(filtro, usuarios.size());
+            if (ids != null) {
+                for (Long id : ids) {
+                    Usuario u = usuariosPorId.get(id);
+                    if (u != null) {
+                        modeloLista.addElement(u.getNome());
+                    }
+                }
+                return;
+            }
+        }
         for (Usuario u : usuarios) {
             if (u.getNome().toLowerCase().contains(filtro.toLowerCase())) {
                 modeloLista.addElement(u.getNome());
@@ -8,8 +8,6 @@ import com.gestao.projetos.service.UsuarioService;
 import com.gestao.projetos.util.ValidationUtil;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
-import javax.swing.table.TableRowSorter;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
@@ -31,8 +29,7 @@ public class TarefaFrame extends JInternalFrame {
 
     // Componentes da UI
     private JTable table;
-    private DefaultTableModel tableModel;
-    private TableRowSorter<DefaultTableModel> rowSorter;
+    private PagingTableModel<Tarefa> tableModel;
     
     // Formulário
     private JTextField txtTitulo;
@@ -88,17 +85,14 @@ public class TarefaFrame extends JInternalFrame {
     private void initializeComponents() {
         // Configurar tabela
         String[] colunas = {"ID", "Título", "Projeto", "Equipe", "Responsável", "Status", "Prioridade", "Est.(h)", "Trab.(h)", "Início Prev.", "Fim Prev."};
-        tableModel = new DefaultTableModel(colunas, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        // Linhas carregadas sob demanda, na ordem de prazo e prioridade do banco
+        tableModel = new PagingTableModel<>(colunas, this::mapearLinha);
+        tableModel.setTratadorErro(e -> showError("Erro ao carregar tarefas: " + e.getMessage()));
         table = new JTable(tableModel);
         table.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
-        table.setAutoCreateRowSorter(true);
-        rowSorter = new TableRowSorter<>(tableModel);
-        table.setRowSorter(rowSorter);
+        // Ordenação no banco pelo cabeçalho; projeto, equipe e responsável são carregados à parte e não ordenam
+        tableModel.instalarOrdenacao(table, "id", "titulo", null, null, null, "status", "prioridade",
+                                     "estimativa_horas", "horas_trabalhadas", "data_inicio", "data_fim_prevista");
 
         // Componentes do formulário
         txtTitulo = new JTextField(25);
@@ -485,6 +479,9 @@ public class TarefaFrame extends JInternalFrame {
         if (selectedRow >= 0) {
             int modelRow = table.convertRowIndexToModel(selectedRow);
             Long id = (Long) tableModel.getValueAt(modelRow, 0);
+            if (id == null) {
+                return; // Linha ainda em carregamento
+            }
             
             try {
                 tarefaSelecionada = controller.buscarTarefaPorId(id);
@@ -504,7 +501,7 @@ public class TarefaFrame extends JInternalFrame {
         txtTitulo.setText(tarefa.getTitulo());
         txtDescricao.setText(tarefa.getDescricao());
         cmbStatus.setSelectedItem(tarefa.getStatus());
-        spinnerPrioridade.setValue(tarefa.getPrioridade());
+        spinnerPrioridade.setValue(tarefa.getPrioridade() != null ? tarefa.getPrioridade() : 3);
         
         if (tarefa.getEstimativaHoras() != null) {
             spinnerEstimativaHoras.setValue(tarefa.getEstimativaHoras());
@@ -829,23 +826,7 @@ public class TarefaFrame extends JInternalFrame {
 
     public void atualizarTabela(List<Tarefa> tarefas) {
         try {
-            tableModel.setRowCount(0);
-            for (Tarefa tarefa : tarefas) {
-                Object[] linha = {
-                    tarefa.getId(),
-                    tarefa.getTitulo(),
-                    tarefa.getProjeto() != null ? tarefa.getProjeto().getNome() : "N/A",
-                    tarefa.getEquipe() != null ? tarefa.getEquipe().getNome() : "N/A",
-                    tarefa.getResponsavel() != null ? tarefa.getResponsavel().getNome() : "N/A",
-                    tarefa.getStatus().getDescricao(),
-                    tarefa.getPrioridadeTexto(),
-                    tarefa.getEstimativaHoras() != null ? tarefa.getEstimativaHoras() : 0.0,
-                    tarefa.getHorasTrabalhadas() != null ? tarefa.getHorasTrabalhadas() : 0.0,
-                    tarefa.getDataInicioPrevista() != null ? tarefa.getDataInicioPrevista().format(dateFormatter) : "",
-                    tarefa.getDataFimPrevista() != null ? tarefa.getDataFimPrevista().format(dateFormatter) : ""
-                };
-                tableModel.addRow(linha);
-            }
+            tableModel.setItens(tarefas);
             
             // Limpar seleção
             table.clearSelection();
@@ -857,6 +838,35 @@ public class TarefaFrame extends JInternalFrame {
         }
     }
 
+    /**
+     * Exibe todas as tarefas, buscando as páginas sob demanda em segundo plano
+     */
+    public void carregarTabelaPaginada(PagingTableModel.PageLoader<Tarefa> loader,
+                                       PagingTableModel.CountLoader contador) {
+        tableModel.setFonte(loader, contador);
+        
+        // Limpar seleção
+        table.clearSelection();
+        configurarEstadoInicial();
+        limparFormulario();
+    }
+
+    private Object[] mapearLinha(Tarefa tarefa) {
+        return new Object[] {
+            tarefa.getId(),
+            tarefa.getTitulo(),
+            tarefa.getProjeto() != null ? tarefa.getProjeto().getNome() : "N/A",
+            tarefa.getEquipe() != null ? tarefa.getEquipe().getNome() : "N/A",
+            tarefa.getResponsavel() != null ? tarefa.getResponsavel().getNome() : "N/A",
+            tarefa.getStatus().getDescricao(),
+            tarefa.getPrioridadeTexto(),
+            tarefa.getEstimativaHoras() != null ? tarefa.getEstimativaHoras() : 0.0,
+            tarefa.getHorasTrabalhadas() != null ? tarefa.getHorasTrabalhadas() : 0.0,
+            tarefa.getDataInicioPrevista() != null ? tarefa.getDataInicioPrevista().format(dateFormatter) : "",
+            tarefa.getDataFimPrevista() != null ? tarefa.getDataFimPrevista().format(dateFormatter) : ""
+        };
+    }
+
     public void showError(String message) {
         JOptionPane.showMessageDialog(this, message, "Erro", JOptionPane.ERROR_MESSAGE);
     }
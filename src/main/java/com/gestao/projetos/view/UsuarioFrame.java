@@ -5,8 +5,6 @@ import com.gestao.projetos.model.Usuario;
 import com.gestao.projetos.util.ValidationUtil;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
-import javax.swing.table.TableRowSorter;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
@@ -21,8 +19,7 @@ public class UsuarioFrame extends JInternalFrame {
     
     // Componentes da interface
     private JTable table;
-    private DefaultTableModel tableModel;
-    private TableRowSorter<DefaultTableModel> rowSorter;
+    private PagingTableModel<Usuario> tableModel;
     
     private JTextField txtNome;
     private JTextField txtCpf;
@@ -67,24 +64,18 @@ public class UsuarioFrame extends JInternalFrame {
     private void initializeComponents() {
         // Tabela
         String[] colunas = {"ID", "Nome", "CPF", "Email", "Cargo", "Login", "Ativo", "Criado em"};
-        tableModel = new DefaultTableModel(colunas, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false; // Tabela somente leitura
-            }
-            
-            @Override
-            public Class<?> getColumnClass(int column) {
-                switch (column) {
-                    case 0: return Long.class; // ID
-                    case 6: return Boolean.class; // Ativo
-                    default: return String.class;
-                }
-            }
+        Class<?>[] tiposColunas = {
+            Long.class, String.class, String.class, String.class,
+            String.class, String.class, Boolean.class, String.class
         };
+        // Tabela somente leitura, com linhas carregadas sob demanda na ordem de nome
+        tableModel = new PagingTableModel<>(colunas, tiposColunas, this::mapearLinha,
+                                            PagingTableModel.DEFAULT_PAGE_SIZE, PagingTableModel.DEFAULT_MAX_PAGES);
+        tableModel.setTratadorErro(e -> showError("Erro ao carregar usuários: " + e.getMessage()));
         
         table = new JTable(tableModel);
         table.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        tableModel.instalarOrdenacao(table, "id", "nome", "cpf", "email", "cargo", "login", "ativo", "criado_em");
         table.setAutoResizeMode(JTable.AUTO_RESIZE_ALL_COLUMNS);
         
         // Configuração das colunas
@@ -97,10 +88,6 @@ public class UsuarioFrame extends JInternalFrame {
         table.getColumnModel().getColumn(6).setPreferredWidth(60);  // Ativo
         table.getColumnModel().getColumn(7).setPreferredWidth(120); // Criado em
         
-        // Ordenação
-        rowSorter = new TableRowSorter<>(tableModel);
-        table.setRowSorter(rowSorter);
-        
         // Campos de entrada
         txtNome = new JTextField(30);
         txtCpf = new JTextField(30);
@@ -303,7 +290,9 @@ public class UsuarioFrame extends JInternalFrame {
                 if (selectedRow >= 0) {
                     int modelRow = table.convertRowIndexToModel(selectedRow);
                     Long id = (Long) tableModel.getValueAt(modelRow, 0);
-                    controller.selecionarUsuario(id);
+                    if (id != null) {
+                        controller.selecionarUsuario(id);
+                    }
                 } else {
                     limparSelecao();
                 }
@@ -550,21 +539,28 @@ public class UsuarioFrame extends JInternalFrame {
      * Atualiza a tabela com a lista de usuários
      */
     public void atualizarTabela(List<Usuario> usuarios) {
-        tableModel.setRowCount(0);
-        
-        for (Usuario usuario : usuarios) {
-            Object[] row = {
-                usuario.getId(),
-                usuario.getNome(),
-                usuario.getCpf(),
-                usuario.getEmail(),
-                usuario.getCargo(),
-                usuario.getLogin(),
-                usuario.isAtivo(),
-                ValidationUtil.formatDateTime(usuario.getCriadoEm())
-            };
-            tableModel.addRow(row);
-        }
+        tableModel.setItens(usuarios);
+    }
+
+    /**
+     * Exibe todos os usuários, buscando as páginas sob demanda em segundo plano
+     */
+    public void carregarTabelaPaginada(PagingTableModel.PageLoader<Usuario> loader,
+                                       PagingTableModel.CountLoader contador) {
+        tableModel.setFonte(loader, contador);
+    }
+
+    private Object[] mapearLinha(Usuario usuario) {
+        return new Object[] {
+            usuario.getId(),
+            usuario.getNome(),
+            usuario.getCpf(),
+            usuario.getEmail(),
+            usuario.getCargo(),
+            usuario.getLogin(),
+            usuario.isAtivo(),
+            ValidationUtil.formatDateTime(usuario.getCriadoEm())
+        };
     }
 
     /**
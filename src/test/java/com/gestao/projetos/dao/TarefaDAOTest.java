@@ -0,0 +1,453 @@
+package com.gestao.projetos.dao;
+
+import com.gestao.projetos.model.Tarefa;
+import com.gestao.projetos.util.DatabaseUtil;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifica que a listagem de tarefas carrega projeto, responsável e equipe em lote
+ * (o número de comandos executados não cresce com o número de tarefas) e que a
+ * paginação por chave devolve cada tarefa uma única vez, inclusive com colunas nulas.
+ */
+class TarefaDAOTest {
+
+    // Uma consulta de tarefas e uma consulta IN (...) por entidade relacionada
+    private static final int CONSULTAS_ESPERADAS = 4;
+
+    @Test
+    void findAllExecutaOMesmoNumeroDeConsultasParaUmaOuMuitasTarefas() throws Exception {
+        int comUma = contarConsultasDeFindAll(1);
+        int comMuitas = contarConsultasDeFindAll(200);
+
+        assertEquals(CONSULTAS_ESPERADAS, comUma);
+        assertEquals(comUma, comMuitas);
+    }
+
+    @Test
+    void findAllPreencheOsObjetosRelacionados() throws Exception {
+        ConexaoContadora conexao = new ConexaoContadora(3);
+        List<Tarefa> tarefas = executarFindAll(conexao);
+
+        assertEquals(3, tarefas.size());
+        for (Tarefa tarefa : tarefas) {
+            assertNotNull(tarefa.getProjeto());
+            assertNotNull(tarefa.getResponsavel());
+            assertNotNull(tarefa.getEquipe());
+            assertEquals(tarefa.getProjetoId(), tarefa.getProjeto().getId());
+            assertEquals(tarefa.getResponsavelId(), tarefa.getResponsavel().getId());
+            assertEquals(tarefa.getEquipeId(), tarefa.getEquipe().getId());
+        }
+    }
+
+    @Test
+    void paginacaoOrdenadaPorColunaComNulosDevolveCadaTarefaUmaVez() throws Exception {
+        for (String chave : new String[]{"estimativa_horas", "prioridade", "data_fim_prevista"}) {
+            for (boolean descendente : new boolean[]{false, true}) {
+                ConexaoContadora conexao = new ConexaoContadora(tarefasComNulos());
+                List<Long> ids = percorrerPaginas(conexao, PageRequest.first(3).withSort(chave, descendente));
+                conferirCadaTarefaUmaVez(conexao, ids, chave + (descendente ? " DESC" : ""));
+            }
+        }
+    }
+
+    @Test
+    void paginacaoPadraoComPrazoEPrioridadeNulosDevolveCadaTarefaUmaVez() throws Exception {
+        ConexaoContadora conexao = new ConexaoContadora(tarefasComNulos());
+        List<Long> ids = percorrerPaginas(conexao, PageRequest.first(3));
+        conferirCadaTarefaUmaVez(conexao, ids, "ordem padrão");
+    }
+
+    @Test
+    void paginaSeguinteMantemAOrdenacaoDoPedido() throws Exception {
+        ConexaoContadora conexao = new ConexaoContadora(10);
+        List<Long> esperados = new ArrayList<>();
+        conexao.tarefas.stream()
+            .sorted(Comparator.comparing((Map<String, Object> linha) -> (String) linha.get("titulo")).reversed())
+            .limit(8)
+            .forEach(linha -> esperados.add((Long) linha.get("id")));
+
+        List<Long> lidos = executar(conexao, () -> {
+            TarefaDAO dao = new TarefaDAO();
+            PageRequest primeiro = PageRequest.first(4).withSort("titulo", true);
+            Page<Tarefa> primeira = dao.findPage(primeiro);
+            PageRequest segundo = primeiro.next(primeira);
+            assertEquals("titulo", segundo.getSortKey());
+            assertTrue(segundo.isDescending());
+            Page<Tarefa> segunda = dao.findPage(segundo);
+
+            List<Long> ids = new ArrayList<>();
+            for (Tarefa tarefa : primeira.getItems()) {
+                ids.add(tarefa.getId());
+            }
+            for (Tarefa tarefa : segunda.getItems()) {
+                ids.add(tarefa.getId());
+            }
+            return ids;
+        });
+
+        assertEquals(esperados, lidos);
+    }
+
+    /**
+     * Lê todas as páginas a partir do pedido inicial, na mesma ordenação
+     */
+    private static List<Long> percorrerPaginas(ConexaoContadora conexao, PageRequest primeira) throws Exception {
+        return executar(conexao, () -> {
+            TarefaDAO dao = new TarefaDAO();
+            List<Long> ids = new ArrayList<>();
+            PageRequest pedido = primeira;
+            while (true) {
+                Page<Tarefa> pagina = dao.findPage(pedido);
+                for (Tarefa tarefa : pagina.getItems()) {
+                    ids.add(tarefa.getId());
+                }
+                if (!pagina.hasNext()) {
+                    return ids;
+                }
+                pedido = pedido.next(pagina);
+            }
+        });
+    }
+
+    private static void conferirCadaTarefaUmaVez(ConexaoContadora conexao, List<Long> ids, String ordenacao) {
+        assertEquals(conexao.tarefas.size(), ids.size(), "quantidade de tarefas lidas em " + ordenacao);
+        assertEquals(ids.size(), new HashSet<>(ids).size(), "tarefa repetida em " + ordenacao);
+    }
+
+    /**
+     * Dez tarefas com estimativa, prioridade e prazo nulos em parte das linhas,
+     * com valores repetidos para exercitar o desempate pelo ID
+     */
+    private static List<Map<String, Object>> tarefasComNulos() {
+        Object[][] valores = {
+            {null, null, null}, {"2.50", 3, "2024-03-01"}, {null, 5, null}, {"2.50", null, "2024-03-01"},
+            {"0.00", 3, null}, {null, 3, "2024-01-15"}, {"8.00", null, null}, {"0.00", 1, "2024-03-01"},
+            {null, null, "2024-01-15"}, {"2.50", 3, null}
+        };
+        List<Map<String, Object>> linhas = new ArrayList<>();
+        for (int i = 0; i < valores.length; i++) {
+            Map<String, Object> linha = ConexaoContadora.linhaTarefa(i + 1L);
+            linha.put("estimativa_horas", valores[i][0] != null ? new BigDecimal((String) valores[i][0]) : null);
+            linha.put("prioridade", valores[i][1]);
+            linha.put("data_fim_prevista", valores[i][2] != null ? Date.valueOf(LocalDate.parse((String) valores[i][2])) : null);
+            linhas.add(linha);
+        }
+        return linhas;
+    }
+
+    private int contarConsultasDeFindAll(int quantidadeTarefas) throws Exception {
+        ConexaoContadora conexao = new ConexaoContadora(quantidadeTarefas);
+        List<Tarefa> tarefas = executarFindAll(conexao);
+        assertEquals(quantidadeTarefas, tarefas.size());
+        return conexao.comandosExecutados;
+    }
+
+    private static List<Tarefa> executarFindAll(ConexaoContadora conexao) throws Exception {
+        return executar(conexao, () -> new TarefaDAO().findAll());
+    }
+
+    private static <R> R executar(ConexaoContadora conexao, Callable<R> acao) throws Exception {
+        // Só getConnection() é substituído; os demais utilitários de DatabaseUtil são os reais
+        try (MockedStatic<DatabaseUtil> ignorado = Mockito.mockStatic(DatabaseUtil.class, invocacao ->
+                invocacao.getMethod().getName().equals("getConnection")
+                    ? conexao.criar()
+                    : invocacao.callRealMethod())) {
+            return acao.call();
+        }
+    }
+
+    /**
+     * Conexão falsa que conta os comandos executados. As consultas de tarefas são executadas
+     * sobre as linhas em memória por {@link ConsultaEmMemoria}; cada tarefa tem projeto,
+     * responsável e equipe próprios (o pior caso) e as consultas IN (...) devolvem uma linha
+     * para cada ID recebido.
+     */
+    private static final class ConexaoContadora {
+        private final List<Map<String, Object>> tarefas;
+        private int comandosExecutados;
+
+        ConexaoContadora(int quantidadeTarefas) {
+            tarefas = new ArrayList<>();
+            for (long id = 1; id <= quantidadeTarefas; id++) {
+                tarefas.add(linhaTarefa(id));
+            }
+        }
+
+        ConexaoContadora(List<Map<String, Object>> tarefas) {
+            this.tarefas = tarefas;
+        }
+
+        static Map<String, Object> linhaTarefa(long id) {
+            Timestamp agora = Timestamp.valueOf(LocalDateTime.now());
+            Map<String, Object> linha = new HashMap<>();
+            linha.put("id", id);
+            linha.put("titulo", "Tarefa " + id);
+            linha.put("status", "NOVA");
+            linha.put("prioridade", 3);
+            linha.put("projeto_id", 1000 + id);
+            linha.put("responsavel_id", 2000 + id);
+            linha.put("equipe_id", 3000 + id);
+            linha.put("criado_em", agora);
+            linha.put("atualizado_em", agora);
+            return linha;
+        }
+
+        Connection criar() {
+            return proxy(Connection.class, (metodo, args) -> {
+                switch (metodo) {
+                    case "prepareStatement":
+                        return comando((String) args[0]);
+                    case "getAutoCommit":
+                    case "isClosed":
+                        return false;
+                    default:
+                        return null;
+                }
+            });
+        }
+
+        private PreparedStatement comando(String sql) {
+            Map<Integer, Object> parametros = new TreeMap<>();
+            return proxy(PreparedStatement.class, (metodo, args) -> {
+                if (metodo.startsWith("set") && args.length == 2 && args[0] instanceof Integer) {
+                    parametros.put((Integer) args[0], args[1]);
+                    return null;
+                }
+                if (metodo.equals("executeQuery")) {
+                    comandosExecutados++;
+                    return resultado(sql.startsWith("SELECT * FROM tarefa")
+                        ? new ConsultaEmMemoria(sql, new ArrayList<>(parametros.values())).executar(tarefas)
+                        : linhasPorId(parametros));
+                }
+                if (metodo.startsWith("execute")) {
+                    comandosExecutados++;
+                    return metodo.equals("executeBatch") ? new int[0] : 0;
+                }
+                return null;
+            });
+        }
+
+        private static List<Map<String, Object>> linhasPorId(Map<Integer, Object> parametros) {
+            List<Map<String, Object>> linhas = new ArrayList<>();
+            for (Object id : parametros.values()) {
+                Map<String, Object> linha = new HashMap<>();
+                linha.put("id", id);
+                linha.put("nome", "Registro " + id);
+                linhas.add(linha);
+            }
+            return linhas;
+        }
+
+        private static ResultSet resultado(List<Map<String, Object>> linhas) {
+            int[] posicao = {-1};
+            Object[] ultimo = {null};
+            return proxy(ResultSet.class, (metodo, args) -> {
+                if (metodo.equals("next")) {
+                    return ++posicao[0] < linhas.size();
+                }
+                if (metodo.equals("wasNull")) {
+                    return ultimo[0] == null;
+                }
+                if (!metodo.startsWith("get") || args.length != 1 || !(args[0] instanceof String)) {
+                    return null;
+                }
+                Object valor = linhas.get(posicao[0]).get(args[0]);
+                ultimo[0] = valor;
+                switch (metodo) {
+                    case "getLong":
+                        return valor != null ? ((Number) valor).longValue() : 0L;
+                    case "getInt":
+                        return valor != null ? ((Number) valor).intValue() : 0;
+                    case "getDouble":
+                        return valor != null ? ((Number) valor).doubleValue() : 0.0;
+                    case "getBoolean":
+                        return valor != null && (Boolean) valor;
+                    default:
+                        return valor;
+                }
+            });
+        }
+    }
+
+    /**
+     * Executa sobre linhas em memória o SQL das consultas de tarefas: WHERE com AND, OR,
+     * parênteses, comparações com ? e IS [NOT] NULL (lógica de três valores: comparar com
+     * NULL não é verdadeiro), ORDER BY com DESC (nulos primeiro na ordem crescente, como
+     * no MySQL) e LIMIT ?
+     */
+    private static final class ConsultaEmMemoria {
+        private static final Pattern CONSULTA = Pattern.compile(
+            "SELECT \\* FROM tarefa(?: WHERE (.*?))?(?: ORDER BY (.*?))?( LIMIT \\?)?");
+        private static final Pattern TOKEN = Pattern.compile("\\s*(\\(|\\)|\\?|<=|>=|<>|[<>=]|[A-Za-z_]+)");
+
+        private final String onde;
+        private final String ordem;
+        private final boolean limitada;
+        private final List<Object> parametros;
+        private List<String> tokens;
+        private int posicao;
+        private int proximoParametro;
+
+        ConsultaEmMemoria(String sql, List<Object> parametros) {
+            Matcher consulta = CONSULTA.matcher(sql.trim());
+            assertTrue(consulta.matches(), "SQL não suportado pelo teste: " + sql);
+            this.onde = consulta.group(1);
+            this.ordem = consulta.group(2);
+            this.limitada = consulta.group(3) != null;
+            this.parametros = parametros;
+        }
+
+        List<Map<String, Object>> executar(List<Map<String, Object>> linhas) {
+            List<Map<String, Object>> resultado = new ArrayList<>();
+            for (Map<String, Object> linha : linhas) {
+                if (onde == null || Boolean.TRUE.equals(avaliar(linha))) {
+                    resultado.add(linha);
+                }
+            }
+            if (ordem != null) {
+                resultado.sort(comparador());
+            }
+            if (limitada) {
+                int limite = ((Number) parametros.get(parametros.size() - 1)).intValue();
+                return new ArrayList<>(resultado.subList(0, Math.min(limite, resultado.size())));
+            }
+            return resultado;
+        }
+
+        private Comparator<Map<String, Object>> comparador() {
+            Comparator<Map<String, Object>> comparador = (a, b) -> 0;
+            for (String item : ordem.split(",")) {
+                String[] partes = item.trim().split(" ");
+                Comparator<Map<String, Object>> coluna = (a, b) -> comparar(a.get(partes[0]), b.get(partes[0]));
+                comparador = comparador.thenComparing(partes.length > 1 ? coluna.reversed() : coluna);
+            }
+            return comparador;
+        }
+
+        private Boolean avaliar(Map<String, Object> linha) {
+            tokens = new ArrayList<>();
+            Matcher token = TOKEN.matcher(onde);
+            while (token.lookingAt()) {
+                tokens.add(token.group(1));
+                token.region(token.end(), onde.length());
+            }
+            assertEquals(onde.length(), token.regionStart(), "WHERE não suportado pelo teste: " + onde);
+            posicao = 0;
+            proximoParametro = 0;
+            Boolean valor = ou(linha);
+            assertEquals(tokens.size(), posicao, "WHERE não suportado pelo teste: " + onde);
+            return valor;
+        }
+
+        private Boolean ou(Map<String, Object> linha) {
+            Boolean valor = e(linha);
+            while (consumir("OR")) {
+                Boolean outro = e(linha);
+                valor = Boolean.TRUE.equals(valor) || Boolean.TRUE.equals(outro) ? Boolean.TRUE
+                      : valor == null || outro == null ? null : Boolean.FALSE;
+            }
+            return valor;
+        }
+
+        private Boolean e(Map<String, Object> linha) {
+            Boolean valor = fator(linha);
+            while (consumir("AND")) {
+                Boolean outro = fator(linha);
+                valor = Boolean.FALSE.equals(valor) || Boolean.FALSE.equals(outro) ? Boolean.FALSE
+                      : valor == null || outro == null ? null : Boolean.TRUE;
+            }
+            return valor;
+        }
+
+        private Boolean fator(Map<String, Object> linha) {
+            if (consumir("(")) {
+                Boolean valor = ou(linha);
+                assertTrue(consumir(")"), "parêntese não fechado em " + onde);
+                return valor;
+            }
+            Object valor = linha.get(tokens.get(posicao++));
+            if (consumir("IS")) {
+                boolean negado = consumir("NOT");
+                assertTrue(consumir("NULL"), "IS sem NULL em " + onde);
+                return (valor == null) != negado;
+            }
+            String operador = tokens.get(posicao++);
+            assertTrue(consumir("?"), "comparação sem parâmetro em " + onde);
+            Object parametro = parametros.get(proximoParametro++);
+            if (valor == null || parametro == null) {
+                return null;
+            }
+            int comparacao = comparar(valor, parametro);
+            switch (operador) {
+                case "=": return comparacao == 0;
+                case "<": return comparacao < 0;
+                case ">": return comparacao > 0;
+                case "<=": return comparacao <= 0;
+                case ">=": return comparacao >= 0;
+                default: return comparacao != 0;
+            }
+        }
+
+        private boolean consumir(String esperado) {
+            if (posicao < tokens.size() && tokens.get(posicao).equalsIgnoreCase(esperado)) {
+                posicao++;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Compara como o banco: números pelo valor, datas pela forma ISO e nulos antes de tudo.
+         * Os parâmetros podem vir em texto (cursor de PageSort) ou já tipados.
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        private static int comparar(Object a, Object b) {
+            if (a == null || b == null) {
+                return a == null ? (b == null ? 0 : -1) : 1;
+            }
+            if (a instanceof Number || b instanceof Number) {
+                return new BigDecimal(a.toString()).compareTo(new BigDecimal(b.toString()));
+            }
+            if (a instanceof Date || a instanceof LocalDate || b instanceof Date || b instanceof LocalDate) {
+                return a.toString().compareTo(b.toString());
+            }
+            return ((Comparable) a).compareTo(b);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Manipulador {
+        Object tratar(String metodo, Object[] args) throws Throwable;
+    }
+
+    private static <T> T proxy(Class<T> tipo, Manipulador manipulador) {
+        return tipo.cast(Proxy.newProxyInstance(TarefaDAOTest.class.getClassLoader(), new Class<?>[]{tipo},
+            (proxy, metodo, args) -> manipulador.tratar(metodo.getName(), args != null ? args : new Object[0])));
+    }
+}
@@ -0,0 +1,225 @@
+package com.gestao.projetos.service;
+
+import com.gestao.projetos.dao.PapelDAO;
+import com.gestao.projetos.dao.UsuarioPapelDAO;
+import com.gestao.projetos.model.Papel;
+import com.gestao.projetos.model.UsuarioPapel;
+import com.gestao.projetos.util.DatabaseUtil;
+import com.gestao.projetos.util.PermissionCache;
+import com.gestao.projetos.util.PermissionMatrix;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Confere, para cada papel e cada recurso, que o acesso decidido pela matriz de permissões
+ * é o mesmo das regras fixas anteriores, tanto com as concessões do script de criação
+ * quanto com as do script de migração.
+ */
+class AuthorizationServiceTest {
+
+    private static final String SCRIPT_CRIACAO = "database/database-mysql.sql";
+    private static final String SCRIPT_MIGRACAO = "database/migracao-permissoes-visualizar.sql";
+
+    private static final String[] PAPEIS = {
+        AuthorizationService.PAPEL_ADMINISTRADOR,
+        AuthorizationService.PAPEL_GERENTE,
+        AuthorizationService.PAPEL_COLABORADOR
+    };
+
+    // Regras anteriores à matriz (switch de podeAcessar): recurso -> papéis com acesso
+    private static final Map<String, Set<String>> REGRAS_ANTERIORES = new LinkedHashMap<>();
+
+    static {
+        REGRAS_ANTERIORES.put(AuthorizationService.RECURSO_USUARIOS, Set.of("ADMINISTRADOR"));
+        REGRAS_ANTERIORES.put(AuthorizationService.RECURSO_PROJETOS, Set.of("ADMINISTRADOR", "GERENTE"));
+        REGRAS_ANTERIORES.put(AuthorizationService.RECURSO_TAREFAS, Set.of("ADMINISTRADOR", "GERENTE", "COLABORADOR"));
+        REGRAS_ANTERIORES.put(AuthorizationService.RECURSO_EQUIPES, Set.of("ADMINISTRADOR"));
+        REGRAS_ANTERIORES.put(AuthorizationService.RECURSO_DASHBOARD, Set.of("ADMINISTRADOR", "GERENTE", "COLABORADOR"));
+        REGRAS_ANTERIORES.put(AuthorizationService.RECURSO_RELATORIOS, Set.of("ADMINISTRADOR", "GERENTE"));
+    }
+
+    private AuthorizationService service;
+
+    @BeforeEach
+    void setUp() {
+        // Usuário i + 1 tem apenas o papel PAPEIS[i]; o usuário 99 não tem papel
+        Map<Long, String> papeisPorId = new HashMap<>();
+        for (int i = 0; i < PAPEIS.length; i++) {
+            papeisPorId.put(i + 1L, PAPEIS[i]);
+        }
+
+        UsuarioPapelDAO usuarioPapelDAO = new UsuarioPapelDAO() {
+            @Override
+            public List<UsuarioPapel> findByUsuarioId(Long usuarioId) {
+                List<UsuarioPapel> associacoes = new ArrayList<>();
+                if (papeisPorId.containsKey(usuarioId)) {
+                    associacoes.add(new UsuarioPapel(usuarioId, usuarioId));
+                }
+                return associacoes;
+            }
+        };
+        PapelDAO papelDAO = new PapelDAO() {
+            @Override
+            public Optional<Papel> findById(Long id) {
+                Papel papel = new Papel(papeisPorId.get(id), null);
+                papel.setId(id);
+                return Optional.ofNullable(papeisPorId.containsKey(id) ? papel : null);
+            }
+        };
+
+        service = new AuthorizationService(usuarioPapelDAO, papelDAO);
+        PermissionCache.getInstance().invalidateAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        PermissionCache.getInstance().invalidateAll();
+    }
+
+    @Test
+    void concessoesDoScriptDeCriacaoMantemAsRegrasAnteriores() throws IOException {
+        String script = ler(SCRIPT_CRIACAO);
+        Set<String> chaves = chavesCadastradas(script);
+        Map<String, Set<String>> concessoes = concessoesDoScriptDeCriacao(script, chaves);
+
+        PermissionMatrix.publicar(AuthorizationService.montarMatriz(chaves, concessoes));
+        conferirTodosOsPapeis();
+    }
+
+    @Test
+    void concessoesDoScriptDeMigracaoMantemAsRegrasAnteriores() throws IOException {
+        Map<String, Set<String>> concessoes = concessoesDoScriptDeMigracao(ler(SCRIPT_MIGRACAO));
+        Set<String> chaves = new HashSet<>();
+        for (String recurso : REGRAS_ANTERIORES.keySet()) {
+            chaves.add(recurso + ".visualizar");
+        }
+
+        PermissionMatrix.publicar(AuthorizationService.montarMatriz(chaves, concessoes));
+        conferirTodosOsPapeis();
+    }
+
+    @Test
+    void semPermissoesCadastradasUsaAsRegrasPadrao() {
+        PermissionMatrix.publicar(AuthorizationService.montarMatriz(new HashSet<>(), new HashMap<>()));
+        conferirTodosOsPapeis();
+    }
+
+    @Test
+    void falhaNaRecargaMantemAMatrizNaoCarregadaETentaDeNovo() {
+        PermissionMatrix.publicar(AuthorizationService.montarMatriz(new HashSet<>(), new HashMap<>()));
+        PermissionMatrix.invalidar();
+        assertFalse(PermissionMatrix.getAtual().isCarregada());
+
+        AtomicInteger tentativas = new AtomicInteger();
+        try (MockedStatic<DatabaseUtil> ignorado = Mockito.mockStatic(DatabaseUtil.class, invocacao -> {
+                tentativas.incrementAndGet();
+                throw new SQLException("banco indisponível");
+            })) {
+            // Sem banco, as concessões anteriores à invalidação continuam valendo
+            assertTrue(service.podeAcessar(1L, AuthorizationService.RECURSO_USUARIOS));
+            assertFalse(service.podeAcessar(3L, AuthorizationService.RECURSO_USUARIOS));
+        }
+
+        assertFalse(PermissionMatrix.getAtual().isCarregada());
+        assertEquals(2, tentativas.get(), "cada verificação deve tentar recarregar");
+    }
+
+    private void conferirTodosOsPapeis() {
+        for (int i = 0; i < PAPEIS.length; i++) {
+            long usuarioId = i + 1L;
+            for (Map.Entry<String, Set<String>> regra : REGRAS_ANTERIORES.entrySet()) {
+                assertEquals(regra.getValue().contains(PAPEIS[i]), service.podeAcessar(usuarioId, regra.getKey()),
+                    PAPEIS[i] + " em " + regra.getKey());
+            }
+        }
+        for (String recurso : REGRAS_ANTERIORES.keySet()) {
+            assertFalse(service.podeAcessar(99L, recurso), "sem papel em " + recurso);
+        }
+        assertTrue(service.podeAcessar(1L, AuthorizationService.RECURSO_USUARIOS));
+    }
+
+    private static String ler(String caminho) throws IOException {
+        return new String(Files.readAllBytes(Paths.get(caminho)), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Chaves de todos os INSERT INTO permissao do script
+     */
+    private static Set<String> chavesCadastradas(String script) {
+        Set<String> chaves = new HashSet<>();
+        Matcher insert = Pattern.compile("INSERT INTO permissao \\(chave, descricao\\) VALUES(.*?);", Pattern.DOTALL)
+            .matcher(script);
+        while (insert.find()) {
+            Matcher chave = Pattern.compile("\\('([a-z]+\\.[a-z]+)'").matcher(insert.group(1));
+            while (chave.find()) {
+                chaves.add(chave.group(1));
+            }
+        }
+        return chaves;
+    }
+
+    /**
+     * Concessões dos INSERT INTO papel_permissao ... WHERE p.nome = '...' [AND pe.chave IN (...)];
+     * sem a lista de chaves, o papel recebe todas
+     */
+    private static Map<String, Set<String>> concessoesDoScriptDeCriacao(String script, Set<String> chaves) {
+        Map<String, Set<String>> concessoes = new HashMap<>();
+        Matcher insert = Pattern.compile(
+            "WHERE p\\.nome = '(\\w+)'\\s*(?:AND pe\\.chave IN \\(([^)]*)\\))?\\s*;", Pattern.DOTALL).matcher(script);
+        while (insert.find()) {
+            Set<String> concedidas = concessoes.computeIfAbsent(insert.group(1), k -> new HashSet<>());
+            if (insert.group(2) == null) {
+                concedidas.addAll(chaves);
+            } else {
+                for (String chave : insert.group(2).split(",")) {
+                    String nome = chave.trim().replace("'", "");
+                    if (chaves.contains(nome)) {
+                        concedidas.add(nome);
+                    }
+                }
+            }
+        }
+        assertEquals(new HashSet<>(Arrays.asList(PAPEIS)), concessoes.keySet());
+        return concessoes;
+    }
+
+    /**
+     * Concessões da tabela regra_visualizar do script de migração
+     */
+    private static Map<String, Set<String>> concessoesDoScriptDeMigracao(String script) {
+        Map<String, Set<String>> concessoes = new HashMap<>();
+        Matcher insert = Pattern.compile("INSERT INTO regra_visualizar \\(papel, chave\\) VALUES(.*?);", Pattern.DOTALL)
+            .matcher(script);
+        assertTrue(insert.find(), "regras não encontradas em " + SCRIPT_MIGRACAO);
+        Matcher regra = Pattern.compile("\\('(\\w+)', '([a-z]+\\.visualizar)'\\)").matcher(insert.group(1));
+        while (regra.find()) {
+            concessoes.computeIfAbsent(regra.group(1), k -> new HashSet<>()).add(regra.group(2));
+        }
+        return concessoes;
+    }
+}